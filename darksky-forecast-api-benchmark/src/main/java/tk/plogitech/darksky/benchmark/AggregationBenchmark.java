@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.plogitech.darksky.forecast.model.Aggregation;
+import tk.plogitech.darksky.forecast.model.DataSeries;
+import tk.plogitech.darksky.forecast.model.HourlyDataPoint;
+
+/**
+ * Measures the {@link Aggregation} of a batch of a million hourly wind gusts (10% missing) against a rolling maximum computed window by window
+ * over the boxed getters of the data points.
+ *
+ * Run with: java -jar target/benchmarks.jar AggregationBenchmark
+ *
+ * @author Puls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregationBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"24"})
+    public int window;
+
+    private List<HourlyDataPoint> dataPoints;
+    private Aggregation gusts;
+
+    @Setup
+    public void setup() {
+	Random random = new Random(42);
+	dataPoints = new ArrayList<>(size);
+	for (int i = 0; i < size; i++) {
+	    HourlyDataPoint dataPoint = new HourlyDataPoint();
+	    dataPoint.timeEpochSecond(1531000800L + i * 3600L);
+	    dataPoint.setWindGust(random.nextInt(10) == 0 ? null : random.nextInt(3000) / 100.0);
+	    dataPoints.add(dataPoint);
+	}
+	gusts = DataSeries.of(dataPoints).aggregate(DataSeries.Column.windGust);
+    }
+
+    @Benchmark
+    public double[] boxedSlidingMax() {
+	double[] result = new double[size - window + 1];
+	for (int i = 0; i < result.length; i++) {
+	    Double max = null;
+	    for (int j = i; j < i + window; j++) {
+		Double gust = dataPoints.get(j).getWindGust();
+		if (gust != null && (max == null || gust > max)) {
+		    max = gust;
+		}
+	    }
+	    result[i] = max == null ? Double.NaN : max;
+	}
+	return result;
+    }
+
+    @Benchmark
+    public double[] slidingMax() {
+	return gusts.slidingMax(window);
+    }
+
+    @Benchmark
+    public double[] slidingSum() {
+	return gusts.slidingSum(window);
+    }
+
+    @Benchmark
+    public double[] slidingMean() {
+	return gusts.slidingMean(window);
+    }
+
+    @Benchmark
+    public double max() {
+	return gusts.max();
+    }
+
+    @Benchmark
+    public int argMax() {
+	return gusts.argMax();
+    }
+
+    @Benchmark
+    public int[] crossings() {
+	return gusts.crossings(15);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient;
+import tk.plogitech.darksky.forecast.DarkSkyClient;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.model.Forecast;
+
+/**
+ * Measures {@link DarkSkyClient#forecasts(List, ForkJoinPool)} on a batch of 1024 forecasts with pools of different sizes, compared with
+ * parsing the batch one by one in the calling thread. The throughput should grow with the parallelism up to the number of cores.
+ *
+ * Run with: java -jar target/benchmarks.jar BatchParseBenchmark
+ *
+ * @author Puls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchParseBenchmark {
+
+    private final DarkSkyClient client = new DarkSkyClient();
+    private final List<byte[]> batch = new ArrayList<>();
+
+    @Setup
+    public void setup() throws IOException {
+	byte[] json;
+	try (InputStream is = DarkSkyJacksonClient.class.getResourceAsStream("/forecast_full.json")) {
+	    json = is.readAllBytes();
+	}
+	for (int i = 0; i < 1024; i++) {
+	    batch.add(json.clone());
+	}
+    }
+
+    @Benchmark
+    public List<Forecast> parallel(Pool pool) throws ForecastException {
+	return client.forecasts(batch, pool.pool);
+    }
+
+    @Benchmark
+    public List<Forecast> sequential() throws ForecastException {
+	List<Forecast> result = new ArrayList<>(batch.size());
+	for (byte[] json : batch) {
+	    result.add(client.forecast(ByteBuffer.wrap(json)));
+	}
+	return result;
+    }
+
+    /**
+     * The pool of the parallel benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+	@Param({"1", "2", "4", "8"})
+	public int parallelism;
+
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setup() {
+	    pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void tearDown() {
+	    pool.shutdown();
+	}
+    }
+}
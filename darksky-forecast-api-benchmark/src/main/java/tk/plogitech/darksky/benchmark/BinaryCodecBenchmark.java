@@ -0,0 +1,143 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient;
+import tk.plogitech.darksky.forecast.binary.BinaryReader;
+import tk.plogitech.darksky.forecast.binary.BinaryWriter;
+import tk.plogitech.darksky.forecast.json.JsonReader;
+import tk.plogitech.darksky.forecast.json.JsonWriter;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+
+/**
+ * Compares the binary encoding of {@link BinaryWriter} and {@link BinaryReader} with the compact Json of {@link JsonWriter} and
+ * {@link JsonReader} and with java.io.Serializable. The sizes of the three encodings are printed in the setup.
+ *
+ * Run with: java -jar target/benchmarks.jar BinaryCodecBenchmark -prof gc
+ *
+ * @author Puls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    @Param({"forecast.json", "forecast_full.json"})
+    public String fixture;
+
+    private Forecast forecast;
+    private byte[] binary;
+    private byte[] json;
+    private byte[] serialized;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+
+    @Setup
+    public void setup() throws IOException, ClassNotFoundException {
+	try (InputStream is = DarkSkyJacksonClient.class.getResourceAsStream("/" + fixture)) {
+	    forecast = ForecastBinding.read(new JsonReader(is));
+	}
+	binary = encodeBinary().toByteArray();
+	json = writeJson().toByteArray();
+	serialized = serialize().toByteArray();
+	System.out.println();
+	System.out.println(fixture + ": binary " + binary.length + " bytes, Json " + json.length + " bytes, Serializable " + serialized.length
+		+ " bytes");
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream encodeBinary() throws IOException {
+	ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+	BinaryWriter writer = new BinaryWriter(out);
+	ForecastBinding.encode(forecast, writer);
+	writer.flush();
+	return out;
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinaryToBuffer() throws IOException {
+	buffer.clear();
+	BinaryWriter writer = new BinaryWriter(buffer);
+	ForecastBinding.encode(forecast, writer);
+	writer.flush();
+	return buffer;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream writeJson() throws IOException {
+	ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+	JsonWriter writer = new JsonWriter(out);
+	ForecastBinding.write(forecast, writer);
+	writer.flush();
+	return out;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream serialize() throws IOException {
+	ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+	try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+	    stream.writeObject(forecast);
+	}
+	return out;
+    }
+
+    @Benchmark
+    public Forecast decodeBinary() throws IOException {
+	return ForecastBinding.decode(new BinaryReader(binary));
+    }
+
+    @Benchmark
+    public Forecast readJson() throws IOException {
+	return ForecastBinding.read(new JsonReader(json));
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+	try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+	    return stream.readObject();
+	}
+    }
+}
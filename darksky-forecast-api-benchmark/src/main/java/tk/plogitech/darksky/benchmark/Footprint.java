@@ -0,0 +1,298 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient;
+import tk.plogitech.darksky.forecast.DarkSkyClient;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.json.JsonWriter;
+import tk.plogitech.darksky.forecast.model.DailySeries;
+import tk.plogitech.darksky.forecast.model.DataSeries;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import tk.plogitech.darksky.forecast.model.HourlyDataPoint;
+
+/**
+ * Reports the heap retained by parsed forecasts, per fixture and per block, and compares it with the baseline in footprint.properties.
+ *
+ * The fixtures range from forecast.json, which only has the currently block, over the complete forecast_full.json to an extended hourly
+ * forecast with 169 hourly data points. A size is the sum of {@link Instrumentation#getObjectSize(Object)} over the object graph without the
+ * objects all forecasts share, e.g. interned strings, so it is what every additional forecast in a cache costs. The columnar
+ * {@link DataSeries} and {@link DailySeries} forms of the blocks are reported as well. The sizes depend on the JVM and its flags (e.g. compressed
+ * oops), compare runs of the same JVM only.
+ *
+ * The report exits with status 1 if a size exceeds its baseline entry, so it fails a build which runs it. If the growth is intended, update
+ * the baseline with --update and commit it with the change of the model, so that footprint changes show up in the review.
+ *
+ * Run in this module with: java -javaagent:target/benchmarks.jar -cp target/benchmarks.jar tk.plogitech.darksky.benchmark.Footprint [--update]
+ *
+ * @author Puls
+ */
+public final class Footprint {
+
+    private static final Path BASELINE = Paths.get("footprint.properties");
+    private static final String[] FIXTURES = {"forecast.json", "forecast_full.json", "forecast_extended.json"};
+    private static final int EXTENDED_HOURS = 169;
+
+    private static volatile Instrumentation instrumentation;
+
+    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+    private final DarkSkyClient client = new DarkSkyClient();
+
+    private Footprint() {
+    }
+
+    /**
+     * Entry point of the agent. Opens the packages of java.base whose objects are part of the forecasts to the graph walk.
+     *
+     * @param arguments The agent arguments, ignored.
+     * @param inst The instrumentation of the JVM.
+     */
+    public static void premain(String arguments, Instrumentation inst) {
+	Set<Module> walker = Collections.singleton(Footprint.class.getModule());
+	Map<String, Set<Module>> opens = new HashMap<>();
+	for (String pkg : new String[]{"java.lang", "java.util", "java.time"}) {
+	    opens.put(pkg, walker);
+	}
+	inst.redefineModule(Object.class.getModule(), Collections.emptySet(), Collections.emptyMap(), opens, Collections.emptySet(),
+		Collections.emptyMap());
+	instrumentation = inst;
+    }
+
+    /**
+     * @param args --update to write the measured sizes to the baseline instead of failing if a size exceeds it.
+     * @throws IOException if a fixture or the baseline cannot be read or the baseline cannot be written.
+     * @throws ForecastException if a fixture cannot be parsed.
+     */
+    public static void main(String[] args) throws IOException, ForecastException {
+	if (instrumentation == null) {
+	    throw new IllegalStateException("Run with -javaagent:target/benchmarks.jar, the sizes are measured with java.lang.instrument.");
+	}
+	Footprint footprint = new Footprint();
+	Map<String, Long> sizes = new LinkedHashMap<>();
+	for (String fixture : FIXTURES) {
+	    footprint.measure(fixture, sizes);
+	}
+
+	Properties baseline = new Properties();
+	if (Files.exists(BASELINE)) {
+	    try (Reader reader = Files.newBufferedReader(BASELINE, StandardCharsets.UTF_8)) {
+		baseline.load(reader);
+	    }
+	}
+	System.out.println(String.format("%-40s %10s %10s %8s", "fixture.block", "bytes", "baseline", "change"));
+	int exceeded = 0;
+	for (Map.Entry<String, Long> size : sizes.entrySet()) {
+	    String expected = baseline.getProperty(size.getKey());
+	    String change = expected == null ? "new"
+		    : String.format("%+.1f%%", (size.getValue() - Long.parseLong(expected)) * 100.0 / Long.parseLong(expected));
+	    if (expected != null && size.getValue() > Long.parseLong(expected)) {
+		exceeded++;
+	    }
+	    System.out.println(String.format("%-40s %10d %10s %8s", size.getKey(), size.getValue(), expected == null ? "-" : expected, change));
+	}
+
+	if (args.length == 0 || !args[0].equals("--update")) {
+	    if (exceeded > 0) {
+		System.err.println(exceeded + " sizes exceed the baseline " + BASELINE.toAbsolutePath() + ", run with --update if that is intended.");
+		System.exit(1);
+	    }
+	} else {
+	    try (Writer writer = Files.newBufferedWriter(BASELINE, StandardCharsets.UTF_8)) {
+		writer.write("# Retained bytes per forecast, written by Footprint --update on " + System.getProperty("java.vm.name") + " "
+			+ System.getProperty("java.version") + "\n");
+		for (Map.Entry<String, Long> size : sizes.entrySet()) {
+		    writer.write(size.getKey() + "=" + size.getValue() + "\n");
+		}
+	    }
+	    System.out.println("Baseline " + BASELINE.toAbsolutePath() + " updated.");
+	}
+    }
+
+    /**
+     * Parses the fixture twice. The objects of the first forecast which are reachable from the second one are shared by all forecasts, the
+     * remaining objects of the second one are measured block by block.
+     */
+    private void measure(String fixture, Map<String, Long> sizes) throws IOException, ForecastException {
+	byte[] json = fixture(fixture);
+	Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+	size(parse(json), shared);
+
+	Forecast forecast = parse(json);
+	Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+	visited.addAll(shared);
+	long total = 0;
+	total += block(sizes, fixture, "currently", forecast.getCurrently(), visited);
+	total += block(sizes, fixture, "minutely", forecast.getMinutely(), visited);
+	total += block(sizes, fixture, "hourly", forecast.getHourly(), visited);
+	total += block(sizes, fixture, "daily", forecast.getDaily(), visited);
+	total += block(sizes, fixture, "alerts", forecast.getAlerts(), visited);
+	total += block(sizes, fixture, "flags", forecast.getFlags(), visited);
+	record(sizes, fixture, "forecast", total + size(forecast, visited));
+
+	if (forecast.getHourly() != null) {
+	    visited = Collections.newSetFromMap(new IdentityHashMap<>());
+	    visited.addAll(shared);
+	    record(sizes, fixture, "hourly.series", size(DataSeries.of(forecast.getHourly().getData()), visited));
+	}
+	if (forecast.getDaily() != null) {
+	    visited = Collections.newSetFromMap(new IdentityHashMap<>());
+	    visited.addAll(shared);
+	    record(sizes, fixture, "daily.series", size(DailySeries.of(forecast.getDaily().getData()), visited));
+	}
+    }
+
+    /**
+     * @return The size of the block, which is only recorded if the fixture contains the block.
+     */
+    private long block(Map<String, Long> sizes, String fixture, String name, Object block, Set<Object> visited) {
+	long size = size(block, visited);
+	if (block != null) {
+	    record(sizes, fixture, name, size);
+	}
+	return size;
+    }
+
+    private static void record(Map<String, Long> sizes, String fixture, String name, long size) {
+	sizes.put(fixture + "." + name, size);
+    }
+
+    private Forecast parse(byte[] json) throws ForecastException {
+	return client.forecast(ByteBuffer.wrap(json));
+    }
+
+    /**
+     * @return The fixture of the Jackson library or, for forecast_extended.json, forecast_full.json with its hourly block repeated to
+     * {@value #EXTENDED_HOURS} hours.
+     */
+    private byte[] fixture(String fixture) throws IOException, ForecastException {
+	if (!fixture.equals("forecast_extended.json")) {
+	    try (InputStream is = DarkSkyJacksonClient.class.getResourceAsStream("/" + fixture)) {
+		return is.readAllBytes();
+	    }
+	}
+	Forecast forecast = parse(fixture("forecast_full.json"));
+	DataSeries hours = DataSeries.of(forecast.getHourly().getData());
+	long first = hours.timeEpochSecond(0);
+	List<HourlyDataPoint> extended = new ArrayList<>(EXTENDED_HOURS);
+	while (extended.size() < EXTENDED_HOURS) {
+	    for (HourlyDataPoint dataPoint : hours.toHourlyDataPoints()) {
+		if (extended.size() < EXTENDED_HOURS) {
+		    dataPoint.timeEpochSecond(first + extended.size() * 3600L);
+		    extended.add(dataPoint);
+		}
+	    }
+	}
+	forecast.getHourly().setData(extended);
+
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	JsonWriter writer = new JsonWriter(out);
+	ForecastBinding.write(forecast, writer);
+	writer.flush();
+	return out.toByteArray();
+    }
+
+    /**
+     * @return The summed size of all objects reachable from the root which are not visited yet. Classes are not followed.
+     */
+    private long size(Object root, Set<Object> visited) {
+	long size = 0;
+	Deque<Object> pending = new ArrayDeque<>();
+	if (root != null) {
+	    pending.push(root);
+	}
+	while (!pending.isEmpty()) {
+	    Object object = pending.pop();
+	    if (object instanceof Class || !visited.add(object)) {
+		continue;
+	    }
+	    size += instrumentation.getObjectSize(object);
+	    if (object instanceof Object[]) {
+		for (Object element : (Object[]) object) {
+		    if (element != null) {
+			pending.push(element);
+		    }
+		}
+	    } else {
+		for (Field field : fields(object.getClass())) {
+		    Object value = get(field, object);
+		    if (value != null) {
+			pending.push(value);
+		    }
+		}
+	    }
+	}
+	return size;
+    }
+
+    /**
+     * @return The non static reference fields of the class and its super classes.
+     */
+    private List<Field> fields(Class<?> type) {
+	return fields.computeIfAbsent(type, key -> {
+	    List<Field> result = new ArrayList<>();
+	    for (Class<?> c = key; c != null; c = c.getSuperclass()) {
+		for (Field field : c.getDeclaredFields()) {
+		    if (!Modifier.isStatic(field.getModifiers()) && !field.getType().isPrimitive()) {
+			field.setAccessible(true);
+			result.add(field);
+		    }
+		}
+	    }
+	    return result;
+	});
+    }
+
+    private static Object get(Field field, Object object) {
+	try {
+	    return field.get(object);
+	} catch (IllegalAccessException ex) {
+	    throw new IllegalStateException("The field " + field + " cannot be read.", ex);
+	}
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient.ParseMode;
+import tk.plogitech.darksky.forecast.APIKey;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.ForecastRequest;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder;
+import tk.plogitech.darksky.forecast.GeoCoordinates;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+
+/**
+ * Compares the parse modes of {@link DarkSkyJacksonClient} on the bundled fixtures: forecast.json only contains the currently block,
+ * forecast_full.json is a complete response with minutely, hourly, daily and alerts. parse only reads the currently block, like most callers;
+ * parseAll touches every block.
+ *
+ * Run with: java -jar target/benchmarks.jar ForecastParseBenchmark -prof gc
+ *
+ * @author Puls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForecastParseBenchmark {
+
+    @Param({"forecast.json", "forecast_full.json"})
+    public String fixture;
+
+    @Param({"databind", "streaming", "lazy"})
+    public ParseMode parseMode;
+
+    private DarkSkyJacksonClient client;
+    private ForecastRequest request;
+
+    @Setup
+    public void setup() throws IOException {
+	byte[] json;
+	try (InputStream is = DarkSkyJacksonClient.class.getResourceAsStream("/" + fixture)) {
+	    json = is.readAllBytes();
+	}
+	client = new FixtureClient(parseMode, json);
+	request = new ForecastRequestBuilder()
+		.key(new APIKey("benchmark-api-key"))
+		.location(new GeoCoordinates(new Longitude(22.1234), new Latitude(41.12)))
+		.build();
+    }
+
+    @Benchmark
+    public Object parse() throws ForecastException {
+	return client.forecast(request).getCurrently();
+    }
+
+    @Benchmark
+    public void parseAll(Blackhole blackhole) throws ForecastException {
+	Forecast forecast = client.forecast(request);
+	blackhole.consume(forecast.getCurrently());
+	blackhole.consume(forecast.getMinutely());
+	blackhole.consume(forecast.getHourly());
+	blackhole.consume(forecast.getDaily());
+	blackhole.consume(forecast.getAlerts());
+    }
+
+    /**
+     * Answers every request with the fixture instead of calling the DarkSky API.
+     */
+    private static class FixtureClient extends DarkSkyJacksonClient {
+
+	private final byte[] json;
+
+	FixtureClient(ParseMode parseMode, byte[] json) {
+	    super(parseMode);
+	    this.json = json;
+	}
+
+	@Override
+	protected InputStream fetchForecast(ForecastRequest request) {
+	    return new ByteArrayInputStream(json);
+	}
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tk.plogitech.darksky.forecast.APIKey;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Block;
+import tk.plogitech.darksky.forecast.ForecastRequestTemplate;
+import tk.plogitech.darksky.forecast.GeoCoordinates;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+
+/**
+ * Compares creating requests for a grid of locations with a new {@link ForecastRequestBuilder} per request and with a shared
+ * {@link ForecastRequestTemplate}.
+ *
+ * Run with: java -jar target/benchmarks.jar ForecastRequestBenchmark -prof gc
+ *
+ * @author Puls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForecastRequestBenchmark {
+
+    private static final int GRID_SIZE = 1024;
+
+    private final APIKey key = new APIKey("benchmark-api-key");
+    private GeoCoordinates[] grid;
+    private ForecastRequestTemplate template;
+
+    @Setup
+    public void setup() {
+	grid = new GeoCoordinates[GRID_SIZE];
+	for (int i = 0; i < GRID_SIZE; i++) {
+	    grid[i] = new GeoCoordinates(new Longitude(-10 + (i % 32) * 0.25), new Latitude(40 + (i / 32) * 0.25));
+	}
+	template = configure(new ForecastRequestBuilder()).template();
+    }
+
+    @Benchmark
+    public void builder(Blackhole blackhole) {
+	for (GeoCoordinates location : grid) {
+	    blackhole.consume(configure(new ForecastRequestBuilder()).location(location).build().url());
+	}
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) {
+	for (GeoCoordinates location : grid) {
+	    blackhole.consume(template.request(location));
+	}
+    }
+
+    private ForecastRequestBuilder configure(ForecastRequestBuilder builder) {
+	return builder.key(key)
+		.units(ForecastRequestBuilder.Units.si)
+		.language(ForecastRequestBuilder.Language.en)
+		.exclude(Block.minutely, Block.alerts);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient;
+import tk.plogitech.darksky.forecast.json.JsonReader;
+import tk.plogitech.darksky.forecast.json.JsonWriter;
+import tk.plogitech.darksky.forecast.json.PropertyFilter;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+
+/**
+ * Compares serializing a {@link Forecast} with an ObjectMapper configured like the one of {@link DarkSkyJacksonClient} (indented) to the
+ * compact {@link JsonWriter}, with and without a {@link PropertyFilter} which drops the minutely block and the texts of the data points.
+ *
+ * Run with: java -jar target/benchmarks.jar ForecastWriteBenchmark -prof gc
+ *
+ * @author Puls
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ForecastWriteBenchmark {
+
+    @Param({"forecast.json", "forecast_full.json"})
+    public String fixture;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+	    .registerModule(new JavaTimeModule())
+	    .registerModule(new SimpleModule()
+		    .addSerializer(Latitude.class, ToStringSerializer.instance)
+		    .addSerializer(Longitude.class, ToStringSerializer.instance))
+	    .enable(SerializationFeature.INDENT_OUTPUT);
+    private final PropertyFilter filter = PropertyFilter.excluding("minutely", "hourly.data.summary", "hourly.data.icon",
+	    "daily.data.summary", "daily.data.icon");
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private Forecast forecast;
+
+    @Setup
+    public void setup() throws IOException {
+	try (InputStream is = DarkSkyJacksonClient.class.getResourceAsStream("/" + fixture)) {
+	    forecast = ForecastBinding.read(new JsonReader(is));
+	}
+    }
+
+    @Benchmark
+    public int objectMapper() throws IOException {
+	out.reset();
+	mapper.writeValue(out, forecast);
+	return out.size();
+    }
+
+    @Benchmark
+    public int jsonWriter() throws IOException {
+	return write(PropertyFilter.all());
+    }
+
+    @Benchmark
+    public int jsonWriterFiltered() throws IOException {
+	return write(filter);
+    }
+
+    private int write(PropertyFilter filter) throws IOException {
+	out.reset();
+	JsonWriter writer = new JsonWriter(out, filter);
+	ForecastBinding.write(forecast, writer);
+	writer.flush();
+	return out.size();
+    }
+}
@@ -32,18 +32,23 @@ import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.io.IOException;
 import java.io.InputStream;
-import static java.util.logging.Level.FINE;
-import java.util.logging.Logger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import tk.plogitech.darksky.forecast.APIKey;
 import tk.plogitech.darksky.forecast.DarkSkyClient;
 import tk.plogitech.darksky.forecast.ForecastException;
 import tk.plogitech.darksky.forecast.ForecastRequest;
 import tk.plogitech.darksky.forecast.ForecastRequestBuilder;
 import tk.plogitech.darksky.forecast.GeoCoordinates;
+import tk.plogitech.darksky.forecast.cluster.Cluster;
 import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
 import tk.plogitech.darksky.forecast.model.Latitude;
 import tk.plogitech.darksky.forecast.model.Longitude;
 import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+import tk.plogitech.darksky.forecast.util.CoordinateFormat;
+import tk.plogitech.darksky.forecast.util.IOUtil;
 
 /**
  * Client to fetch weather data from the DarkSky API which uses the Jackson
@@ -53,34 +58,150 @@ import static tk.plogitech.darksky.forecast.util.Assert.notNull;
  */
 public class DarkSkyJacksonClient extends DarkSkyClient {
 
-    private static final Logger logger = Logger.getLogger(DarkSkyJacksonClient.class.getSimpleName());
     private static final ObjectMapper mapper = objectMapper();
 
+    private final ParseMode parseMode;
+
+    /**
+     * Creates a client which fetches every forecast directly from the DarkSky API.
+     */
+    public DarkSkyJacksonClient() {
+        this(ParseMode.databind);
+    }
+
     /**
-     * Returns the forecast as {@link Forecast} object parsed by Jackson.
+     * Creates a client which fetches every forecast directly from the DarkSky API.
      *
-     * @param request The Forecast Request which is executed. Use
-     * {@link ForecastRequestBuilder} to build the request.
+     * @param parseMode The way the Json response is parsed.
+     */
+    public DarkSkyJacksonClient(ParseMode parseMode) {
+        notNull("The ParseMode cannot be null.", parseMode);
+
+        this.parseMode = parseMode;
+    }
+
+    /**
+     * Creates a client which is a member of a cluster. Forecasts for locations owned by another node are forwarded to that node.
+     *
+     * @param cluster The cluster this client is a member of.
+     */
+    public DarkSkyJacksonClient(Cluster cluster) {
+        this(cluster, ParseMode.databind);
+    }
+
+    /**
+     * Creates a client which is a member of a cluster. Forecasts for locations owned by another node are forwarded to that node.
+     *
+     * @param cluster The cluster this client is a member of.
+     * @param parseMode The way the Json response is parsed.
+     */
+    public DarkSkyJacksonClient(Cluster cluster, ParseMode parseMode) {
+        super(cluster);
+        notNull("The ParseMode cannot be null.", parseMode);
+
+        this.parseMode = parseMode;
+    }
+
+    /**
+     * Parses the forecast with Jackson in the parse mode of this client.
+     *
+     * @param json The forecast as byte encoded Json. The stream is not closed.
      * @return The forecast parsed as {@link Forecast}.
      *
-     * @throws ForecastException if the forecast cannot be fetched.
+     * @throws ForecastException if the forecast cannot be read or parsed.
      */
-    public Forecast forecast(ForecastRequest request) throws ForecastException {
-        notNull("The ForecastRequest cannot be null.", request);
-        logger.log(FINE, "Executing Forecat request: {0}", request);
+    @Override
+    public Forecast forecast(InputStream json) throws ForecastException {
+        notNull("The InputStream cannot be null.", json);
 
-        try (InputStream is = executeForecastRequest(request)) {
-            return mapper.readValue(is, Forecast.class);
+        try {
+            return parse(json);
+        } catch (IOException e) {
+            throw new ForecastException("Forecast cannot be parsed.", e);
+        }
+    }
+
+    /**
+     * Parses the forecast with Jackson in the parse mode of this client. A buffer backed by an array is parsed in place, any other buffer is
+     * read in chunks (the lazy parse mode copies it once).
+     *
+     * @param json The forecast as byte encoded Json between position and limit. The position of the buffer is not changed.
+     * @return The forecast parsed as {@link Forecast}.
+     *
+     * @throws ForecastException if the forecast cannot be parsed.
+     */
+    @Override
+    public Forecast forecast(ByteBuffer json) throws ForecastException {
+        notNull("The ByteBuffer cannot be null.", json);
 
+        try {
+            return parse(json);
         } catch (IOException e) {
-            throw new ForecastException("Forecast cannot be fetched.", e);
+            throw new ForecastException("Forecast cannot be parsed.", e);
+        }
+    }
+
+    /**
+     * Parses a part of a batch with Jackson in the parse mode of this client. Jackson recycles its buffers per thread itself.
+     *
+     * @param json The forecasts of the batch as byte encoded Json.
+     * @param from The index of the first forecast to parse.
+     * @param to The index after the last forecast to parse.
+     * @param result The forecasts of the batch, receiving the parsed forecasts at their index.
+     *
+     * @throws ForecastException if one of the forecasts cannot be parsed.
+     */
+    @Override
+    protected void forecasts(List<byte[]> json, int from, int to, Forecast[] result) throws ForecastException {
+        for (int i = from; i < to; i++) {
+            result[i] = forecast(ByteBuffer.wrap(json.get(i)));
+        }
+    }
+
+    /**
+     * @param json The forecast as byte encoded Json.
+     * @return The forecast parsed with the parse mode of this client.
+     * @throws IOException if the Json cannot be read or mapped.
+     */
+    Forecast parse(InputStream json) throws IOException {
+        if (parseMode == ParseMode.lazy) {
+            return LazyForecast.read(mapper.getFactory(), IOUtil.readFully(json));
+        }
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            return read(parser);
         }
     }
 
+    /**
+     * @param json The forecast as byte encoded Json between position and limit.
+     * @return The forecast parsed with the parse mode of this client.
+     * @throws IOException if the Json cannot be read or mapped.
+     */
+    Forecast parse(ByteBuffer json) throws IOException {
+        if (!json.hasArray()) {
+            return parse(IOUtil.inputStream(json));
+        }
+        int offset = json.arrayOffset() + json.position();
+        if (parseMode == ParseMode.lazy) {
+            return LazyForecast.read(mapper.getFactory(), Arrays.copyOfRange(json.array(), offset, offset + json.remaining()));
+        }
+        try (JsonParser parser = mapper.getFactory().createParser(json.array(), offset, json.remaining())) {
+            return read(parser);
+        }
+    }
+
+    private Forecast read(JsonParser parser) throws IOException {
+        if (parseMode == ParseMode.databind) {
+            return mapper.readValue(parser, Forecast.class);
+        }
+        return ForecastBinding.read(new JacksonJsonSource(parser));
+    }
+
     static ObjectMapper objectMapper() {
         ObjectMapper result = new ObjectMapper();
         result.registerModule(new JavaTimeModule());
         result.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES);
+        result.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
         result.configure(REQUIRE_SETTERS_FOR_GETTERS, false);
         result.configure(AUTO_DETECT_GETTERS, true);
         result.configure(INDENT_OUTPUT, true);
@@ -88,6 +209,27 @@ public class DarkSkyJacksonClient extends DarkSkyClient {
         return result;
     }
 
+    /**
+     * The ways the Json response can be parsed into the {@link Forecast}.
+     */
+    public enum ParseMode {
+        /**
+         * The ObjectMapper maps the properties to the model classes by reflection.
+         */
+        databind,
+        /**
+         * The bindings generated for the model classes at compile time fill them directly from the tokens of the JsonParser. Accepts the same
+         * documents as databind, but is considerably faster and allocates less.
+         */
+        streaming,
+        /**
+         * Like streaming, but the minutely, hourly, daily and alerts blocks are only located while reading the response and are read on first
+         * access of their getter. The forecast keeps the response bytes until then. Errors in these blocks are thrown by the getter as
+         * {@link java.io.UncheckedIOException}.
+         */
+        lazy
+    }
+
     public static void main(String[] args) throws ForecastException {
         if (args.length != 3) {
             System.err.println("Please provide yout API-Key and a Longitude / Latitrude combination. Usage as follows: '<your-secret-key> <longitude> <latitude>");
@@ -99,7 +241,7 @@ public class DarkSkyJacksonClient extends DarkSkyClient {
 
         ForecastRequest request = new ForecastRequestBuilder()
                 .key(new APIKey(apikey))
-                .location(new GeoCoordinates(new Longitude(Double.valueOf(latitude)), new Latitude(Double.valueOf(longitude)))).build();
+                .location(new GeoCoordinates(new Longitude(CoordinateFormat.parse(latitude)), new Latitude(CoordinateFormat.parse(longitude)))).build();
 
         DarkSkyJacksonClient client = new DarkSkyJacksonClient();
         Forecast forecast = client.forecast(request);
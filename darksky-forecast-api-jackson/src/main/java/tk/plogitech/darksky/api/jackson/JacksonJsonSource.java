@@ -0,0 +1,219 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.api.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import tk.plogitech.darksky.forecast.json.JsonSource;
+
+/**
+ * {@link JsonSource} reading from a Jackson {@link JsonParser}, used by the generated bindings of the model.
+ *
+ * The source accepts the same documents as the {@link com.fasterxml.jackson.databind.ObjectMapper} of {@link DarkSkyJacksonClient}: every
+ * value which is not in the shape the DarkSky API sends (e.g. a time as String) is handed to the codec of the parser, so it is converted (or
+ * rejected) exactly like databind does. The parser must have been created by the factory of an ObjectMapper.
+ *
+ * @author Puls
+ */
+final class JacksonJsonSource implements JsonSource {
+
+    private final JsonParser parser;
+    private boolean pushedBack;
+
+    /**
+     * @param parser The parser positioned before the first value.
+     */
+    JacksonJsonSource(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Makes the current token of the parser the next value of this source.
+     */
+    void pushBack() {
+        pushedBack = true;
+    }
+
+    private JsonToken next() throws IOException {
+        if (pushedBack) {
+            pushedBack = false;
+            return parser.currentToken();
+        }
+        return parser.nextToken();
+    }
+
+    @Override
+    public boolean beginObject() throws IOException {
+        if (next() == JsonToken.START_OBJECT) {
+            return true;
+        }
+        pushedBack = true;
+        return false;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return parser.nextFieldName();
+    }
+
+    @Override
+    public <T> T readOther(Class<T> type) throws IOException {
+        return next() == JsonToken.VALUE_NULL ? null : parser.readValueAs(type);
+    }
+
+    @Override
+    public <T> List<T> readList(Reader<T> reader) throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw JsonMappingException.from(parser, "Cannot deserialize a List from " + token);
+        }
+        List<T> result = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            pushedBack = true;
+            result.add(reader.read(this));
+        }
+        return result;
+    }
+
+    @Override
+    public String readString() throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        return other(token, String.class);
+    }
+
+    @Override
+    public Double readDouble() throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        }
+        return other(token, Double.class);
+    }
+
+    @Override
+    public Integer readInteger() throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        return other(token, Integer.class);
+    }
+
+    @Override
+    public double readDoubleValue() throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        }
+        pushedBack = true;
+        return JsonSource.super.readDoubleValue();
+    }
+
+    @Override
+    public int readIntValue() throws IOException {
+        if (next() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        pushedBack = true;
+        return JsonSource.super.readIntValue();
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_TRUE) {
+            return true;
+        }
+        if (token == JsonToken.VALUE_FALSE || token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        return parser.readValueAs(Boolean.TYPE);
+    }
+
+    @Override
+    public Instant readInstant() throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return Instant.ofEpochSecond(parser.getLongValue());
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            BigDecimal value = parser.getDecimalValue();
+            long seconds = value.longValue();
+            return Instant.ofEpochSecond(seconds, value.subtract(BigDecimal.valueOf(seconds)).movePointRight(9).intValue());
+        }
+        return other(token, Instant.class);
+    }
+
+    @Override
+    public long readEpochSecond() throws IOException {
+        if (next() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        pushedBack = true;
+        return JsonSource.super.readEpochSecond();
+    }
+
+    @Override
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+        JsonToken token = next();
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Enum.valueOf(type, parser.getText());
+            } catch (IllegalArgumentException ex) {
+                // let databind report the unknown constant
+            }
+        }
+        return other(token, type);
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        next();
+        parser.skipChildren();
+    }
+
+    @Override
+    public IOException invalidValue(String property, IllegalArgumentException cause) {
+        return JsonMappingException.from(parser, "Invalid value of " + property + ": " + cause.getMessage(), cause);
+    }
+
+    /**
+     * Hands the current value, which is not in the shape sent by the DarkSky API, to databind.
+     */
+    private <T> T other(JsonToken token, Class<T> type) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.readValueAs(type);
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.api.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import tk.plogitech.darksky.forecast.model.Alert;
+import tk.plogitech.darksky.forecast.model.AlertBinding;
+import tk.plogitech.darksky.forecast.model.Daily;
+import tk.plogitech.darksky.forecast.model.DailyBinding;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import tk.plogitech.darksky.forecast.model.Hourly;
+import tk.plogitech.darksky.forecast.model.HourlyBinding;
+import tk.plogitech.darksky.forecast.model.Minutely;
+import tk.plogitech.darksky.forecast.model.MinutelyBinding;
+
+/**
+ * Forecast which reads its minutely, hourly, daily and alerts blocks on first access of their getter.
+ *
+ * While the response is read the blocks are only scanned to find their position in the Json, everything else is read right away. The forecast
+ * keeps the bytes of the response until all deferred blocks are read. The getters are thread safe. If a deferred block cannot be mapped, its
+ * getter throws an {@link UncheckedIOException}.
+ *
+ * @author Puls
+ */
+final class LazyForecast extends Forecast {
+
+    static final int MINUTELY = 0;
+    static final int HOURLY = 1;
+    static final int DAILY = 2;
+    static final int ALERTS = 3;
+    private static final String[] NAMES = {"minutely", "hourly", "daily", "alerts"};
+
+    private final transient JsonFactory factory;
+    private final int[] starts = new int[NAMES.length];
+    private final int[] ends = new int[NAMES.length];
+    private transient byte[] json;
+    private volatile int pending;
+
+    private LazyForecast(JsonFactory factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @param factory The factory of the ObjectMapper used by the client.
+     * @param json The complete response.
+     * @return The forecast or null if the response is the Json null.
+     * @throws IOException if the Json is invalid or a value outside the deferred blocks cannot be mapped.
+     */
+    static Forecast read(JsonFactory factory, byte[] json) throws IOException {
+        try (JsonParser p = factory.createParser(json)) {
+            JacksonJsonSource source = new JacksonJsonSource(p);
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                source.pushBack();
+                return ForecastBinding.read(source);
+            }
+            LazyForecast forecast = new LazyForecast(factory);
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                JsonToken token = p.nextToken();
+                int block = block(field);
+                if (block >= 0 && (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY)) {
+                    int start = (int) p.getTokenLocation().getByteOffset();
+                    p.skipChildren();
+                    forecast.defer(block, start, (int) p.getCurrentLocation().getByteOffset());
+                } else {
+                    source.pushBack();
+                    if (!ForecastBinding.readProperty(source, field, forecast)) {
+                        source.skipValue();
+                    }
+                }
+            }
+            forecast.keep(json);
+            return forecast;
+        }
+    }
+
+    private static int block(String field) {
+        switch (field) {
+            case "minutely":
+                return MINUTELY;
+            case "hourly":
+                return HOURLY;
+            case "daily":
+                return DAILY;
+            case "alerts":
+                return ALERTS;
+            default:
+                return -1;
+        }
+    }
+
+    private synchronized void defer(int block, int start, int end) {
+        starts[block] = start;
+        ends[block] = end;
+        pending |= 1 << block;
+    }
+
+    private synchronized void keep(byte[] json) {
+        if (pending != 0) {
+            this.json = json;
+        }
+    }
+
+    /**
+     * @return True if the block has not been read yet.
+     */
+    boolean isPending(int block) {
+        return (pending & 1 << block) != 0;
+    }
+
+    /**
+     * Reads the block from the kept response and releases the response once all blocks are read.
+     */
+    private synchronized void materialize(int block) {
+        if (!isPending(block)) {
+            return;
+        }
+        try (JsonParser p = factory.createParser(json, starts[block], ends[block] - starts[block])) {
+            JacksonJsonSource source = new JacksonJsonSource(p);
+            switch (block) {
+                case MINUTELY:
+                    super.setMinutely(MinutelyBinding.read(source));
+                    break;
+                case HOURLY:
+                    super.setHourly(HourlyBinding.read(source));
+                    break;
+                case DAILY:
+                    super.setDaily(DailyBinding.read(source));
+                    break;
+                default:
+                    super.setAlerts(source.readList(AlertBinding::read));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("The " + NAMES[block] + " block of the forecast cannot be read.", ex);
+        }
+        resolved(block);
+    }
+
+    /**
+     * Marks the block as read. Must be called while holding the lock.
+     */
+    private void resolved(int block) {
+        pending &= ~(1 << block);
+        if (pending == 0) {
+            json = null;
+        }
+    }
+
+    @Override
+    public Minutely getMinutely() {
+        if (isPending(MINUTELY)) {
+            materialize(MINUTELY);
+        }
+        return super.getMinutely();
+    }
+
+    @Override
+    public synchronized void setMinutely(Minutely minutely) {
+        super.setMinutely(minutely);
+        resolved(MINUTELY);
+    }
+
+    @Override
+    public Hourly getHourly() {
+        if (isPending(HOURLY)) {
+            materialize(HOURLY);
+        }
+        return super.getHourly();
+    }
+
+    @Override
+    public synchronized void setHourly(Hourly hourly) {
+        super.setHourly(hourly);
+        resolved(HOURLY);
+    }
+
+    @Override
+    public Daily getDaily() {
+        if (isPending(DAILY)) {
+            materialize(DAILY);
+        }
+        return super.getDaily();
+    }
+
+    @Override
+    public synchronized void setDaily(Daily daily) {
+        super.setDaily(daily);
+        resolved(DAILY);
+    }
+
+    @Override
+    public List<Alert> getAlerts() {
+        if (isPending(ALERTS)) {
+            materialize(ALERTS);
+        }
+        return super.getAlerts();
+    }
+
+    @Override
+    public synchronized void setAlerts(List<Alert> alerts) {
+        super.setAlerts(alerts);
+        resolved(ALERTS);
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.api.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient.ParseMode;
+import tk.plogitech.darksky.forecast.DarkSkyClient;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.binary.BinaryReader;
+import tk.plogitech.darksky.forecast.binary.BinaryWriter;
+import tk.plogitech.darksky.forecast.json.JsonReader;
+import tk.plogitech.darksky.forecast.json.JsonWriter;
+import tk.plogitech.darksky.forecast.model.Alert;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static org.junit.Assert.*;
+
+/**
+ * Verifies that the generated bindings read the same model as databind and write Json databind reads back.
+ *
+ * @author Puls
+ */
+public class GeneratedBindingTest {
+
+    private final DarkSkyJacksonClient databind = new DarkSkyJacksonClient(ParseMode.databind);
+    private final DarkSkyJacksonClient streaming = new DarkSkyJacksonClient(ParseMode.streaming);
+
+    @Test
+    public void fixtures_are_read_like_databind() throws IOException {
+	for (String fixture : new String[]{"/forecast.json", "/forecast_ints.json", "/forecast_full.json"}) {
+	    Forecast expected = parse(databind, getClass().getResourceAsStream(fixture));
+	    Forecast actual = parse(streaming, getClass().getResourceAsStream(fixture));
+
+	    assertEquals(fixture, expected, actual);
+	    assertEquals(fixture, json(expected), json(actual));
+	}
+    }
+
+    @Test
+    public void full_fixture_contains_all_blocks() throws IOException {
+	Forecast forecast = parse(streaming, getClass().getResourceAsStream("/forecast_full.json"));
+
+	assertEquals(61, forecast.getMinutely().getData().size());
+	assertEquals(49, forecast.getHourly().getData().size());
+	assertEquals(8, forecast.getDaily().getData().size());
+	assertEquals(Alert.Severity.warning, forecast.getAlerts().get(0).getSeverity());
+	assertEquals(Instant.ofEpochSecond(1531083811), forecast.getCurrently().getTime());
+	assertEquals(Double.valueOf(23), forecast.getCurrently().getNearestStormDistance());
+    }
+
+    @Test
+    public void unusual_values_are_converted_like_databind() throws IOException {
+	String json = "{\"latitude\":41.5,\"longitude\":22,\"timezone\":7,\"unknown\":{\"a\":[1,{\"b\":2}]},"
+		+ "\"currently\":{\"time\":\"2018-07-08T21:03:31Z\",\"windBearing\":331.7,\"temperature\":\"21.5\",\"icon\":null},"
+		+ "\"hourly\":null,\"daily\":{\"data\":[null,{\"time\":1531000800.5,\"uvIndex\":3}]},"
+		+ "\"alerts\":[{\"severity\":\"watch\",\"regions\":[\"a\",null]}],\"flags\":{\"metnoLicense\":true,\"sources\":[]}}";
+
+	Forecast expected = parse(databind, json);
+	Forecast actual = parse(streaming, json);
+
+	assertEquals(expected, actual);
+	assertEquals(json(expected), json(actual));
+	assertEquals(Integer.valueOf(331), actual.getCurrently().getWindBearing());
+    }
+
+    @Test
+    public void invalid_values_are_rejected_like_databind() {
+	for (String json : new String[]{"{\"latitude\":91.5}", "{\"alerts\":[{\"severity\":\"unknown\"}]}", "{\"currently\":[]}", ""}) {
+	    assertRejected(databind, json);
+	    assertRejected(streaming, json);
+	}
+    }
+
+    @Test
+    public void core_reader_reads_like_databind() throws IOException {
+	for (String fixture : new String[]{"/forecast.json", "/forecast_ints.json", "/forecast_full.json"}) {
+	    Forecast expected = parse(databind, getClass().getResourceAsStream(fixture));
+	    Forecast actual;
+	    try (InputStream is = getClass().getResourceAsStream(fixture)) {
+		actual = ForecastBinding.read(new JsonReader(is));
+	    }
+
+	    assertEquals(fixture, expected, actual);
+	    assertEquals(fixture, json(expected), json(actual));
+	}
+    }
+
+    @Test
+    public void byte_buffers_are_parsed_like_streams() throws IOException {
+	byte[] json;
+	try (InputStream is = getClass().getResourceAsStream("/forecast_full.json")) {
+	    json = is.readAllBytes();
+	}
+	Forecast expected = parse(databind, new ByteArrayInputStream(json));
+	byte[] padded = new byte[json.length + 3];
+	System.arraycopy(json, 0, padded, 3, json.length);
+	ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json);
+	direct.flip();
+
+	for (ParseMode mode : ParseMode.values()) {
+	    DarkSkyJacksonClient client = new DarkSkyJacksonClient(mode);
+	    ByteBuffer heap = ByteBuffer.wrap(padded, 3, json.length).slice();
+
+	    assertEquals(mode.name(), expected, client.parse(heap));
+	    assertEquals(mode.name(), expected, client.parse(direct));
+	    assertEquals(0, direct.position());
+	}
+    }
+
+    @Test
+    public void batches_are_parsed_like_single_forecasts() throws IOException, ForecastException {
+	List<byte[]> batch = new ArrayList<>();
+	for (String fixture : new String[]{"/forecast.json", "/forecast_ints.json", "/forecast_full.json"}) {
+	    try (InputStream is = getClass().getResourceAsStream(fixture)) {
+		batch.add(is.readAllBytes());
+	    }
+	}
+
+	for (DarkSkyClient client : new DarkSkyClient[]{new DarkSkyClient(), databind, streaming}) {
+	    List<Forecast> forecasts = client.forecasts(batch);
+
+	    for (int i = 0; i < batch.size(); i++) {
+		assertEquals(parse(databind, new ByteArrayInputStream(batch.get(i))), forecasts.get(i));
+	    }
+	}
+    }
+
+    @Test
+    public void written_json_is_read_back_by_databind() throws IOException {
+	for (String fixture : new String[]{"/forecast.json", "/forecast_full.json"}) {
+	    Forecast expected = parse(databind, getClass().getResourceAsStream(fixture));
+	    StringWriter written = new StringWriter();
+	    try (JsonGenerator generator = DarkSkyJacksonClient.objectMapper().getFactory().createGenerator(written)) {
+		ForecastBinding.write(expected, new JacksonJsonSink(generator));
+	    }
+	    Forecast actual = parse(databind, written.toString());
+
+	    assertEquals(fixture, expected, actual);
+	    assertEquals(fixture, json(expected), json(actual));
+
+	    ByteArrayOutputStream compact = new ByteArrayOutputStream();
+	    JsonWriter writer = new JsonWriter(compact);
+	    ForecastBinding.write(expected, writer);
+	    writer.flush();
+	    actual = parse(databind, new ByteArrayInputStream(compact.toByteArray()));
+
+	    assertEquals(fixture, expected, actual);
+	    assertEquals(fixture, json(expected), json(actual));
+	}
+    }
+
+    @Test
+    public void binary_encoding_is_read_back() throws IOException {
+	for (String fixture : new String[]{"/forecast.json", "/forecast_ints.json", "/forecast_full.json"}) {
+	    byte[] json;
+	    try (InputStream is = getClass().getResourceAsStream(fixture)) {
+		json = is.readAllBytes();
+	    }
+	    Forecast expected = parse(databind, new ByteArrayInputStream(json));
+	    ByteBuffer binary = ByteBuffer.allocateDirect(json.length);
+	    BinaryWriter writer = new BinaryWriter(binary);
+	    ForecastBinding.encode(expected, writer);
+	    writer.flush();
+	    binary.flip();
+
+	    Forecast actual = ForecastBinding.decode(new BinaryReader(binary));
+
+	    assertEquals(fixture, expected, actual);
+	    assertEquals(fixture, json(expected), json(actual));
+	    assertTrue(fixture + ": " + binary.limit() + " of " + json.length, binary.limit() * 3 < json.length);
+	}
+    }
+
+    private static void assertRejected(DarkSkyJacksonClient client, String json) {
+	try {
+	    parse(client, json);
+	    fail("Expected an IOException for " + json);
+	} catch (IOException ex) {
+	    // expected
+	}
+    }
+
+    private static Forecast parse(DarkSkyJacksonClient client, String json) throws IOException {
+	return parse(client, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Forecast parse(DarkSkyJacksonClient client, InputStream json) throws IOException {
+	try (InputStream is = json) {
+	    return client.parse(is);
+	}
+    }
+
+    /**
+     * @return All properties of the forecast, to compare the fields which are not part of equals.
+     */
+    private static String json(Forecast forecast) throws IOException {
+	ObjectMapper mapper = DarkSkyJacksonClient.objectMapper();
+	mapper.registerModule(new SimpleModule()
+		.addSerializer(Latitude.class, ToStringSerializer.instance)
+		.addSerializer(Longitude.class, ToStringSerializer.instance));
+	return mapper.writeValueAsString(forecast);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.api.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient.ParseMode;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.Hourly;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class LazyForecastTest {
+
+    private final DarkSkyJacksonClient lazy = new DarkSkyJacksonClient(ParseMode.lazy);
+
+    @Test
+    public void blocks_are_read_on_first_access() throws IOException {
+	LazyForecast forecast = (LazyForecast) parse("/forecast_full.json");
+
+	assertNotNull(forecast.getCurrently().getTemperature());
+	assertEquals("si", forecast.getFlags().getUnits());
+	assertTrue(forecast.isPending(LazyForecast.MINUTELY));
+	assertTrue(forecast.isPending(LazyForecast.HOURLY));
+	assertTrue(forecast.isPending(LazyForecast.DAILY));
+	assertTrue(forecast.isPending(LazyForecast.ALERTS));
+
+	assertEquals(49, forecast.getHourly().getData().size());
+	assertFalse(forecast.isPending(LazyForecast.HOURLY));
+	assertTrue(forecast.isPending(LazyForecast.DAILY));
+    }
+
+    @Test
+    public void lazy_forecast_equals_the_databind_forecast() throws IOException {
+	Forecast expected;
+	try (InputStream is = getClass().getResourceAsStream("/forecast_full.json")) {
+	    expected = new DarkSkyJacksonClient(ParseMode.databind).parse(is);
+	}
+	Forecast actual = parse("/forecast_full.json");
+
+	assertEquals(expected, actual);
+	assertEquals(actual, expected);
+	assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void setter_replaces_a_pending_block() throws IOException {
+	LazyForecast forecast = (LazyForecast) parse("/forecast_full.json");
+	Hourly hourly = new Hourly();
+	forecast.setHourly(hourly);
+
+	assertSame(hourly, forecast.getHourly());
+	assertFalse(forecast.isPending(LazyForecast.HOURLY));
+    }
+
+    @Test
+    public void serialized_forecast_is_completely_read() throws IOException, ClassNotFoundException {
+	Forecast forecast = parse("/forecast_full.json");
+
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+	    out.writeObject(forecast);
+	}
+	try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+	    Object copy = in.readObject();
+	    assertEquals(Forecast.class, copy.getClass());
+	    assertEquals(forecast, copy);
+	}
+    }
+
+    @Test
+    public void frozen_forecast_has_read_all_blocks() throws IOException {
+	LazyForecast forecast = (LazyForecast) parse("/forecast_full.json");
+
+	assertSame(forecast, forecast.freeze());
+	assertFalse(forecast.isPending(LazyForecast.MINUTELY));
+	assertFalse(forecast.isPending(LazyForecast.ALERTS));
+	assertTrue(forecast.getHourly().getData().get(0).frozen());
+	try {
+	    forecast.setHourly(new Hourly());
+	    fail("Expected an UnsupportedOperationException");
+	} catch (UnsupportedOperationException ex) {
+	    // expected
+	}
+	assertEquals(49, forecast.getHourly().getData().size());
+    }
+
+    @Test
+    public void invalid_block_fails_on_access() throws IOException {
+	Forecast forecast = lazy.parse(stream("{\"timezone\":\"Europe/Athens\",\"alerts\":[{\"severity\":\"unknown\"}],\"hourly\":null}"));
+
+	assertEquals("Europe/Athens", forecast.getTimezone());
+	assertNull(forecast.getHourly());
+	try {
+	    forecast.getAlerts();
+	    fail("Expected an UncheckedIOException");
+	} catch (UncheckedIOException ex) {
+	    // expected
+	}
+    }
+
+    private Forecast parse(String fixture) throws IOException {
+	try (InputStream is = getClass().getResourceAsStream(fixture)) {
+	    return lazy.parse(is);
+	}
+    }
+
+    private static InputStream stream(String json) {
+	return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -24,11 +24,18 @@
 package tk.plogitech.darksky.api.jackson;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.Instant;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.Ignore;
 import org.junit.Test;
+import tk.plogitech.darksky.api.jackson.DarkSkyJacksonClient.ParseMode;
 import tk.plogitech.darksky.forecast.APIKey;
 import tk.plogitech.darksky.forecast.ForecastException;
 import tk.plogitech.darksky.forecast.ForecastRequest;
@@ -37,7 +44,12 @@ import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Block;
 import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Language;
 import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Units;
 import tk.plogitech.darksky.forecast.GeoCoordinates;
+import tk.plogitech.darksky.forecast.model.Alert;
+import tk.plogitech.darksky.forecast.model.Currently;
+import tk.plogitech.darksky.forecast.model.DailyDataPoint;
+import tk.plogitech.darksky.forecast.model.DataPoint;
 import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.HourlyDataPoint;
 import tk.plogitech.darksky.forecast.model.Latitude;
 import tk.plogitech.darksky.forecast.model.Longitude;
 
@@ -83,6 +95,97 @@ public class SerializationTest {
 	Forecast forecast = client.forecast(request);
 
     }
-    
 
+    /**
+     * forecast_full_2.0.ser was written by an ObjectOutputStream with the model classes before the serial form, parsed from forecast_full.json.
+     */
+    @Test
+    public void forecasts_serialized_by_earlier_versions_can_be_read() throws IOException, ClassNotFoundException {
+	Forecast expected = DarkSkyJacksonClient.objectMapper().readValue(getClass().getResource("/forecast_full.json"), Forecast.class);
+
+	try (ObjectInputStream in = new ObjectInputStream(getClass().getResourceAsStream("/forecast_full_2.0.ser"))) {
+	    Forecast forecast = (Forecast) in.readObject();
+
+	    assertEquals(expected, forecast);
+	    assertEquals(expected.getAlerts().get(0).getExpires(), forecast.getAlerts().get(0).getExpires());
+	    assertEquals(expected.getDaily().getData().get(0).getSunriseTime(), forecast.getDaily().getData().get(0).getSunriseTime());
+	}
+    }
+
+    /**
+     * forecast_full_parts_2.0.ser was written like forecast_full_2.0.ser, with the parts of the forecast as objects of their own, so each read
+     * hook of the model classes is used on its own.
+     */
+    @Test
+    public void model_parts_serialized_by_earlier_versions_can_be_read() throws IOException, ClassNotFoundException {
+	Forecast expected = DarkSkyJacksonClient.objectMapper().readValue(getClass().getResource("/forecast_full.json"), Forecast.class);
+
+	try (ObjectInputStream in = new ObjectInputStream(getClass().getResourceAsStream("/forecast_full_parts_2.0.ser"))) {
+	    Currently currently = (Currently) in.readObject();
+	    DataPoint minute = (DataPoint) in.readObject();
+	    HourlyDataPoint hour = (HourlyDataPoint) in.readObject();
+	    DailyDataPoint day = (DailyDataPoint) in.readObject();
+	    Alert alert = (Alert) in.readObject();
+
+	    assertEquals(expected.getCurrently(), currently);
+	    assertEquals(expected.getCurrently().getTime(), currently.getTime());
+	    assertEquals(expected.getMinutely().getData().get(0), minute);
+	    assertEquals(expected.getMinutely().getData().get(0).getTime(), minute.getTime());
+	    assertEquals(expected.getHourly().getData().get(0), hour);
+	    assertEquals(expected.getHourly().getData().get(0).temperatureAsDouble(), hour.temperatureAsDouble(), 0);
+	    assertEquals(expected.getDaily().getData().get(0), day);
+	    assertEquals(expected.getDaily().getData().get(0).getSunsetTime(), day.getSunsetTime());
+	    assertEquals(expected.getAlerts().get(0), alert);
+	    assertEquals(expected.getAlerts().get(0).getTime(), alert.getTime());
+	    assertEquals(expected.getFlags(), in.readObject());
+	}
+    }
+
+    @Test
+    public void forecasts_are_serialized_in_the_compact_form() throws IOException, ClassNotFoundException {
+	Forecast forecast = DarkSkyJacksonClient.objectMapper().readValue(getClass().getResource("/forecast_full.json"), Forecast.class);
+
+	byte[] bytes = serialize(forecast);
+
+	assertEquals(forecast, deserialize(bytes));
+	assertTrue(bytes.length * 3 < getClass().getResource("/forecast_full_2.0.ser").openConnection().getContentLength());
+    }
+
+    @Test
+    public void lazy_forecasts_are_serialized_with_all_blocks() throws IOException, ClassNotFoundException {
+	Forecast expected = DarkSkyJacksonClient.objectMapper().readValue(getClass().getResource("/forecast_full.json"), Forecast.class);
+	Forecast lazy;
+	try (InputStream is = getClass().getResourceAsStream("/forecast_full.json")) {
+	    lazy = new DarkSkyJacksonClient(ParseMode.lazy).parse(is);
+	}
+
+	assertEquals(expected, deserialize(serialize(lazy)));
+    }
+
+    @Test
+    public void model_parts_are_serialized_on_their_own() throws IOException, ClassNotFoundException {
+	Forecast forecast = DarkSkyJacksonClient.objectMapper().readValue(getClass().getResource("/forecast_full.json"), Forecast.class);
+
+	for (Object part : new Object[]{forecast.getCurrently(), forecast.getHourly(), forecast.getHourly().getData().get(3),
+	    forecast.getDaily().getData().get(1), forecast.getAlerts().get(0), forecast.getFlags(), forecast.getLatitude(), forecast.getLongitude()}) {
+	    Object copy = deserialize(serialize(part));
+
+	    assertEquals(part.getClass(), copy.getClass());
+	    assertEquals(part, copy);
+	}
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+	    out.writeObject(value);
+	}
+	return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+	try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+	    return in.readObject();
+	}
+    }
 }
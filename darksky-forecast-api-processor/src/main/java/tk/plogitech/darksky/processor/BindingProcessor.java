@@ -0,0 +1,708 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the binding class for every class annotated with {@code tk.plogitech.darksky.forecast.json.JsonBinding}.
+ *
+ * The binding class reads the annotated class from a JsonSource and writes it to a JsonSink by calling the setters and getters directly, so
+ * no reflection is needed at runtime. The properties are collected from the public setters of the class and its superclasses. The binding
+ * also encodes the class to the binary format of {@code tk.plogitech.darksky.forecast.binary.BinaryWriter} and decodes it again.
+ *
+ * @author Puls
+ */
+@SupportedAnnotationTypes(BindingProcessor.ANNOTATION)
+public class BindingProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "tk.plogitech.darksky.forecast.json.JsonBinding";
+    private static final String JSON_PACKAGE = "tk.plogitech.darksky.forecast.json";
+    private static final String BINARY_PACKAGE = "tk.plogitech.darksky.forecast.binary";
+    private static final String INTERNED = JSON_PACKAGE + ".Interned";
+    private static final String SUFFIX = "Binding";
+    private static final String EPOCH_SECOND = "EpochSecond";
+    private static final String AS_DOUBLE = "AsDouble";
+    private static final String AS_INT = "AsInt";
+    private static final int MAX_BINARY_PROPERTIES = 63;
+
+    private final Map<String, String> signatures = new HashMap<>();
+
+    /**
+     * The supported kinds of property types.
+     */
+    private enum Kind {
+	STRING, INTERNED_STRING, DOUBLE, DOUBLE_VALUE, INTEGER, INT_VALUE, BOOLEAN, INSTANT, EPOCH_SECOND, ENUM, VALUE, BINDING, STRING_LIST,
+	BINDING_LIST;
+
+	/**
+	 * @return The kind with the same binary encoding, which is part of the {@code SCHEMA}.
+	 */
+	private Kind encoding() {
+	    switch (this) {
+		case DOUBLE_VALUE:
+		    return DOUBLE;
+		case INT_VALUE:
+		    return INTEGER;
+		default:
+		    return this;
+	    }
+	}
+    }
+
+    /**
+     * A property of the annotated class.
+     */
+    private static final class Property {
+
+	private final String name;
+	private final String setter;
+	private final String getter;
+	private final Kind kind;
+	private final String type;
+	private final String elementType;
+	private final String binding;
+
+	private Property(String name, String setter, String getter, Kind kind, String type, String elementType, String binding) {
+	    this.name = name;
+	    this.setter = setter;
+	    this.getter = getter;
+	    this.kind = kind;
+	    this.type = type;
+	    this.elementType = elementType;
+	    this.binding = binding;
+	}
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+	return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+	for (TypeElement annotation : annotations) {
+	    for (Element element : round.getElementsAnnotatedWith(annotation)) {
+		if (element.getKind() != ElementKind.CLASS) {
+		    error(element, "@JsonBinding is only supported on classes.");
+		    continue;
+		}
+		TypeElement type = (TypeElement) element;
+		List<Property> properties = properties(type);
+		if (properties == null) {
+		    continue;
+		}
+		if (binaryProperties(properties).size() > MAX_BINARY_PROPERTIES) {
+		    error(type, "The binary encoding supports at most " + MAX_BINARY_PROPERTIES + " properties.");
+		    continue;
+		}
+		try {
+		    write(type, properties);
+		} catch (IOException ex) {
+		    error(type, "The binding cannot be written: " + ex.getMessage());
+		}
+	    }
+	}
+	return true;
+    }
+
+    /**
+     * @return The properties of the class, the properties of the superclasses first, or null if a property is not supported.
+     */
+    private List<Property> properties(TypeElement type) {
+	Deque<TypeElement> hierarchy = new ArrayDeque<>();
+	for (TypeElement current = type; current != null; current = superclass(current)) {
+	    hierarchy.push(current);
+	}
+
+	Map<String, Property> result = new LinkedHashMap<>();
+	boolean valid = true;
+	for (TypeElement current : hierarchy) {
+	    for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+		String methodName = method.getSimpleName().toString();
+		if (!isAccessor(method, 1) || !methodName.startsWith("set") || methodName.length() == 3
+			|| method.getReturnType().getKind() != TypeKind.VOID) {
+		    continue;
+		}
+		Property property = property(type, method);
+		if (property == null) {
+		    valid = false;
+		} else {
+		    result.put(property.name, property);
+		}
+	    }
+	}
+	return valid ? new ArrayList<>(result.values()) : null;
+    }
+
+    private Property property(TypeElement owner, ExecutableElement setter) {
+	String setterName = setter.getSimpleName().toString();
+	String suffix = setterName.substring(3);
+	String name = propertyName(suffix);
+	TypeMirror type = setter.getParameters().get(0).asType();
+
+	if (type.getKind() == TypeKind.BOOLEAN) {
+	    return new Property(name, setterName, getter(owner, "is" + suffix), Kind.BOOLEAN, "boolean", null, null);
+	}
+	String getter = getter(owner, "get" + suffix);
+	if (type.getKind() != TypeKind.DECLARED) {
+	    error(setter, "Unsupported type of property " + name + ": " + type);
+	    return null;
+	}
+	TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(type);
+	String qualifiedName = element.getQualifiedName().toString();
+	switch (qualifiedName) {
+	    case "java.lang.String":
+		return new Property(name, setterName, getter, isInterned(setter) ? Kind.INTERNED_STRING : Kind.STRING, qualifiedName, null, null);
+	    case "java.lang.Double":
+		if (hasPrimitiveAccessors(owner, name + AS_DOUBLE, TypeKind.DOUBLE)) {
+		    return new Property(name, name + AS_DOUBLE, name + AS_DOUBLE, Kind.DOUBLE_VALUE, "double", null, null);
+		}
+		return new Property(name, setterName, getter, Kind.DOUBLE, qualifiedName, null, null);
+	    case "java.lang.Integer":
+		if (hasPrimitiveAccessors(owner, name + AS_INT, TypeKind.INT)) {
+		    return new Property(name, name + AS_INT, name + AS_INT, Kind.INT_VALUE, "int", null, null);
+		}
+		return new Property(name, setterName, getter, Kind.INTEGER, qualifiedName, null, null);
+	    case "java.time.Instant":
+		if (hasPrimitiveAccessors(owner, name + EPOCH_SECOND, TypeKind.LONG)) {
+		    return new Property(name, name + EPOCH_SECOND, name + EPOCH_SECOND, Kind.EPOCH_SECOND, "long", null, null);
+		}
+		return new Property(name, setterName, getter, Kind.INSTANT, qualifiedName, null, null);
+	    case "java.util.List":
+		return listProperty(setter, setterName, name, getter, (DeclaredType) type);
+	    default:
+	}
+	if (element.getKind() == ElementKind.ENUM) {
+	    return new Property(name, setterName, getter, Kind.ENUM, qualifiedName, null, null);
+	}
+	if (isBinding(element)) {
+	    return new Property(name, setterName, getter, Kind.BINDING, qualifiedName, null, binding(element));
+	}
+	if (isValue(element)) {
+	    return new Property(name, setterName, getter, Kind.VALUE, qualifiedName, null, null);
+	}
+	error(setter, "Unsupported type of property " + name + ": " + type);
+	return null;
+    }
+
+    private Property listProperty(ExecutableElement setter, String setterName, String name, String getter, DeclaredType type) {
+	if (type.getTypeArguments().size() == 1 && type.getTypeArguments().get(0).getKind() == TypeKind.DECLARED) {
+	    TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(type.getTypeArguments().get(0));
+	    if (element.getQualifiedName().contentEquals("java.lang.String")) {
+		return new Property(name, setterName, getter, Kind.STRING_LIST, type.toString(), "java.lang.String", null);
+	    }
+	    if (isBinding(element)) {
+		return new Property(name, setterName, getter, Kind.BINDING_LIST, type.toString(),
+			element.getQualifiedName().toString(), binding(element));
+	    }
+	}
+	error(setter, "Unsupported type of property " + name + ": " + type);
+	return null;
+    }
+
+    /**
+     * @return The name of the public getter without parameters or null if there is none.
+     */
+    private String getter(TypeElement owner, String name) {
+	for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner))) {
+	    if (isAccessor(method, 0) && method.getSimpleName().contentEquals(name)) {
+		return name;
+	    }
+	}
+	return null;
+    }
+
+    /**
+     * @return True if the class has the public methods {@code <accessor>()} returning the primitive type and {@code <accessor>(<type>)}, e.g.
+     * {@code timeEpochSecond()} and {@code timeEpochSecond(long)} which access an Instant property as epoch seconds without creating the
+     * Instant, or {@code temperatureAsDouble()} and {@code temperatureAsDouble(double)} which access a Double property without boxing.
+     */
+    private boolean hasPrimitiveAccessors(TypeElement owner, String accessor, TypeKind type) {
+	boolean getter = false;
+	boolean setter = false;
+	for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(owner))) {
+	    if (method.getSimpleName().contentEquals(accessor)) {
+		getter |= isAccessor(method, 0) && method.getReturnType().getKind() == type;
+		setter |= isAccessor(method, 1) && method.getParameters().get(0).asType().getKind() == type;
+	    }
+	}
+	return getter && setter;
+    }
+
+    private static boolean isAccessor(ExecutableElement method, int parameters) {
+	return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)
+		&& method.getParameters().size() == parameters;
+    }
+
+    private static boolean isBinding(TypeElement element) {
+	return isAnnotated(element, ANNOTATION);
+    }
+
+    private static boolean isInterned(ExecutableElement setter) {
+	return isAnnotated(setter, INTERNED);
+    }
+
+    private static boolean isAnnotated(Element element, String annotationName) {
+	for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+	    if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+		return true;
+	    }
+	}
+	return false;
+    }
+
+    /**
+     * @return True for classes like Latitude: a public constructor with a Double parameter and a public value() method returning Double.
+     */
+    private static boolean isValue(TypeElement element) {
+	boolean constructor = false;
+	for (ExecutableElement candidate : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+	    constructor |= candidate.getModifiers().contains(Modifier.PUBLIC) && candidate.getParameters().size() == 1
+		    && candidate.getParameters().get(0).asType().toString().equals("java.lang.Double");
+	}
+	boolean value = false;
+	for (ExecutableElement method : ElementFilter.methodsIn(element.getEnclosedElements())) {
+	    value |= isAccessor(method, 0) && method.getSimpleName().contentEquals("value")
+		    && method.getReturnType().toString().equals("java.lang.Double");
+	}
+	return constructor && value;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+	TypeMirror superclass = type.getSuperclass();
+	if (superclass.getKind() != TypeKind.DECLARED) {
+	    return null;
+	}
+	TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(superclass);
+	return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    /**
+     * Lower cases the leading upper case characters, like the default naming of Jackson (e.g. WindGust is windGust, URL is url).
+     */
+    static String propertyName(String suffix) {
+	char[] chars = suffix.toCharArray();
+	for (int i = 0; i < chars.length && Character.isUpperCase(chars[i]); i++) {
+	    chars[i] = Character.toLowerCase(chars[i]);
+	}
+	return new String(chars);
+    }
+
+    private String binding(TypeElement element) {
+	String packageName = processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().toString();
+	return (packageName.isEmpty() ? "" : packageName + ".") + element.getSimpleName() + SUFFIX;
+    }
+
+    private void write(TypeElement type, List<Property> properties) throws IOException {
+	String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+	String simpleName = type.getSimpleName() + SUFFIX;
+	String model = type.getQualifiedName().toString();
+
+	StringBuilder out = new StringBuilder(8192);
+	out.append("/*\n * Generated by ").append(getClass().getName()).append(". Do not edit.\n */\n");
+	if (!packageName.isEmpty()) {
+	    out.append("package ").append(packageName).append(";\n\n");
+	}
+	out.append("import java.io.IOException;\n");
+	out.append("import ").append(BINARY_PACKAGE).append(".BinaryReader;\n");
+	out.append("import ").append(BINARY_PACKAGE).append(".BinaryWriter;\n");
+	out.append("import ").append(JSON_PACKAGE).append(".JsonSink;\n");
+	out.append("import ").append(JSON_PACKAGE).append(".JsonSource;\n\n");
+	out.append("/**\n * Reads and writes {@link ").append(model).append("} without reflection.\n */\n");
+	out.append("public final class ").append(simpleName).append(" {\n\n");
+	out.append("    /**\n     * The schema of the binary encoding. It changes with the properties of the class and the classes it contains.\n     */\n");
+	out.append("    public static final int SCHEMA = ").append(signature(type).hashCode()).append(";\n\n");
+	out.append("    private ").append(simpleName).append("() {\n    }\n\n");
+
+	out.append("    /**\n     * @param source The source positioned before the value.\n");
+	out.append("     * @return The next value of the source.\n");
+	out.append("     * @throws IOException if the value cannot be read.\n     */\n");
+	out.append("    public static ").append(model).append(" read(JsonSource source) throws IOException {\n");
+	out.append("        if (!source.beginObject()) {\n");
+	out.append("            return source.readOther(").append(model).append(".class);\n        }\n");
+	out.append("        ").append(model).append(" target = new ").append(model).append("();\n");
+	out.append("        String name;\n");
+	out.append("        while ((name = source.nextName()) != null) {\n");
+	out.append("            if (!readProperty(source, name, target)) {\n");
+	out.append("                source.skipValue();\n            }\n        }\n");
+	out.append("        return target;\n    }\n\n");
+
+	out.append("    /**\n     * @param source The source positioned before the value of the property.\n");
+	out.append("     * @param name The name of the property.\n");
+	out.append("     * @param target The object the value is set on.\n");
+	out.append("     * @return True if the property is known and the value was read, false if the value was not consumed.\n");
+	out.append("     * @throws IOException if the value cannot be read.\n     */\n");
+	out.append("    public static boolean readProperty(JsonSource source, String name, ").append(model)
+		.append(" target) throws IOException {\n");
+	out.append("        switch (name) {\n");
+	for (Property property : properties) {
+	    out.append("            case \"").append(property.name).append("\":\n");
+	    if (property.kind == Kind.VALUE) {
+		out.append("                try {\n");
+		out.append("                    Double value = source.readDouble();\n");
+		out.append("                    target.").append(property.setter).append("(value == null ? null : new ").append(property.type)
+			.append("(value));\n");
+		out.append("                } catch (IllegalArgumentException ex) {\n");
+		out.append("                    throw source.invalidValue(name, ex);\n                }\n");
+	    } else {
+		out.append("                target.").append(property.setter).append("(").append(readExpression(property)).append(");\n");
+	    }
+	    out.append("                return true;\n");
+	}
+	out.append("            default:\n                return false;\n        }\n    }\n\n");
+
+	out.append("    /**\n     * @param value The value to write, null writes the Json null.\n");
+	out.append("     * @param sink The sink to write to.\n");
+	out.append("     * @throws IOException if the value cannot be written.\n     */\n");
+	out.append("    public static void write(").append(model).append(" value, JsonSink sink) throws IOException {\n");
+	out.append("        if (value == null) {\n            sink.writeNull();\n            return;\n        }\n");
+	out.append("        sink.beginObject();\n");
+	for (Property property : properties) {
+	    if (property.getter != null) {
+		writeProperty(out, property);
+	    }
+	}
+	out.append("        sink.endObject();\n    }\n\n");
+	writeBinary(out, model, binaryProperties(properties));
+	out.append("}\n");
+
+	try (Writer writer = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? simpleName : packageName + "." + simpleName, type)
+		.openWriter()) {
+	    writer.write(out.toString());
+	}
+    }
+
+    /**
+     * @return The properties which are encoded in the binary format, those with a getter.
+     */
+    private static List<Property> binaryProperties(List<Property> properties) {
+	List<Property> result = new ArrayList<>();
+	for (Property property : properties) {
+	    if (property.getter != null) {
+		result.add(property);
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * @return The binary properties of the class and, recursively, of the classes it contains, which make up its {@code SCHEMA}.
+     */
+    private String signature(TypeElement type) {
+	String name = type.getQualifiedName().toString();
+	String result = signatures.get(name);
+	if (result != null) {
+	    return result;
+	}
+	signatures.put(name, name);
+	StringBuilder signature = new StringBuilder(name).append('{');
+	List<Property> properties = properties(type);
+	for (Property property : properties == null ? new ArrayList<Property>() : binaryProperties(properties)) {
+	    signature.append(property.name).append(':').append(property.kind.encoding());
+	    if (property.kind == Kind.BINDING || property.kind == Kind.BINDING_LIST) {
+		String element = property.kind == Kind.BINDING ? property.type : property.elementType;
+		signature.append(' ').append(signature(processingEnv.getElementUtils().getTypeElement(element)));
+	    }
+	    signature.append(',');
+	}
+	result = signature.append('}').toString();
+	signatures.put(name, result);
+	return result;
+    }
+
+    private void writeBinary(StringBuilder out, String model, List<Property> properties) {
+	out.append("    /**\n     * @param value The value to encode as document, with the header of the {@link #SCHEMA}.\n");
+	out.append("     * @param out The writer to write to.\n");
+	out.append("     * @throws IOException if the value cannot be written.\n     */\n");
+	out.append("    public static void encode(").append(model).append(" value, BinaryWriter out) throws IOException {\n");
+	out.append("        out.writeHeader(SCHEMA);\n        encodeValue(value, out);\n    }\n\n");
+
+	out.append("    /**\n     * @param in The reader positioned before the header of a document.\n");
+	out.append("     * @return The value of the document.\n");
+	out.append("     * @throws IOException if the value cannot be read or the document has another schema.\n     */\n");
+	out.append("    public static ").append(model).append(" decode(BinaryReader in) throws IOException {\n");
+	out.append("        in.readHeader(SCHEMA);\n        return decodeValue(in);\n    }\n\n");
+
+	out.append("    /**\n     * @param value The value to encode, null encodes null.\n");
+	out.append("     * @param out The writer to write to.\n");
+	out.append("     * @throws IOException if the value cannot be written.\n     */\n");
+	out.append("    public static void encodeValue(").append(model).append(" value, BinaryWriter out) throws IOException {\n");
+	out.append("        if (value == null) {\n            out.writeNull();\n            return;\n        }\n");
+	for (int i = 0; i < properties.size(); i++) {
+	    Property property = properties.get(i);
+	    out.append("        ").append(property.type).append(" p").append(i).append(" = value.").append(property.getter).append("();\n");
+	}
+	out.append("        long bits = 0;\n");
+	for (int i = 0; i < properties.size(); i++) {
+	    out.append("        if (").append(present(properties.get(i), "p" + i)).append(") {\n");
+	    out.append("            bits |= 1L << ").append(i).append(";\n        }\n");
+	}
+	out.append("        out.beginObject(bits);\n");
+	for (int i = 0; i < properties.size(); i++) {
+	    Property property = properties.get(i);
+	    if (property.kind != Kind.BOOLEAN) {
+		out.append("        if (").append(present(property, "p" + i)).append(") {\n");
+		encodeProperty(out, property, "p" + i);
+		out.append("        }\n");
+	    }
+	}
+	out.append("    }\n\n");
+
+	out.append("    /**\n     * @param in The reader positioned before the value.\n");
+	out.append("     * @return The next value of the reader.\n");
+	out.append("     * @throws IOException if the value cannot be read.\n     */\n");
+	out.append("    public static ").append(model).append(" decodeValue(BinaryReader in) throws IOException {\n");
+	out.append("        long bits = in.beginObject();\n");
+	out.append("        if (bits < 0) {\n            return null;\n        }\n");
+	out.append("        ").append(model).append(" target = new ").append(model).append("();\n");
+	for (int i = 0; i < properties.size(); i++) {
+	    Property property = properties.get(i);
+	    if (property.kind == Kind.BOOLEAN) {
+		out.append("        target.").append(property.setter).append("((bits & 1L << ").append(i).append(") != 0);\n");
+	    } else {
+		out.append("        if ((bits & 1L << ").append(i).append(") != 0) {\n");
+		decodeProperty(out, property);
+		out.append("        }\n");
+	    }
+	}
+	out.append("        return target;\n    }\n");
+    }
+
+    /**
+     * @return The condition which is true if the variable holding the value of the property is set.
+     */
+    private static String present(Property property, String variable) {
+	switch (property.kind) {
+	    case BOOLEAN:
+		return variable;
+	    case DOUBLE_VALUE:
+		return "!Double.isNaN(" + variable + ")";
+	    case INT_VALUE:
+		return variable + " != Integer.MIN_VALUE";
+	    case EPOCH_SECOND:
+		return variable + " != Long.MIN_VALUE";
+	    default:
+		return variable + " != null";
+	}
+    }
+
+    private static void encodeProperty(StringBuilder out, Property property, String value) {
+	switch (property.kind) {
+	    case STRING:
+	    case INTERNED_STRING:
+		out.append("            out.writeString(").append(value).append(");\n");
+		break;
+	    case DOUBLE:
+	    case DOUBLE_VALUE:
+		out.append("            out.writeDouble(").append(value).append(");\n");
+		break;
+	    case INTEGER:
+	    case INT_VALUE:
+		out.append("            out.writeInteger(").append(value).append(");\n");
+		break;
+	    case INSTANT:
+		out.append("            out.writeInstant(").append(value).append(");\n");
+		break;
+	    case EPOCH_SECOND:
+		out.append("            out.writeTime(").append(value).append(");\n");
+		break;
+	    case ENUM:
+		out.append("            out.writeEnum(").append(value).append(");\n");
+		break;
+	    case VALUE:
+		out.append("            out.writeDouble(").append(value).append(".value());\n");
+		break;
+	    case BINDING:
+		out.append("            ").append(property.binding).append(".encodeValue(").append(value).append(", out);\n");
+		break;
+	    case STRING_LIST:
+		out.append("            out.writeSize(").append(value).append(".size());\n");
+		out.append("            for (String element : ").append(value).append(") {\n");
+		out.append("                out.writeString(element);\n            }\n");
+		break;
+	    default:
+		out.append("            out.writeSize(").append(value).append(".size());\n");
+		out.append("            for (").append(property.elementType).append(" element : ").append(value).append(") {\n");
+		out.append("                ").append(property.binding).append(".encodeValue(element, out);\n            }\n");
+	}
+    }
+
+    private static void decodeProperty(StringBuilder out, Property property) {
+	String set = "            target." + property.setter + "(";
+	switch (property.kind) {
+	    case STRING:
+	    case INTERNED_STRING:
+		out.append(set).append("in.readString());\n");
+		break;
+	    case DOUBLE:
+	    case DOUBLE_VALUE:
+		out.append(set).append("in.readDouble());\n");
+		break;
+	    case INTEGER:
+	    case INT_VALUE:
+		out.append(set).append("in.readInteger());\n");
+		break;
+	    case INSTANT:
+		out.append(set).append("in.readInstant());\n");
+		break;
+	    case EPOCH_SECOND:
+		out.append(set).append("in.readTime());\n");
+		break;
+	    case ENUM:
+		out.append(set).append("in.readEnum(").append(property.type).append(".class));\n");
+		break;
+	    case VALUE:
+		out.append("            try {\n");
+		out.append("    ").append(set).append("new ").append(property.type).append("(in.readDouble()));\n");
+		out.append("            } catch (IllegalArgumentException ex) {\n");
+		out.append("                throw in.invalidValue(\"").append(property.name).append("\", ex);\n            }\n");
+		break;
+	    case BINDING:
+		out.append(set).append(property.binding).append(".decodeValue(in));\n");
+		break;
+	    default:
+		String element = property.kind == Kind.STRING_LIST ? "in.readString()" : property.binding + ".decodeValue(in)";
+		out.append("            int size = in.readSize();\n");
+		out.append("            ").append(property.type).append(" list = new java.util.ArrayList<>(Math.min(size, 64));\n");
+		out.append("            for (int i = 0; i < size; i++) {\n");
+		out.append("                list.add(").append(element).append(");\n            }\n");
+		out.append(set).append("list);\n");
+	}
+    }
+
+    private static String readExpression(Property property) {
+	switch (property.kind) {
+	    case STRING:
+		return "source.readString()";
+	    case INTERNED_STRING:
+		return "source.readInternedString()";
+	    case DOUBLE:
+		return "source.readDouble()";
+	    case DOUBLE_VALUE:
+		return "source.readDoubleValue()";
+	    case INTEGER:
+		return "source.readInteger()";
+	    case INT_VALUE:
+		return "source.readIntValue()";
+	    case BOOLEAN:
+		return "source.readBoolean()";
+	    case INSTANT:
+		return "source.readInstant()";
+	    case EPOCH_SECOND:
+		return "source.readEpochSecond()";
+	    case ENUM:
+		return "source.readEnum(" + property.type + ".class)";
+	    case BINDING:
+		return property.binding + ".read(source)";
+	    case STRING_LIST:
+		return "source.readList(JsonSource::readString)";
+	    default:
+		return "source.readList(" + property.binding + "::read)";
+	}
+    }
+
+    private static void writeProperty(StringBuilder out, Property property) {
+	if (property.kind == Kind.BOOLEAN) {
+	    out.append("        sink.name(\"").append(property.name).append("\");\n");
+	    out.append("        sink.writeBoolean(value.").append(property.getter).append("());\n");
+	    return;
+	}
+	out.append("        {\n");
+	out.append("            ").append(property.type).append(" property = value.").append(property.getter).append("();\n");
+	out.append("            if (").append(present(property, "property")).append(") {\n");
+	out.append("                sink.name(\"").append(property.name).append("\");\n");
+	switch (property.kind) {
+	    case STRING:
+	    case INTERNED_STRING:
+		out.append("                sink.writeString(property);\n");
+		break;
+	    case DOUBLE:
+		out.append("                sink.writeNumber(property.doubleValue());\n");
+		break;
+	    case DOUBLE_VALUE:
+	    case INT_VALUE:
+		out.append("                sink.writeNumber(property);\n");
+		break;
+	    case INTEGER:
+		out.append("                sink.writeNumber(property.longValue());\n");
+		break;
+	    case INSTANT:
+		out.append("                sink.writeInstant(property);\n");
+		break;
+	    case EPOCH_SECOND:
+		out.append("                sink.writeNumber(property);\n");
+		break;
+	    case ENUM:
+		out.append("                sink.writeString(property.name());\n");
+		break;
+	    case VALUE:
+		out.append("                sink.writeNumber(property.value().doubleValue());\n");
+		break;
+	    case BINDING:
+		out.append("                ").append(property.binding).append(".write(property, sink);\n");
+		break;
+	    case STRING_LIST:
+		out.append("                sink.beginArray();\n");
+		out.append("                for (String element : property) {\n");
+		out.append("                    sink.writeString(element);\n                }\n");
+		out.append("                sink.endArray();\n");
+		break;
+	    default:
+		out.append("                sink.beginArray();\n");
+		out.append("                for (").append(property.elementType).append(" element : property) {\n");
+		out.append("                    ").append(property.binding).append(".write(element, sink);\n                }\n");
+		out.append("                sink.endArray();\n");
+	}
+	out.append("            }\n        }\n");
+    }
+
+    private void error(Element element, String message) {
+	processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
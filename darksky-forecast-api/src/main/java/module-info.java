@@ -24,6 +24,9 @@
 module tk.plogitech.darksky {
     requires java.logging;
     exports tk.plogitech.darksky.forecast;
+    exports tk.plogitech.darksky.forecast.binary;
+    exports tk.plogitech.darksky.forecast.cluster;
+    exports tk.plogitech.darksky.forecast.json;
     exports tk.plogitech.darksky.forecast.model;
     exports tk.plogitech.darksky.forecast.util to tk.plogitech.darksky.jackson;
 }
@@ -27,10 +27,22 @@ import tk.plogitech.darksky.forecast.model.Latitude;
 import tk.plogitech.darksky.forecast.model.Longitude;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+import tk.plogitech.darksky.forecast.cluster.Cluster;
+import tk.plogitech.darksky.forecast.json.JsonReader;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
 import tk.plogitech.darksky.forecast.util.IOUtil;
 
 /**
@@ -42,6 +54,27 @@ public class DarkSkyClient {
 
     private static final Logger logger = Logger.getLogger(DarkSkyClient.class.getSimpleName());
 
+    private final Cluster cluster;
+
+    /**
+     * Creates a client which fetches every forecast directly from the DarkSky API.
+     */
+    public DarkSkyClient() {
+	this.cluster = null;
+    }
+
+    /**
+     * Creates a client which is a member of a cluster. Forecasts for locations owned by another node are forwarded to that node instead of being
+     * fetched from the DarkSky API.
+     *
+     * @param cluster The cluster this client is a member of.
+     */
+    public DarkSkyClient(Cluster cluster) {
+	notNull("The Cluster cannot be null.", cluster);
+
+	this.cluster = cluster;
+    }
+
     /**
      * Returns the forecast response as String.
      *
@@ -57,6 +90,23 @@ public class DarkSkyClient {
 	return executeForecastRequest(request);
     }
 
+    /**
+     * Answers a request which another node of the {@link Cluster} forwarded to this node. Unlike {@link #forecastJsonStream(ForecastRequest)} it
+     * never forwards the request again, even if the ring of this node names another owner, e.g. while the nodes are updated to a new ring. So a
+     * request is forwarded at most once. A {@link tk.plogitech.darksky.forecast.cluster.PeerTransport} calls it on the receiving node.
+     *
+     * @param request The forwarded Forecast Request.
+     * @return The forecast unparsed as byte encoded Json.
+     *
+     * @throws ForecastException if the forecast cannot be fetched.
+     */
+    public InputStream serveForwarded(ForecastRequest request) throws ForecastException {
+	notNull("The ForecastRequest cannot be null.", request);
+	logger.log(Level.FINE, "Serving forwarded Forecast request: {0}", request);
+
+	return serveOwned(request);
+    }
+
     /**
      * Returns the forecast response as String.
      *
@@ -68,7 +118,8 @@ public class DarkSkyClient {
     public String forecastJsonString(ForecastRequest request) throws ForecastException {
 	notNull("The ForecastRequest cannot be null.", request);
 
-	return new String(forecastJsonBytes(request));
+	ByteBuffer json = forecastJsonBuffer(request);
+	return new String(json.array(), json.arrayOffset(), json.remaining());
     }
 
     /**
@@ -91,16 +142,239 @@ public class DarkSkyClient {
 	}
     }
 
+    /**
+     * Returns the forecast response as ByteBuffer. Unlike {@link #forecastJsonBytes(ForecastRequest)} the bytes are not copied into an array of the
+     * exact size, the buffer is backed by the array the response was read into.
+     *
+     * @param request The Forecast Request which is executed. Use {@link ForecastRequestBuilder} to build the request.
+     * @return The forecast unparsed as byte encoded Json, from position 0 to the limit of the buffer.
+     *
+     * @throws ForecastException if the forecast cannot be fetched.
+     */
+    public ByteBuffer forecastJsonBuffer(ForecastRequest request) throws ForecastException {
+	notNull("The ForecastRequest cannot be null.", request);
+	logger.log(Level.FINE, "Executing Forecat request: {0}", request);
+
+	try (InputStream is = executeForecastRequest(request)) {
+	    return IOUtil.readBuffer(is);
+
+	} catch (IOException e) {
+	    throw new ForecastException("Forecast cannot be fetched.", e);
+	}
+    }
+
+    /**
+     * Streams the forecast response to a channel, e.g. the connection of a proxied client or a file, through a pooled direct buffer. The response is
+     * never held on the heap as a whole.
+     *
+     * @param request The Forecast Request which is executed. Use {@link ForecastRequestBuilder} to build the request.
+     * @param target The blocking channel the forecast is written to unparsed as byte encoded Json. It is not closed.
+     * @return The number of bytes transferred.
+     *
+     * @throws ForecastException if the forecast cannot be fetched or written.
+     */
+    public long forecastTo(ForecastRequest request, WritableByteChannel target) throws ForecastException {
+	notNull("The ForecastRequest and the channel cannot be null.", request, target);
+	logger.log(Level.FINE, "Executing Forecat request: {0}", request);
+
+	try (InputStream is = executeForecastRequest(request)) {
+	    return IOUtil.transfer(is, target);
+
+	} catch (IOException e) {
+	    throw new ForecastException("Forecast cannot be transferred.", e);
+	}
+    }
+
+    /**
+     * Streams the forecast response to an OutputStream through a pooled buffer. The response is never held on the heap as a whole.
+     *
+     * @param request The Forecast Request which is executed. Use {@link ForecastRequestBuilder} to build the request.
+     * @param target The stream the forecast is written to unparsed as byte encoded Json. It is not closed.
+     * @return The number of bytes transferred.
+     *
+     * @throws ForecastException if the forecast cannot be fetched or written.
+     */
+    public long forecastTo(ForecastRequest request, OutputStream target) throws ForecastException {
+	notNull("The ForecastRequest and the OutputStream cannot be null.", request, target);
+	logger.log(Level.FINE, "Executing Forecat request: {0}", request);
+
+	try (InputStream is = executeForecastRequest(request)) {
+	    return IOUtil.transfer(is, target);
+
+	} catch (IOException e) {
+	    throw new ForecastException("Forecast cannot be transferred.", e);
+	}
+    }
+
+    /**
+     * Returns the forecast parsed by the {@link JsonReader} of this library, no Json framework is needed. The response is parsed while it is
+     * downloaded.
+     *
+     * @param request The Forecast Request which is executed. Use {@link ForecastRequestBuilder} to build the request.
+     * @return The forecast parsed as {@link Forecast}.
+     *
+     * @throws ForecastException if the forecast cannot be fetched or parsed.
+     */
+    public Forecast forecast(ForecastRequest request) throws ForecastException {
+	notNull("The ForecastRequest cannot be null.", request);
+	logger.log(Level.FINE, "Executing Forecat request: {0}", request);
+
+	try (InputStream is = executeForecastRequest(request)) {
+	    return forecast(is);
+
+	} catch (IOException e) {
+	    throw new ForecastException("Forecast cannot be fetched.", e);
+	}
+    }
+
+    /**
+     * Parses a forecast response while it is read, e.g. from a socket or a file.
+     *
+     * @param json The forecast as byte encoded Json. The stream is not closed.
+     * @return The forecast parsed as {@link Forecast}.
+     *
+     * @throws ForecastException if the forecast cannot be read or parsed.
+     */
+    public Forecast forecast(InputStream json) throws ForecastException {
+	notNull("The InputStream cannot be null.", json);
+
+	try {
+	    return ForecastBinding.read(new JsonReader(json));
+	} catch (IOException e) {
+	    throw new ForecastException("Forecast cannot be parsed.", e);
+	}
+    }
+
+    /**
+     * Parses a forecast response without copying it first, e.g. from a direct buffer of an off-heap store or a memory mapped file (see
+     * {@link java.nio.channels.FileChannel#map}).
+     *
+     * @param json The forecast as byte encoded Json between position and limit. The position of the buffer is not changed.
+     * @return The forecast parsed as {@link Forecast}.
+     *
+     * @throws ForecastException if the forecast cannot be parsed.
+     */
+    public Forecast forecast(ByteBuffer json) throws ForecastException {
+	notNull("The ByteBuffer cannot be null.", json);
+
+	try {
+	    return ForecastBinding.read(new JsonReader(json));
+	} catch (IOException e) {
+	    throw new ForecastException("Forecast cannot be parsed.", e);
+	}
+    }
+
+    /**
+     * Parses a batch of forecast responses, e.g. from {@link #forecastJsonBytes(ForecastRequest)} or a cache, in parallel in the common
+     * {@link ForkJoinPool}.
+     *
+     * @param json The forecasts as byte encoded Json.
+     * @return The forecasts parsed as {@link Forecast}, in the order of the Json.
+     *
+     * @throws ForecastException if one of the forecasts cannot be parsed.
+     */
+    public List<Forecast> forecasts(List<byte[]> json) throws ForecastException {
+	return forecasts(json, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parses a batch of forecast responses in parallel. The batch is split into a few tasks per thread of the pool, so idle threads steal the
+     * remaining work of busy ones. The forecasts of one task are parsed with the same parser state (see
+     * {@link #forecasts(List, int, int, Forecast[])}).
+     *
+     * @param json The forecasts as byte encoded Json.
+     * @param pool The pool parsing the forecasts.
+     * @return The forecasts parsed as {@link Forecast}, in the order of the Json.
+     *
+     * @throws ForecastException if one of the forecasts cannot be parsed.
+     */
+    public List<Forecast> forecasts(List<byte[]> json, ForkJoinPool pool) throws ForecastException {
+	notNull("The Json and the ForkJoinPool cannot be null.", json, pool);
+	notNull("The Json cannot contain null.", json.toArray());
+
+	Forecast[] result = new Forecast[json.size()];
+	int granularity = Math.max(1, result.length / (pool.getParallelism() * 4));
+	AtomicReference<ForecastException> failure = new AtomicReference<>();
+	pool.invoke(new BatchTask(json, 0, result.length, granularity, result, failure));
+	if (failure.get() != null) {
+	    throw failure.get();
+	}
+	return Arrays.asList(result);
+    }
+
+    /**
+     * Parses a part of a batch, called by one task of {@link #forecasts(List, ForkJoinPool)}. All forecasts of the part are read by one
+     * {@link JsonReader}, which keeps the buffers it has grown for the next forecast. Override together with the parse methods for single
+     * forecasts.
+     *
+     * @param json The forecasts of the batch as byte encoded Json.
+     * @param from The index of the first forecast to parse.
+     * @param to The index after the last forecast to parse.
+     * @param result The forecasts of the batch, receiving the parsed forecasts at their index.
+     *
+     * @throws ForecastException if one of the forecasts cannot be parsed.
+     */
+    protected void forecasts(List<byte[]> json, int from, int to, Forecast[] result) throws ForecastException {
+	JsonReader reader = null;
+	for (int i = from; i < to; i++) {
+	    byte[] bytes = json.get(i);
+	    reader = reader == null ? new JsonReader(bytes) : reader.reset(bytes, 0, bytes.length);
+	    try {
+		result[i] = ForecastBinding.read(reader);
+	    } catch (IOException e) {
+		throw new ForecastException("Forecast cannot be parsed.", e);
+	    }
+	}
+    }
+
+    /**
+     * Executes the request. If this client is a member of a {@link Cluster} and the requested location is owned by another node, the request is
+     * forwarded to the owner.
+     *
+     * @param request The Forecast Request which is executed.
+     * @return The forecast unparsed as byte encoded Json.
+     * @throws ForecastException if the forecast cannot be fetched.
+     */
     protected InputStream executeForecastRequest(ForecastRequest request) throws ForecastException {
 	notNull("The ForecastRequest cannot be null.", request);
 
+	if (cluster != null && !cluster.isLocal(request)) {
+	    logger.log(Level.FINE, "Forwarding Forecast request to the owning node: {0}", request);
+	    return cluster.forward(request);
+	}
+	return serveOwned(request);
+    }
+
+    /**
+     * Serves a request this node is responsible for: every request of a client without {@link Cluster}, and in a cluster the requests for the
+     * locations this node owns, its own ones as well as the ones forwarded by other nodes. Override it to put a cache or the deduplication of
+     * concurrent requests (e.g. keyed by {@link ForecastRequest#key()}) in front of {@link #fetchForecast(ForecastRequest)}; in a cluster each
+     * location is then fetched once for all nodes. The client itself does not cache.
+     *
+     * @param request The Forecast Request which is executed.
+     * @return The forecast unparsed as byte encoded Json.
+     * @throws ForecastException if the forecast cannot be fetched.
+     */
+    protected InputStream serveOwned(ForecastRequest request) throws ForecastException {
+	return fetchForecast(request);
+    }
+
+    /**
+     * Fetches the forecast from the DarkSky API. The Content-Length of the response is attached to the returned stream, so that it is read into an
+     * array of the right size.
+     *
+     * @param request The Forecast Request which is executed.
+     * @return The forecast unparsed as byte encoded Json.
+     * @throws ForecastException if the forecast cannot be fetched.
+     */
+    protected InputStream fetchForecast(ForecastRequest request) throws ForecastException {
 	HttpURLConnection connection = null;
 	try {
 	    connection = (HttpURLConnection) request.url().openConnection();
 	    connection.setDoOutput(false);
 	    connection.setConnectTimeout((int) request.timeouts().connectionTimeout().toMillis());
 	    connection.setReadTimeout((int) request.timeouts().readTimeout().toMillis());
-	    return connection.getInputStream();
+	    return IOUtil.withContentLength(connection.getInputStream(), connection.getContentLengthLong());
 	} catch (IOException ex) {
 	    String errorMessage = "Forecast cannot be fetched.";
 	    if (connection != null && connection.getErrorStream() != null) {
@@ -116,6 +390,46 @@ public class DarkSkyClient {
 	}
     }
 
+    /**
+     * Splits a batch in halves down to the granularity and parses the parts with {@link DarkSkyClient#forecasts(List, int, int, Forecast[])}.
+     */
+    private final class BatchTask extends RecursiveAction {
+
+	private final List<byte[]> json;
+	private final int from;
+	private final int to;
+	private final int granularity;
+	private final Forecast[] result;
+	private final AtomicReference<ForecastException> failure;
+
+	BatchTask(List<byte[]> json, int from, int to, int granularity, Forecast[] result, AtomicReference<ForecastException> failure) {
+	    this.json = json;
+	    this.from = from;
+	    this.to = to;
+	    this.granularity = granularity;
+	    this.result = result;
+	    this.failure = failure;
+	}
+
+	@Override
+	protected void compute() {
+	    if (failure.get() != null) {
+		return;
+	    }
+	    if (to - from > granularity) {
+		int middle = (from + to) >>> 1;
+		invokeAll(new BatchTask(json, from, middle, granularity, result, failure),
+			new BatchTask(json, middle, to, granularity, result, failure));
+		return;
+	    }
+	    try {
+		forecasts(json, from, to, result);
+	    } catch (ForecastException e) {
+		failure.compareAndSet(null, e);
+	    }
+	}
+    }
+
     public static void main(String[] args) throws ForecastException {
 	if (args.length == 0) {
 	    throw new IllegalArgumentException("Please provide your APIKey as argument");
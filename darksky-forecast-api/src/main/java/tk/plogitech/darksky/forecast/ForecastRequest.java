@@ -23,6 +23,7 @@
  */
 package tk.plogitech.darksky.forecast;
 
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Objects;
 import static tk.plogitech.darksky.forecast.util.Assert.notNull;
@@ -37,25 +38,44 @@ import static tk.plogitech.darksky.forecast.util.Assert.notNull;
 public class ForecastRequest {
 
     private final Timeouts timeouts;
-    private final URL url;
+    private final String urlString;
+    private final GeoCoordinates location;
+    private final ForecastRequestKey key;
+    private volatile URL url;
 
     /**
-     * @param url The URL which contains the parameters to request the weather forecast.
+     * @param urlString The URL which contains the parameters to request the weather forecast. The URL object is created on first use, so the
+     * caller must make sure the String is a valid URL.
      * @param timeouts The timeouts used for the request.
+     * @param location The location for which the weather forecast is requested.
+     * @param key The canonical identity of the request.
      */
-    ForecastRequest(URL url, Timeouts timeouts) {
-	notNull("URL cannot be null.", url);
+    ForecastRequest(String urlString, Timeouts timeouts, GeoCoordinates location, ForecastRequestKey key) {
+	notNull("URL cannot be null.", urlString);
 	notNull("Timeouts cannot be null.", timeouts);
+	notNull("Location cannot be null.", location);
+	notNull("Key cannot be null.", key);
 
-	this.url = url;
+	this.urlString = urlString;
 	this.timeouts = timeouts;
+	this.location = location;
+	this.key = key;
     }
 
     /**
      * @return The URL which contains the parameters to request the weather forecast.
      */
     public URL url() {
-	return url;
+	URL result = url;
+	if (result == null) {
+	    try {
+		result = new URL(urlString);
+	    } catch (MalformedURLException ex) {
+		throw new IllegalStateException("The Forecast Request contains an invalid URL: " + urlString, ex);
+	    }
+	    url = result;
+	}
+	return result;
     }
 
     /**
@@ -65,16 +85,33 @@ public class ForecastRequest {
 	return timeouts;
     }
 
+    /**
+     * @return The location for which the weather forecast is requested.
+     */
+    public GeoCoordinates location() {
+	return location;
+    }
+
+    /**
+     * Use the key instead of the request itself to cache or deduplicate forecasts: it ignores the API key, the timeouts and the order of the
+     * parameters.
+     *
+     * @return The canonical identity of this request.
+     */
+    public ForecastRequestKey key() {
+	return key;
+    }
+
     @Override
     public String toString() {
-	return "ForecastRequest{" + "url=" + url + '}';
+	return "ForecastRequest{" + "url=" + urlString + '}';
     }
 
     @Override
     public int hashCode() {
 	int hash = 5;
 	hash = 73 * hash + Objects.hashCode(this.timeouts);
-	hash = 73 * hash + Objects.hashCode(this.url);
+	hash = 73 * hash + urlString.hashCode();
 	return hash;
     }
 
@@ -90,10 +127,10 @@ public class ForecastRequest {
 	    return false;
 	}
 	final ForecastRequest other = (ForecastRequest) obj;
-	if (this.timeouts != other.timeouts()) {
+	if (!Objects.equals(this.timeouts, other.timeouts)) {
 	    return false;
 	}
-	return Objects.equals(this.url, other.url);
+	return this.urlString.equals(other.urlString);
     }
 
 }
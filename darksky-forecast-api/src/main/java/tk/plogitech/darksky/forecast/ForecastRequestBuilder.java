@@ -23,15 +23,12 @@
  */
 package tk.plogitech.darksky.forecast;
 
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.time.Duration;
 import java.time.Instant;
 import static tk.plogitech.darksky.forecast.util.Assert.notNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.StringJoiner;
 
 /**
  * Builder to create {@link ForecastRequest} objects.
@@ -159,72 +156,21 @@ public class ForecastRequestBuilder {
      * @return The Request with the given parameters set.
      */
     public ForecastRequest build() {
-	try {
-	    return new ForecastRequest(getUrl(), timeouts);
-	} catch (MalformedURLException ex) {
-	    throw new IllegalArgumentException("Cannot create Forecast Request. The provided URL is invalid!", ex);
-	}
-    }
-
-    /**
-     * @return The Url build from the given paramters.
-     * @throws MalformedURLException
-     */
-    private URL getUrl() throws MalformedURLException {
 	notNull("The ApIkey must be set. Please call the corresponding method.", apiKey);
 	notNull("The Gelocation must be set. Please call the corresponding method.", geoCoordinates);
 
-	String forecastUrlString = URL;
-	if (overrideUrl != null) {
-	    forecastUrlString = overrideUrl;
-	}
-
-	String unixTimestamp = "";
-	if (time != null) {
-	    unixTimestamp = "," + String.valueOf(time.getEpochSecond());
-	}
-
-	forecastUrlString = forecastUrlString.replaceAll("##key##", apiKey.value())
-		.replaceAll("##latitude##", geoCoordinates.latitude().toString())
-		.replaceAll("##longitude##", geoCoordinates.longitude().toString())
-		.replaceAll("##time##", unixTimestamp)
-		+ requestParametersAsString();
-
-	return new URL(forecastUrlString);
+	ForecastRequestTemplate template = template();
+	return time == null ? template.request(geoCoordinates) : template.request(geoCoordinates, time);
     }
 
     /**
-     * @return The Request Parameters as String formatted so that they can be added to the base forecast url.
+     * Creates a reusable template with the key, units, language, exclusions, extend flag and timeouts set on this builder. The location and time are
+     * ignored, they are passed for every request created by the template.
+     *
+     * @return The template to create many requests with the given parameters.
      */
-    private String requestParametersAsString() {
-	StringBuilder paramBuilder = new StringBuilder("?");
-	if (language != null) {
-	    paramBuilder.append(RequestParmaterType.lang.name());
-	    paramBuilder.append("=");
-	    paramBuilder.append(language.name().replace("_", "-"));
-	    paramBuilder.append("&");
-	}
-	if (units != null) {
-	    paramBuilder.append(RequestParmaterType.units.name());
-	    paramBuilder.append("=");
-	    paramBuilder.append(units.name());
-	    paramBuilder.append("&");
-	}
-	if (!exclusion.isEmpty()) {
-	    paramBuilder.append(RequestParmaterType.exclude.name());
-	    paramBuilder.append("=");
-	    StringJoiner joiner = new StringJoiner(",");
-	    exclusion.forEach(s -> joiner.add(s.name()));
-	    paramBuilder.append(joiner.toString());
-	    paramBuilder.append("&");
-	}
-	if (extendHourly) {
-	    paramBuilder.append(RequestParmaterType.extend.name());
-	    paramBuilder.append("=");
-	    paramBuilder.append(Block.hourly.name());
-	    paramBuilder.append("&");
-	}
-	return paramBuilder.substring(0, paramBuilder.length() - 1);
+    public ForecastRequestTemplate template() {
+	return new ForecastRequestTemplate(overrideUrl != null ? overrideUrl : URL, apiKey, language, units, exclusion, extendHourly, timeouts);
     }
 
     /**
@@ -495,7 +441,7 @@ public class ForecastRequestBuilder {
 	us
     }
 
-    private enum RequestParmaterType {
+    enum RequestParmaterType {
 	exclude,
 	extend,
 	lang,
@@ -0,0 +1,201 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Block;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Language;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Units;
+import tk.plogitech.darksky.forecast.util.CoordinateFormat;
+
+/**
+ * Canonical identity of a {@link ForecastRequest}, usable as key for caches and for the deduplication of requests.
+ *
+ * Two requests have equal keys if they ask the same endpoint for the same forecast: the coordinates are normalized to the six decimals sent to
+ * the API, the exclusions are compared as a set and the order of the parameters does not matter. The endpoint is the URL pattern of the
+ * request (see {@link ForecastRequestBuilder#url(String)}), so requests to a proxy and to the DarkSky API have different keys. The API key
+ * and the timeouts are not part of the identity. Unlike {@link java.net.URL} the hash code is computed once and equals never touches the network.
+ *
+ * @author Puls
+ */
+public final class ForecastRequestKey {
+
+    /**
+     * The time of a request without time.
+     */
+    static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final Block[] BLOCKS = Block.values();
+
+    private final String endpoint;
+    private final long latitude;
+    private final long longitude;
+    private final long time;
+    private final Units units;
+    private final Language language;
+    private final int exclusions;
+    private final boolean extendHourly;
+    private final int hash;
+
+    ForecastRequestKey(String endpoint, GeoCoordinates location, long time, Units units, Language language, int exclusions,
+	    boolean extendHourly) {
+	this.endpoint = endpoint;
+	this.latitude = CoordinateFormat.toFixed(location.latitude().value());
+	this.longitude = CoordinateFormat.toFixed(location.longitude().value());
+	this.time = time;
+	this.units = units;
+	this.language = language;
+	this.exclusions = exclusions;
+	this.extendHourly = extendHourly;
+
+	int result = endpoint.hashCode();
+	result = 31 * result + Long.hashCode(this.latitude);
+	result = 31 * result + Long.hashCode(this.longitude);
+	result = 31 * result + Long.hashCode(this.time);
+	result = 31 * result + (units == null ? 0 : units.ordinal() + 1);
+	result = 31 * result + (language == null ? 0 : language.ordinal() + 1);
+	result = 31 * result + exclusions;
+	this.hash = 31 * result + (extendHourly ? 1 : 0);
+    }
+
+    /**
+     * @param exclusion The excluded blocks.
+     * @return The blocks as bit mask (bit n is set for the block with the ordinal n).
+     */
+    static int exclusionMask(Iterable<Block> exclusion) {
+	int mask = 0;
+	for (Block block : exclusion) {
+	    mask |= 1 << block.ordinal();
+	}
+	return mask;
+    }
+
+    /**
+     * @return The URL pattern of the endpoint the request is sent to, with the placeholders of the API key and the location.
+     */
+    public String endpoint() {
+	return endpoint;
+    }
+
+    /**
+     * @return The requested latitude in millionths of a degree, exactly as sent to the API.
+     */
+    public long latitudeMicroDegrees() {
+	return latitude;
+    }
+
+    /**
+     * @return The requested longitude in millionths of a degree, exactly as sent to the API.
+     */
+    public long longitudeMicroDegrees() {
+	return longitude;
+    }
+
+    /**
+     * @return True if this is a time machine request for historical data.
+     */
+    public boolean hasTime() {
+	return time != NO_TIME;
+    }
+
+    /**
+     * @return The requested time as UNIX time in seconds. Only defined if {@link #hasTime()} is true.
+     */
+    public long epochSecond() {
+	if (!hasTime()) {
+	    throw new IllegalStateException("The request has no time.");
+	}
+	return time;
+    }
+
+    /**
+     * @return The requested units.
+     */
+    public Units units() {
+	return units;
+    }
+
+    /**
+     * @return The requested language.
+     */
+    public Language language() {
+	return language;
+    }
+
+    /**
+     * @return The excluded blocks, sorted by their declaration order.
+     */
+    public Set<Block> exclusions() {
+	Set<Block> result = EnumSet.noneOf(Block.class);
+	for (Block block : BLOCKS) {
+	    if ((exclusions & 1 << block.ordinal()) != 0) {
+		result.add(block);
+	    }
+	}
+	return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * @return True if the hourly data is extended to 168 hours.
+     */
+    public boolean extendHourly() {
+	return extendHourly;
+    }
+
+    @Override
+    public int hashCode() {
+	return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (obj == null) {
+	    return false;
+	}
+	if (getClass() != obj.getClass()) {
+	    return false;
+	}
+	final ForecastRequestKey other = (ForecastRequestKey) obj;
+	return this.hash == other.hash
+		&& this.latitude == other.latitude
+		&& this.longitude == other.longitude
+		&& this.time == other.time
+		&& this.units == other.units
+		&& this.language == other.language
+		&& this.exclusions == other.exclusions
+		&& this.extendHourly == other.extendHourly
+		&& this.endpoint.equals(other.endpoint);
+    }
+
+    @Override
+    public String toString() {
+	return "ForecastRequestKey{" + "endpoint=" + endpoint + ", latitude=" + latitude + ", longitude=" + longitude + ", time="
+		+ (hasTime() ? String.valueOf(time) : "none") + ", units=" + units + ", language=" + language + ", exclusions=" + exclusions() + ", extendHourly=" + extendHourly + '}';
+    }
+}
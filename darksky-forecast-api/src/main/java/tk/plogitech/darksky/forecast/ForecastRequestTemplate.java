@@ -0,0 +1,233 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Block;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Language;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.RequestParmaterType;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Units;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import tk.plogitech.darksky.forecast.util.CoordinateFormat;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Immutable, thread safe template to create many {@link ForecastRequest} objects which only differ in location and time.
+ *
+ * The key, units, language, exclusions, extend flag and timeouts are fixed when the template is created. The URL pattern is split into its literal
+ * parts once, so creating a request only appends the coordinates and the time to a single StringBuilder. Create the template with
+ * {@link ForecastRequestBuilder#template()}.
+ *
+ * @author Puls
+ */
+public final class ForecastRequestTemplate {
+
+    private static final String LATITUDE = "##latitude##";
+    private static final String LONGITUDE = "##longitude##";
+    private static final String TIME = "##time##";
+
+    private final String endpoint;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final String query;
+    private final Timeouts timeouts;
+    private final int estimatedLength;
+    private final Units units;
+    private final Language language;
+    private final int exclusions;
+    private final boolean extendHourly;
+
+    ForecastRequestTemplate(String url, APIKey apiKey, Language language, Units units, List<Block> exclusion, boolean extendHourly,
+	    Timeouts timeouts) {
+	notNull("The ApIkey must be set. Please call the corresponding method.", apiKey);
+	notNull("url and timeouts cannot be null.", url, timeouts);
+
+	String pattern = url.replace("##key##", apiKey.value());
+	List<String> literalList = new ArrayList<>();
+	List<String> placeholderList = new ArrayList<>();
+	int start = 0;
+	String placeholder;
+	while ((placeholder = nextPlaceholder(pattern, start)) != null) {
+	    int index = pattern.indexOf(placeholder, start);
+	    literalList.add(pattern.substring(start, index));
+	    placeholderList.add(placeholder);
+	    start = index + placeholder.length();
+	}
+	literalList.add(pattern.substring(start));
+
+	this.endpoint = url;
+	this.literals = literalList.toArray(new String[0]);
+	this.placeholders = placeholderList.toArray(new String[0]);
+	this.query = requestParametersAsString(language, units, exclusion, extendHourly);
+	this.timeouts = timeouts;
+	this.units = units;
+	this.language = language;
+	this.exclusions = ForecastRequestKey.exclusionMask(exclusion);
+	this.extendHourly = extendHourly;
+	this.estimatedLength = pattern.length() + query.length() + 48;
+
+	try {
+	    new URL(url(new GeoCoordinates(new Longitude(0), new Latitude(0)), null));
+	} catch (MalformedURLException ex) {
+	    throw new IllegalArgumentException("Cannot create Forecast Request. The provided URL is invalid!", ex);
+	}
+    }
+
+    /**
+     * @param location The Geo coordinates of a location for which the weather forecast is requested.
+     * @return The Request for the location with the parameters of this template.
+     */
+    public ForecastRequest request(GeoCoordinates location) {
+	notNull("GeoCoordinates cannot be null.", location);
+
+	return new ForecastRequest(url(location, null), timeouts, location, key(location, ForecastRequestKey.NO_TIME));
+    }
+
+    /**
+     * @param location The Geo coordinates of a location for which the weather forecast is requested.
+     * @param time The Time for which the historical weather data is returned.
+     * @return The Request for the location and time with the parameters of this template.
+     */
+    public ForecastRequest request(GeoCoordinates location, Instant time) {
+	notNull("GeoCoordinates cannot be null.", location);
+	notNull("time cannot be null.", time);
+
+	return new ForecastRequest(url(location, time), timeouts, location, key(location, time.getEpochSecond()));
+    }
+
+    /**
+     * @param grid The locations for which the weather forecast is requested.
+     * @param order The order in which the requests are created.
+     * @return A lazy stream with one Request per point of the grid.
+     */
+    public Stream<ForecastRequest> requests(GeoGrid grid, GeoGrid.Order order) {
+	notNull("The grid cannot be null.", grid);
+
+	return grid.stream(order).map(this::request);
+    }
+
+    /**
+     * @param grid The locations for which the historical weather data is requested.
+     * @param order The order in which the requests are created.
+     * @param time The Time for which the historical weather data is returned.
+     * @return A lazy stream with one Request per point of the grid.
+     */
+    public Stream<ForecastRequest> requests(GeoGrid grid, GeoGrid.Order order, Instant time) {
+	notNull("The grid cannot be null.", grid);
+	notNull("time cannot be null.", time);
+
+	return grid.stream(order).map(location -> request(location, time));
+    }
+
+    /**
+     * @return The timeouts used by all requests of this template.
+     */
+    public Timeouts timeouts() {
+	return timeouts;
+    }
+
+    /**
+     * @return The url for the given location and (optional) time.
+     */
+    String url(GeoCoordinates location, Instant time) {
+	StringBuilder url = new StringBuilder(estimatedLength);
+	for (int i = 0; i < placeholders.length; i++) {
+	    url.append(literals[i]);
+	    switch (placeholders[i]) {
+		case LATITUDE:
+		    CoordinateFormat.append(url, location.latitude().value());
+		    break;
+		case LONGITUDE:
+		    CoordinateFormat.append(url, location.longitude().value());
+		    break;
+		default:
+		    if (time != null) {
+			url.append(',').append(time.getEpochSecond());
+		    }
+	    }
+	}
+	return url.append(literals[placeholders.length]).append(query).toString();
+    }
+
+    private ForecastRequestKey key(GeoCoordinates location, long time) {
+	return new ForecastRequestKey(endpoint, location, time, units, language, exclusions, extendHourly);
+    }
+
+    /**
+     * @return The placeholder which occurs first in the pattern after the given index or null if there is none.
+     */
+    private static String nextPlaceholder(String pattern, int fromIndex) {
+	String result = null;
+	int resultIndex = Integer.MAX_VALUE;
+	for (String placeholder : new String[]{LATITUDE, LONGITUDE, TIME}) {
+	    int index = pattern.indexOf(placeholder, fromIndex);
+	    if (index >= 0 && index < resultIndex) {
+		result = placeholder;
+		resultIndex = index;
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * @return The Request Parameters as String formatted so that they can be added to the base forecast url.
+     */
+    private static String requestParametersAsString(Language language, Units units, List<Block> exclusion, boolean extendHourly) {
+	StringBuilder paramBuilder = new StringBuilder("?");
+	if (language != null) {
+	    paramBuilder.append(RequestParmaterType.lang.name());
+	    paramBuilder.append("=");
+	    paramBuilder.append(language.name().replace("_", "-"));
+	    paramBuilder.append("&");
+	}
+	if (units != null) {
+	    paramBuilder.append(RequestParmaterType.units.name());
+	    paramBuilder.append("=");
+	    paramBuilder.append(units.name());
+	    paramBuilder.append("&");
+	}
+	if (!exclusion.isEmpty()) {
+	    paramBuilder.append(RequestParmaterType.exclude.name());
+	    paramBuilder.append("=");
+	    StringJoiner joiner = new StringJoiner(",");
+	    exclusion.forEach(s -> joiner.add(s.name()));
+	    paramBuilder.append(joiner.toString());
+	    paramBuilder.append("&");
+	}
+	if (extendHourly) {
+	    paramBuilder.append(RequestParmaterType.extend.name());
+	    paramBuilder.append("=");
+	    paramBuilder.append(Block.hourly.name());
+	    paramBuilder.append("&");
+	}
+	return paramBuilder.substring(0, paramBuilder.length() - 1);
+    }
+}
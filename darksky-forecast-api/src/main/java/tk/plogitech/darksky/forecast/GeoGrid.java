@@ -0,0 +1,325 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Immutable, regular grid of locations covering a bounding box or a polygon.
+ *
+ * The points are generated lazily while iterating, nothing is materialized up front. The order of the iteration can be chosen: the space filling
+ * curves keep neighbouring points close to each other in the sequence, which improves the locality of caches and of requests processed together.
+ * Use {@link ForecastRequestTemplate#requests(GeoGrid, Order)} to create the Forecast Requests for all points.
+ *
+ * @author Puls
+ */
+public final class GeoGrid {
+
+    /**
+     * The order in which the points of the grid are iterated.
+     */
+    public enum Order {
+	/**
+	 * Row by row from south to north, each row from west to east.
+	 */
+	rows,
+	/**
+	 * Along a Hilbert curve over the cells of the grid. Consecutive points are neighbours unless the curve leaves the grid in between.
+	 */
+	hilbert,
+	/**
+	 * Along the Z-order curve over the cells of the grid (longitude bit first), which is the order of geohashes.
+	 */
+	geohash
+    }
+
+    private static final double EPSILON = 1e-9;
+
+    private final double south;
+    private final double west;
+    private final double step;
+    private final int rows;
+    private final int columns;
+    private final double[] polygonLatitudes;
+    private final double[] polygonLongitudes;
+
+    private GeoGrid(double south, double west, double north, double east, double step, double[] polygonLatitudes, double[] polygonLongitudes) {
+	if (!(step > 0)) {
+	    throw new IllegalArgumentException("The step must be positive. Value invalid: " + step);
+	}
+	long rowCount = (long) Math.floor((north - south) / step + EPSILON) + 1;
+	long columnCount = (long) Math.floor((east - west) / step + EPSILON) + 1;
+	if (rowCount > Integer.MAX_VALUE / 2 || columnCount > Integer.MAX_VALUE / 2) {
+	    throw new IllegalArgumentException("The step is too small for the area. Value invalid: " + step);
+	}
+
+	this.south = south;
+	this.west = west;
+	this.step = step;
+	this.rows = (int) rowCount;
+	this.columns = (int) columnCount;
+	this.polygonLatitudes = polygonLatitudes;
+	this.polygonLongitudes = polygonLongitudes;
+    }
+
+    /**
+     * Creates a grid over a bounding box. The box crosses the antimeridian if the east longitude is smaller than the west longitude.
+     *
+     * @param southWest The south west corner of the box, which is the first point of the grid.
+     * @param northEast The north east corner of the box.
+     * @param step The distance of the points in degrees, in both directions.
+     * @return The grid.
+     */
+    public static GeoGrid boundingBox(GeoCoordinates southWest, GeoCoordinates northEast, double step) {
+	notNull("The corners of the bounding box cannot be null.", southWest, northEast);
+	double south = southWest.latitude().value();
+	double north = northEast.latitude().value();
+	double west = southWest.longitude().value();
+	double east = northEast.longitude().value();
+	if (north < south) {
+	    throw new IllegalArgumentException("The north latitude must not be smaller than the south latitude.");
+	}
+	if (east < west) {
+	    east += 360;
+	}
+
+	return new GeoGrid(south, west, north, east, step, null, null);
+    }
+
+    /**
+     * Creates a grid covering a polygon. The grid starts at the south west corner of the bounding box of the polygon and contains all points
+     * inside the polygon (even-odd rule, edges treated as straight lines in latitude and longitude). The polygon must not cross the antimeridian.
+     *
+     * @param vertices The vertices of the polygon. The polygon is closed implicitly.
+     * @param step The distance of the points in degrees, in both directions.
+     * @return The grid.
+     */
+    public static GeoGrid polygon(List<GeoCoordinates> vertices, double step) {
+	notNull("The vertices cannot be null.", vertices);
+	if (vertices.size() < 3) {
+	    throw new IllegalArgumentException("A polygon needs at least three vertices.");
+	}
+
+	double[] latitudes = new double[vertices.size()];
+	double[] longitudes = new double[vertices.size()];
+	double south = 90, north = -90, west = 180, east = -180;
+	for (int i = 0; i < latitudes.length; i++) {
+	    GeoCoordinates vertex = vertices.get(i);
+	    notNull("The vertices cannot be null.", vertex);
+	    latitudes[i] = vertex.latitude().value();
+	    longitudes[i] = vertex.longitude().value();
+	    south = Math.min(south, latitudes[i]);
+	    north = Math.max(north, latitudes[i]);
+	    west = Math.min(west, longitudes[i]);
+	    east = Math.max(east, longitudes[i]);
+	}
+
+	return new GeoGrid(south, west, north, east, step, latitudes, longitudes);
+    }
+
+    /**
+     * @return The number of rows (latitudes) of the grid.
+     */
+    public int rows() {
+	return rows;
+    }
+
+    /**
+     * @return The number of columns (longitudes) of the grid.
+     */
+    public int columns() {
+	return columns;
+    }
+
+    /**
+     * @param order The order in which the points are returned.
+     * @return A new iterator over all points of the grid.
+     */
+    public Iterator<GeoCoordinates> iterator(Order order) {
+	notNull("The order cannot be null.", order);
+
+	return new PointIterator(order);
+    }
+
+    /**
+     * @param order The order in which the points are returned.
+     * @return A lazy, sequential stream of all points of the grid.
+     */
+    public Stream<GeoCoordinates> stream(Order order) {
+	int characteristics = Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+	return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(order), characteristics), false);
+    }
+
+    /**
+     * @return True if the point is part of the grid, false if it is outside the polygon.
+     */
+    private boolean contains(double latitude, double longitude) {
+	if (polygonLatitudes == null) {
+	    return true;
+	}
+	boolean inside = false;
+	for (int i = 0, j = polygonLatitudes.length - 1; i < polygonLatitudes.length; j = i++) {
+	    if ((polygonLatitudes[i] > latitude) != (polygonLatitudes[j] > latitude)
+		    && longitude < (polygonLongitudes[j] - polygonLongitudes[i]) * (latitude - polygonLatitudes[i])
+		    / (polygonLatitudes[j] - polygonLatitudes[i]) + polygonLongitudes[i]) {
+		inside = !inside;
+	    }
+	}
+	return inside;
+    }
+
+    /**
+     * Maps the index on the Hilbert curve to the cell, as column in the upper and row in the lower 32 bits.
+     */
+    static long hilbert(long index, int side) {
+	long x = 0, y = 0;
+	long t = index;
+	for (long s = 1; s < side; s <<= 1) {
+	    long rx = 1 & (t >>> 1);
+	    long ry = 1 & (t ^ rx);
+	    if (ry == 0) {
+		if (rx == 1) {
+		    x = s - 1 - x;
+		    y = s - 1 - y;
+		}
+		long swap = x;
+		x = y;
+		y = swap;
+	    }
+	    x += s * rx;
+	    y += s * ry;
+	    t >>>= 2;
+	}
+	return x << 32 | y;
+    }
+
+    /**
+     * Maps the index on the Z-order curve to the cell, as column in the upper and row in the lower 32 bits.
+     */
+    static long morton(long index) {
+	return (long) compact(index >>> 1) << 32 | compact(index);
+    }
+
+    /**
+     * @return The even bits of the value.
+     */
+    private static int compact(long value) {
+	value &= 0x5555555555555555L;
+	value = (value | value >>> 1) & 0x3333333333333333L;
+	value = (value | value >>> 2) & 0x0f0f0f0f0f0f0f0fL;
+	value = (value | value >>> 4) & 0x00ff00ff00ff00ffL;
+	value = (value | value >>> 8) & 0x0000ffff0000ffffL;
+	value = (value | value >>> 16) & 0x00000000ffffffffL;
+	return (int) value;
+    }
+
+    /**
+     * Walks the chosen curve and skips every aligned block of the curve which lies completely outside the grid.
+     */
+    private final class PointIterator implements Iterator<GeoCoordinates> {
+
+	private final Order order;
+	private final int side;
+	private final int levels;
+	private final long cells;
+	private long index;
+	private GeoCoordinates next;
+
+	private PointIterator(Order order) {
+	    this.order = order;
+	    if (order == Order.rows) {
+		this.side = 0;
+		this.levels = 0;
+		this.cells = (long) rows * columns;
+	    } else {
+		int max = Math.max(rows, columns);
+		this.side = max == 1 ? 1 : Integer.highestOneBit(max - 1) << 1;
+		this.levels = Integer.numberOfTrailingZeros(side);
+		this.cells = (long) side * side;
+	    }
+	}
+
+	@Override
+	public boolean hasNext() {
+	    if (next == null) {
+		next = advance();
+	    }
+	    return next != null;
+	}
+
+	@Override
+	public GeoCoordinates next() {
+	    if (!hasNext()) {
+		throw new NoSuchElementException();
+	    }
+	    GeoCoordinates result = next;
+	    next = null;
+	    return result;
+	}
+
+	private GeoCoordinates advance() {
+	    while (index < cells) {
+		int column;
+		int row;
+		if (order == Order.rows) {
+		    column = (int) (index % columns);
+		    row = (int) (index / columns);
+		    index++;
+		} else {
+		    long cell = order == Order.hilbert ? hilbert(index, side) : morton(index);
+		    column = (int) (cell >>> 32);
+		    row = (int) cell;
+		    int level = Math.min(levels, Long.numberOfTrailingZeros(index) / 2);
+		    while (level >= 0 && (column >> level) << level < columns && (row >> level) << level < rows) {
+			level--;
+		    }
+		    if (level >= 0) {
+			index += 1L << 2 * level;
+			continue;
+		    }
+		    index++;
+		}
+
+		double latitude = Math.min(90, south + row * step);
+		double longitude = west + column * step;
+		if (longitude > 180) {
+		    longitude -= 360;
+		}
+		if (contains(latitude, longitude)) {
+		    return new GeoCoordinates(new Longitude(longitude), new Latitude(latitude));
+		}
+	    }
+	    return null;
+	}
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Arrays;
+import static tk.plogitech.darksky.forecast.binary.BinaryWriter.MAGIC;
+import static tk.plogitech.darksky.forecast.binary.BinaryWriter.MAX_DICTIONARY;
+import static tk.plogitech.darksky.forecast.binary.BinaryWriter.MAX_SCALE;
+import static tk.plogitech.darksky.forecast.binary.BinaryWriter.POWERS_OF_TEN;
+import static tk.plogitech.darksky.forecast.binary.BinaryWriter.RAW_DOUBLE;
+import static tk.plogitech.darksky.forecast.binary.BinaryWriter.VERSION;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Reads the binary encoding written by {@link BinaryWriter} from bytes.
+ *
+ * An InputStream is read in chunks of 8 KB while it is decoded, it is not closed by the reader. A ByteBuffer backed by an array is read in
+ * place, any other ByteBuffer is copied in chunks of 8 KB. Malformed input is rejected with a {@link StreamCorruptedException}, a truncated
+ * one with an {@link EOFException}. A reader is not thread safe, it reads any number of documents.
+ *
+ * @author Puls
+ */
+public final class BinaryReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final ByteBuffer source;
+    private final byte[] buffer;
+    private int pos;
+    private int limit;
+
+    private String[] dictionary = new String[64];
+    private int dictionarySize;
+    private long lastTime;
+
+    /**
+     * @param in The documents, read in chunks and not closed.
+     */
+    public BinaryReader(InputStream in) {
+	notNull("The InputStream cannot be null.", in);
+
+	this.in = in;
+	this.source = null;
+	this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * @param bytes The documents.
+     */
+    public BinaryReader(byte[] bytes) {
+	this(bytes, 0, bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * @param bytes Contains the documents.
+     * @param offset The index of the first byte.
+     * @param length The number of bytes.
+     */
+    public BinaryReader(byte[] bytes, int offset, int length) {
+	notNull("The bytes cannot be null.", bytes);
+	if (offset < 0 || length < 0 || offset + length > bytes.length || offset + length < 0) {
+	    throw new IndexOutOfBoundsException("Invalid range " + offset + "+" + length + " of " + bytes.length + " bytes.");
+	}
+
+	this.in = null;
+	this.source = null;
+	this.buffer = bytes;
+	this.pos = offset;
+	this.limit = offset + length;
+    }
+
+    /**
+     * @param bytes The documents between the position and the limit of the buffer. The position of the buffer is not changed.
+     */
+    public BinaryReader(ByteBuffer bytes) {
+	notNull("The ByteBuffer cannot be null.", bytes);
+
+	ByteBuffer view = bytes.duplicate();
+	this.in = null;
+	if (view.hasArray()) {
+	    this.source = null;
+	    this.buffer = view.array();
+	    this.pos = view.arrayOffset() + view.position();
+	    this.limit = view.arrayOffset() + view.limit();
+	} else {
+	    this.source = view;
+	    this.buffer = new byte[Math.min(BUFFER_SIZE, view.remaining())];
+	}
+    }
+
+    /**
+     * Starts the next document. Documents written with other model classes, e.g. by an earlier release with other properties, are rejected,
+     * the unknown properties cannot be skipped (see {@link BinaryWriter}).
+     *
+     * @param schema The schema of the decoded class (e.g. {@code ForecastBinding.SCHEMA}).
+     * @throws IOException if the header cannot be read or the document has another version or schema.
+     */
+    public void readHeader(int schema) throws IOException {
+	for (byte magic : MAGIC) {
+	    if (nextByte() != magic) {
+		throw new StreamCorruptedException("No binary forecast document.");
+	    }
+	}
+	int version = nextByte();
+	if (version != VERSION) {
+	    throw new StreamCorruptedException("Unsupported version " + version + " of the binary format.");
+	}
+	int written = 0;
+	for (int i = 0; i < 4; i++) {
+	    written = written << 8 | nextByte();
+	}
+	if (written != schema) {
+	    throw new StreamCorruptedException("The document was written with other model classes.");
+	}
+	dictionarySize = 0;
+	lastTime = 0;
+    }
+
+    /**
+     * @return The present properties of the next object or -1 if it is null.
+     * @throws IOException if the object cannot be read.
+     */
+    public long beginObject() throws IOException {
+	long value = readVarint();
+	return value == 0 ? -1 : value >>> 1;
+    }
+
+    /**
+     * @return The number of elements of the list which follow.
+     * @throws IOException if the size cannot be read.
+     */
+    public int readSize() throws IOException {
+	long size = readVarint();
+	if (size > Integer.MAX_VALUE) {
+	    throw new StreamCorruptedException("Invalid size " + size);
+	}
+	return (int) size;
+    }
+
+    /**
+     * @return The next value as long.
+     * @throws IOException if the value cannot be read.
+     */
+    public long readLong() throws IOException {
+	long value = readVarint();
+	return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * @return The next value as int.
+     * @throws IOException if the value cannot be read or does not fit.
+     */
+    public int readInteger() throws IOException {
+	long value = readLong();
+	if (value != (int) value) {
+	    throw new StreamCorruptedException("Integer out of range: " + value);
+	}
+	return (int) value;
+    }
+
+    /**
+     * @return The next value.
+     * @throws IOException if the value cannot be read.
+     */
+    public double readDouble() throws IOException {
+	long value = readVarint();
+	int scale = (int) (value & 7);
+	if (scale <= MAX_SCALE) {
+	    long mantissa = value >>> 4 ^ -(value >>> 3 & 1);
+	    return mantissa / POWERS_OF_TEN[scale];
+	}
+	if (value != RAW_DOUBLE) {
+	    throw new StreamCorruptedException("Invalid double.");
+	}
+	long bits = 0;
+	for (int shift = 0; shift < 64; shift += 8) {
+	    bits |= (long) nextByte() << shift;
+	}
+	return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * @return The next time in seconds since the epoch.
+     * @throws IOException if the time cannot be read.
+     */
+    public long readTime() throws IOException {
+	lastTime += readLong();
+	return lastTime;
+    }
+
+    /**
+     * @return The next time.
+     * @throws IOException if the time cannot be read.
+     */
+    public Instant readInstant() throws IOException {
+	long seconds = readTime();
+	long nanos = readVarint();
+	try {
+	    return Instant.ofEpochSecond(seconds, nanos);
+	} catch (DateTimeException | ArithmeticException ex) {
+	    throw (IOException) new StreamCorruptedException("Invalid time: " + ex.getMessage()).initCause(ex);
+	}
+    }
+
+    /**
+     * @return The next String or null.
+     * @throws IOException if the String cannot be read.
+     */
+    public String readString() throws IOException {
+	long code = readVarint();
+	if (code == 0) {
+	    return null;
+	}
+	if (code > 1) {
+	    if (code - 2 >= dictionarySize) {
+		throw new StreamCorruptedException("Invalid String reference " + code);
+	    }
+	    return dictionary[(int) (code - 2)];
+	}
+	String value = utf8(readSize());
+	if (dictionarySize < MAX_DICTIONARY) {
+	    if (dictionarySize == dictionary.length) {
+		dictionary = Arrays.copyOf(dictionary, dictionarySize * 2);
+	    }
+	    dictionary[dictionarySize++] = value;
+	}
+	return value;
+    }
+
+    /**
+     * @param <E> The type of the enum.
+     * @param type The type of the enum.
+     * @return The constant named like the next String or null.
+     * @throws IOException if the String cannot be read or the enum has no such constant.
+     */
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+	String name = readString();
+	try {
+	    return name == null ? null : Enum.valueOf(type, name);
+	} catch (IllegalArgumentException ex) {
+	    throw invalidValue(type.getSimpleName(), ex);
+	}
+    }
+
+    /**
+     * @param name The name of the property.
+     * @param cause The exception of the model class rejecting the value.
+     * @return The exception to throw for a value the model class does not accept.
+     */
+    public IOException invalidValue(String name, IllegalArgumentException cause) {
+	return (IOException) new StreamCorruptedException("Invalid value of " + name + ": " + cause.getMessage()).initCause(cause);
+    }
+
+    private String utf8(int length) throws IOException {
+	if (length <= limit - pos) {
+	    String value = new String(buffer, pos, length, StandardCharsets.UTF_8);
+	    pos += length;
+	    return value;
+	}
+	byte[] bytes = new byte[Math.min(length, BUFFER_SIZE)];
+	int count = 0;
+	while (count < length) {
+	    if (pos == limit && !fill()) {
+		throw new EOFException("Unexpected end of input.");
+	    }
+	    if (count == bytes.length) {
+		bytes = Arrays.copyOf(bytes, (int) Math.min(length, bytes.length * 2L));
+	    }
+	    int chunk = Math.min(bytes.length - count, limit - pos);
+	    System.arraycopy(buffer, pos, bytes, count, chunk);
+	    pos += chunk;
+	    count += chunk;
+	}
+	return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readVarint() throws IOException {
+	long result = 0;
+	for (int shift = 0; shift < 64; shift += 7) {
+	    int b = nextByte();
+	    result |= (long) (b & 0x7f) << shift;
+	    if (b < 0x80) {
+		return result;
+	    }
+	}
+	throw new StreamCorruptedException("Invalid varint.");
+    }
+
+    private int nextByte() throws IOException {
+	if (pos == limit && !fill()) {
+	    throw new EOFException("Unexpected end of input.");
+	}
+	return buffer[pos++] & 0xff;
+    }
+
+    /**
+     * Reads the next chunk of the InputStream or ByteBuffer. Must only be called if the buffer is consumed.
+     *
+     * @return False at the end of the input.
+     */
+    private boolean fill() throws IOException {
+	if (in == null && source == null) {
+	    return false;
+	}
+	pos = 0;
+	if (source != null) {
+	    limit = Math.min(source.remaining(), buffer.length);
+	    source.get(buffer, 0, limit);
+	} else {
+	    limit = Math.max(in.read(buffer, 0, buffer.length), 0);
+	}
+	return limit > 0;
+    }
+}
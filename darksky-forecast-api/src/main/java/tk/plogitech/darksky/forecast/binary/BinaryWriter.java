@@ -0,0 +1,272 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.binary;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Writes the compact binary encoding of the model to an OutputStream or a ByteBuffer, read back by {@link BinaryReader}.
+ *
+ * The binary methods of the generated bindings (e.g. {@code ForecastBinding.encode}) write each object as a bitmap of its present properties
+ * (booleans are the bit itself) followed by the values of the present properties in a fixed order, so no names are written. Integers are
+ * zig-zag encoded varints, times are varints of the difference to the time written before. Doubles with at most 6 decimal
+ * digits (e.g. 21.04) are written as varint of the decimal mantissa with the scale, all others as 8 bytes. Strings are written once per
+ * document and then referenced by their index, which makes the repeated summaries and icons of the data points almost free.
+ *
+ * A document starts with a header of the format {@link #VERSION} and the schema of the encoded class, the reader rejects documents of
+ * other versions or written with other model classes. The format is therefore not compatible across changes of the model: once a release
+ * adds, removes or retypes a property of any model class, documents written by earlier releases cannot be read anymore. Keep the Json for
+ * long term storage, or decode stored documents with the old release and encode them again when upgrading. The output is collected in a buffer of 8 KB, call {@link #flush()} when the
+ * document is complete. The OutputStream is not closed by the writer. A writer is not thread safe, it writes any number of documents.
+ *
+ * @author Puls
+ */
+public final class BinaryWriter implements Flushable {
+
+    /**
+     * The version of the format.
+     */
+    public static final int VERSION = 1;
+
+    static final byte[] MAGIC = {'D', 'S', 'B'};
+    static final int MAX_SCALE = 6;
+    static final int RAW_DOUBLE = 7;
+    static final int MAX_DICTIONARY = 1 << 16;
+    static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6};
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final double MAX_EXACT = 0x1p53;
+
+    private final OutputStream out;
+    private final ByteBuffer target;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private long lastTime;
+
+    /**
+     * @param out The stream the documents are written to.
+     */
+    public BinaryWriter(OutputStream out) {
+	notNull("The OutputStream cannot be null.", out);
+
+	this.out = out;
+	this.target = null;
+    }
+
+    /**
+     * @param target The buffer the documents are written to, starting at its position.
+     * @throws java.nio.BufferOverflowException from {@link #flush()} or any write method if the buffer is too small.
+     */
+    public BinaryWriter(ByteBuffer target) {
+	notNull("The ByteBuffer cannot be null.", target);
+
+	this.out = null;
+	this.target = target;
+    }
+
+    /**
+     * Starts the next document. Strings and times of the documents before are not referenced.
+     *
+     * @param schema The schema of the encoded class (e.g. {@code ForecastBinding.SCHEMA}).
+     * @throws IOException if the header cannot be written.
+     */
+    public void writeHeader(int schema) throws IOException {
+	dictionary.clear();
+	lastTime = 0;
+	ensure(8);
+	System.arraycopy(MAGIC, 0, buffer, count, MAGIC.length);
+	count += MAGIC.length;
+	buffer[count++] = VERSION;
+	for (int shift = 24; shift >= 0; shift -= 8) {
+	    buffer[count++] = (byte) (schema >>> shift);
+	}
+    }
+
+    /**
+     * @param bits The present properties of the object, at most 63.
+     * @throws IOException if the object cannot be written.
+     */
+    public void beginObject(long bits) throws IOException {
+	writeVarint(bits << 1 | 1);
+    }
+
+    /**
+     * Writes null in place of an object.
+     *
+     * @throws IOException if the null cannot be written.
+     */
+    public void writeNull() throws IOException {
+	writeVarint(0);
+    }
+
+    /**
+     * @param size The number of elements of the list which follow.
+     * @throws IOException if the size cannot be written.
+     */
+    public void writeSize(int size) throws IOException {
+	writeVarint(size);
+    }
+
+    /**
+     * @param value The value, written as zig-zag encoded varint.
+     * @throws IOException if the value cannot be written.
+     */
+    public void writeInteger(long value) throws IOException {
+	writeVarint(value << 1 ^ value >> 63);
+    }
+
+    /**
+     * @param value The value, as decimal mantissa and scale if that reads back to the same value, otherwise as 8 bytes.
+     * @throws IOException if the value cannot be written.
+     */
+    public void writeDouble(double value) throws IOException {
+	long bits = Double.doubleToRawLongBits(value);
+	for (int scale = 0; scale <= MAX_SCALE; scale++) {
+	    double scaled = value * POWERS_OF_TEN[scale];
+	    if (!(Math.abs(scaled) < MAX_EXACT)) {
+		break;
+	    }
+	    long mantissa = Math.round(scaled);
+	    if (Double.doubleToRawLongBits(mantissa / POWERS_OF_TEN[scale]) == bits) {
+		writeVarint((mantissa << 1 ^ mantissa >> 63) << 3 | scale);
+		return;
+	    }
+	}
+	ensure(9);
+	buffer[count++] = RAW_DOUBLE;
+	for (int shift = 0; shift < 64; shift += 8) {
+	    buffer[count++] = (byte) (bits >>> shift);
+	}
+    }
+
+    /**
+     * @param epochSecond The time in seconds since the epoch, written as difference to the time written before.
+     * @throws IOException if the time cannot be written.
+     */
+    public void writeTime(long epochSecond) throws IOException {
+	writeInteger(epochSecond - lastTime);
+	lastTime = epochSecond;
+    }
+
+    /**
+     * @param value The time, written like {@link #writeTime(long)} followed by the nanoseconds.
+     * @throws IOException if the time cannot be written.
+     */
+    public void writeInstant(Instant value) throws IOException {
+	writeTime(value.getEpochSecond());
+	writeVarint(value.getNano());
+    }
+
+    /**
+     * @param value The String or null. A String written before in the same document is written as its index.
+     * @throws IOException if the String cannot be written.
+     */
+    public void writeString(String value) throws IOException {
+	if (value == null) {
+	    writeVarint(0);
+	    return;
+	}
+	Integer index = dictionary.get(value);
+	if (index != null) {
+	    writeVarint(index + 2);
+	    return;
+	}
+	if (dictionary.size() < MAX_DICTIONARY) {
+	    dictionary.put(value, dictionary.size());
+	}
+	byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+	writeVarint(1);
+	writeVarint(bytes.length);
+	if (bytes.length > buffer.length - count) {
+	    drain();
+	    if (bytes.length > buffer.length) {
+		writeThrough(bytes, 0, bytes.length);
+		return;
+	    }
+	}
+	System.arraycopy(bytes, 0, buffer, count, bytes.length);
+	count += bytes.length;
+    }
+
+    /**
+     * @param value The constant, written as String of its name.
+     * @throws IOException if the constant cannot be written.
+     */
+    public void writeEnum(Enum<?> value) throws IOException {
+	writeString(value.name());
+    }
+
+    /**
+     * Writes the buffered output to the OutputStream or ByteBuffer.
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+	drain();
+	if (out != null) {
+	    out.flush();
+	}
+    }
+
+    private void writeVarint(long value) throws IOException {
+	ensure(10);
+	while ((value & ~0x7fL) != 0) {
+	    buffer[count++] = (byte) (value & 0x7f | 0x80);
+	    value >>>= 7;
+	}
+	buffer[count++] = (byte) value;
+    }
+
+    private void ensure(int length) throws IOException {
+	if (length > buffer.length - count) {
+	    drain();
+	}
+    }
+
+    private void drain() throws IOException {
+	if (count > 0) {
+	    writeThrough(buffer, 0, count);
+	    count = 0;
+	}
+    }
+
+    private void writeThrough(byte[] bytes, int offset, int length) throws IOException {
+	if (out != null) {
+	    out.write(bytes, offset, length);
+	} else {
+	    target.put(bytes, offset, length);
+	}
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.cluster;
+
+import java.io.InputStream;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.ForecastRequest;
+import tk.plogitech.darksky.forecast.GeoCoordinates;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Membership of a {@link tk.plogitech.darksky.forecast.DarkSkyClient} in a cluster of nodes which share the forecast fetching.
+ *
+ * Locations are quantized to cells of a configurable size. Each cell is owned by exactly one node of the {@link ConsistentHashRing}, so all requests
+ * for nearby locations are fetched by the same node. Requests for cells owned by other nodes are forwarded with the {@link PeerTransport}.
+ * The cluster only routes the requests: upstream calls and cache memory shrink with the size of the cluster once the owner caches its forecasts,
+ * see {@link tk.plogitech.darksky.forecast.DarkSkyClient#serveOwned(ForecastRequest)}.
+ *
+ * @author Puls
+ */
+public class Cluster {
+
+    /**
+     * The default cell size of 0.01 degrees (about 1.1 km).
+     */
+    public static final double DEFAULT_CELL_DEGREES = 0.01;
+
+    private final String localNode;
+    private final PeerTransport transport;
+    private final double cellDegrees;
+    private volatile ConsistentHashRing ring;
+
+    /**
+     * @param localNode The id of the node this JVM represents. Must be part of the ring.
+     * @param ring The ring of all nodes in the cluster.
+     * @param transport The transport used to forward requests to other nodes.
+     */
+    public Cluster(String localNode, ConsistentHashRing ring, PeerTransport transport) {
+	this(localNode, ring, transport, DEFAULT_CELL_DEGREES);
+    }
+
+    /**
+     * @param localNode The id of the node this JVM represents. Must be part of the ring.
+     * @param ring The ring of all nodes in the cluster.
+     * @param transport The transport used to forward requests to other nodes.
+     * @param cellDegrees The size of the cells (in decimal degrees) locations are quantized to.
+     */
+    public Cluster(String localNode, ConsistentHashRing ring, PeerTransport transport, double cellDegrees) {
+	notNull("The local node, the ring and the transport cannot be null.", localNode, ring, transport);
+	if (!(cellDegrees > 0)) {
+	    throw new IllegalArgumentException("The cell size must be positive. Value invalid: " + cellDegrees);
+	}
+
+	this.localNode = localNode;
+	this.transport = transport;
+	this.cellDegrees = cellDegrees;
+	updateRing(ring);
+    }
+
+    /**
+     * Replaces the ring, e.g. when nodes join or leave the cluster. All nodes must be updated to the same ring. Until they are, a node may
+     * receive requests for locations it does not own; it serves them anyway (see {@link PeerTransport}).
+     *
+     * @param ring The new ring of all nodes in the cluster.
+     */
+    public final void updateRing(ConsistentHashRing ring) {
+	notNull("The ring cannot be null.", ring);
+	if (!ring.nodes().contains(localNode)) {
+	    throw new IllegalArgumentException("The local node is not part of the ring: " + localNode);
+	}
+
+	this.ring = ring;
+    }
+
+    /**
+     * @return The id of the node this JVM represents.
+     */
+    public String localNode() {
+	return localNode;
+    }
+
+    /**
+     * @param request The Forecast Request.
+     * @return The id of the node owning the requested location.
+     */
+    public String owner(ForecastRequest request) {
+	notNull("The ForecastRequest cannot be null.", request);
+
+	return ring.owner(cellKey(request.location()));
+    }
+
+    /**
+     * @param request The Forecast Request.
+     * @return True if the requested location is owned by this node.
+     */
+    public boolean isLocal(ForecastRequest request) {
+	return localNode.equals(owner(request));
+    }
+
+    /**
+     * Forwards the request to the node owning the requested location.
+     *
+     * @param request The Forecast Request.
+     * @return The forecast unparsed as byte encoded Json.
+     * @throws ForecastException if the forecast cannot be fetched by the owning node.
+     */
+    public InputStream forward(ForecastRequest request) throws ForecastException {
+	return transport.forward(owner(request), request);
+    }
+
+    /**
+     * @return The key of the cell containing the location.
+     */
+    long cellKey(GeoCoordinates location) {
+	long latitudeCell = (long) Math.floor(location.latitude().value() / cellDegrees);
+	long longitudeCell = (long) Math.floor(location.longitude().value() / cellDegrees);
+	return latitudeCell * 0x9e3779b97f4a7c15L ^ longitudeCell;
+    }
+}
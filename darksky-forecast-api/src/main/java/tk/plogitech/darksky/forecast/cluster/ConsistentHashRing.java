@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Immutable consistent hash ring which assigns keys to the nodes of a cluster.
+ *
+ * Every node is placed on the ring multiple times (virtual nodes) to spread the keys evenly. Adding or removing a node only moves the keys owned by
+ * that node, all other keys keep their owner. To change the membership create a new ring.
+ *
+ * @author Puls
+ */
+public final class ConsistentHashRing {
+
+    /**
+     * The default number of virtual nodes per node.
+     */
+    public static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final Set<String> nodes;
+
+    /**
+     * @param nodes The ids of the nodes in the cluster.
+     */
+    public ConsistentHashRing(Collection<String> nodes) {
+	this(nodes, DEFAULT_VIRTUAL_NODES);
+    }
+
+    /**
+     * @param nodes The ids of the nodes in the cluster.
+     * @param virtualNodes The number of positions each node takes on the ring.
+     */
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+	notNull("The nodes cannot be null.", nodes);
+	if (nodes.isEmpty()) {
+	    throw new IllegalArgumentException("The ring needs at least one node.");
+	}
+	if (virtualNodes < 1) {
+	    throw new IllegalArgumentException("The number of virtual nodes must be positive. Value invalid: " + virtualNodes);
+	}
+
+	this.nodes = Collections.unmodifiableSet(new LinkedHashSet<>(nodes));
+	for (String node : this.nodes) {
+	    notNull("The node id cannot be null.", node);
+	    for (int i = 0; i < virtualNodes; i++) {
+		ring.put(hash(node + "#" + i), node);
+	    }
+	}
+    }
+
+    /**
+     * @param key The hashed key.
+     * @return The id of the node owning the key.
+     */
+    public String owner(long key) {
+	Map.Entry<Long, String> entry = ring.ceilingEntry(mix(key));
+	if (entry == null) {
+	    entry = ring.firstEntry();
+	}
+	return entry.getValue();
+    }
+
+    /**
+     * @return The ids of all nodes on this ring.
+     */
+    public Set<String> nodes() {
+	return nodes;
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the given String.
+     */
+    private static long hash(String value) {
+	long hash = 0xcbf29ce484222325L;
+	for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+	    hash ^= b & 0xff;
+	    hash *= 0x100000001b3L;
+	}
+	return mix(hash);
+    }
+
+    /**
+     * Finalizer of MurmurHash3 to spread similar keys over the whole ring.
+     */
+    static long mix(long key) {
+	key ^= key >>> 33;
+	key *= 0xff51afd7ed558ccdL;
+	key ^= key >>> 33;
+	key *= 0xc4ceb9fe1a85ec53L;
+	key ^= key >>> 33;
+	return key;
+    }
+}
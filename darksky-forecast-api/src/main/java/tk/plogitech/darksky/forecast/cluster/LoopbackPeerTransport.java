@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.cluster;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import tk.plogitech.darksky.forecast.DarkSkyClient;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.ForecastRequest;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * In-process {@link PeerTransport} which hands forwarded requests directly to the client of the owning node.
+ *
+ * Intended for tests and for running several nodes inside one JVM.
+ *
+ * @author Puls
+ */
+public class LoopbackPeerTransport implements PeerTransport {
+
+    private final Map<String, DarkSkyClient> peers = new ConcurrentHashMap<>();
+
+    /**
+     * @param node The id of the node.
+     * @param client The client answering the requests forwarded to the node.
+     */
+    public void register(String node, DarkSkyClient client) {
+	notNull("The node and the client cannot be null.", node, client);
+
+	peers.put(node, client);
+    }
+
+    @Override
+    public InputStream forward(String node, ForecastRequest request) throws ForecastException {
+	DarkSkyClient peer = peers.get(node);
+	if (peer == null) {
+	    throw new ForecastException("Forecast cannot be fetched. Unknown node: " + node);
+	}
+	return peer.serveForwarded(request);
+    }
+}
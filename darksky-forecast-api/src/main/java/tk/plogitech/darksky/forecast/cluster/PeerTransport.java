@@ -0,0 +1,49 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.cluster;
+
+import java.io.InputStream;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.ForecastRequest;
+
+/**
+ * Transport used to forward a Forecast Request to the node of the cluster which owns the requested location.
+ *
+ * The receiving node must answer the request with
+ * {@link tk.plogitech.darksky.forecast.DarkSkyClient#serveForwarded(ForecastRequest)} of its client, not with one of the methods which route
+ * requests through the cluster. While the nodes are updated to a new ring two nodes may each consider the other one the owner, and a request
+ * routed again would bounce between them.
+ *
+ * @author Puls
+ */
+public interface PeerTransport {
+
+    /**
+     * @param node The id of the node owning the requested location.
+     * @param request The Forecast Request which is forwarded.
+     * @return The forecast unparsed as byte encoded Json, as returned by the owning node.
+     * @throws ForecastException if the owning node cannot be reached or cannot fetch the forecast.
+     */
+    InputStream forward(String node, ForecastRequest request) throws ForecastException;
+}
@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a model class for which the darksky-forecast-api-processor generates a binding class.
+ *
+ * The binding class is named like the model class with the suffix Binding and placed in the same package. It reads the class from a
+ * {@link JsonSource} and writes it to a {@link JsonSink} through the public setters and getters, without reflection. The properties have the
+ * names of the setters (e.g. setWindGust maps windGust). Supported property types are String, Double, Integer, boolean, Instant, enums, other
+ * annotated classes, Lists of Strings or of annotated classes and value classes with a public Double constructor and a value() method. An
+ * Instant property with the methods {@code <property>EpochSecond()} and {@code <property>EpochSecond(long)} (e.g. timeEpochSecond) is read and
+ * written through them as epoch seconds, without creating the Instant. Likewise a Double property with {@code <property>AsDouble()} and
+ * {@code <property>AsDouble(double)} and an Integer property with {@code <property>AsInt()} and {@code <property>AsInt(int)} are read and
+ * written without boxing, NaN and {@link Integer#MIN_VALUE} mark a missing value.
+ *
+ * @author Puls
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonBinding {
+}
@@ -0,0 +1,848 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * {@link JsonSource} parsing UTF-8 encoded Json from bytes, without any dependency.
+ *
+ * The reader works directly on the bytes of the input: numbers and times are accumulated digit by digit, property names and interned values
+ * (see {@link Interned}) are looked up in a {@link StringTable}, so only the other Strings of the model (e.g. an alert) are created. An
+ * InputStream is read in chunks of 8 KB while it is parsed, it is not closed by the reader. A ByteBuffer backed by an array is read in place,
+ * any other ByteBuffer (e.g. a direct or a memory mapped one) is copied in chunks of 8 KB.
+ *
+ * Like the Jackson client the reader accepts unquoted property names, numbers and times given as Strings, times in ISO-8601 format and
+ * floating point numbers for integer properties (the fraction is dropped). A reader is not thread safe and reads one document, unless it is
+ * {@link #reset(byte[], int, int) reset} to read the next one with the buffers it already has.
+ *
+ * @author Puls
+ */
+public final class JsonReader implements JsonSource {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_DEPTH = 255;
+    private static final double[] POWERS_OF_TEN = {
+	1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Property names of all readers.
+     */
+    private static final StringTable NAMES = new StringTable(512);
+
+    private InputStream in;
+    private ByteBuffer source;
+    private byte[] buffer;
+    private int pos;
+    private int limit;
+    private long offset;
+
+    private boolean[] first = new boolean[16];
+    private int depth;
+
+    private char[] chars = new char[64];
+    private int nameLength;
+    private char[] text = new char[32];
+    private int textLength;
+    private long mantissa;
+    private int digits;
+    private int exponent;
+    private boolean negative;
+    private boolean integral;
+
+    /**
+     * @param in The Json, read in chunks and not closed.
+     */
+    public JsonReader(InputStream in) {
+	notNull("The InputStream cannot be null.", in);
+
+	this.in = in;
+	this.source = null;
+	this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * @param json The Json.
+     */
+    public JsonReader(byte[] json) {
+	this(json, 0, json == null ? 0 : json.length);
+    }
+
+    /**
+     * @param json Contains the Json.
+     * @param offset The index of the first byte of the Json.
+     * @param length The number of bytes of the Json.
+     */
+    public JsonReader(byte[] json, int offset, int length) {
+	reset(json, offset, length);
+    }
+
+    /**
+     * @param json The Json between the position and the limit of the buffer. The position of the buffer is not changed.
+     */
+    public JsonReader(ByteBuffer json) {
+	notNull("The Json cannot be null.", json);
+
+	ByteBuffer view = json.duplicate();
+	this.in = null;
+	if (view.hasArray()) {
+	    this.source = null;
+	    this.buffer = view.array();
+	    this.pos = view.arrayOffset() + view.position();
+	    this.limit = view.arrayOffset() + view.limit();
+	    this.offset = -pos;
+	} else {
+	    this.source = view;
+	    this.buffer = new byte[Math.min(BUFFER_SIZE, view.remaining())];
+	}
+    }
+
+    /**
+     * Prepares the reader for the next document, e.g. of a batch. The buffers for Strings and numbers the reader has grown so far are kept.
+     *
+     * @param json Contains the Json.
+     * @param offset The index of the first byte of the Json.
+     * @param length The number of bytes of the Json.
+     * @return This reader.
+     */
+    public JsonReader reset(byte[] json, int offset, int length) {
+	notNull("The Json cannot be null.", json);
+	if (offset < 0 || length < 0 || offset + length > json.length || offset + length < 0) {
+	    throw new IndexOutOfBoundsException("Invalid range " + offset + "+" + length + " of " + json.length + " bytes.");
+	}
+
+	this.in = null;
+	this.source = null;
+	this.buffer = json;
+	this.pos = offset;
+	this.limit = offset + length;
+	this.offset = -offset;
+	this.depth = 0;
+	return this;
+    }
+
+    @Override
+    public boolean beginObject() throws IOException {
+	if (peekValue() != '{') {
+	    return false;
+	}
+	pos++;
+	push();
+	return true;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+	return nextMember() ? name() : null;
+    }
+
+    @Override
+    public <T> T readOther(Class<T> type) throws IOException {
+	int c = peekValue();
+	if (c == 'n') {
+	    literal("null");
+	    return null;
+	}
+	throw unexpected(c, type.getSimpleName());
+    }
+
+    @Override
+    public <T> List<T> readList(Reader<T> reader) throws IOException {
+	int c = peekValue();
+	if (c == 'n') {
+	    literal("null");
+	    return null;
+	}
+	if (c != '[') {
+	    throw unexpected(c, "List");
+	}
+	pos++;
+	push();
+	List<T> result = new ArrayList<>();
+	while (nextElement()) {
+	    result.add(reader.read(this));
+	}
+	return result;
+    }
+
+    @Override
+    public String readString() throws IOException {
+	int c = peekValue();
+	switch (c) {
+	    case '"':
+		return string();
+	    case 'n':
+		literal("null");
+		return null;
+	    case 't':
+		literal("true");
+		return "true";
+	    case 'f':
+		literal("false");
+		return "false";
+	    default:
+		if (isNumberStart(c)) {
+		    number();
+		    return new String(text, 0, textLength);
+		}
+		throw unexpected(c, "String");
+	}
+    }
+
+    /**
+     * Looks the String up in the shared StringTable while it is still decoded, so a value which is in the table creates no String.
+     */
+    @Override
+    public String readInternedString() throws IOException {
+	if (peekValue() != '"') {
+	    return StringTable.shared().intern(readString());
+	}
+	pos++;
+	int length = chars();
+	return StringTable.shared().intern(chars, length);
+    }
+
+    @Override
+    public Double readDouble() throws IOException {
+	int c = peekValue();
+	if (isNumberStart(c)) {
+	    number();
+	    return doubleValue();
+	}
+	if (c == 'n') {
+	    literal("null");
+	    return null;
+	}
+	if (c == '"') {
+	    long start = position();
+	    String value = string().trim();
+	    try {
+		return value.isEmpty() ? null : Double.valueOf(value);
+	    } catch (NumberFormatException ex) {
+		throw new JsonException("Cannot read Double from \"" + value + "\"", start, ex);
+	    }
+	}
+	throw unexpected(c, "Double");
+    }
+
+    @Override
+    public Integer readInteger() throws IOException {
+	int c = peekValue();
+	if (isNumberStart(c)) {
+	    long start = position();
+	    number();
+	    return intValue(start);
+	}
+	if (c == 'n') {
+	    literal("null");
+	    return null;
+	}
+	if (c == '"') {
+	    long start = position();
+	    String value = string().trim();
+	    try {
+		return value.isEmpty() ? null : Integer.valueOf(value);
+	    } catch (NumberFormatException ex) {
+		throw new JsonException("Cannot read Integer from \"" + value + "\"", start, ex);
+	    }
+	}
+	throw unexpected(c, "Integer");
+    }
+
+    @Override
+    public double readDoubleValue() throws IOException {
+	if (isNumberStart(peekValue())) {
+	    number();
+	    return doubleValue();
+	}
+	return JsonSource.super.readDoubleValue();
+    }
+
+    @Override
+    public int readIntValue() throws IOException {
+	if (isNumberStart(peekValue())) {
+	    long start = position();
+	    number();
+	    return intValue(start);
+	}
+	return JsonSource.super.readIntValue();
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+	int c = peekValue();
+	switch (c) {
+	    case 't':
+		literal("true");
+		return true;
+	    case 'f':
+		literal("false");
+		return false;
+	    case 'n':
+		literal("null");
+		return false;
+	    case '"':
+		long start = position();
+		String value = string().trim();
+		if (value.equals("true") || value.equals("false")) {
+		    return value.equals("true");
+		}
+		throw new JsonException("Cannot read boolean from \"" + value + "\"", start);
+	    default:
+		if (isNumberStart(c)) {
+		    number();
+		    return doubleValue() != 0;
+		}
+		throw unexpected(c, "boolean");
+	}
+    }
+
+    @Override
+    public Instant readInstant() throws IOException {
+	int c = peekValue();
+	long start = position();
+	try {
+	    if (isNumberStart(c)) {
+		number();
+		if (integral && digits <= 18) {
+		    return Instant.ofEpochSecond(negative ? -mantissa : mantissa);
+		}
+		return decimalInstant();
+	    }
+	    if (c == 'n') {
+		literal("null");
+		return null;
+	    }
+	    if (c == '"') {
+		String value = string().trim();
+		if (value.isEmpty()) {
+		    return null;
+		}
+		return isInteger(value) ? Instant.ofEpochSecond(Long.parseLong(value)) : Instant.parse(value);
+	    }
+	} catch (DateTimeException | NumberFormatException ex) {
+	    throw new JsonException("Cannot read Instant: " + ex.getMessage(), start, ex);
+	}
+	throw unexpected(c, "Instant");
+    }
+
+    @Override
+    public long readEpochSecond() throws IOException {
+	if (!isNumberStart(peekValue())) {
+	    Instant value = readInstant();
+	    return value == null ? Long.MIN_VALUE : value.getEpochSecond();
+	}
+	long start = position();
+	number();
+	if (integral && digits <= 18) {
+	    return negative ? -mantissa : mantissa;
+	}
+	try {
+	    return decimalInstant().getEpochSecond();
+	} catch (DateTimeException | NumberFormatException ex) {
+	    throw new JsonException("Cannot read Instant: " + ex.getMessage(), start, ex);
+	}
+    }
+
+    /**
+     * @return The number just read, UNIX time in seconds with a fraction or exponent, as Instant.
+     */
+    private Instant decimalInstant() {
+	BigDecimal value = new BigDecimal(text, 0, textLength);
+	long seconds = value.longValue();
+	return Instant.ofEpochSecond(seconds, value.subtract(BigDecimal.valueOf(seconds)).movePointRight(9).intValue());
+    }
+
+    @Override
+    public <E extends Enum<E>> E readEnum(Class<E> type) throws IOException {
+	int c = peekValue();
+	if (c == 'n') {
+	    literal("null");
+	    return null;
+	}
+	if (c != '"') {
+	    throw unexpected(c, type.getSimpleName());
+	}
+	long start = position();
+	String value = string();
+	try {
+	    return Enum.valueOf(type, value);
+	} catch (IllegalArgumentException ex) {
+	    throw new JsonException("Unknown " + type.getSimpleName() + ": \"" + value + "\"", start, ex);
+	}
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+	int c = peekValue();
+	switch (c) {
+	    case '{':
+		pos++;
+		push();
+		while (nextMember()) {
+		    skipValue();
+		}
+		break;
+	    case '[':
+		pos++;
+		push();
+		while (nextElement()) {
+		    skipValue();
+		}
+		break;
+	    case '"':
+		pos++;
+		chars();
+		break;
+	    case 't':
+		literal("true");
+		break;
+	    case 'f':
+		literal("false");
+		break;
+	    case 'n':
+		literal("null");
+		break;
+	    default:
+		if (!isNumberStart(c)) {
+		    throw unexpected(c, "value");
+		}
+		number();
+	}
+    }
+
+    @Override
+    public IOException invalidValue(String property, IllegalArgumentException cause) {
+	return new JsonException("Invalid value of " + property + ": " + cause.getMessage(), position(), cause);
+    }
+
+    /**
+     * Reads the separator and the name of the next property of the current object into the chars.
+     *
+     * @return False if the end of the object is reached.
+     */
+    private boolean nextMember() throws IOException {
+	int c = skipWhitespace();
+	if (c == '}') {
+	    pos++;
+	    depth--;
+	    return false;
+	}
+	if (!first[depth - 1]) {
+	    if (c != ',') {
+		throw unexpected(c, "',' or '}'");
+	    }
+	    pos++;
+	    c = skipWhitespace();
+	}
+	first[depth - 1] = false;
+	if (c == '"') {
+	    pos++;
+	    nameLength = chars();
+	} else if (isNameChar(c)) {
+	    nameLength = unquotedName();
+	} else {
+	    throw unexpected(c, "property name");
+	}
+	c = skipWhitespace();
+	if (c != ':') {
+	    throw unexpected(c, "':'");
+	}
+	pos++;
+	return true;
+    }
+
+    /**
+     * Reads the separator before the next element of the current array.
+     *
+     * @return False if the end of the array is reached.
+     */
+    private boolean nextElement() throws IOException {
+	int c = skipWhitespace();
+	if (c == ']') {
+	    pos++;
+	    depth--;
+	    return false;
+	}
+	if (!first[depth - 1]) {
+	    if (c != ',') {
+		throw unexpected(c, "',' or ']'");
+	    }
+	    pos++;
+	}
+	first[depth - 1] = false;
+	return true;
+    }
+
+    private void push() throws JsonException {
+	if (depth == MAX_DEPTH) {
+	    throw new JsonException("Nesting deeper than " + MAX_DEPTH, position());
+	}
+	if (depth == first.length) {
+	    first = Arrays.copyOf(first, depth * 2);
+	}
+	first[depth++] = true;
+    }
+
+    /**
+     * @return The cached name equal to the name read by {@link #nextMember()}.
+     */
+    private String name() {
+	return NAMES.intern(chars, nameLength);
+    }
+
+    private String string() throws IOException {
+	pos++;
+	int length = chars();
+	return new String(chars, 0, length);
+    }
+
+    /**
+     * Decodes the String after the opening quote into the chars.
+     *
+     * @return The number of chars.
+     */
+    private int chars() throws IOException {
+	int length = 0;
+	while (true) {
+	    if (pos == limit && !fill()) {
+		throw endOfInput();
+	    }
+	    int b = buffer[pos++];
+	    if (length + 2 > chars.length) {
+		chars = Arrays.copyOf(chars, chars.length * 2);
+	    }
+	    if (b == '"') {
+		return length;
+	    } else if (b == '\\') {
+		chars[length++] = escape();
+	    } else if (b >= 0x20) {
+		chars[length++] = (char) b;
+	    } else if (b < 0) {
+		length = utf8(b & 0xff, length);
+	    } else {
+		throw new JsonException("Control character in String", position() - 1);
+	    }
+	}
+    }
+
+    private char escape() throws IOException {
+	int c = nextByte();
+	switch (c) {
+	    case '"':
+	    case '\\':
+	    case '/':
+		return (char) c;
+	    case 'b':
+		return '\b';
+	    case 'f':
+		return '\f';
+	    case 'n':
+		return '\n';
+	    case 'r':
+		return '\r';
+	    case 't':
+		return '\t';
+	    case 'u':
+		int value = 0;
+		for (int i = 0; i < 4; i++) {
+		    int digit = Character.digit(nextByte(), 16);
+		    if (digit < 0) {
+			throw new JsonException("Invalid unicode escape", position() - 1);
+		    }
+		    value = value << 4 | digit;
+		}
+		return (char) value;
+	    default:
+		throw new JsonException("Invalid escape '\\" + (char) c + "'", position() - 1);
+	}
+    }
+
+    private int utf8(int lead, int length) throws IOException {
+	int codePoint;
+	int count;
+	if ((lead & 0xe0) == 0xc0) {
+	    codePoint = lead & 0x1f;
+	    count = 1;
+	} else if ((lead & 0xf0) == 0xe0) {
+	    codePoint = lead & 0x0f;
+	    count = 2;
+	} else if ((lead & 0xf8) == 0xf0) {
+	    codePoint = lead & 0x07;
+	    count = 3;
+	} else {
+	    throw new JsonException("Invalid UTF-8 start byte", position() - 1);
+	}
+	for (int i = 0; i < count; i++) {
+	    int b = nextByte();
+	    if ((b & 0xc0) != 0x80) {
+		throw new JsonException("Invalid UTF-8 continuation byte", position() - 1);
+	    }
+	    codePoint = codePoint << 6 | b & 0x3f;
+	}
+	if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+	    if (codePoint > Character.MAX_CODE_POINT) {
+		throw new JsonException("Invalid UTF-8 code point", position() - 1);
+	    }
+	    chars[length++] = Character.highSurrogate(codePoint);
+	    chars[length++] = Character.lowSurrogate(codePoint);
+	} else {
+	    chars[length++] = (char) codePoint;
+	}
+	return length;
+    }
+
+    private int unquotedName() throws IOException {
+	int length = 0;
+	int c;
+	while (isNameChar(c = peekByte())) {
+	    if (length == chars.length) {
+		chars = Arrays.copyOf(chars, chars.length * 2);
+	    }
+	    chars[length++] = (char) c;
+	    pos++;
+	}
+	return length;
+    }
+
+    /**
+     * Reads the next number. The text is kept in the text buffer, the first 18 significant digits in the mantissa and the decimal exponent of
+     * the mantissa in the exponent.
+     */
+    private void number() throws IOException {
+	textLength = 0;
+	mantissa = 0;
+	digits = 0;
+	exponent = 0;
+	integral = true;
+	int c = peekByte();
+	negative = c == '-';
+	if (negative) {
+	    c = appendAndPeek(c);
+	}
+	if (c == '0') {
+	    c = appendAndPeek(c);
+	} else if (isDigit(c)) {
+	    do {
+		digit(c, false);
+		c = appendAndPeek(c);
+	    } while (isDigit(c));
+	} else {
+	    throw new JsonException("Invalid number", position());
+	}
+	if (c == '.') {
+	    integral = false;
+	    c = appendAndPeek(c);
+	    if (!isDigit(c)) {
+		throw new JsonException("Invalid number", position());
+	    }
+	    do {
+		digit(c, true);
+		c = appendAndPeek(c);
+	    } while (isDigit(c));
+	}
+	if (c == 'e' || c == 'E') {
+	    integral = false;
+	    c = appendAndPeek(c);
+	    boolean negativeExponent = c == '-';
+	    if (c == '-' || c == '+') {
+		c = appendAndPeek(c);
+	    }
+	    if (!isDigit(c)) {
+		throw new JsonException("Invalid number", position());
+	    }
+	    int value = 0;
+	    do {
+		value = Math.min(value * 10 + c - '0', 100_000);
+		c = appendAndPeek(c);
+	    } while (isDigit(c));
+	    exponent += negativeExponent ? -value : value;
+	}
+    }
+
+    private void digit(int c, boolean fraction) {
+	if (mantissa == 0 && c == '0') {
+	    // leading zero of the fraction
+	    exponent--;
+	    return;
+	}
+	if (digits < 18) {
+	    mantissa = mantissa * 10 + c - '0';
+	    if (fraction) {
+		exponent--;
+	    }
+	} else if (!fraction) {
+	    exponent++;
+	}
+	digits++;
+    }
+
+    private int appendAndPeek(int c) throws IOException {
+	if (textLength == text.length) {
+	    text = Arrays.copyOf(text, textLength * 2);
+	}
+	text[textLength++] = (char) c;
+	pos++;
+	return peekByte();
+    }
+
+    /**
+     * @return The last number. Exact without parsing the text if the mantissa and the power of ten are exact doubles.
+     */
+    private double doubleValue() {
+	if (digits <= 15 && exponent >= -22 && exponent <= 22) {
+	    double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+	    return negative ? -value : value;
+	}
+	return Double.parseDouble(new String(text, 0, textLength));
+    }
+
+    private int intValue(long start) throws JsonException {
+	if (integral && digits <= 18) {
+	    long value = negative ? -mantissa : mantissa;
+	    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+		return (int) value;
+	    }
+	} else {
+	    double value = doubleValue();
+	    if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+		return (int) value;
+	    }
+	}
+	throw new JsonException("Number " + new String(text, 0, textLength) + " is out of range of Integer", start);
+    }
+
+    private void literal(String literal) throws IOException {
+	long start = position();
+	for (int i = 0; i < literal.length(); i++) {
+	    if (peekByte() != literal.charAt(i)) {
+		throw new JsonException("Invalid literal, expected " + literal, start);
+	    }
+	    pos++;
+	}
+    }
+
+    /**
+     * @return The first byte of the next value, not consumed.
+     */
+    private int peekValue() throws IOException {
+	int c = skipWhitespace();
+	if (c < 0) {
+	    throw endOfInput();
+	}
+	return c;
+    }
+
+    /**
+     * @return The next byte which is no whitespace, not consumed, or -1 at the end of the input.
+     */
+    private int skipWhitespace() throws IOException {
+	while (pos < limit || fill()) {
+	    int c = buffer[pos];
+	    if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+		return c & 0xff;
+	    }
+	    pos++;
+	}
+	return -1;
+    }
+
+    private int peekByte() throws IOException {
+	if (pos == limit && !fill()) {
+	    return -1;
+	}
+	return buffer[pos] & 0xff;
+    }
+
+    private int nextByte() throws IOException {
+	if (pos == limit && !fill()) {
+	    throw endOfInput();
+	}
+	return buffer[pos++] & 0xff;
+    }
+
+    /**
+     * Reads the next chunk of the InputStream or ByteBuffer. Must only be called if the buffer is consumed.
+     *
+     * @return False at the end of the input.
+     */
+    private boolean fill() throws IOException {
+	if (in == null && source == null) {
+	    return false;
+	}
+	offset += limit;
+	pos = 0;
+	if (source != null) {
+	    limit = Math.min(source.remaining(), buffer.length);
+	    source.get(buffer, 0, limit);
+	} else {
+	    limit = Math.max(in.read(buffer, 0, buffer.length), 0);
+	}
+	return limit > 0;
+    }
+
+    private long position() {
+	return offset + pos;
+    }
+
+    private JsonException endOfInput() {
+	return new JsonException("Unexpected end of input", position());
+    }
+
+    private JsonException unexpected(int c, String expected) {
+	String found = c < 0 ? "end of input" : c == '{' ? "an object" : c == '[' ? "an array" : "'" + (char) c + "'";
+	return new JsonException("Expected " + expected + " but found " + found, position());
+    }
+
+    private static boolean isInteger(String value) {
+	int start = value.charAt(0) == '-' ? 1 : 0;
+	for (int i = start; i < value.length(); i++) {
+	    if (!isDigit(value.charAt(i))) {
+		return false;
+	    }
+	}
+	return value.length() > start;
+    }
+
+    private static boolean isDigit(int c) {
+	return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNumberStart(int c) {
+	return c == '-' || isDigit(c);
+    }
+
+    private static boolean isNameChar(int c) {
+	return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || c == '_' || c == '$';
+    }
+}
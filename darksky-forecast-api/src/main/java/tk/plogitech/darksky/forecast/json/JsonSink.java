@@ -0,0 +1,96 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Target for Json values, written by the generated binding classes (see {@link JsonBinding}).
+ *
+ * @author Puls
+ */
+public interface JsonSink {
+
+    /**
+     * @throws IOException if the value cannot be written.
+     */
+    void beginObject() throws IOException;
+
+    /**
+     * @throws IOException if the value cannot be written.
+     */
+    void endObject() throws IOException;
+
+    /**
+     * @throws IOException if the value cannot be written.
+     */
+    void beginArray() throws IOException;
+
+    /**
+     * @throws IOException if the value cannot be written.
+     */
+    void endArray() throws IOException;
+
+    /**
+     * @param name The name of the next property of the current object.
+     * @throws IOException if the name cannot be written.
+     */
+    void name(String name) throws IOException;
+
+    /**
+     * @param value The value to write, null writes the Json null.
+     * @throws IOException if the value cannot be written.
+     */
+    void writeString(String value) throws IOException;
+
+    /**
+     * @param value The value to write.
+     * @throws IOException if the value cannot be written.
+     */
+    void writeNumber(double value) throws IOException;
+
+    /**
+     * @param value The value to write.
+     * @throws IOException if the value cannot be written.
+     */
+    void writeNumber(long value) throws IOException;
+
+    /**
+     * @param value The value to write.
+     * @throws IOException if the value cannot be written.
+     */
+    void writeBoolean(boolean value) throws IOException;
+
+    /**
+     * @param value The value to write as UNIX time in seconds.
+     * @throws IOException if the value cannot be written.
+     */
+    void writeInstant(Instant value) throws IOException;
+
+    /**
+     * @throws IOException if the value cannot be written.
+     */
+    void writeNull() throws IOException;
+}
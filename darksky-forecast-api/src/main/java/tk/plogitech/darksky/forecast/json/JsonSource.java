@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Pull style source of Json values, read by the generated binding classes (see {@link JsonBinding}).
+ *
+ * Every read method consumes the next value. Implementations decide how values which do not have the expected shape are converted, e.g. a
+ * number given as String.
+ *
+ * @author Puls
+ */
+public interface JsonSource {
+
+    /**
+     * Starts to read the next value as object. If the value is no object it is not consumed and must be read with {@link #readOther(Class)}.
+     *
+     * @return True if the next value is an object.
+     * @throws IOException if the Json cannot be read.
+     */
+    boolean beginObject() throws IOException;
+
+    /**
+     * @return The name of the next property of the current object or null if the end of the object is reached. The value of the property must
+     * be read or skipped before the next name is requested.
+     * @throws IOException if the Json cannot be read.
+     */
+    String nextName() throws IOException;
+
+    /**
+     * Reads the next value which is not an object, although an object of the given type is expected.
+     *
+     * @param <T> The expected type.
+     * @param type The expected type.
+     * @return Null for the Json null, otherwise the value converted to the type.
+     * @throws IOException if the value cannot be converted.
+     */
+    <T> T readOther(Class<T> type) throws IOException;
+
+    /**
+     * @param <T> The type of the elements.
+     * @param reader Reads one element.
+     * @return The next value as List or null for the Json null.
+     * @throws IOException if the Json cannot be read or the value is no array.
+     */
+    <T> List<T> readList(Reader<T> reader) throws IOException;
+
+    /**
+     * @return The next value as String or null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    String readString() throws IOException;
+
+    /**
+     * Reads a String with few distinct values, see {@link Interned}.
+     *
+     * @return The next value as String from the {@link StringTable#shared() shared StringTable} or null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    default String readInternedString() throws IOException {
+	return StringTable.shared().intern(readString());
+    }
+
+    /**
+     * @return The next value as Double or null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    Double readDouble() throws IOException;
+
+    /**
+     * @return The next value as Integer or null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    Integer readInteger() throws IOException;
+
+    /**
+     * Reads the value like {@link #readDouble()} without boxing it if the source supports it.
+     *
+     * @return The next value or NaN for the Json null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    default double readDoubleValue() throws IOException {
+	Double value = readDouble();
+	return value == null ? Double.NaN : value;
+    }
+
+    /**
+     * Reads the value like {@link #readInteger()} without boxing it if the source supports it.
+     *
+     * @return The next value or {@link Integer#MIN_VALUE} for the Json null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    default int readIntValue() throws IOException {
+	Integer value = readInteger();
+	return value == null ? Integer.MIN_VALUE : value;
+    }
+
+    /**
+     * @return The next value as boolean, false for the Json null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    boolean readBoolean() throws IOException;
+
+    /**
+     * @return The next value, UNIX time in seconds, as Instant or null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    Instant readInstant() throws IOException;
+
+    /**
+     * Reads the value like {@link #readInstant()} without creating the Instant if the source supports it.
+     *
+     * @return The next value, UNIX time in seconds, with fractions of a second dropped, or {@link Long#MIN_VALUE} for the Json null.
+     * @throws IOException if the Json cannot be read or converted.
+     */
+    default long readEpochSecond() throws IOException {
+	Instant value = readInstant();
+	return value == null ? Long.MIN_VALUE : value.getEpochSecond();
+    }
+
+    /**
+     * @param <E> The type of the enum.
+     * @param type The type of the enum.
+     * @return The constant named like the next value or null.
+     * @throws IOException if the Json cannot be read or the enum has no such constant.
+     */
+    <E extends Enum<E>> E readEnum(Class<E> type) throws IOException;
+
+    /**
+     * Skips the next value including all nested values.
+     *
+     * @throws IOException if the Json cannot be read.
+     */
+    void skipValue() throws IOException;
+
+    /**
+     * @param property The name of the property which was read.
+     * @param cause The exception thrown by the model when the value was set.
+     * @return The exception to throw for the invalid value.
+     */
+    IOException invalidValue(String property, IllegalArgumentException cause);
+
+    /**
+     * Reads one value from a source.
+     *
+     * @param <T> The type of the value.
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+
+	/**
+	 * @param source The source to read from.
+	 * @return The value.
+	 * @throws IOException if the Json cannot be read.
+	 */
+	T read(JsonSource source) throws IOException;
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * {@link JsonSink} writing compact UTF-8 encoded Json to an OutputStream or a ByteBuffer, without any dependency.
+ *
+ * Property names are encoded once and shared by all writers. Doubles are written with the fewest fraction digits (up to 8) which read back
+ * to the same value, without creating a String; other doubles fall back to {@link Double#toString(double)}. The output is collected in a
+ * buffer of 8 KB, call {@link #flush()} when the document is complete. The OutputStream is not closed by the writer.
+ *
+ * A writer is not thread safe and writes one document.
+ *
+ * @author Puls
+ */
+public final class JsonWriter implements JsonSink, Flushable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8};
+    private static final double MAX_EXACT = 0x1p53;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final Map<String, byte[]> NAMES = new ConcurrentHashMap<>();
+
+    private final OutputStream out;
+    private final ByteBuffer target;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    private boolean[] first = new boolean[16];
+    private PropertyFilter[] filters = new PropertyFilter[16];
+    private int depth;
+    private boolean afterName;
+    private PropertyFilter valueFilter;
+    private boolean skipValue;
+    private int skipped;
+
+    /**
+     * @param out The stream the Json is written to.
+     */
+    public JsonWriter(OutputStream out) {
+	this(out, PropertyFilter.all());
+    }
+
+    /**
+     * @param out The stream the Json is written to.
+     * @param filter Selects the properties which are written.
+     */
+    public JsonWriter(OutputStream out, PropertyFilter filter) {
+	notNull("The OutputStream and the PropertyFilter cannot be null.", out, filter);
+
+	this.out = out;
+	this.target = null;
+	this.valueFilter = filter;
+    }
+
+    /**
+     * @param target The buffer the Json is written to, starting at its position.
+     * @throws java.nio.BufferOverflowException from {@link #flush()} or any write method if the buffer is too small.
+     */
+    public JsonWriter(ByteBuffer target) {
+	this(target, PropertyFilter.all());
+    }
+
+    /**
+     * @param target The buffer the Json is written to, starting at its position.
+     * @param filter Selects the properties which are written.
+     * @throws java.nio.BufferOverflowException from {@link #flush()} or any write method if the buffer is too small.
+     */
+    public JsonWriter(ByteBuffer target, PropertyFilter filter) {
+	notNull("The ByteBuffer and the PropertyFilter cannot be null.", target, filter);
+
+	this.out = null;
+	this.target = target;
+	this.valueFilter = filter;
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+	begin('{');
+    }
+
+    @Override
+    public void endObject() throws IOException {
+	end('}');
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+	begin('[');
+    }
+
+    @Override
+    public void endArray() throws IOException {
+	end(']');
+    }
+
+    @Override
+    public void name(String name) throws IOException {
+	if (skipped > 0) {
+	    return;
+	}
+	PropertyFilter filter = filters[depth - 1].child(name);
+	if (filter == null) {
+	    skipValue = true;
+	    return;
+	}
+	valueFilter = filter;
+	if (!first[depth - 1]) {
+	    write((byte) ',');
+	}
+	first[depth - 1] = false;
+	byte[] encoded = NAMES.get(name);
+	if (encoded == null) {
+	    encoded = NAMES.computeIfAbsent(name, JsonWriter::encodeName);
+	}
+	write(encoded, 0, encoded.length);
+	afterName = true;
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+	if (value == null) {
+	    writeNull();
+	} else if (beforeValue()) {
+	    string(value);
+	}
+    }
+
+    @Override
+    public void writeNumber(double value) throws IOException {
+	if (Double.isNaN(value) || Double.isInfinite(value)) {
+	    writeString(Double.toString(value));
+	} else if (beforeValue()) {
+	    number(value);
+	}
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+	if (beforeValue()) {
+	    number(value);
+	}
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+	if (beforeValue()) {
+	    ascii(value ? "true" : "false");
+	}
+    }
+
+    @Override
+    public void writeInstant(Instant value) throws IOException {
+	if (value == null) {
+	    writeNull();
+	} else if (beforeValue()) {
+	    if (value.getNano() == 0) {
+		number(value.getEpochSecond());
+	    } else if (value.getEpochSecond() >= 0) {
+		number(value.getEpochSecond());
+		int nano = value.getNano();
+		int digits = 9;
+		while (nano % 10 == 0) {
+		    nano /= 10;
+		    digits--;
+		}
+		write((byte) '.');
+		fraction(nano, digits);
+	    } else {
+		ascii(BigDecimal.valueOf(value.getEpochSecond()).add(BigDecimal.valueOf(value.getNano(), 9)).toPlainString());
+	    }
+	}
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+	if (beforeValue()) {
+	    ascii("null");
+	}
+    }
+
+    /**
+     * Writes the buffered Json to the OutputStream (and flushes it) or to the ByteBuffer.
+     *
+     * @throws IOException if the OutputStream cannot be written.
+     */
+    @Override
+    public void flush() throws IOException {
+	drain();
+	if (out != null) {
+	    out.flush();
+	}
+    }
+
+    private void begin(char bracket) throws IOException {
+	if (skipped > 0) {
+	    skipped++;
+	    return;
+	}
+	if (skipValue) {
+	    skipValue = false;
+	    skipped = 1;
+	    return;
+	}
+	beforeValue();
+	write((byte) bracket);
+	if (depth == first.length) {
+	    first = Arrays.copyOf(first, depth * 2);
+	    filters = Arrays.copyOf(filters, depth * 2);
+	}
+	first[depth] = true;
+	filters[depth++] = valueFilter;
+    }
+
+    private void end(char bracket) throws IOException {
+	if (skipped > 0) {
+	    skipped--;
+	    return;
+	}
+	depth--;
+	valueFilter = filters[depth];
+	write((byte) bracket);
+    }
+
+    /**
+     * Writes the separator before a value.
+     *
+     * @return False if the value is filtered and must not be written.
+     */
+    private boolean beforeValue() throws IOException {
+	if (skipped > 0) {
+	    return false;
+	}
+	if (skipValue) {
+	    skipValue = false;
+	    return false;
+	}
+	if (afterName) {
+	    afterName = false;
+	} else if (depth > 0) {
+	    if (!first[depth - 1]) {
+		write((byte) ',');
+	    }
+	    first[depth - 1] = false;
+	}
+	return true;
+    }
+
+    private void string(String value) throws IOException {
+	write((byte) '"');
+	for (int i = 0; i < value.length(); i++) {
+	    char c = value.charAt(i);
+	    if (c < 0x80) {
+		if (c < 0x20 || c == '"' || c == '\\') {
+		    escape(c);
+		} else {
+		    write((byte) c);
+		}
+	    } else if (c < 0x800) {
+		ensure(2);
+		buffer[count++] = (byte) (0xc0 | c >> 6);
+		buffer[count++] = (byte) (0x80 | c & 0x3f);
+	    } else if (!Character.isSurrogate(c)) {
+		ensure(3);
+		buffer[count++] = (byte) (0xe0 | c >> 12);
+		buffer[count++] = (byte) (0x80 | c >> 6 & 0x3f);
+		buffer[count++] = (byte) (0x80 | c & 0x3f);
+	    } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+		int codePoint = Character.toCodePoint(c, value.charAt(++i));
+		ensure(4);
+		buffer[count++] = (byte) (0xf0 | codePoint >> 18);
+		buffer[count++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+		buffer[count++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+		buffer[count++] = (byte) (0x80 | codePoint & 0x3f);
+	    } else {
+		// unpaired surrogate, replaced like String.getBytes does
+		write((byte) '?');
+	    }
+	}
+	write((byte) '"');
+    }
+
+    private void escape(char c) throws IOException {
+	ensure(6);
+	buffer[count++] = '\\';
+	switch (c) {
+	    case '"':
+	    case '\\':
+		buffer[count++] = (byte) c;
+		break;
+	    case '\n':
+		buffer[count++] = 'n';
+		break;
+	    case '\r':
+		buffer[count++] = 'r';
+		break;
+	    case '\t':
+		buffer[count++] = 't';
+		break;
+	    case '\b':
+		buffer[count++] = 'b';
+		break;
+	    case '\f':
+		buffer[count++] = 'f';
+		break;
+	    default:
+		buffer[count++] = 'u';
+		buffer[count++] = '0';
+		buffer[count++] = '0';
+		buffer[count++] = HEX[c >> 4];
+		buffer[count++] = HEX[c & 0xf];
+	}
+    }
+
+    /**
+     * Writes the double with the fewest fraction digits which read back to the same double. The quotient of the rounded mantissa and the
+     * power of ten is correctly rounded, so it equals the value exactly if the written decimal is read back as the value.
+     */
+    private void number(double value) throws IOException {
+	if (value == 0) {
+	    ascii(1 / value < 0 ? "-0.0" : "0");
+	    return;
+	}
+	double abs = Math.abs(value);
+	for (int digits = 0; digits < POWERS_OF_TEN.length; digits++) {
+	    double scaled = abs * POWERS_OF_TEN[digits];
+	    if (scaled >= MAX_EXACT) {
+		break;
+	    }
+	    long mantissa = Math.round(scaled);
+	    if (mantissa / POWERS_OF_TEN[digits] == abs) {
+		if (value < 0) {
+		    write((byte) '-');
+		}
+		long factor = (long) POWERS_OF_TEN[digits];
+		number(mantissa / factor);
+		if (digits > 0) {
+		    write((byte) '.');
+		    fraction(mantissa % factor, digits);
+		}
+		return;
+	    }
+	}
+	ascii(Double.toString(value));
+    }
+
+    private void number(long value) throws IOException {
+	if (value == Long.MIN_VALUE) {
+	    ascii(Long.toString(value));
+	    return;
+	}
+	ensure(20);
+	if (value < 0) {
+	    buffer[count++] = '-';
+	    value = -value;
+	}
+	int length = 1;
+	for (long rest = value / 10; rest > 0; rest /= 10) {
+	    length++;
+	}
+	fraction(value, length);
+    }
+
+    /**
+     * Writes the value with the given number of digits, padded with leading zeros.
+     */
+    private void fraction(long value, int digits) throws IOException {
+	ensure(digits);
+	for (int i = count + digits - 1; i >= count; i--) {
+	    buffer[i] = (byte) ('0' + value % 10);
+	    value /= 10;
+	}
+	count += digits;
+    }
+
+    private void ascii(String value) throws IOException {
+	ensure(value.length());
+	for (int i = 0; i < value.length(); i++) {
+	    buffer[count++] = (byte) value.charAt(i);
+	}
+    }
+
+    private void write(byte b) throws IOException {
+	if (count == buffer.length) {
+	    drain();
+	}
+	buffer[count++] = b;
+    }
+
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+	if (length > buffer.length - count) {
+	    drain();
+	    if (length > buffer.length) {
+		writeThrough(bytes, offset, length);
+		return;
+	    }
+	}
+	System.arraycopy(bytes, offset, buffer, count, length);
+	count += length;
+    }
+
+    /**
+     * Makes room for the given number of bytes, at most the size of the buffer.
+     */
+    private void ensure(int length) throws IOException {
+	if (length > buffer.length - count) {
+	    drain();
+	}
+    }
+
+    private void drain() throws IOException {
+	if (count > 0) {
+	    writeThrough(buffer, 0, count);
+	    count = 0;
+	}
+    }
+
+    private void writeThrough(byte[] bytes, int offset, int length) throws IOException {
+	if (out != null) {
+	    out.write(bytes, offset, length);
+	} else {
+	    target.put(bytes, offset, length);
+	}
+    }
+
+    /**
+     * @return The quoted and escaped name followed by the colon.
+     */
+    private static byte[] encodeName(String name) {
+	StringBuilder result = new StringBuilder(name.length() + 3).append('"');
+	for (int i = 0; i < name.length(); i++) {
+	    char c = name.charAt(i);
+	    if (c < 0x20 || c == '"' || c == '\\') {
+		result.append(String.format("\\u%04x", (int) c));
+	    } else {
+		result.append(c);
+	    }
+	}
+	return result.append("\":").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
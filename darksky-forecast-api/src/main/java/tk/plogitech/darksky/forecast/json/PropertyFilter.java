@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Immutable selection of the properties written by a {@link JsonWriter}.
+ *
+ * Properties are addressed by their path: the names from the root object joined with dots, arrays do not add a name. E.g.
+ * {@code hourly.data.temperature} is the temperature of every hourly data point. Selecting a property selects everything nested in it.
+ *
+ * @author Puls
+ */
+public final class PropertyFilter {
+
+    private static final PropertyFilter ALL = new PropertyFilter(Collections.emptyMap(), false);
+
+    /**
+     * The children of this property, a null value marks an excluded child.
+     */
+    private final Map<String, PropertyFilter> children;
+    /**
+     * True if children which are not listed are excluded.
+     */
+    private final boolean including;
+
+    private PropertyFilter(Map<String, PropertyFilter> children, boolean including) {
+	this.children = children;
+	this.including = including;
+    }
+
+    /**
+     * @return The filter writing all properties.
+     */
+    public static PropertyFilter all() {
+	return ALL;
+    }
+
+    /**
+     * @param paths The paths of the properties which are written, e.g. {@code currently} or {@code hourly.data.temperature}.
+     * @return The filter writing only the given properties (and the objects containing them).
+     */
+    public static PropertyFilter including(String... paths) {
+	return create(true, paths);
+    }
+
+    /**
+     * @param paths The paths of the properties which are not written, e.g. {@code minutely} or {@code hourly.data.summary}.
+     * @return The filter writing all but the given properties.
+     */
+    public static PropertyFilter excluding(String... paths) {
+	return create(false, paths);
+    }
+
+    private static PropertyFilter create(boolean including, String... paths) {
+	notNull("The paths cannot be null.", (Object) paths);
+
+	PropertyFilter root = new PropertyFilter(new HashMap<>(), including);
+	for (String path : paths) {
+	    notNull("The path cannot be null.", path);
+	    PropertyFilter node = root;
+	    String[] names = path.split("\\.");
+	    for (int i = 0; i < names.length && node != null && node != ALL; i++) {
+		if (names[i].isEmpty()) {
+		    throw new IllegalArgumentException("Invalid property path: " + path);
+		}
+		if (i == names.length - 1) {
+		    node.children.put(names[i], including ? ALL : null);
+		} else {
+		    if (!node.children.containsKey(names[i])) {
+			node.children.put(names[i], new PropertyFilter(new HashMap<>(), including));
+		    }
+		    node = node.children.get(names[i]);
+		}
+	    }
+	}
+	return root;
+    }
+
+    /**
+     * @param name The name of a property of the object selected by this filter.
+     * @return The filter for the value of the property or null if the property is not written.
+     */
+    PropertyFilter child(String name) {
+	if (this == ALL) {
+	    return ALL;
+	}
+	PropertyFilter child = children.get(name);
+	if (child != null || children.containsKey(name)) {
+	    return child;
+	}
+	return including ? null : ALL;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Bounded, thread safe table which shares one instance of equal Strings, e.g. the summaries of many forecasts.
+ *
+ * The table is direct mapped: the hash of a String selects one slot and a new String replaces a different one in its slot. Frequent values
+ * therefore stay in the table, while rare values (e.g. a summary naming an exact time) cannot grow it. Slots are read and written without
+ * locking, which is safe because a slot always holds a complete String; a lost update only costs a second instance.
+ *
+ * @author Puls
+ */
+public final class StringTable {
+
+    private static final StringTable SHARED = new StringTable(4096);
+
+    private final String[] slots;
+
+    /**
+     * @param capacity The number of slots, rounded up to a power of two.
+     */
+    public StringTable(int capacity) {
+	if (capacity < 1 || capacity > 1 << 30) {
+	    throw new IllegalArgumentException("The capacity must be between 1 and 2^30. Value invalid: " + capacity);
+	}
+	int size = 1;
+	while (size < capacity) {
+	    size <<= 1;
+	}
+	this.slots = new String[size];
+    }
+
+    /**
+     * @return The table used by the model classes and the {@link JsonReader}.
+     */
+    public static StringTable shared() {
+	return SHARED;
+    }
+
+    /**
+     * @param value The String to share.
+     * @return The instance in the table equal to the value or the value itself (which is added to the table). Null for null.
+     */
+    public String intern(String value) {
+	if (value == null) {
+	    return null;
+	}
+	int slot = slot(value.hashCode());
+	String current = slots[slot];
+	if (value.equals(current)) {
+	    return current;
+	}
+	slots[slot] = value;
+	return value;
+    }
+
+    /**
+     * @param chars Contains the String.
+     * @param length The number of chars of the String, starting at index 0.
+     * @return The instance in the table equal to the chars or a new String (which is added to the table).
+     */
+    String intern(char[] chars, int length) {
+	notNull("The chars cannot be null.", chars);
+
+	int hash = 0;
+	for (int i = 0; i < length; i++) {
+	    hash = 31 * hash + chars[i];
+	}
+	int slot = slot(hash);
+	String current = slots[slot];
+	if (current != null && matches(current, chars, length)) {
+	    return current;
+	}
+	current = new String(chars, 0, length);
+	slots[slot] = current;
+	return current;
+    }
+
+    private int slot(int hash) {
+	return (hash ^ hash >>> 16) & (slots.length - 1);
+    }
+
+    private static boolean matches(String value, char[] chars, int length) {
+	if (value.length() != length) {
+	    return false;
+	}
+	for (int i = 0; i < length; i++) {
+	    if (value.charAt(i) != chars[i]) {
+		return false;
+	    }
+	}
+	return true;
+    }
+}
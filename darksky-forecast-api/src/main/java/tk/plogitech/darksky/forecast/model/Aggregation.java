@@ -0,0 +1,310 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.Arrays;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Aggregates of the values of one field of a series, e.g. the rolling maximum wind gust or the precipitation summed over six hours.
+ *
+ * Missing values (NaN) are skipped. An aggregate without any value is NaN, {@link #argMax()} and {@link #argMin()} are -1. The sliding
+ * aggregates return one value per complete window: element i aggregates the values i to i + window - 1.
+ *
+ * Every aggregate is computed in a few passes of plain loops over the double[] of the column, without boxing and without branches on the
+ * values. The sliding aggregates split the values into blocks of the window size and combine a running aggregate from the start of each block
+ * with one from its end (van Herk/Gil-Werman), so their cost does not depend on the size of the window.
+ *
+ * Create it with {@link DataSeries#aggregate(DataSeries.Column)}, {@link DailySeries#aggregate(DailySeries.Column)} or for any values, e.g. a
+ * batch of many series, with {@link #of(double...)}. An Aggregation is immutable and thread safe.
+ *
+ * @author Puls
+ */
+public final class Aggregation {
+
+    private static final int SUM = 0;
+    private static final int MIN = 1;
+    private static final int MAX = 2;
+
+    private final double[] values;
+
+    /**
+     * @param values The values, which are not copied and must not be changed.
+     */
+    Aggregation(double[] values) {
+	this.values = values;
+    }
+
+    /**
+     * @param values The values of a field, NaN for values which are not set.
+     * @return The aggregation of a copy of the values.
+     */
+    public static Aggregation of(double... values) {
+	notNull("The values cannot be null.", values);
+
+	return new Aggregation(values.clone());
+    }
+
+    /**
+     * @return The number of values, including the missing ones.
+     */
+    public int size() {
+	return values.length;
+    }
+
+    /**
+     * @return The number of values which are set.
+     */
+    public int count() {
+	int count = 0;
+	for (double value : values) {
+	    count += value == value ? 1 : 0;
+	}
+	return count;
+    }
+
+    /**
+     * @return The sum of the values or NaN if no value is set.
+     */
+    public double sum() {
+	double sum = 0;
+	int count = 0;
+	for (double value : values) {
+	    sum += value == value ? value : 0;
+	    count += value == value ? 1 : 0;
+	}
+	return count == 0 ? Double.NaN : sum;
+    }
+
+    /**
+     * @return The mean of the values or NaN if no value is set.
+     */
+    public double mean() {
+	return sum() / count();
+    }
+
+    /**
+     * @return The smallest value or NaN if no value is set.
+     */
+    public double min() {
+	double min = Double.POSITIVE_INFINITY;
+	for (double value : values) {
+	    min = value < min ? value : min;
+	}
+	return min == Double.POSITIVE_INFINITY && indexOf(min) < 0 ? Double.NaN : min;
+    }
+
+    /**
+     * @return The largest value or NaN if no value is set.
+     */
+    public double max() {
+	double max = Double.NEGATIVE_INFINITY;
+	for (double value : values) {
+	    max = value > max ? value : max;
+	}
+	return max == Double.NEGATIVE_INFINITY && indexOf(max) < 0 ? Double.NaN : max;
+    }
+
+    /**
+     * @return The index of the first occurrence of the smallest value or -1 if no value is set.
+     */
+    public int argMin() {
+	return indexOf(min());
+    }
+
+    /**
+     * @return The index of the first occurrence of the largest value or -1 if no value is set.
+     */
+    public int argMax() {
+	return indexOf(max());
+    }
+
+    /**
+     * @param window The number of values per window, at least 1 and at most {@link #size()}.
+     * @return The sums of all windows, NaN for windows without a value.
+     */
+    public double[] slidingSum(int window) {
+	return slide(window, SUM);
+    }
+
+    /**
+     * @param window The number of values per window, at least 1 and at most {@link #size()}.
+     * @return The means of the values which are set in each window, NaN for windows without a value.
+     */
+    public double[] slidingMean(int window) {
+	double[] sums = slide(window, SUM);
+	int[] counts = counts(window);
+	for (int i = 0; i < sums.length; i++) {
+	    sums[i] /= counts[i];
+	}
+	return sums;
+    }
+
+    /**
+     * @param window The number of values per window, at least 1 and at most {@link #size()}.
+     * @return The smallest value of each window, NaN for windows without a value.
+     */
+    public double[] slidingMin(int window) {
+	return slide(window, MIN);
+    }
+
+    /**
+     * @param window The number of values per window, at least 1 and at most {@link #size()}.
+     * @return The largest value of each window, NaN for windows without a value.
+     */
+    public double[] slidingMax(int window) {
+	return slide(window, MAX);
+    }
+
+    /**
+     * A value crosses the threshold if it is at least the threshold and the previous value which is set is below it, or the other way round.
+     *
+     * @param threshold The threshold, e.g. 0 degrees.
+     * @return The ascending indexes of the values which cross the threshold.
+     */
+    public int[] crossings(double threshold) {
+	int[] crossings = new int[16];
+	int count = 0;
+	int previous = -1;
+	for (int i = 0; i < values.length; i++) {
+	    double value = values[i];
+	    if (value == value) {
+		int above = value >= threshold ? 1 : 0;
+		if (previous >= 0 && above != previous) {
+		    if (count == crossings.length) {
+			crossings = Arrays.copyOf(crossings, count * 2);
+		    }
+		    crossings[count++] = i;
+		}
+		previous = above;
+	    }
+	}
+	return Arrays.copyOf(crossings, count);
+    }
+
+    /**
+     * @return A copy of the values.
+     */
+    public double[] values() {
+	return values.clone();
+    }
+
+    private int indexOf(double value) {
+	for (int i = 0; i < values.length; i++) {
+	    if (values[i] == value) {
+		return i;
+	    }
+	}
+	return -1;
+    }
+
+    /**
+     * Combines running aggregates from the start and from the end of the blocks of window values: a window which does not start a block covers
+     * the end of one block and the start of the next.
+     */
+    private double[] slide(int window, int operation) {
+	checkWindow(window);
+
+	int n = values.length;
+	double identity = identity(operation);
+	double[] fromStart = new double[n];
+	double[] fromEnd = new double[n];
+	for (int start = 0; start < n; start += window) {
+	    int end = Math.min(start + window, n);
+	    double aggregate = identity;
+	    for (int i = start; i < end; i++) {
+		aggregate = combine(operation, aggregate, values[i] == values[i] ? values[i] : identity);
+		fromStart[i] = aggregate;
+	    }
+	    aggregate = identity;
+	    for (int i = end - 1; i >= start; i--) {
+		aggregate = combine(operation, aggregate, values[i] == values[i] ? values[i] : identity);
+		fromEnd[i] = aggregate;
+	    }
+	}
+	double[] result = new double[n - window + 1];
+	for (int start = 0; start < result.length; start += window) {
+	    result[start] = fromEnd[start];
+	    int end = Math.min(start + window, result.length);
+	    for (int i = start + 1; i < end; i++) {
+		result[i] = combine(operation, fromEnd[i], fromStart[i + window - 1]);
+	    }
+	}
+	if (count() < n) {
+	    int[] counts = counts(window);
+	    for (int i = 0; i < result.length; i++) {
+		result[i] = counts[i] == 0 ? Double.NaN : result[i];
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * @return The number of values which are set in each window.
+     */
+    private int[] counts(int window) {
+	checkWindow(window);
+
+	int[] counts = new int[values.length - window + 1];
+	int count = 0;
+	for (int i = 0; i < values.length; i++) {
+	    count += values[i] == values[i] ? 1 : 0;
+	    if (i >= window) {
+		count -= values[i - window] == values[i - window] ? 1 : 0;
+	    }
+	    if (i >= window - 1) {
+		counts[i - window + 1] = count;
+	    }
+	}
+	return counts;
+    }
+
+    private void checkWindow(int window) {
+	if (window < 1 || window > values.length) {
+	    throw new IllegalArgumentException("The window must be between 1 and " + values.length + ": " + window);
+	}
+    }
+
+    private static double identity(int operation) {
+	switch (operation) {
+	    case MIN:
+		return Double.POSITIVE_INFINITY;
+	    case MAX:
+		return Double.NEGATIVE_INFINITY;
+	    default:
+		return 0;
+	}
+    }
+
+    private static double combine(int operation, double a, double b) {
+	switch (operation) {
+	    case MIN:
+		return b < a ? b : a;
+	    case MAX:
+		return b > a ? b : a;
+	    default:
+		return a + b;
+	}
+    }
+}
@@ -23,10 +23,14 @@
  */
 package tk.plogitech.darksky.forecast.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
 
 /**
  * Represents the severe weather warnings issued for the requested location by a governmental authority (please see our data sources page for a list
@@ -34,15 +38,32 @@ import java.util.Objects;
  *
  * @author Puls
  */
+@JsonBinding
 public class Alert implements Serializable {
 
+    private static final long serialVersionUID = 8599408867990662900L;
+
+    /**
+     * The fields of the default serialized form of earlier versions, which stored the times as Instants.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+	new ObjectStreamField("title", String.class),
+	new ObjectStreamField("description", String.class),
+	new ObjectStreamField("time", Instant.class),
+	new ObjectStreamField("expires", Instant.class),
+	new ObjectStreamField("regions", List.class),
+	new ObjectStreamField("severity", Severity.class),
+	new ObjectStreamField("uri", String.class)
+    };
+
     private String title;
     private String description;
-    private Instant time;
-    private Instant expires;
+    private long time = EpochSeconds.NONE;
+    private long expires = EpochSeconds.NONE;
     private List<String> regions;
     private Severity severity;
     private String uri;
+    private transient volatile boolean frozen;
 
     /**
      * @return A brief description of the alert.
@@ -55,6 +76,7 @@ public class Alert implements Serializable {
      * @param title A brief description of the alert.
      */
     public void setTitle(String title) {
+	Frozen.check(frozen);
 	this.title = title;
     }
 
@@ -69,6 +91,7 @@ public class Alert implements Serializable {
      * @param description A detailed description of the alert
      */
     public void setDescription(String description) {
+	Frozen.check(frozen);
 	this.description = description;
     }
 
@@ -76,13 +99,29 @@ public class Alert implements Serializable {
      * @return The UNIX time at which the alert was issued.
      */
     public Instant getTime() {
-	return time;
+	return EpochSeconds.instant(time);
     }
 
     /**
      * @param time The UNIX time at which the alert was issued.
      */
     public void setTime(Instant time) {
+	Frozen.check(frozen);
+	this.time = EpochSeconds.of(time);
+    }
+
+    /**
+     * @return The time of {@link #getTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long timeEpochSecond() {
+	return time;
+    }
+
+    /**
+     * @param time The time of {@link #setTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void timeEpochSecond(long time) {
+	Frozen.check(frozen);
 	this.time = time;
     }
 
@@ -91,7 +130,7 @@ public class Alert implements Serializable {
      * this parameter will not be defined.)
      */
     public Instant getExpires() {
-	return expires;
+	return EpochSeconds.instant(expires);
     }
 
     /**
@@ -99,6 +138,22 @@ public class Alert implements Serializable {
      * cases this parameter will not be defined.)
      */
     public void setExpires(Instant expires) {
+	Frozen.check(frozen);
+	this.expires = EpochSeconds.of(expires);
+    }
+
+    /**
+     * @return The time of {@link #getExpires()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long expiresEpochSecond() {
+	return expires;
+    }
+
+    /**
+     * @param expires The time of {@link #setExpires(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void expiresEpochSecond(long expires) {
+	Frozen.check(frozen);
 	this.expires = expires;
     }
 
@@ -113,6 +168,7 @@ public class Alert implements Serializable {
      * @param uri An HTTP(S) URI that one may refer to for detailed information about the alert.
      */
     public void setUri(String uri) {
+	Frozen.check(frozen);
 	this.uri = uri;
     }
 
@@ -127,6 +183,7 @@ public class Alert implements Serializable {
      * @param regions A List of strings representing the names of the regions covered by this weather alert.
      */
     public void setRegions(List<String> regions) {
+	Frozen.check(frozen);
 	this.regions = regions;
     }
 
@@ -141,16 +198,59 @@ public class Alert implements Serializable {
      * @param severity The severity of the weather alert.
      */
     public void setSeverity(Severity severity) {
+	Frozen.check(frozen);
 	this.severity = severity;
     }
 
+    /**
+     * Makes this alert immutable, see {@link Forecast#freeze()}.
+     *
+     * @return This alert.
+     */
+    public Alert freeze() {
+	if (!frozen) {
+	    regions = Frozen.list(regions);
+	    frozen = true;
+	}
+	return this;
+    }
+
+    /**
+     * @return True if this alert is frozen and cannot be changed.
+     */
+    public boolean frozen() {
+	return frozen;
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
+    }
+
+    /**
+     * Reads the default serialized form of earlier versions, current versions write the {@link SerialForm}.
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+	ObjectInputStream.GetField fields = in.readFields();
+	title = (String) fields.get("title", null);
+	description = (String) fields.get("description", null);
+	time = EpochSeconds.of((Instant) fields.get("time", null));
+	expires = EpochSeconds.of((Instant) fields.get("expires", null));
+	regions = (List<String>) fields.get("regions", null);
+	severity = (Severity) fields.get("severity", null);
+	uri = (String) fields.get("uri", null);
+    }
+
     @Override
     public int hashCode() {
 	int hash = 7;
 	hash = 61 * hash + Objects.hashCode(this.title);
 	hash = 61 * hash + Objects.hashCode(this.description);
-	hash = 61 * hash + Objects.hashCode(this.time);
-	hash = 61 * hash + Objects.hashCode(this.expires);
+	hash = 61 * hash + Long.hashCode(this.time);
+	hash = 61 * hash + Long.hashCode(this.expires);
 	hash = 61 * hash + Objects.hashCode(this.regions);
 	hash = 61 * hash + Objects.hashCode(this.severity);
 	hash = 61 * hash + Objects.hashCode(this.uri);
@@ -178,10 +278,10 @@ public class Alert implements Serializable {
 	if (!Objects.equals(this.uri, other.uri)) {
 	    return false;
 	}
-	if (!Objects.equals(this.time, other.time)) {
+	if (this.time != other.time) {
 	    return false;
 	}
-	if (!Objects.equals(this.expires, other.expires)) {
+	if (this.expires != other.expires) {
 	    return false;
 	}
 	if (!Objects.equals(this.regions, other.regions)) {
@@ -24,14 +24,18 @@
 package tk.plogitech.darksky.forecast.model;
 
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
 
 /**
  * A data point containing the current weather conditions at the requested location.
  *
  * @author Puls
  */
+@JsonBinding
 public class Currently extends DataPoint {
 
+    private static final long serialVersionUID = 4865017356189996799L;
+
     private Double nearestStormBearing;
     private Double nearestStormDistance;
 
@@ -48,6 +52,7 @@ public class Currently extends DataPoint {
      * nearestStormDistance is zero, then this value will not be defined.) optional, only on currently
      */
     public void setNearestStormBearing(Double nearestStormBearing) {
+	Frozen.check(frozen());
 	this.nearestStormBearing = nearestStormBearing;
     }
 
@@ -64,6 +69,7 @@ public class Currently extends DataPoint {
      * at the requested location, but rather a storm in the vicinity of that location.)
      */
     public void setNearestStormDistance(Double nearestStormDistance) {
+	Frozen.check(frozen());
 	this.nearestStormDistance = nearestStormDistance;
     }
 
@@ -23,64 +23,120 @@
  */
 package tk.plogitech.darksky.forecast.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.Interned;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
+import tk.plogitech.darksky.forecast.json.StringTable;
 
 /**
  * DataPoint for the data of a single day.
  *
  * @author Puls
  */
+@JsonBinding
 public class DailyDataPoint implements Serializable {
 
-    private Instant time;
+    private static final long serialVersionUID = 4424594377586718746L;
+
+    /**
+     * The fields of the default serialized form of earlier versions, which stored the times as Instants and the numbers boxed.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+	new ObjectStreamField("time", Instant.class),
+	new ObjectStreamField("summary", String.class),
+	new ObjectStreamField("icon", String.class),
+	new ObjectStreamField("sunriseTime", Instant.class),
+	new ObjectStreamField("sunsetTime", Instant.class),
+	new ObjectStreamField("moonPhase", Double.class),
+	new ObjectStreamField("precipIntensity", Double.class),
+	new ObjectStreamField("precipIntensityMax", Double.class),
+	new ObjectStreamField("precipProbability", Double.class),
+	new ObjectStreamField("precipIntensityMaxTime", Instant.class),
+	new ObjectStreamField("precipAccumulation", Double.class),
+	new ObjectStreamField("precipType", String.class),
+	new ObjectStreamField("temperatureHigh", Double.class),
+	new ObjectStreamField("temperatureHighTime", Instant.class),
+	new ObjectStreamField("temperatureLow", Double.class),
+	new ObjectStreamField("temperatureLowTime", Instant.class),
+	new ObjectStreamField("apparentTemperatureHigh", Double.class),
+	new ObjectStreamField("apparentTemperatureHighTime", Instant.class),
+	new ObjectStreamField("apparentTemperatureLow", Double.class),
+	new ObjectStreamField("apparentTemperatureLowTime", Instant.class),
+	new ObjectStreamField("temperatureMin", Double.class),
+	new ObjectStreamField("temperatureMinTime", Instant.class),
+	new ObjectStreamField("temperatureMax", Double.class),
+	new ObjectStreamField("temperatureMaxTime", Instant.class),
+	new ObjectStreamField("apparentTemperatureMin", Double.class),
+	new ObjectStreamField("apparentTemperatureMinTime", Instant.class),
+	new ObjectStreamField("apparentTemperatureMax", Double.class),
+	new ObjectStreamField("apparentTemperatureMaxTime", Instant.class),
+	new ObjectStreamField("dewPoint", Double.class),
+	new ObjectStreamField("humidity", Double.class),
+	new ObjectStreamField("pressure", Double.class),
+	new ObjectStreamField("windSpeed", Double.class),
+	new ObjectStreamField("windGust", Double.class),
+	new ObjectStreamField("windGustTime", Instant.class),
+	new ObjectStreamField("windBearing", Integer.class),
+	new ObjectStreamField("cloudCover", Double.class),
+	new ObjectStreamField("uvIndex", Integer.class),
+	new ObjectStreamField("uvIndexTime", Instant.class),
+	new ObjectStreamField("visibility", Double.class),
+	new ObjectStreamField("ozone", Double.class)
+    };
+
+    private long time = EpochSeconds.NONE;
     private String summary;
     private String icon;
-    private Instant sunriseTime;
-    private Instant sunsetTime;
-    private Double moonPhase;
-    private Double precipIntensity;
-    private Double precipIntensityMax;
-    private Double precipProbability;
-    private Instant precipIntensityMaxTime;
-    private Double precipAccumulation;
+    private long sunriseTime = EpochSeconds.NONE;
+    private long sunsetTime = EpochSeconds.NONE;
+    private double moonPhase = DoubleValues.NONE;
+    private double precipIntensity = DoubleValues.NONE;
+    private double precipIntensityMax = DoubleValues.NONE;
+    private double precipProbability = DoubleValues.NONE;
+    private long precipIntensityMaxTime = EpochSeconds.NONE;
+    private double precipAccumulation = DoubleValues.NONE;
     private String precipType;
-    private Double temperatureHigh;
-    private Instant temperatureHighTime;
-    private Double temperatureLow;
-    private Instant temperatureLowTime;
-    private Double apparentTemperatureHigh;
-    private Instant apparentTemperatureHighTime;
-    private Double apparentTemperatureLow;
-    private Instant apparentTemperatureLowTime;
-    private Double temperatureMin;
-    private Instant temperatureMinTime;
-    private Double temperatureMax;
-    private Instant temperatureMaxTime;
-    private Double apparentTemperatureMin;
-    private Instant apparentTemperatureMinTime;
-    private Double apparentTemperatureMax;
-    private Instant apparentTemperatureMaxTime;
-    private Double dewPoint;
-    private Double humidity;
-    private Double pressure;
-    private Double windSpeed;
-    private Double windGust;
-    private Instant windGustTime;
-    private Integer windBearing;
-    private Double cloudCover;
-    private Integer uvIndex;
-    private Instant uvIndexTime;
-    private Double visibility;
-    private Double ozone;
+    private double temperatureHigh = DoubleValues.NONE;
+    private long temperatureHighTime = EpochSeconds.NONE;
+    private double temperatureLow = DoubleValues.NONE;
+    private long temperatureLowTime = EpochSeconds.NONE;
+    private double apparentTemperatureHigh = DoubleValues.NONE;
+    private long apparentTemperatureHighTime = EpochSeconds.NONE;
+    private double apparentTemperatureLow = DoubleValues.NONE;
+    private long apparentTemperatureLowTime = EpochSeconds.NONE;
+    private double temperatureMin = DoubleValues.NONE;
+    private long temperatureMinTime = EpochSeconds.NONE;
+    private double temperatureMax = DoubleValues.NONE;
+    private long temperatureMaxTime = EpochSeconds.NONE;
+    private double apparentTemperatureMin = DoubleValues.NONE;
+    private long apparentTemperatureMinTime = EpochSeconds.NONE;
+    private double apparentTemperatureMax = DoubleValues.NONE;
+    private long apparentTemperatureMaxTime = EpochSeconds.NONE;
+    private double dewPoint = DoubleValues.NONE;
+    private double humidity = DoubleValues.NONE;
+    private double pressure = DoubleValues.NONE;
+    private double windSpeed = DoubleValues.NONE;
+    private double windGust = DoubleValues.NONE;
+    private long windGustTime = EpochSeconds.NONE;
+    private int windBearing = IntegerValues.NONE;
+    private double cloudCover = DoubleValues.NONE;
+    private int uvIndex = IntegerValues.NONE;
+    private long uvIndexTime = EpochSeconds.NONE;
+    private double visibility = DoubleValues.NONE;
+    private transient volatile boolean frozen;
+    private double ozone = DoubleValues.NONE;
 
     /**
      * @return The UNIX time at which this data point begins. minutely data point are always aligned to the top of the minute, hourly data point
      * objects to the top of the hour, and daily data point objects to midnight of the day, all according to the local time zone.
      */
     public Instant getTime() {
-	return time;
+	return EpochSeconds.instant(time);
     }
 
     /**
@@ -88,6 +144,22 @@ public class DailyDataPoint implements Serializable {
      * objects to the top of the hour, and daily data point objects to midnight of the day, all according to the local time zone.
      */
     public void setTime(Instant time) {
+	Frozen.check(frozen);
+	this.time = EpochSeconds.of(time);
+    }
+
+    /**
+     * @return The time of {@link #getTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long timeEpochSecond() {
+	return time;
+    }
+
+    /**
+     * @param time The time of {@link #setTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void timeEpochSecond(long time) {
+	Frozen.check(frozen);
 	this.time = time;
     }
 
@@ -103,8 +175,10 @@ public class DailyDataPoint implements Serializable {
      * @param summary A human-readable text summary of this data point. (This property has millions of possible values, so don’t use it for automated
      * purposes: use the icon property, instead!)
      */
+    @Interned
     public void setSummary(String summary) {
-	this.summary = summary;
+	Frozen.check(frozen);
+	this.summary = StringTable.shared().intern(summary);
     }
 
     /**
@@ -122,8 +196,17 @@ public class DailyDataPoint implements Serializable {
      * (Developers should ensure that a sensible default is defined, as additional values, such as hail, thunderstorm, or tornado, may be defined in
      * the future.)
      */
+    @Interned
     public void setIcon(String icon) {
-	this.icon = icon;
+	Frozen.check(frozen);
+	this.icon = Icon.intern(icon);
+    }
+
+    /**
+     * @return The icon as enum or null if it is not set or not known to this library (see {@link #getIcon()}).
+     */
+    public Icon icon() {
+	return Icon.of(icon);
     }
 
     /**
@@ -131,7 +214,7 @@ public class DailyDataPoint implements Serializable {
      * probability (that is, assuming any precipitation occurs at all) for minutely data points, and unconditional otherwise.
      */
     public Double getPrecipIntensity() {
-	return precipIntensity;
+	return DoubleValues.boxed(precipIntensity);
     }
 
     /**
@@ -139,6 +222,22 @@ public class DailyDataPoint implements Serializable {
      * conditional on probability (that is, assuming any precipitation occurs at all) for minutely data points, and unconditional otherwise.
      */
     public void setPrecipIntensity(Double precipIntensity) {
+	Frozen.check(frozen);
+	this.precipIntensity = DoubleValues.of(precipIntensity);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipIntensity()} without boxing or NaN if it is not set.
+     */
+    public double precipIntensityAsDouble() {
+	return precipIntensity;
+    }
+
+    /**
+     * @param precipIntensity The value of {@link #setPrecipIntensity(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipIntensityAsDouble(double precipIntensity) {
+	Frozen.check(frozen);
 	this.precipIntensity = precipIntensity;
     }
 
@@ -146,13 +245,29 @@ public class DailyDataPoint implements Serializable {
      * @return The probability of precipitation occurring, between 0 and 1, inclusive.
      */
     public Double getPrecipProbability() {
-	return precipProbability;
+	return DoubleValues.boxed(precipProbability);
     }
 
     /**
      * @param precipProbability The probability of precipitation occurring, between 0 and 1, inclusive.
      */
     public void setPrecipProbability(Double precipProbability) {
+	Frozen.check(frozen);
+	this.precipProbability = DoubleValues.of(precipProbability);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipProbability()} without boxing or NaN if it is not set.
+     */
+    public double precipProbabilityAsDouble() {
+	return precipProbability;
+    }
+
+    /**
+     * @param precipProbability The value of {@link #setPrecipProbability(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipProbabilityAsDouble(double precipProbability) {
+	Frozen.check(frozen);
 	this.precipProbability = precipProbability;
     }
 
@@ -160,13 +275,29 @@ public class DailyDataPoint implements Serializable {
      * @return The dew point in degrees Fahrenheit.
      */
     public Double getDewPoint() {
-	return dewPoint;
+	return DoubleValues.boxed(dewPoint);
     }
 
     /**
      * @param dewPoint The dew point in degrees Fahrenheit.
      */
     public void setDewPoint(Double dewPoint) {
+	Frozen.check(frozen);
+	this.dewPoint = DoubleValues.of(dewPoint);
+    }
+
+    /**
+     * @return The value of {@link #getDewPoint()} without boxing or NaN if it is not set.
+     */
+    public double dewPointAsDouble() {
+	return dewPoint;
+    }
+
+    /**
+     * @param dewPoint The value of {@link #setDewPoint(java.lang.Double)}, NaN if it is not set.
+     */
+    public void dewPointAsDouble(double dewPoint) {
+	Frozen.check(frozen);
 	this.dewPoint = dewPoint;
     }
 
@@ -174,13 +305,29 @@ public class DailyDataPoint implements Serializable {
      * @return The relative humidity, between 0 and 1, inclusive.
      */
     public Double getHumidity() {
-	return humidity;
+	return DoubleValues.boxed(humidity);
     }
 
     /**
      * @param humidity The relative humidity, between 0 and 1, inclusive.
      */
     public void setHumidity(Double humidity) {
+	Frozen.check(frozen);
+	this.humidity = DoubleValues.of(humidity);
+    }
+
+    /**
+     * @return The value of {@link #getHumidity()} without boxing or NaN if it is not set.
+     */
+    public double humidityAsDouble() {
+	return humidity;
+    }
+
+    /**
+     * @param humidity The value of {@link #setHumidity(java.lang.Double)}, NaN if it is not set.
+     */
+    public void humidityAsDouble(double humidity) {
+	Frozen.check(frozen);
 	this.humidity = humidity;
     }
 
@@ -188,13 +335,29 @@ public class DailyDataPoint implements Serializable {
      * @return The wind speed in miles per hour.
      */
     public Double getWindSpeed() {
-	return windSpeed;
+	return DoubleValues.boxed(windSpeed);
     }
 
     /**
      * @param windSpeed The wind speed in miles per hour.
      */
     public void setWindSpeed(Double windSpeed) {
+	Frozen.check(frozen);
+	this.windSpeed = DoubleValues.of(windSpeed);
+    }
+
+    /**
+     * @return The value of {@link #getWindSpeed()} without boxing or NaN if it is not set.
+     */
+    public double windSpeedAsDouble() {
+	return windSpeed;
+    }
+
+    /**
+     * @param windSpeed The value of {@link #setWindSpeed(java.lang.Double)}, NaN if it is not set.
+     */
+    public void windSpeedAsDouble(double windSpeed) {
+	Frozen.check(frozen);
 	this.windSpeed = windSpeed;
     }
 
@@ -203,7 +366,7 @@ public class DailyDataPoint implements Serializable {
      * this value will not be defined.)
      */
     public Integer getWindBearing() {
-	return windBearing;
+	return IntegerValues.boxed(windBearing);
     }
 
     /**
@@ -211,6 +374,22 @@ public class DailyDataPoint implements Serializable {
      * zero, then this value will not be defined.)
      */
     public void setWindBearing(Integer windBearing) {
+	Frozen.check(frozen);
+	this.windBearing = IntegerValues.of(windBearing);
+    }
+
+    /**
+     * @return The value of {@link #getWindBearing()} without boxing or {@link Integer#MIN_VALUE} if it is not set.
+     */
+    public int windBearingAsInt() {
+	return windBearing;
+    }
+
+    /**
+     * @param windBearing The value of {@link #setWindBearing(java.lang.Integer)}, {@link Integer#MIN_VALUE} if it is not set.
+     */
+    public void windBearingAsInt(int windBearing) {
+	Frozen.check(frozen);
 	this.windBearing = windBearing;
     }
 
@@ -218,13 +397,29 @@ public class DailyDataPoint implements Serializable {
      * @return The percentage of sky occluded by clouds, between 0 and 1, inclusive.
      */
     public Double getCloudCover() {
-	return cloudCover;
+	return DoubleValues.boxed(cloudCover);
     }
 
     /**
      * @param cloudCover The percentage of sky occluded by clouds, between 0 and 1, inclusive.
      */
     public void setCloudCover(Double cloudCover) {
+	Frozen.check(frozen);
+	this.cloudCover = DoubleValues.of(cloudCover);
+    }
+
+    /**
+     * @return The value of {@link #getCloudCover()} without boxing or NaN if it is not set.
+     */
+    public double cloudCoverAsDouble() {
+	return cloudCover;
+    }
+
+    /**
+     * @param cloudCover The value of {@link #setCloudCover(java.lang.Double)}, NaN if it is not set.
+     */
+    public void cloudCoverAsDouble(double cloudCover) {
+	Frozen.check(frozen);
 	this.cloudCover = cloudCover;
     }
 
@@ -232,13 +427,29 @@ public class DailyDataPoint implements Serializable {
      * @return The columnar density of total atmospheric ozone at the given time in Dobson units.
      */
     public Double getOzone() {
-	return ozone;
+	return DoubleValues.boxed(ozone);
     }
 
     /**
      * @param ozone The columnar density of total atmospheric ozone at the given time in Dobson units.
      */
     public void setOzone(Double ozone) {
+	Frozen.check(frozen);
+	this.ozone = DoubleValues.of(ozone);
+    }
+
+    /**
+     * @return The value of {@link #getOzone()} without boxing or NaN if it is not set.
+     */
+    public double ozoneAsDouble() {
+	return ozone;
+    }
+
+    /**
+     * @param ozone The value of {@link #setOzone(java.lang.Double)}, NaN if it is not set.
+     */
+    public void ozoneAsDouble(double ozone) {
+	Frozen.check(frozen);
 	this.ozone = ozone;
     }
 
@@ -246,13 +457,29 @@ public class DailyDataPoint implements Serializable {
      * @return The sea-level air pressure in millibars.
      */
     public Double getPressure() {
-	return pressure;
+	return DoubleValues.boxed(pressure);
     }
 
     /**
      * @param pressure The sea-level air pressure in millibars.
      */
     public void setPressure(Double pressure) {
+	Frozen.check(frozen);
+	this.pressure = DoubleValues.of(pressure);
+    }
+
+    /**
+     * @return The value of {@link #getPressure()} without boxing or NaN if it is not set.
+     */
+    public double pressureAsDouble() {
+	return pressure;
+    }
+
+    /**
+     * @param pressure The value of {@link #setPressure(java.lang.Double)}, NaN if it is not set.
+     */
+    public void pressureAsDouble(double pressure) {
+	Frozen.check(frozen);
 	this.pressure = pressure;
     }
 
@@ -270,21 +497,46 @@ public class DailyDataPoint implements Serializable {
      * "rain", "snow", or "sleet" (which refers to each of freezing rain, ice pellets, and “wintery mix”). (If precipIntensity is zero, then this
      * property will not be defined.)
      */
+    @Interned
     public void setPrecipType(String precipType) {
-	this.precipType = precipType;
+	Frozen.check(frozen);
+	this.precipType = PrecipType.intern(precipType);
+    }
+
+    /**
+     * @return The type of precipitation as enum or null if it is not set or not known to this library (see {@link #getPrecipType()}).
+     */
+    public PrecipType precipType() {
+	return PrecipType.of(precipType);
     }
 
     /**
      * @return The average visibility in miles, capped at 10 miles.
      */
     public Double getVisibility() {
-	return visibility;
+	return DoubleValues.boxed(visibility);
     }
 
     /**
      * @param visibility The average visibility in miles, capped at 10 miles.
      */
     public void setVisibility(Double visibility) {
+	Frozen.check(frozen);
+	this.visibility = DoubleValues.of(visibility);
+    }
+
+    /**
+     * @return The value of {@link #getVisibility()} without boxing or NaN if it is not set.
+     */
+    public double visibilityAsDouble() {
+	return visibility;
+    }
+
+    /**
+     * @param visibility The value of {@link #setVisibility(java.lang.Double)}, NaN if it is not set.
+     */
+    public void visibilityAsDouble(double visibility) {
+	Frozen.check(frozen);
 	this.visibility = visibility;
     }
 
@@ -292,13 +544,29 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time of when the sun will rise during a given day.
      */
     public Instant getSunriseTime() {
-	return sunriseTime;
+	return EpochSeconds.instant(sunriseTime);
     }
 
     /**
      * @param sunriseTime The UNIX time of when the sun will rise during a given day.
      */
     public void setSunriseTime(Instant sunriseTime) {
+	Frozen.check(frozen);
+	this.sunriseTime = EpochSeconds.of(sunriseTime);
+    }
+
+    /**
+     * @return The time of {@link #getSunriseTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long sunriseTimeEpochSecond() {
+	return sunriseTime;
+    }
+
+    /**
+     * @param sunriseTime The time of {@link #setSunriseTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void sunriseTimeEpochSecond(long sunriseTime) {
+	Frozen.check(frozen);
 	this.sunriseTime = sunriseTime;
     }
 
@@ -306,13 +574,29 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time of when the sun will set during a given day.
      */
     public Instant getSunsetTime() {
-	return sunsetTime;
+	return EpochSeconds.instant(sunsetTime);
     }
 
     /**
      * @param sunsetTime The UNIX time of when the sun will set during a given day.
      */
     public void setSunsetTime(Instant sunsetTime) {
+	Frozen.check(frozen);
+	this.sunsetTime = EpochSeconds.of(sunsetTime);
+    }
+
+    /**
+     * @return The time of {@link #getSunsetTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long sunsetTimeEpochSecond() {
+	return sunsetTime;
+    }
+
+    /**
+     * @param sunsetTime The time of {@link #setSunsetTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void sunsetTimeEpochSecond(long sunsetTime) {
+	Frozen.check(frozen);
 	this.sunsetTime = sunsetTime;
     }
 
@@ -322,7 +606,7 @@ public class DailyDataPoint implements Serializable {
      * and waning crescent moons, respectively.)
      */
     public Double getMoonPhase() {
-	return moonPhase;
+	return DoubleValues.boxed(moonPhase);
     }
 
     /**
@@ -331,6 +615,22 @@ public class DailyDataPoint implements Serializable {
      * waning gibbous, and waning crescent moons, respectively.)
      */
     public void setMoonPhase(Double moonPhase) {
+	Frozen.check(frozen);
+	this.moonPhase = DoubleValues.of(moonPhase);
+    }
+
+    /**
+     * @return The value of {@link #getMoonPhase()} without boxing or NaN if it is not set.
+     */
+    public double moonPhaseAsDouble() {
+	return moonPhase;
+    }
+
+    /**
+     * @param moonPhase The value of {@link #setMoonPhase(java.lang.Double)}, NaN if it is not set.
+     */
+    public void moonPhaseAsDouble(double moonPhase) {
+	Frozen.check(frozen);
 	this.moonPhase = moonPhase;
     }
 
@@ -338,13 +638,29 @@ public class DailyDataPoint implements Serializable {
      * @return The maximum value of precipIntensity during a given day.
      */
     public Double getPrecipIntensityMax() {
-	return precipIntensityMax;
+	return DoubleValues.boxed(precipIntensityMax);
     }
 
     /**
      * @param precipIntensityMax The maximum value of precipIntensity during a given day.
      */
     public void setPrecipIntensityMax(Double precipIntensityMax) {
+	Frozen.check(frozen);
+	this.precipIntensityMax = DoubleValues.of(precipIntensityMax);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipIntensityMax()} without boxing or NaN if it is not set.
+     */
+    public double precipIntensityMaxAsDouble() {
+	return precipIntensityMax;
+    }
+
+    /**
+     * @param precipIntensityMax The value of {@link #setPrecipIntensityMax(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipIntensityMaxAsDouble(double precipIntensityMax) {
+	Frozen.check(frozen);
 	this.precipIntensityMax = precipIntensityMax;
     }
 
@@ -354,7 +670,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Double getTemperatureMin() {
-	return temperatureMin;
+	return DoubleValues.boxed(temperatureMin);
     }
 
     /**
@@ -363,6 +679,26 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setTemperatureMin(Double temperatureMin) {
+	Frozen.check(frozen);
+	this.temperatureMin = DoubleValues.of(temperatureMin);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureLowAsDouble()} instead.
+     * @return The value of {@link #getTemperatureMin()} without boxing or NaN if it is not set.
+     */
+    @Deprecated
+    public double temperatureMinAsDouble() {
+	return temperatureMin;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureLowAsDouble(double)} instead.
+     * @param temperatureMin The value of {@link #setTemperatureMin(java.lang.Double)}, NaN if it is not set.
+     */
+    @Deprecated
+    public void temperatureMinAsDouble(double temperatureMin) {
+	Frozen.check(frozen);
 	this.temperatureMin = temperatureMin;
     }
 
@@ -372,7 +708,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Instant getTemperatureMinTime() {
-	return temperatureMinTime;
+	return EpochSeconds.instant(temperatureMinTime);
     }
 
     /**
@@ -381,6 +717,27 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setTemperatureMinTime(Instant temperatureMinTime) {
+	Frozen.check(frozen);
+	this.temperatureMinTime = EpochSeconds.of(temperatureMinTime);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureLowTimeEpochSecond()} instead.
+     * @return The time of {@link #getTemperatureMinTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    @Deprecated
+    public long temperatureMinTimeEpochSecond() {
+	return temperatureMinTime;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureLowTimeEpochSecond(long)} instead.
+     * @param temperatureMinTime The time of {@link #setTemperatureMinTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if
+     * it is not set.
+     */
+    @Deprecated
+    public void temperatureMinTimeEpochSecond(long temperatureMinTime) {
+	Frozen.check(frozen);
 	this.temperatureMinTime = temperatureMinTime;
     }
 
@@ -390,7 +747,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Double getTemperatureMax() {
-	return temperatureMax;
+	return DoubleValues.boxed(temperatureMax);
     }
 
     /**
@@ -399,6 +756,26 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setTemperatureMax(Double temperatureMax) {
+	Frozen.check(frozen);
+	this.temperatureMax = DoubleValues.of(temperatureMax);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureHighAsDouble()} instead.
+     * @return The value of {@link #getTemperatureMax()} without boxing or NaN if it is not set.
+     */
+    @Deprecated
+    public double temperatureMaxAsDouble() {
+	return temperatureMax;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureHighAsDouble(double)} instead.
+     * @param temperatureMax The value of {@link #setTemperatureMax(java.lang.Double)}, NaN if it is not set.
+     */
+    @Deprecated
+    public void temperatureMaxAsDouble(double temperatureMax) {
+	Frozen.check(frozen);
 	this.temperatureMax = temperatureMax;
     }
 
@@ -408,7 +785,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Instant getTemperatureMaxTime() {
-	return temperatureMaxTime;
+	return EpochSeconds.instant(temperatureMaxTime);
     }
 
     /**
@@ -417,6 +794,27 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setTemperatureMaxTime(Instant temperatureMaxTime) {
+	Frozen.check(frozen);
+	this.temperatureMaxTime = EpochSeconds.of(temperatureMaxTime);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureHighTimeEpochSecond()} instead.
+     * @return The time of {@link #getTemperatureMaxTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    @Deprecated
+    public long temperatureMaxTimeEpochSecond() {
+	return temperatureMaxTime;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #temperatureHighTimeEpochSecond(long)} instead.
+     * @param temperatureMaxTime The time of {@link #setTemperatureMaxTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if
+     * it is not set.
+     */
+    @Deprecated
+    public void temperatureMaxTimeEpochSecond(long temperatureMaxTime) {
+	Frozen.check(frozen);
 	this.temperatureMaxTime = temperatureMaxTime;
     }
 
@@ -426,7 +824,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Double getApparentTemperatureMin() {
-	return apparentTemperatureMin;
+	return DoubleValues.boxed(apparentTemperatureMin);
     }
 
     /**
@@ -435,6 +833,26 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setApparentTemperatureMin(Double apparentTemperatureMin) {
+	Frozen.check(frozen);
+	this.apparentTemperatureMin = DoubleValues.of(apparentTemperatureMin);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureLowAsDouble()} instead.
+     * @return The value of {@link #getApparentTemperatureMin()} without boxing or NaN if it is not set.
+     */
+    @Deprecated
+    public double apparentTemperatureMinAsDouble() {
+	return apparentTemperatureMin;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureLowAsDouble(double)} instead.
+     * @param apparentTemperatureMin The value of {@link #setApparentTemperatureMin(java.lang.Double)}, NaN if it is not set.
+     */
+    @Deprecated
+    public void apparentTemperatureMinAsDouble(double apparentTemperatureMin) {
+	Frozen.check(frozen);
 	this.apparentTemperatureMin = apparentTemperatureMin;
     }
 
@@ -444,7 +862,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Instant getApparentTemperatureMinTime() {
-	return apparentTemperatureMinTime;
+	return EpochSeconds.instant(apparentTemperatureMinTime);
     }
 
     /**
@@ -453,6 +871,27 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setApparentTemperatureMinTime(Instant apparentTemperatureMinTime) {
+	Frozen.check(frozen);
+	this.apparentTemperatureMinTime = EpochSeconds.of(apparentTemperatureMinTime);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureLowTimeEpochSecond()} instead.
+     * @return The time of {@link #getApparentTemperatureMinTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    @Deprecated
+    public long apparentTemperatureMinTimeEpochSecond() {
+	return apparentTemperatureMinTime;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureLowTimeEpochSecond(long)} instead.
+     * @param apparentTemperatureMinTime The time of {@link #setApparentTemperatureMinTime(java.time.Instant)} in seconds since the epoch,
+     * {@link Long#MIN_VALUE} if it is not set.
+     */
+    @Deprecated
+    public void apparentTemperatureMinTimeEpochSecond(long apparentTemperatureMinTime) {
+	Frozen.check(frozen);
 	this.apparentTemperatureMinTime = apparentTemperatureMinTime;
     }
 
@@ -462,7 +901,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Double getApparentTemperatureMax() {
-	return apparentTemperatureMax;
+	return DoubleValues.boxed(apparentTemperatureMax);
     }
 
     /**
@@ -471,6 +910,26 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setApparentTemperatureMax(Double apparentTemperatureMax) {
+	Frozen.check(frozen);
+	this.apparentTemperatureMax = DoubleValues.of(apparentTemperatureMax);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureHighAsDouble()} instead.
+     * @return The value of {@link #getApparentTemperatureMax()} without boxing or NaN if it is not set.
+     */
+    @Deprecated
+    public double apparentTemperatureMaxAsDouble() {
+	return apparentTemperatureMax;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureHighAsDouble(double)} instead.
+     * @param apparentTemperatureMax The value of {@link #setApparentTemperatureMax(java.lang.Double)}, NaN if it is not set.
+     */
+    @Deprecated
+    public void apparentTemperatureMaxAsDouble(double apparentTemperatureMax) {
+	Frozen.check(frozen);
 	this.apparentTemperatureMax = apparentTemperatureMax;
     }
 
@@ -480,7 +939,7 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public Instant getApparentTemperatureMaxTime() {
-	return apparentTemperatureMaxTime;
+	return EpochSeconds.instant(apparentTemperatureMaxTime);
     }
 
     /**
@@ -489,6 +948,27 @@ public class DailyDataPoint implements Serializable {
      */
     @Deprecated
     public void setApparentTemperatureMaxTime(Instant apparentTemperatureMaxTime) {
+	Frozen.check(frozen);
+	this.apparentTemperatureMaxTime = EpochSeconds.of(apparentTemperatureMaxTime);
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureHighTimeEpochSecond()} instead.
+     * @return The time of {@link #getApparentTemperatureMaxTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    @Deprecated
+    public long apparentTemperatureMaxTimeEpochSecond() {
+	return apparentTemperatureMaxTime;
+    }
+
+    /**
+     * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureHighTimeEpochSecond(long)} instead.
+     * @param apparentTemperatureMaxTime The time of {@link #setApparentTemperatureMaxTime(java.time.Instant)} in seconds since the epoch,
+     * {@link Long#MIN_VALUE} if it is not set.
+     */
+    @Deprecated
+    public void apparentTemperatureMaxTimeEpochSecond(long apparentTemperatureMaxTime) {
+	Frozen.check(frozen);
 	this.apparentTemperatureMaxTime = apparentTemperatureMaxTime;
     }
 
@@ -496,13 +976,29 @@ public class DailyDataPoint implements Serializable {
      * @return The overnight low temperature.
      */
     public Double getTemperatureLow() {
-	return temperatureLow;
+	return DoubleValues.boxed(temperatureLow);
     }
 
     /**
      * @param temperatureLow The overnight low temperature.
      */
     public void setTemperatureLow(Double temperatureLow) {
+	Frozen.check(frozen);
+	this.temperatureLow = DoubleValues.of(temperatureLow);
+    }
+
+    /**
+     * @return The value of {@link #getTemperatureLow()} without boxing or NaN if it is not set.
+     */
+    public double temperatureLowAsDouble() {
+	return temperatureLow;
+    }
+
+    /**
+     * @param temperatureLow The value of {@link #setTemperatureLow(java.lang.Double)}, NaN if it is not set.
+     */
+    public void temperatureLowAsDouble(double temperatureLow) {
+	Frozen.check(frozen);
 	this.temperatureLow = temperatureLow;
     }
 
@@ -510,13 +1006,30 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time representing when the overnight low temperature occurs.
      */
     public Instant getTemperatureLowTime() {
-	return temperatureLowTime;
+	return EpochSeconds.instant(temperatureLowTime);
     }
 
     /**
      * @param temperatureLowTime The UNIX time representing when the overnight low temperature occurs.
      */
     public void setTemperatureLowTime(Instant temperatureLowTime) {
+	Frozen.check(frozen);
+	this.temperatureLowTime = EpochSeconds.of(temperatureLowTime);
+    }
+
+    /**
+     * @return The time of {@link #getTemperatureLowTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long temperatureLowTimeEpochSecond() {
+	return temperatureLowTime;
+    }
+
+    /**
+     * @param temperatureLowTime The time of {@link #setTemperatureLowTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if
+     * it is not set.
+     */
+    public void temperatureLowTimeEpochSecond(long temperatureLowTime) {
+	Frozen.check(frozen);
 	this.temperatureLowTime = temperatureLowTime;
     }
 
@@ -524,13 +1037,29 @@ public class DailyDataPoint implements Serializable {
      * @return The daytime high temperature.
      */
     public Double getTemperatureHigh() {
-	return temperatureHigh;
+	return DoubleValues.boxed(temperatureHigh);
     }
 
     /**
      * @param temperatureHigh The daytime high temperature.
      */
     public void setTemperatureHigh(Double temperatureHigh) {
+	Frozen.check(frozen);
+	this.temperatureHigh = DoubleValues.of(temperatureHigh);
+    }
+
+    /**
+     * @return The value of {@link #getTemperatureHigh()} without boxing or NaN if it is not set.
+     */
+    public double temperatureHighAsDouble() {
+	return temperatureHigh;
+    }
+
+    /**
+     * @param temperatureHigh The value of {@link #setTemperatureHigh(java.lang.Double)}, NaN if it is not set.
+     */
+    public void temperatureHighAsDouble(double temperatureHigh) {
+	Frozen.check(frozen);
 	this.temperatureHigh = temperatureHigh;
     }
 
@@ -538,13 +1067,30 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time representing when the daytime high temperature occurs.
      */
     public Instant getTemperatureHighTime() {
-	return temperatureHighTime;
+	return EpochSeconds.instant(temperatureHighTime);
     }
 
     /**
      * @param temperatureHighTime The UNIX time representing when the daytime high temperature occurs.
      */
     public void setTemperatureHighTime(Instant temperatureHighTime) {
+	Frozen.check(frozen);
+	this.temperatureHighTime = EpochSeconds.of(temperatureHighTime);
+    }
+
+    /**
+     * @return The time of {@link #getTemperatureHighTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long temperatureHighTimeEpochSecond() {
+	return temperatureHighTime;
+    }
+
+    /**
+     * @param temperatureHighTime The time of {@link #setTemperatureHighTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE}
+     * if it is not set.
+     */
+    public void temperatureHighTimeEpochSecond(long temperatureHighTime) {
+	Frozen.check(frozen);
 	this.temperatureHighTime = temperatureHighTime;
     }
 
@@ -552,13 +1098,29 @@ public class DailyDataPoint implements Serializable {
      * @return The overnight low apparent temperature.
      */
     public Double getApparentTemperatureLow() {
-	return apparentTemperatureLow;
+	return DoubleValues.boxed(apparentTemperatureLow);
     }
 
     /**
      * @param apparentTemperatureLow The overnight low apparent temperature.
      */
     public void setApparentTemperatureLow(Double apparentTemperatureLow) {
+	Frozen.check(frozen);
+	this.apparentTemperatureLow = DoubleValues.of(apparentTemperatureLow);
+    }
+
+    /**
+     * @return The value of {@link #getApparentTemperatureLow()} without boxing or NaN if it is not set.
+     */
+    public double apparentTemperatureLowAsDouble() {
+	return apparentTemperatureLow;
+    }
+
+    /**
+     * @param apparentTemperatureLow The value of {@link #setApparentTemperatureLow(java.lang.Double)}, NaN if it is not set.
+     */
+    public void apparentTemperatureLowAsDouble(double apparentTemperatureLow) {
+	Frozen.check(frozen);
 	this.apparentTemperatureLow = apparentTemperatureLow;
     }
 
@@ -566,13 +1128,30 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time representing when the overnight low apparent temperature occurs.
      */
     public Instant getApparentTemperatureLowTime() {
-	return apparentTemperatureLowTime;
+	return EpochSeconds.instant(apparentTemperatureLowTime);
     }
 
     /**
      * @param apparentTemperatureLowTime The UNIX time representing when the overnight low apparent temperature occurs.
      */
     public void setApparentTemperatureLowTime(Instant apparentTemperatureLowTime) {
+	Frozen.check(frozen);
+	this.apparentTemperatureLowTime = EpochSeconds.of(apparentTemperatureLowTime);
+    }
+
+    /**
+     * @return The time of {@link #getApparentTemperatureLowTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long apparentTemperatureLowTimeEpochSecond() {
+	return apparentTemperatureLowTime;
+    }
+
+    /**
+     * @param apparentTemperatureLowTime The time of {@link #setApparentTemperatureLowTime(java.time.Instant)} in seconds since the epoch,
+     * {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void apparentTemperatureLowTimeEpochSecond(long apparentTemperatureLowTime) {
+	Frozen.check(frozen);
 	this.apparentTemperatureLowTime = apparentTemperatureLowTime;
     }
 
@@ -580,13 +1159,29 @@ public class DailyDataPoint implements Serializable {
      * @return The daytime high apparent temperature.
      */
     public Double getApparentTemperatureHigh() {
-	return apparentTemperatureHigh;
+	return DoubleValues.boxed(apparentTemperatureHigh);
     }
 
     /**
      * @param apparentTemperatureHigh The daytime high apparent temperature.
      */
     public void setApparentTemperatureHigh(Double apparentTemperatureHigh) {
+	Frozen.check(frozen);
+	this.apparentTemperatureHigh = DoubleValues.of(apparentTemperatureHigh);
+    }
+
+    /**
+     * @return The value of {@link #getApparentTemperatureHigh()} without boxing or NaN if it is not set.
+     */
+    public double apparentTemperatureHighAsDouble() {
+	return apparentTemperatureHigh;
+    }
+
+    /**
+     * @param apparentTemperatureHigh The value of {@link #setApparentTemperatureHigh(java.lang.Double)}, NaN if it is not set.
+     */
+    public void apparentTemperatureHighAsDouble(double apparentTemperatureHigh) {
+	Frozen.check(frozen);
 	this.apparentTemperatureHigh = apparentTemperatureHigh;
     }
 
@@ -594,13 +1189,30 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time representing when the daytime high apparent temperature occurs.
      */
     public Instant getApparentTemperatureHighTime() {
-	return apparentTemperatureHighTime;
+	return EpochSeconds.instant(apparentTemperatureHighTime);
     }
 
     /**
      * @param apparentTemperatureHighTime The UNIX time representing when the daytime high apparent temperature occurs.
      */
     public void setApparentTemperatureHighTime(Instant apparentTemperatureHighTime) {
+	Frozen.check(frozen);
+	this.apparentTemperatureHighTime = EpochSeconds.of(apparentTemperatureHighTime);
+    }
+
+    /**
+     * @return The time of {@link #getApparentTemperatureHighTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long apparentTemperatureHighTimeEpochSecond() {
+	return apparentTemperatureHighTime;
+    }
+
+    /**
+     * @param apparentTemperatureHighTime The time of {@link #setApparentTemperatureHighTime(java.time.Instant)} in seconds since the epoch,
+     * {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void apparentTemperatureHighTimeEpochSecond(long apparentTemperatureHighTime) {
+	Frozen.check(frozen);
 	this.apparentTemperatureHighTime = apparentTemperatureHighTime;
     }
 
@@ -609,13 +1221,30 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time of when precipIntensityMax occurs during a given day.
      */
     public Instant getPrecipIntensityMaxTime() {
-	return precipIntensityMaxTime;
+	return EpochSeconds.instant(precipIntensityMaxTime);
     }
 
     /**
      * @param precipIntensityMaxTime The UNIX time of when precipIntensityMax occurs during a given day.
      */
     public void setPrecipIntensityMaxTime(Instant precipIntensityMaxTime) {
+	Frozen.check(frozen);
+	this.precipIntensityMaxTime = EpochSeconds.of(precipIntensityMaxTime);
+    }
+
+    /**
+     * @return The time of {@link #getPrecipIntensityMaxTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long precipIntensityMaxTimeEpochSecond() {
+	return precipIntensityMaxTime;
+    }
+
+    /**
+     * @param precipIntensityMaxTime The time of {@link #setPrecipIntensityMaxTime(java.time.Instant)} in seconds since the epoch,
+     * {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void precipIntensityMaxTimeEpochSecond(long precipIntensityMaxTime) {
+	Frozen.check(frozen);
 	this.precipIntensityMaxTime = precipIntensityMaxTime;
     }
 
@@ -623,7 +1252,7 @@ public class DailyDataPoint implements Serializable {
      * @return The amount of snowfall accumulation expected to occur, in inches. (If no snowfall is expected, this property will not be defined.)
      */
     public Double getPrecipAccumulation() {
-	return precipAccumulation;
+	return DoubleValues.boxed(precipAccumulation);
     }
 
     /**
@@ -631,6 +1260,22 @@ public class DailyDataPoint implements Serializable {
      * be defined.)
      */
     public void setPrecipAccumulation(Double precipAccumulation) {
+	Frozen.check(frozen);
+	this.precipAccumulation = DoubleValues.of(precipAccumulation);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipAccumulation()} without boxing or NaN if it is not set.
+     */
+    public double precipAccumulationAsDouble() {
+	return precipAccumulation;
+    }
+
+    /**
+     * @param precipAccumulation The value of {@link #setPrecipAccumulation(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipAccumulationAsDouble(double precipAccumulation) {
+	Frozen.check(frozen);
 	this.precipAccumulation = precipAccumulation;
     }
 
@@ -638,13 +1283,29 @@ public class DailyDataPoint implements Serializable {
      * @return The wind gust speed in miles per hour.
      */
     public Double getWindGust() {
-	return windGust;
+	return DoubleValues.boxed(windGust);
     }
 
     /**
      * @param windGust The wind gust speed in miles per hour.
      */
     public void setWindGust(Double windGust) {
+	Frozen.check(frozen);
+	this.windGust = DoubleValues.of(windGust);
+    }
+
+    /**
+     * @return The value of {@link #getWindGust()} without boxing or NaN if it is not set.
+     */
+    public double windGustAsDouble() {
+	return windGust;
+    }
+
+    /**
+     * @param windGust The value of {@link #setWindGust(java.lang.Double)}, NaN if it is not set.
+     */
+    public void windGustAsDouble(double windGust) {
+	Frozen.check(frozen);
 	this.windGust = windGust;
     }
 
@@ -652,13 +1313,30 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time of when the windGust occurs during a given day.
      */
     public Instant getWindGustTime() {
-	return windGustTime;
+	return EpochSeconds.instant(windGustTime);
     }
 
     /**
      * @param windGustTime The UNIX time of when the windGust occurs during a given day.
      */
     public void setWindGustTime(Instant windGustTime) {
+	Frozen.check(frozen);
+	this.windGustTime = EpochSeconds.of(windGustTime);
+    }
+
+    /**
+     * @return The time of {@link #getWindGustTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long windGustTimeEpochSecond() {
+	return windGustTime;
+    }
+
+    /**
+     * @param windGustTime The time of {@link #setWindGustTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not
+     * set.
+     */
+    public void windGustTimeEpochSecond(long windGustTime) {
+	Frozen.check(frozen);
 	this.windGustTime = windGustTime;
     }
 
@@ -666,13 +1344,29 @@ public class DailyDataPoint implements Serializable {
      * @return The UV index.
      */
     public Integer getUvIndex() {
-	return uvIndex;
+	return IntegerValues.boxed(uvIndex);
     }
 
     /**
      * @param uvIndex The UV index.
      */
     public void setUvIndex(Integer uvIndex) {
+	Frozen.check(frozen);
+	this.uvIndex = IntegerValues.of(uvIndex);
+    }
+
+    /**
+     * @return The value of {@link #getUvIndex()} without boxing or {@link Integer#MIN_VALUE} if it is not set.
+     */
+    public int uvIndexAsInt() {
+	return uvIndex;
+    }
+
+    /**
+     * @param uvIndex The value of {@link #setUvIndex(java.lang.Integer)}, {@link Integer#MIN_VALUE} if it is not set.
+     */
+    public void uvIndexAsInt(int uvIndex) {
+	Frozen.check(frozen);
 	this.uvIndex = uvIndex;
     }
 
@@ -680,59 +1374,148 @@ public class DailyDataPoint implements Serializable {
      * @return The UNIX time of when the maximum uvIndex occurs during a given day.
      */
     public Instant getUvIndexTime() {
-	return uvIndexTime;
+	return EpochSeconds.instant(uvIndexTime);
     }
 
     /**
      * @param uvIndexTime The UNIX time of when the maximum uvIndex occurs during a given day.
      */
     public void setUvIndexTime(Instant uvIndexTime) {
+	Frozen.check(frozen);
+	this.uvIndexTime = EpochSeconds.of(uvIndexTime);
+    }
+
+    /**
+     * @return The time of {@link #getUvIndexTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long uvIndexTimeEpochSecond() {
+	return uvIndexTime;
+    }
+
+    /**
+     * @param uvIndexTime The time of {@link #setUvIndexTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void uvIndexTimeEpochSecond(long uvIndexTime) {
+	Frozen.check(frozen);
 	this.uvIndexTime = uvIndexTime;
     }
 
+    /**
+     * Makes this data point immutable, see {@link Forecast#freeze()}.
+     *
+     * @return This data point.
+     */
+    public DailyDataPoint freeze() {
+	if (!frozen) {
+	    frozen = true;
+	}
+	return this;
+    }
+
+    /**
+     * @return True if this data point is frozen and cannot be changed.
+     */
+    public boolean frozen() {
+	return frozen;
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
+    }
+
+    /**
+     * Reads the default serialized form of earlier versions, current versions write the {@link SerialForm}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+	ObjectInputStream.GetField fields = in.readFields();
+	time = EpochSeconds.of((Instant) fields.get("time", null));
+	summary = (String) fields.get("summary", null);
+	icon = (String) fields.get("icon", null);
+	sunriseTime = EpochSeconds.of((Instant) fields.get("sunriseTime", null));
+	sunsetTime = EpochSeconds.of((Instant) fields.get("sunsetTime", null));
+	moonPhase = DoubleValues.of((Double) fields.get("moonPhase", null));
+	precipIntensity = DoubleValues.of((Double) fields.get("precipIntensity", null));
+	precipIntensityMax = DoubleValues.of((Double) fields.get("precipIntensityMax", null));
+	precipProbability = DoubleValues.of((Double) fields.get("precipProbability", null));
+	precipIntensityMaxTime = EpochSeconds.of((Instant) fields.get("precipIntensityMaxTime", null));
+	precipAccumulation = DoubleValues.of((Double) fields.get("precipAccumulation", null));
+	precipType = (String) fields.get("precipType", null);
+	temperatureHigh = DoubleValues.of((Double) fields.get("temperatureHigh", null));
+	temperatureHighTime = EpochSeconds.of((Instant) fields.get("temperatureHighTime", null));
+	temperatureLow = DoubleValues.of((Double) fields.get("temperatureLow", null));
+	temperatureLowTime = EpochSeconds.of((Instant) fields.get("temperatureLowTime", null));
+	apparentTemperatureHigh = DoubleValues.of((Double) fields.get("apparentTemperatureHigh", null));
+	apparentTemperatureHighTime = EpochSeconds.of((Instant) fields.get("apparentTemperatureHighTime", null));
+	apparentTemperatureLow = DoubleValues.of((Double) fields.get("apparentTemperatureLow", null));
+	apparentTemperatureLowTime = EpochSeconds.of((Instant) fields.get("apparentTemperatureLowTime", null));
+	temperatureMin = DoubleValues.of((Double) fields.get("temperatureMin", null));
+	temperatureMinTime = EpochSeconds.of((Instant) fields.get("temperatureMinTime", null));
+	temperatureMax = DoubleValues.of((Double) fields.get("temperatureMax", null));
+	temperatureMaxTime = EpochSeconds.of((Instant) fields.get("temperatureMaxTime", null));
+	apparentTemperatureMin = DoubleValues.of((Double) fields.get("apparentTemperatureMin", null));
+	apparentTemperatureMinTime = EpochSeconds.of((Instant) fields.get("apparentTemperatureMinTime", null));
+	apparentTemperatureMax = DoubleValues.of((Double) fields.get("apparentTemperatureMax", null));
+	apparentTemperatureMaxTime = EpochSeconds.of((Instant) fields.get("apparentTemperatureMaxTime", null));
+	dewPoint = DoubleValues.of((Double) fields.get("dewPoint", null));
+	humidity = DoubleValues.of((Double) fields.get("humidity", null));
+	pressure = DoubleValues.of((Double) fields.get("pressure", null));
+	windSpeed = DoubleValues.of((Double) fields.get("windSpeed", null));
+	windGust = DoubleValues.of((Double) fields.get("windGust", null));
+	windGustTime = EpochSeconds.of((Instant) fields.get("windGustTime", null));
+	windBearing = IntegerValues.of((Integer) fields.get("windBearing", null));
+	cloudCover = DoubleValues.of((Double) fields.get("cloudCover", null));
+	uvIndex = IntegerValues.of((Integer) fields.get("uvIndex", null));
+	uvIndexTime = EpochSeconds.of((Instant) fields.get("uvIndexTime", null));
+	visibility = DoubleValues.of((Double) fields.get("visibility", null));
+	ozone = DoubleValues.of((Double) fields.get("ozone", null));
+    }
+
     @Override
     public int hashCode() {
 	int hash = 7;
-	hash = 59 * hash + Objects.hashCode(this.time);
+	hash = 59 * hash + Long.hashCode(this.time);
 	hash = 59 * hash + Objects.hashCode(this.summary);
 	hash = 59 * hash + Objects.hashCode(this.icon);
-	hash = 59 * hash + Objects.hashCode(this.sunriseTime);
-	hash = 59 * hash + Objects.hashCode(this.sunsetTime);
-	hash = 59 * hash + Objects.hashCode(this.moonPhase);
-	hash = 59 * hash + Objects.hashCode(this.precipIntensity);
-	hash = 59 * hash + Objects.hashCode(this.precipIntensityMax);
-	hash = 59 * hash + Objects.hashCode(this.precipProbability);
-	hash = 59 * hash + Objects.hashCode(this.precipIntensityMaxTime);
-	hash = 59 * hash + Objects.hashCode(this.precipAccumulation);
+	hash = 59 * hash + Long.hashCode(this.sunriseTime);
+	hash = 59 * hash + Long.hashCode(this.sunsetTime);
+	hash = 59 * hash + Double.hashCode(this.moonPhase);
+	hash = 59 * hash + Double.hashCode(this.precipIntensity);
+	hash = 59 * hash + Double.hashCode(this.precipIntensityMax);
+	hash = 59 * hash + Double.hashCode(this.precipProbability);
+	hash = 59 * hash + Long.hashCode(this.precipIntensityMaxTime);
+	hash = 59 * hash + Double.hashCode(this.precipAccumulation);
 	hash = 59 * hash + Objects.hashCode(this.precipType);
-	hash = 59 * hash + Objects.hashCode(this.temperatureHigh);
-	hash = 59 * hash + Objects.hashCode(this.temperatureHighTime);
-	hash = 59 * hash + Objects.hashCode(this.temperatureLow);
-	hash = 59 * hash + Objects.hashCode(this.temperatureLowTime);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureHigh);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureHighTime);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureLow);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureLowTime);
-	hash = 59 * hash + Objects.hashCode(this.temperatureMin);
-	hash = 59 * hash + Objects.hashCode(this.temperatureMinTime);
-	hash = 59 * hash + Objects.hashCode(this.temperatureMax);
-	hash = 59 * hash + Objects.hashCode(this.temperatureMaxTime);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureMin);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureMinTime);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureMax);
-	hash = 59 * hash + Objects.hashCode(this.apparentTemperatureMaxTime);
-	hash = 59 * hash + Objects.hashCode(this.dewPoint);
-	hash = 59 * hash + Objects.hashCode(this.humidity);
-	hash = 59 * hash + Objects.hashCode(this.pressure);
-	hash = 59 * hash + Objects.hashCode(this.windSpeed);
-	hash = 59 * hash + Objects.hashCode(this.windGust);
-	hash = 59 * hash + Objects.hashCode(this.windGustTime);
-	hash = 59 * hash + Objects.hashCode(this.windBearing);
-	hash = 59 * hash + Objects.hashCode(this.cloudCover);
-	hash = 59 * hash + Objects.hashCode(this.uvIndex);
-	hash = 59 * hash + Objects.hashCode(this.uvIndexTime);
-	hash = 59 * hash + Objects.hashCode(this.visibility);
-	hash = 59 * hash + Objects.hashCode(this.ozone);
+	hash = 59 * hash + Double.hashCode(this.temperatureHigh);
+	hash = 59 * hash + Long.hashCode(this.temperatureHighTime);
+	hash = 59 * hash + Double.hashCode(this.temperatureLow);
+	hash = 59 * hash + Long.hashCode(this.temperatureLowTime);
+	hash = 59 * hash + Double.hashCode(this.apparentTemperatureHigh);
+	hash = 59 * hash + Long.hashCode(this.apparentTemperatureHighTime);
+	hash = 59 * hash + Double.hashCode(this.apparentTemperatureLow);
+	hash = 59 * hash + Long.hashCode(this.apparentTemperatureLowTime);
+	hash = 59 * hash + Double.hashCode(this.temperatureMin);
+	hash = 59 * hash + Long.hashCode(this.temperatureMinTime);
+	hash = 59 * hash + Double.hashCode(this.temperatureMax);
+	hash = 59 * hash + Long.hashCode(this.temperatureMaxTime);
+	hash = 59 * hash + Double.hashCode(this.apparentTemperatureMin);
+	hash = 59 * hash + Long.hashCode(this.apparentTemperatureMinTime);
+	hash = 59 * hash + Double.hashCode(this.apparentTemperatureMax);
+	hash = 59 * hash + Long.hashCode(this.apparentTemperatureMaxTime);
+	hash = 59 * hash + Double.hashCode(this.dewPoint);
+	hash = 59 * hash + Double.hashCode(this.humidity);
+	hash = 59 * hash + Double.hashCode(this.pressure);
+	hash = 59 * hash + Double.hashCode(this.windSpeed);
+	hash = 59 * hash + Double.hashCode(this.windGust);
+	hash = 59 * hash + Long.hashCode(this.windGustTime);
+	hash = 59 * hash + this.windBearing;
+	hash = 59 * hash + Double.hashCode(this.cloudCover);
+	hash = 59 * hash + this.uvIndex;
+	hash = 59 * hash + Long.hashCode(this.uvIndexTime);
+	hash = 59 * hash + Double.hashCode(this.visibility);
+	hash = 59 * hash + Double.hashCode(this.ozone);
 	return hash;
     }
 
@@ -757,115 +1540,115 @@ public class DailyDataPoint implements Serializable {
 	if (!Objects.equals(this.precipType, other.precipType)) {
 	    return false;
 	}
-	if (!Objects.equals(this.time, other.time)) {
+	if (this.time != other.time) {
 	    return false;
 	}
-	if (!Objects.equals(this.sunriseTime, other.sunriseTime)) {
+	if (this.sunriseTime != other.sunriseTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.sunsetTime, other.sunsetTime)) {
+	if (this.sunsetTime != other.sunsetTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.moonPhase, other.moonPhase)) {
+	if (Double.doubleToLongBits(this.moonPhase) != Double.doubleToLongBits(other.moonPhase)) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipIntensity, other.precipIntensity)) {
+	if (Double.doubleToLongBits(this.precipIntensity) != Double.doubleToLongBits(other.precipIntensity)) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipIntensityMax, other.precipIntensityMax)) {
+	if (Double.doubleToLongBits(this.precipIntensityMax) != Double.doubleToLongBits(other.precipIntensityMax)) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipProbability, other.precipProbability)) {
+	if (Double.doubleToLongBits(this.precipProbability) != Double.doubleToLongBits(other.precipProbability)) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipIntensityMaxTime, other.precipIntensityMaxTime)) {
+	if (this.precipIntensityMaxTime != other.precipIntensityMaxTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipAccumulation, other.precipAccumulation)) {
+	if (Double.doubleToLongBits(this.precipAccumulation) != Double.doubleToLongBits(other.precipAccumulation)) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureHigh, other.temperatureHigh)) {
+	if (Double.doubleToLongBits(this.temperatureHigh) != Double.doubleToLongBits(other.temperatureHigh)) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureHighTime, other.temperatureHighTime)) {
+	if (this.temperatureHighTime != other.temperatureHighTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureLow, other.temperatureLow)) {
+	if (Double.doubleToLongBits(this.temperatureLow) != Double.doubleToLongBits(other.temperatureLow)) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureLowTime, other.temperatureLowTime)) {
+	if (this.temperatureLowTime != other.temperatureLowTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureHigh, other.apparentTemperatureHigh)) {
+	if (Double.doubleToLongBits(this.apparentTemperatureHigh) != Double.doubleToLongBits(other.apparentTemperatureHigh)) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureHighTime, other.apparentTemperatureHighTime)) {
+	if (this.apparentTemperatureHighTime != other.apparentTemperatureHighTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureLow, other.apparentTemperatureLow)) {
+	if (Double.doubleToLongBits(this.apparentTemperatureLow) != Double.doubleToLongBits(other.apparentTemperatureLow)) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureLowTime, other.apparentTemperatureLowTime)) {
+	if (this.apparentTemperatureLowTime != other.apparentTemperatureLowTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureMin, other.temperatureMin)) {
+	if (Double.doubleToLongBits(this.temperatureMin) != Double.doubleToLongBits(other.temperatureMin)) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureMinTime, other.temperatureMinTime)) {
+	if (this.temperatureMinTime != other.temperatureMinTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureMax, other.temperatureMax)) {
+	if (Double.doubleToLongBits(this.temperatureMax) != Double.doubleToLongBits(other.temperatureMax)) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperatureMaxTime, other.temperatureMaxTime)) {
+	if (this.temperatureMaxTime != other.temperatureMaxTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureMin, other.apparentTemperatureMin)) {
+	if (Double.doubleToLongBits(this.apparentTemperatureMin) != Double.doubleToLongBits(other.apparentTemperatureMin)) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureMinTime, other.apparentTemperatureMinTime)) {
+	if (this.apparentTemperatureMinTime != other.apparentTemperatureMinTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureMax, other.apparentTemperatureMax)) {
+	if (Double.doubleToLongBits(this.apparentTemperatureMax) != Double.doubleToLongBits(other.apparentTemperatureMax)) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperatureMaxTime, other.apparentTemperatureMaxTime)) {
+	if (this.apparentTemperatureMaxTime != other.apparentTemperatureMaxTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.dewPoint, other.dewPoint)) {
+	if (Double.doubleToLongBits(this.dewPoint) != Double.doubleToLongBits(other.dewPoint)) {
 	    return false;
 	}
-	if (!Objects.equals(this.humidity, other.humidity)) {
+	if (Double.doubleToLongBits(this.humidity) != Double.doubleToLongBits(other.humidity)) {
 	    return false;
 	}
-	if (!Objects.equals(this.pressure, other.pressure)) {
+	if (Double.doubleToLongBits(this.pressure) != Double.doubleToLongBits(other.pressure)) {
 	    return false;
 	}
-	if (!Objects.equals(this.windSpeed, other.windSpeed)) {
+	if (Double.doubleToLongBits(this.windSpeed) != Double.doubleToLongBits(other.windSpeed)) {
 	    return false;
 	}
-	if (!Objects.equals(this.windGust, other.windGust)) {
+	if (Double.doubleToLongBits(this.windGust) != Double.doubleToLongBits(other.windGust)) {
 	    return false;
 	}
-	if (!Objects.equals(this.windGustTime, other.windGustTime)) {
+	if (this.windGustTime != other.windGustTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.windBearing, other.windBearing)) {
+	if (this.windBearing != other.windBearing) {
 	    return false;
 	}
-	if (!Objects.equals(this.cloudCover, other.cloudCover)) {
+	if (Double.doubleToLongBits(this.cloudCover) != Double.doubleToLongBits(other.cloudCover)) {
 	    return false;
 	}
-	if (!Objects.equals(this.uvIndex, other.uvIndex)) {
+	if (this.uvIndex != other.uvIndex) {
 	    return false;
 	}
-	if (!Objects.equals(this.uvIndexTime, other.uvIndexTime)) {
+	if (this.uvIndexTime != other.uvIndexTime) {
 	    return false;
 	}
-	if (!Objects.equals(this.visibility, other.visibility)) {
+	if (Double.doubleToLongBits(this.visibility) != Double.doubleToLongBits(other.visibility)) {
 	    return false;
 	}
-	return Objects.equals(this.ozone, other.ozone);
+	return Double.doubleToLongBits(this.ozone) == Double.doubleToLongBits(other.ozone);
     }
 
 }
@@ -0,0 +1,322 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import static tk.plogitech.darksky.forecast.model.DoubleValues.ofInt;
+import static tk.plogitech.darksky.forecast.model.DoubleValues.toInt;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Columnar form of the data points of a {@link Daily} block: one array per field instead of one object per data point.
+ *
+ * The numbers of all data points are stored in one double[] per {@link Column}, the times in one long[] of epoch seconds per
+ * {@link TimeColumn} and the texts in String arrays. A missing number is NaN, a missing time {@link Long#MIN_VALUE} and a missing text null.
+ *
+ * A series is immutable and thread safe. It is created from data points with {@link #of(List)} and converted back with
+ * {@link #toDailyDataPoints()}.
+ *
+ * @author Puls
+ * @see DataSeries
+ */
+public final class DailySeries {
+
+    /**
+     * The numeric fields of a daily data point.
+     */
+    @SuppressWarnings("deprecation")
+    public enum Column {
+	moonPhase(DailyDataPoint::moonPhaseAsDouble, DailyDataPoint::moonPhaseAsDouble),
+	precipIntensity(DailyDataPoint::precipIntensityAsDouble, DailyDataPoint::precipIntensityAsDouble),
+	precipIntensityMax(DailyDataPoint::precipIntensityMaxAsDouble, DailyDataPoint::precipIntensityMaxAsDouble),
+	precipProbability(DailyDataPoint::precipProbabilityAsDouble, DailyDataPoint::precipProbabilityAsDouble),
+	precipAccumulation(DailyDataPoint::precipAccumulationAsDouble, DailyDataPoint::precipAccumulationAsDouble),
+	temperatureHigh(DailyDataPoint::temperatureHighAsDouble, DailyDataPoint::temperatureHighAsDouble),
+	temperatureLow(DailyDataPoint::temperatureLowAsDouble, DailyDataPoint::temperatureLowAsDouble),
+	apparentTemperatureHigh(DailyDataPoint::apparentTemperatureHighAsDouble, DailyDataPoint::apparentTemperatureHighAsDouble),
+	apparentTemperatureLow(DailyDataPoint::apparentTemperatureLowAsDouble, DailyDataPoint::apparentTemperatureLowAsDouble),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #temperatureLow} instead.
+	 */
+	@Deprecated
+	temperatureMin(DailyDataPoint::temperatureMinAsDouble, DailyDataPoint::temperatureMinAsDouble),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #temperatureHigh} instead.
+	 */
+	@Deprecated
+	temperatureMax(DailyDataPoint::temperatureMaxAsDouble, DailyDataPoint::temperatureMaxAsDouble),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureLow} instead.
+	 */
+	@Deprecated
+	apparentTemperatureMin(DailyDataPoint::apparentTemperatureMinAsDouble, DailyDataPoint::apparentTemperatureMinAsDouble),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureHigh} instead.
+	 */
+	@Deprecated
+	apparentTemperatureMax(DailyDataPoint::apparentTemperatureMaxAsDouble, DailyDataPoint::apparentTemperatureMaxAsDouble),
+	dewPoint(DailyDataPoint::dewPointAsDouble, DailyDataPoint::dewPointAsDouble),
+	humidity(DailyDataPoint::humidityAsDouble, DailyDataPoint::humidityAsDouble),
+	pressure(DailyDataPoint::pressureAsDouble, DailyDataPoint::pressureAsDouble),
+	windSpeed(DailyDataPoint::windSpeedAsDouble, DailyDataPoint::windSpeedAsDouble),
+	windGust(DailyDataPoint::windGustAsDouble, DailyDataPoint::windGustAsDouble),
+	windBearing(p -> ofInt(p.windBearingAsInt()), (p, v) -> p.windBearingAsInt(toInt(v))),
+	cloudCover(DailyDataPoint::cloudCoverAsDouble, DailyDataPoint::cloudCoverAsDouble),
+	uvIndex(p -> ofInt(p.uvIndexAsInt()), (p, v) -> p.uvIndexAsInt(toInt(v))),
+	visibility(DailyDataPoint::visibilityAsDouble, DailyDataPoint::visibilityAsDouble),
+	ozone(DailyDataPoint::ozoneAsDouble, DailyDataPoint::ozoneAsDouble);
+
+	final ToDoubleFunction<DailyDataPoint> getter;
+	private final ObjDoubleConsumer<DailyDataPoint> setter;
+
+	Column(ToDoubleFunction<DailyDataPoint> getter, ObjDoubleConsumer<DailyDataPoint> setter) {
+	    this.getter = getter;
+	    this.setter = setter;
+	}
+    }
+
+    /**
+     * The time fields of a daily data point.
+     */
+    @SuppressWarnings("deprecation")
+    public enum TimeColumn {
+	time(DailyDataPoint::timeEpochSecond, DailyDataPoint::timeEpochSecond),
+	sunriseTime(DailyDataPoint::sunriseTimeEpochSecond, DailyDataPoint::sunriseTimeEpochSecond),
+	sunsetTime(DailyDataPoint::sunsetTimeEpochSecond, DailyDataPoint::sunsetTimeEpochSecond),
+	precipIntensityMaxTime(DailyDataPoint::precipIntensityMaxTimeEpochSecond, DailyDataPoint::precipIntensityMaxTimeEpochSecond),
+	temperatureHighTime(DailyDataPoint::temperatureHighTimeEpochSecond, DailyDataPoint::temperatureHighTimeEpochSecond),
+	temperatureLowTime(DailyDataPoint::temperatureLowTimeEpochSecond, DailyDataPoint::temperatureLowTimeEpochSecond),
+	apparentTemperatureHighTime(DailyDataPoint::apparentTemperatureHighTimeEpochSecond, DailyDataPoint::apparentTemperatureHighTimeEpochSecond),
+	apparentTemperatureLowTime(DailyDataPoint::apparentTemperatureLowTimeEpochSecond, DailyDataPoint::apparentTemperatureLowTimeEpochSecond),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #temperatureLowTime} instead.
+	 */
+	@Deprecated
+	temperatureMinTime(DailyDataPoint::temperatureMinTimeEpochSecond, DailyDataPoint::temperatureMinTimeEpochSecond),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #temperatureHighTime} instead.
+	 */
+	@Deprecated
+	temperatureMaxTime(DailyDataPoint::temperatureMaxTimeEpochSecond, DailyDataPoint::temperatureMaxTimeEpochSecond),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureLowTime} instead.
+	 */
+	@Deprecated
+	apparentTemperatureMinTime(DailyDataPoint::apparentTemperatureMinTimeEpochSecond, DailyDataPoint::apparentTemperatureMinTimeEpochSecond),
+	/**
+	 * @deprecated Deprecated by Darksky. Use {@link #apparentTemperatureHighTime} instead.
+	 */
+	@Deprecated
+	apparentTemperatureMaxTime(DailyDataPoint::apparentTemperatureMaxTimeEpochSecond, DailyDataPoint::apparentTemperatureMaxTimeEpochSecond),
+	windGustTime(DailyDataPoint::windGustTimeEpochSecond, DailyDataPoint::windGustTimeEpochSecond),
+	uvIndexTime(DailyDataPoint::uvIndexTimeEpochSecond, DailyDataPoint::uvIndexTimeEpochSecond);
+
+	final ToLongFunction<DailyDataPoint> getter;
+	private final ObjLongConsumer<DailyDataPoint> setter;
+
+	TimeColumn(ToLongFunction<DailyDataPoint> getter, ObjLongConsumer<DailyDataPoint> setter) {
+	    this.getter = getter;
+	    this.setter = setter;
+	}
+    }
+
+    private static final Column[] COLUMNS = Column.values();
+    private static final TimeColumn[] TIME_COLUMNS = TimeColumn.values();
+
+    private final String[] summaries;
+    private final String[] icons;
+    private final String[] precipTypes;
+    private final long[][] times;
+    private final double[][] values;
+
+    private DailySeries(int size) {
+	this.summaries = new String[size];
+	this.icons = new String[size];
+	this.precipTypes = new String[size];
+	this.times = new long[TIME_COLUMNS.length][size];
+	this.values = new double[COLUMNS.length][size];
+    }
+
+    /**
+     * @param dataPoints The data points, e.g. {@link Daily#getData()}.
+     * @return The series of the data points in their order.
+     */
+    public static DailySeries of(List<DailyDataPoint> dataPoints) {
+	notNull("The data points cannot be null.", dataPoints);
+
+	DailySeries series = new DailySeries(dataPoints.size());
+	int index = 0;
+	for (DailyDataPoint dataPoint : dataPoints) {
+	    series.summaries[index] = dataPoint.getSummary();
+	    series.icons[index] = dataPoint.getIcon();
+	    series.precipTypes[index] = dataPoint.getPrecipType();
+	    for (TimeColumn column : TIME_COLUMNS) {
+		series.times[column.ordinal()][index] = column.getter.applyAsLong(dataPoint);
+	    }
+	    for (Column column : COLUMNS) {
+		series.values[column.ordinal()][index] = column.getter.applyAsDouble(dataPoint);
+	    }
+	    index++;
+	}
+	return series;
+    }
+
+    /**
+     * @return The number of data points.
+     */
+    public int size() {
+	return summaries.length;
+    }
+
+    /**
+     * @param column The time field.
+     * @param index The index of the data point.
+     * @return The time in epoch seconds or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long epochSecond(TimeColumn column, int index) {
+	return times[column.ordinal()][index];
+    }
+
+    /**
+     * @param column The time field.
+     * @param index The index of the data point.
+     * @return The time or null if it is not set.
+     */
+    public Instant time(TimeColumn column, int index) {
+	return EpochSeconds.instant(times[column.ordinal()][index]);
+    }
+
+    /**
+     * @param column The time field.
+     * @return A copy of the times of all data points in epoch seconds, {@link Long#MIN_VALUE} for times which are not set.
+     */
+    public long[] epochSeconds(TimeColumn column) {
+	return times[column.ordinal()].clone();
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The summary of the data point or null.
+     */
+    public String summary(int index) {
+	return summaries[index];
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The icon of the data point or null.
+     */
+    public String icon(int index) {
+	return icons[index];
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The precipitation type of the data point or null.
+     */
+    public String precipType(int index) {
+	return precipTypes[index];
+    }
+
+    /**
+     * @param column The field.
+     * @param index The index of the data point.
+     * @return The value of the field or NaN if it is not set.
+     */
+    public double value(Column column, int index) {
+	return values[column.ordinal()][index];
+    }
+
+    /**
+     * @param column The field.
+     * @return A copy of the values of the field of all data points, NaN for values which are not set.
+     */
+    public double[] values(Column column) {
+	return values[column.ordinal()].clone();
+    }
+
+    /**
+     * @param column The field.
+     * @return The aggregation of the values of the field of all data points, e.g. their rolling maximum. The values are not copied.
+     */
+    public Aggregation aggregate(Column column) {
+	return new Aggregation(values[column.ordinal()]);
+    }
+
+    /**
+     * @return The series as new daily data points.
+     */
+    public List<DailyDataPoint> toDailyDataPoints() {
+	List<DailyDataPoint> dataPoints = new ArrayList<>(summaries.length);
+	for (int index = 0; index < summaries.length; index++) {
+	    DailyDataPoint dataPoint = new DailyDataPoint();
+	    dataPoint.setSummary(summaries[index]);
+	    dataPoint.setIcon(icons[index]);
+	    dataPoint.setPrecipType(precipTypes[index]);
+	    for (TimeColumn column : TIME_COLUMNS) {
+		column.setter.accept(dataPoint, times[column.ordinal()][index]);
+	    }
+	    for (Column column : COLUMNS) {
+		column.setter.accept(dataPoint, values[column.ordinal()][index]);
+	    }
+	    dataPoints.add(dataPoint);
+	}
+	return dataPoints;
+    }
+
+    @Override
+    public int hashCode() {
+	int hash = 7;
+	hash = 67 * hash + Arrays.hashCode(this.summaries);
+	hash = 67 * hash + Arrays.deepHashCode(this.times);
+	hash = 67 * hash + Arrays.deepHashCode(this.values);
+	return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (obj == null) {
+	    return false;
+	}
+	if (getClass() != obj.getClass()) {
+	    return false;
+	}
+	final DailySeries other = (DailySeries) obj;
+	return Arrays.equals(this.summaries, other.summaries)
+		&& Arrays.equals(this.icons, other.icons)
+		&& Arrays.equals(this.precipTypes, other.precipTypes)
+		&& Arrays.deepEquals(this.times, other.times)
+		&& Arrays.deepEquals(this.values, other.values);
+    }
+}
@@ -23,9 +23,15 @@
  */
 package tk.plogitech.darksky.forecast.model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.Instant;
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.Interned;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
+import tk.plogitech.darksky.forecast.json.StringTable;
 
 /**
  * DataPint containing the weather information.
@@ -35,32 +41,59 @@ import java.util.Objects;
  *
  * @author Puls
  */
+@JsonBinding
 public class DataPoint implements Serializable {
 
-    private Instant time;
+    private static final long serialVersionUID = 1704904891512956571L;
+
+    /**
+     * The fields of the default serialized form of earlier versions, which stored the times as Instants and the numbers boxed.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+	new ObjectStreamField("time", Instant.class),
+	new ObjectStreamField("summary", String.class),
+	new ObjectStreamField("icon", String.class),
+	new ObjectStreamField("precipIntensity", Double.class),
+	new ObjectStreamField("precipProbability", Double.class),
+	new ObjectStreamField("precipType", String.class),
+	new ObjectStreamField("temperature", Double.class),
+	new ObjectStreamField("apparentTemperature", Double.class),
+	new ObjectStreamField("dewPoint", Double.class),
+	new ObjectStreamField("humidity", Double.class),
+	new ObjectStreamField("windSpeed", Double.class),
+	new ObjectStreamField("windBearing", Integer.class),
+	new ObjectStreamField("windGust", Double.class),
+	new ObjectStreamField("pressure", Double.class),
+	new ObjectStreamField("cloudCover", Double.class),
+	new ObjectStreamField("ozone", Double.class),
+	new ObjectStreamField("visibility", Double.class)
+    };
+
+    private long time = EpochSeconds.NONE;
     private String summary;
     private String icon;
-    private Double precipIntensity;
-    private Double precipProbability;
+    private double precipIntensity = DoubleValues.NONE;
+    private double precipProbability = DoubleValues.NONE;
     private String precipType;
-    private Double temperature;
-    private Double apparentTemperature;
-    private Double dewPoint;
-    private Double humidity;
-    private Double windSpeed;
-    private Integer windBearing;
-    private Double windGust;
-    private Double pressure;
-    private Double cloudCover;
-    private Double ozone;
-    private Double visibility;
+    private double temperature = DoubleValues.NONE;
+    private double apparentTemperature = DoubleValues.NONE;
+    private double dewPoint = DoubleValues.NONE;
+    private double humidity = DoubleValues.NONE;
+    private double windSpeed = DoubleValues.NONE;
+    private int windBearing = IntegerValues.NONE;
+    private double windGust = DoubleValues.NONE;
+    private double pressure = DoubleValues.NONE;
+    private double cloudCover = DoubleValues.NONE;
+    private double ozone = DoubleValues.NONE;
+    private double visibility = DoubleValues.NONE;
+    private transient volatile boolean frozen;
 
     /**
      * @return The UNIX time at which this data point begins. minutely data point are always aligned to the top of the minute, hourly data point
      * objects to the top of the hour, and daily data point objects to midnight of the day, all according to the local time zone.
      */
     public Instant getTime() {
-	return time;
+	return EpochSeconds.instant(time);
     }
 
     /**
@@ -68,6 +101,22 @@ public class DataPoint implements Serializable {
      * objects to the top of the hour, and daily data point objects to midnight of the day, all according to the local time zone.
      */
     public void setTime(Instant time) {
+	Frozen.check(frozen);
+	this.time = EpochSeconds.of(time);
+    }
+
+    /**
+     * @return The time of {@link #getTime()} in seconds since the epoch or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long timeEpochSecond() {
+	return time;
+    }
+
+    /**
+     * @param time The time of {@link #setTime(java.time.Instant)} in seconds since the epoch, {@link Long#MIN_VALUE} if it is not set.
+     */
+    public void timeEpochSecond(long time) {
+	Frozen.check(frozen);
 	this.time = time;
     }
 
@@ -83,8 +132,10 @@ public class DataPoint implements Serializable {
      * @param summary A human-readable text summary of this data point. (This property has millions of possible values, so don’t use it for automated
      * purposes: use the icon property, instead!)
      */
+    @Interned
     public void setSummary(String summary) {
-	this.summary = summary;
+	Frozen.check(frozen);
+	this.summary = StringTable.shared().intern(summary);
     }
 
     /**
@@ -102,8 +153,17 @@ public class DataPoint implements Serializable {
      * (Developers should ensure that a sensible default is defined, as additional values, such as hail, thunderstorm, or tornado, may be defined in
      * the future.)
      */
+    @Interned
     public void setIcon(String icon) {
-	this.icon = icon;
+	Frozen.check(frozen);
+	this.icon = Icon.intern(icon);
+    }
+
+    /**
+     * @return The icon as enum or null if it is not set or not known to this library (see {@link #getIcon()}).
+     */
+    public Icon icon() {
+	return Icon.of(icon);
     }
 
     /**
@@ -111,7 +171,7 @@ public class DataPoint implements Serializable {
      * probability (that is, assuming any precipitation occurs at all) for minutely data points, and unconditional otherwise.
      */
     public Double getPrecipIntensity() {
-	return precipIntensity;
+	return DoubleValues.boxed(precipIntensity);
     }
 
     /**
@@ -119,6 +179,22 @@ public class DataPoint implements Serializable {
      * conditional on probability (that is, assuming any precipitation occurs at all) for minutely data points, and unconditional otherwise.
      */
     public void setPrecipIntensity(Double precipIntensity) {
+	Frozen.check(frozen);
+	this.precipIntensity = DoubleValues.of(precipIntensity);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipIntensity()} without boxing or NaN if it is not set.
+     */
+    public double precipIntensityAsDouble() {
+	return precipIntensity;
+    }
+
+    /**
+     * @param precipIntensity The value of {@link #setPrecipIntensity(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipIntensityAsDouble(double precipIntensity) {
+	Frozen.check(frozen);
 	this.precipIntensity = precipIntensity;
     }
 
@@ -126,13 +202,29 @@ public class DataPoint implements Serializable {
      * @return The probability of precipitation occurring, between 0 and 1, inclusive.
      */
     public Double getPrecipProbability() {
-	return precipProbability;
+	return DoubleValues.boxed(precipProbability);
     }
 
     /**
      * @param precipProbability The probability of precipitation occurring, between 0 and 1, inclusive.
      */
     public void setPrecipProbability(Double precipProbability) {
+	Frozen.check(frozen);
+	this.precipProbability = DoubleValues.of(precipProbability);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipProbability()} without boxing or NaN if it is not set.
+     */
+    public double precipProbabilityAsDouble() {
+	return precipProbability;
+    }
+
+    /**
+     * @param precipProbability The value of {@link #setPrecipProbability(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipProbabilityAsDouble(double precipProbability) {
+	Frozen.check(frozen);
 	this.precipProbability = precipProbability;
     }
 
@@ -140,13 +232,29 @@ public class DataPoint implements Serializable {
      * @return The air temperature in degrees Fahrenheit.
      */
     public Double getTemperature() {
-	return temperature;
+	return DoubleValues.boxed(temperature);
     }
 
     /**
      * @param temperature The air temperature in degrees Fahrenheit.
      */
     public void setTemperature(Double temperature) {
+	Frozen.check(frozen);
+	this.temperature = DoubleValues.of(temperature);
+    }
+
+    /**
+     * @return The value of {@link #getTemperature()} without boxing or NaN if it is not set.
+     */
+    public double temperatureAsDouble() {
+	return temperature;
+    }
+
+    /**
+     * @param temperature The value of {@link #setTemperature(java.lang.Double)}, NaN if it is not set.
+     */
+    public void temperatureAsDouble(double temperature) {
+	Frozen.check(frozen);
 	this.temperature = temperature;
     }
 
@@ -154,13 +262,29 @@ public class DataPoint implements Serializable {
      * @return The apparent (or “feels like”) temperature in degrees Fahrenheit.
      */
     public Double getApparentTemperature() {
-	return apparentTemperature;
+	return DoubleValues.boxed(apparentTemperature);
     }
 
     /**
      * @param apparentTemperature The apparent (or “feels like”) temperature in degrees Fahrenheit.
      */
     public void setApparentTemperature(Double apparentTemperature) {
+	Frozen.check(frozen);
+	this.apparentTemperature = DoubleValues.of(apparentTemperature);
+    }
+
+    /**
+     * @return The value of {@link #getApparentTemperature()} without boxing or NaN if it is not set.
+     */
+    public double apparentTemperatureAsDouble() {
+	return apparentTemperature;
+    }
+
+    /**
+     * @param apparentTemperature The value of {@link #setApparentTemperature(java.lang.Double)}, NaN if it is not set.
+     */
+    public void apparentTemperatureAsDouble(double apparentTemperature) {
+	Frozen.check(frozen);
 	this.apparentTemperature = apparentTemperature;
     }
 
@@ -168,13 +292,29 @@ public class DataPoint implements Serializable {
      * @return The dew point in degrees Fahrenheit.
      */
     public Double getDewPoint() {
-	return dewPoint;
+	return DoubleValues.boxed(dewPoint);
     }
 
     /**
      * @param dewPoint The dew point in degrees Fahrenheit.
      */
     public void setDewPoint(Double dewPoint) {
+	Frozen.check(frozen);
+	this.dewPoint = DoubleValues.of(dewPoint);
+    }
+
+    /**
+     * @return The value of {@link #getDewPoint()} without boxing or NaN if it is not set.
+     */
+    public double dewPointAsDouble() {
+	return dewPoint;
+    }
+
+    /**
+     * @param dewPoint The value of {@link #setDewPoint(java.lang.Double)}, NaN if it is not set.
+     */
+    public void dewPointAsDouble(double dewPoint) {
+	Frozen.check(frozen);
 	this.dewPoint = dewPoint;
     }
 
@@ -182,13 +322,29 @@ public class DataPoint implements Serializable {
      * @return The relative humidity, between 0 and 1, inclusive.
      */
     public Double getHumidity() {
-	return humidity;
+	return DoubleValues.boxed(humidity);
     }
 
     /**
      * @param humidity The relative humidity, between 0 and 1, inclusive.
      */
     public void setHumidity(Double humidity) {
+	Frozen.check(frozen);
+	this.humidity = DoubleValues.of(humidity);
+    }
+
+    /**
+     * @return The value of {@link #getHumidity()} without boxing or NaN if it is not set.
+     */
+    public double humidityAsDouble() {
+	return humidity;
+    }
+
+    /**
+     * @param humidity The value of {@link #setHumidity(java.lang.Double)}, NaN if it is not set.
+     */
+    public void humidityAsDouble(double humidity) {
+	Frozen.check(frozen);
 	this.humidity = humidity;
     }
 
@@ -196,13 +352,29 @@ public class DataPoint implements Serializable {
      * @return The wind speed in miles per hour.
      */
     public Double getWindSpeed() {
-	return windSpeed;
+	return DoubleValues.boxed(windSpeed);
     }
 
     /**
      * @param windSpeed The wind speed in miles per hour.
      */
     public void setWindSpeed(Double windSpeed) {
+	Frozen.check(frozen);
+	this.windSpeed = DoubleValues.of(windSpeed);
+    }
+
+    /**
+     * @return The value of {@link #getWindSpeed()} without boxing or NaN if it is not set.
+     */
+    public double windSpeedAsDouble() {
+	return windSpeed;
+    }
+
+    /**
+     * @param windSpeed The value of {@link #setWindSpeed(java.lang.Double)}, NaN if it is not set.
+     */
+    public void windSpeedAsDouble(double windSpeed) {
+	Frozen.check(frozen);
 	this.windSpeed = windSpeed;
     }
 
@@ -211,7 +383,7 @@ public class DataPoint implements Serializable {
      * this value will not be defined.)
      */
     public Integer getWindBearing() {
-	return windBearing;
+	return IntegerValues.boxed(windBearing);
     }
 
     /**
@@ -219,6 +391,22 @@ public class DataPoint implements Serializable {
      * zero, then this value will not be defined.)
      */
     public void setWindBearing(Integer windBearing) {
+	Frozen.check(frozen);
+	this.windBearing = IntegerValues.of(windBearing);
+    }
+
+    /**
+     * @return The value of {@link #getWindBearing()} without boxing or {@link Integer#MIN_VALUE} if it is not set.
+     */
+    public int windBearingAsInt() {
+	return windBearing;
+    }
+
+    /**
+     * @param windBearing The value of {@link #setWindBearing(java.lang.Integer)}, {@link Integer#MIN_VALUE} if it is not set.
+     */
+    public void windBearingAsInt(int windBearing) {
+	Frozen.check(frozen);
 	this.windBearing = windBearing;
     }
     
@@ -226,13 +414,29 @@ public class DataPoint implements Serializable {
      * @return The wind gust speed in miles per hour.
      */
     public Double getWindGust() {
-	return windGust;
+	return DoubleValues.boxed(windGust);
     }
 
     /**
      * @param windGust The wind gust speed in miles per hour.
      */
     public void setWindGust(Double windGust) {
+	Frozen.check(frozen);
+	this.windGust = DoubleValues.of(windGust);
+    }
+
+    /**
+     * @return The value of {@link #getWindGust()} without boxing or NaN if it is not set.
+     */
+    public double windGustAsDouble() {
+	return windGust;
+    }
+
+    /**
+     * @param windGust The value of {@link #setWindGust(java.lang.Double)}, NaN if it is not set.
+     */
+    public void windGustAsDouble(double windGust) {
+	Frozen.check(frozen);
 	this.windGust = windGust;
     }
 
@@ -240,13 +444,29 @@ public class DataPoint implements Serializable {
      * @return The percentage of sky occluded by clouds, between 0 and 1, inclusive.
      */
     public Double getCloudCover() {
-	return cloudCover;
+	return DoubleValues.boxed(cloudCover);
     }
 
     /**
      * @param cloudCover The percentage of sky occluded by clouds, between 0 and 1, inclusive.
      */
     public void setCloudCover(Double cloudCover) {
+	Frozen.check(frozen);
+	this.cloudCover = DoubleValues.of(cloudCover);
+    }
+
+    /**
+     * @return The value of {@link #getCloudCover()} without boxing or NaN if it is not set.
+     */
+    public double cloudCoverAsDouble() {
+	return cloudCover;
+    }
+
+    /**
+     * @param cloudCover The value of {@link #setCloudCover(java.lang.Double)}, NaN if it is not set.
+     */
+    public void cloudCoverAsDouble(double cloudCover) {
+	Frozen.check(frozen);
 	this.cloudCover = cloudCover;
     }
 
@@ -254,13 +474,29 @@ public class DataPoint implements Serializable {
      * @return The columnar density of total atmospheric ozone at the given time in Dobson units.
      */
     public Double getOzone() {
-	return ozone;
+	return DoubleValues.boxed(ozone);
     }
 
     /**
      * @param ozone The columnar density of total atmospheric ozone at the given time in Dobson units.
      */
     public void setOzone(Double ozone) {
+	Frozen.check(frozen);
+	this.ozone = DoubleValues.of(ozone);
+    }
+
+    /**
+     * @return The value of {@link #getOzone()} without boxing or NaN if it is not set.
+     */
+    public double ozoneAsDouble() {
+	return ozone;
+    }
+
+    /**
+     * @param ozone The value of {@link #setOzone(java.lang.Double)}, NaN if it is not set.
+     */
+    public void ozoneAsDouble(double ozone) {
+	Frozen.check(frozen);
 	this.ozone = ozone;
     }
 
@@ -268,13 +504,29 @@ public class DataPoint implements Serializable {
      * @return The sea-level air pressure in millibars.
      */
     public Double getPressure() {
-	return pressure;
+	return DoubleValues.boxed(pressure);
     }
 
     /**
      * @param pressure The sea-level air pressure in millibars.
      */
     public void setPressure(Double pressure) {
+	Frozen.check(frozen);
+	this.pressure = DoubleValues.of(pressure);
+    }
+
+    /**
+     * @return The value of {@link #getPressure()} without boxing or NaN if it is not set.
+     */
+    public double pressureAsDouble() {
+	return pressure;
+    }
+
+    /**
+     * @param pressure The value of {@link #setPressure(java.lang.Double)}, NaN if it is not set.
+     */
+    public void pressureAsDouble(double pressure) {
+	Frozen.check(frozen);
 	this.pressure = pressure;
     }
 
@@ -292,43 +544,118 @@ public class DataPoint implements Serializable {
      * "rain", "snow", or "sleet" (which refers to each of freezing rain, ice pellets, and “wintery mix”). (If precipIntensity is zero, then this
      * property will not be defined.)
      */
+    @Interned
     public void setPrecipType(String precipType) {
-	this.precipType = precipType;
+	Frozen.check(frozen);
+	this.precipType = PrecipType.intern(precipType);
+    }
+
+    /**
+     * @return The type of precipitation as enum or null if it is not set or not known to this library (see {@link #getPrecipType()}).
+     */
+    public PrecipType precipType() {
+	return PrecipType.of(precipType);
     }
 
     /**
      * @return The average visibility in miles, capped at 10 miles.
      */
     public Double getVisibility() {
-	return visibility;
+	return DoubleValues.boxed(visibility);
     }
 
     /**
      * @param visibility The average visibility in miles, capped at 10 miles.
      */
     public void setVisibility(Double visibility) {
+	Frozen.check(frozen);
+	this.visibility = DoubleValues.of(visibility);
+    }
+
+    /**
+     * @return The value of {@link #getVisibility()} without boxing or NaN if it is not set.
+     */
+    public double visibilityAsDouble() {
+	return visibility;
+    }
+
+    /**
+     * @param visibility The value of {@link #setVisibility(java.lang.Double)}, NaN if it is not set.
+     */
+    public void visibilityAsDouble(double visibility) {
+	Frozen.check(frozen);
 	this.visibility = visibility;
     }
 
+    /**
+     * Makes this data point immutable, see {@link Forecast#freeze()}.
+     *
+     * @return This data point.
+     */
+    public DataPoint freeze() {
+	if (!frozen) {
+	    frozen = true;
+	}
+	return this;
+    }
+
+    /**
+     * @return True if this data point is frozen and cannot be changed.
+     */
+    public boolean frozen() {
+	return frozen;
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
+    }
+
+    /**
+     * Reads the default serialized form of earlier versions, current versions write the {@link SerialForm}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+	ObjectInputStream.GetField fields = in.readFields();
+	time = EpochSeconds.of((Instant) fields.get("time", null));
+	summary = (String) fields.get("summary", null);
+	icon = (String) fields.get("icon", null);
+	precipIntensity = DoubleValues.of((Double) fields.get("precipIntensity", null));
+	precipProbability = DoubleValues.of((Double) fields.get("precipProbability", null));
+	precipType = (String) fields.get("precipType", null);
+	temperature = DoubleValues.of((Double) fields.get("temperature", null));
+	apparentTemperature = DoubleValues.of((Double) fields.get("apparentTemperature", null));
+	dewPoint = DoubleValues.of((Double) fields.get("dewPoint", null));
+	humidity = DoubleValues.of((Double) fields.get("humidity", null));
+	windSpeed = DoubleValues.of((Double) fields.get("windSpeed", null));
+	windBearing = IntegerValues.of((Integer) fields.get("windBearing", null));
+	windGust = DoubleValues.of((Double) fields.get("windGust", null));
+	pressure = DoubleValues.of((Double) fields.get("pressure", null));
+	cloudCover = DoubleValues.of((Double) fields.get("cloudCover", null));
+	ozone = DoubleValues.of((Double) fields.get("ozone", null));
+	visibility = DoubleValues.of((Double) fields.get("visibility", null));
+    }
+
     @Override
     public int hashCode() {
 	int hash = 5;
-	hash = 37 * hash + Objects.hashCode(this.time);
+	hash = 37 * hash + Long.hashCode(this.time);
 	hash = 37 * hash + Objects.hashCode(this.summary);
 	hash = 37 * hash + Objects.hashCode(this.icon);
-	hash = 37 * hash + Objects.hashCode(this.precipIntensity);
-	hash = 37 * hash + Objects.hashCode(this.precipProbability);
+	hash = 37 * hash + Double.hashCode(this.precipIntensity);
+	hash = 37 * hash + Double.hashCode(this.precipProbability);
 	hash = 37 * hash + Objects.hashCode(this.precipType);
-	hash = 37 * hash + Objects.hashCode(this.temperature);
-	hash = 37 * hash + Objects.hashCode(this.apparentTemperature);
-	hash = 37 * hash + Objects.hashCode(this.dewPoint);
-	hash = 37 * hash + Objects.hashCode(this.humidity);
-	hash = 37 * hash + Objects.hashCode(this.windSpeed);
-	hash = 37 * hash + Objects.hashCode(this.windBearing);
-	hash = 37 * hash + Objects.hashCode(this.pressure);
-	hash = 37 * hash + Objects.hashCode(this.cloudCover);
-	hash = 37 * hash + Objects.hashCode(this.ozone);
-	hash = 37 * hash + Objects.hashCode(this.visibility);
+	hash = 37 * hash + Double.hashCode(this.temperature);
+	hash = 37 * hash + Double.hashCode(this.apparentTemperature);
+	hash = 37 * hash + Double.hashCode(this.dewPoint);
+	hash = 37 * hash + Double.hashCode(this.humidity);
+	hash = 37 * hash + Double.hashCode(this.windSpeed);
+	hash = 37 * hash + this.windBearing;
+	hash = 37 * hash + Double.hashCode(this.pressure);
+	hash = 37 * hash + Double.hashCode(this.cloudCover);
+	hash = 37 * hash + Double.hashCode(this.ozone);
+	hash = 37 * hash + Double.hashCode(this.visibility);
 	return hash;
     }
 
@@ -353,43 +680,43 @@ public class DataPoint implements Serializable {
 	if (!Objects.equals(this.precipType, other.precipType)) {
 	    return false;
 	}
-	if (!Objects.equals(this.time, other.time)) {
+	if (this.time != other.time) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipIntensity, other.precipIntensity)) {
+	if (Double.doubleToLongBits(this.precipIntensity) != Double.doubleToLongBits(other.precipIntensity)) {
 	    return false;
 	}
-	if (!Objects.equals(this.precipProbability, other.precipProbability)) {
+	if (Double.doubleToLongBits(this.precipProbability) != Double.doubleToLongBits(other.precipProbability)) {
 	    return false;
 	}
-	if (!Objects.equals(this.temperature, other.temperature)) {
+	if (Double.doubleToLongBits(this.temperature) != Double.doubleToLongBits(other.temperature)) {
 	    return false;
 	}
-	if (!Objects.equals(this.apparentTemperature, other.apparentTemperature)) {
+	if (Double.doubleToLongBits(this.apparentTemperature) != Double.doubleToLongBits(other.apparentTemperature)) {
 	    return false;
 	}
-	if (!Objects.equals(this.dewPoint, other.dewPoint)) {
+	if (Double.doubleToLongBits(this.dewPoint) != Double.doubleToLongBits(other.dewPoint)) {
 	    return false;
 	}
-	if (!Objects.equals(this.humidity, other.humidity)) {
+	if (Double.doubleToLongBits(this.humidity) != Double.doubleToLongBits(other.humidity)) {
 	    return false;
 	}
-	if (!Objects.equals(this.windSpeed, other.windSpeed)) {
+	if (Double.doubleToLongBits(this.windSpeed) != Double.doubleToLongBits(other.windSpeed)) {
 	    return false;
 	}
-	if (!Objects.equals(this.windBearing, other.windBearing)) {
+	if (this.windBearing != other.windBearing) {
 	    return false;
 	}
-	if (!Objects.equals(this.pressure, other.pressure)) {
+	if (Double.doubleToLongBits(this.pressure) != Double.doubleToLongBits(other.pressure)) {
 	    return false;
 	}
-	if (!Objects.equals(this.cloudCover, other.cloudCover)) {
+	if (Double.doubleToLongBits(this.cloudCover) != Double.doubleToLongBits(other.cloudCover)) {
 	    return false;
 	}
-	if (!Objects.equals(this.ozone, other.ozone)) {
+	if (Double.doubleToLongBits(this.ozone) != Double.doubleToLongBits(other.ozone)) {
 	    return false;
 	}
-	return Objects.equals(this.visibility, other.visibility);
+	return Double.doubleToLongBits(this.visibility) == Double.doubleToLongBits(other.visibility);
     }
 
 }
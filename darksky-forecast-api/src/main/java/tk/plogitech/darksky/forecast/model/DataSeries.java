@@ -0,0 +1,255 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import static tk.plogitech.darksky.forecast.model.DoubleValues.NONE;
+import static tk.plogitech.darksky.forecast.model.DoubleValues.ofInt;
+import static tk.plogitech.darksky.forecast.model.DoubleValues.toInt;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Columnar form of the data points of a {@link Minutely} or {@link Hourly} block: one array per field instead of one object per data point.
+ *
+ * The numbers of all data points are stored in one double[] per {@link Column}, the times in a long[] of epoch seconds and the texts in String
+ * arrays. A missing number is NaN, a missing time {@link Long#MIN_VALUE} and a missing text null. Scanning one field of all data points reads
+ * a single contiguous array instead of visiting every data point. The data points store their numbers as primitives as well, so a series
+ * takes about as much memory as its block; use it for scans, not to save memory.
+ *
+ * A series is immutable and thread safe. It is created from data points with {@link #of(List)} and converted back with
+ * {@link #toDataPoints()} or {@link #toHourlyDataPoints()}.
+ *
+ * @author Puls
+ */
+public final class DataSeries {
+
+    /**
+     * The numeric fields of a data point.
+     */
+    public enum Column {
+	precipIntensity(DataPoint::precipIntensityAsDouble, DataPoint::precipIntensityAsDouble),
+	precipProbability(DataPoint::precipProbabilityAsDouble, DataPoint::precipProbabilityAsDouble),
+	temperature(DataPoint::temperatureAsDouble, DataPoint::temperatureAsDouble),
+	apparentTemperature(DataPoint::apparentTemperatureAsDouble, DataPoint::apparentTemperatureAsDouble),
+	dewPoint(DataPoint::dewPointAsDouble, DataPoint::dewPointAsDouble),
+	humidity(DataPoint::humidityAsDouble, DataPoint::humidityAsDouble),
+	windSpeed(DataPoint::windSpeedAsDouble, DataPoint::windSpeedAsDouble),
+	windBearing(p -> ofInt(p.windBearingAsInt()), (p, v) -> p.windBearingAsInt(toInt(v))),
+	windGust(DataPoint::windGustAsDouble, DataPoint::windGustAsDouble),
+	pressure(DataPoint::pressureAsDouble, DataPoint::pressureAsDouble),
+	cloudCover(DataPoint::cloudCoverAsDouble, DataPoint::cloudCoverAsDouble),
+	ozone(DataPoint::ozoneAsDouble, DataPoint::ozoneAsDouble),
+	visibility(DataPoint::visibilityAsDouble, DataPoint::visibilityAsDouble),
+	/**
+	 * Only set for {@link HourlyDataPoint}, NaN for other data points.
+	 */
+	precipAccumulation(p -> p instanceof HourlyDataPoint ? ((HourlyDataPoint) p).precipAccumulationAsDouble() : NONE, (p, v) -> {
+	    if (p instanceof HourlyDataPoint) {
+		((HourlyDataPoint) p).precipAccumulationAsDouble(v);
+	    }
+	});
+
+	final ToDoubleFunction<DataPoint> getter;
+	private final ObjDoubleConsumer<DataPoint> setter;
+
+	Column(ToDoubleFunction<DataPoint> getter, ObjDoubleConsumer<DataPoint> setter) {
+	    this.getter = getter;
+	    this.setter = setter;
+	}
+    }
+
+    private static final Column[] COLUMNS = Column.values();
+
+    private final long[] times;
+    private final String[] summaries;
+    private final String[] icons;
+    private final String[] precipTypes;
+    private final double[][] values;
+
+    private DataSeries(int size) {
+	this.times = new long[size];
+	this.summaries = new String[size];
+	this.icons = new String[size];
+	this.precipTypes = new String[size];
+	this.values = new double[COLUMNS.length][size];
+    }
+
+    /**
+     * @param dataPoints The data points, e.g. {@link Hourly#getData()}.
+     * @return The series of the data points in their order.
+     */
+    public static DataSeries of(List<? extends DataPoint> dataPoints) {
+	notNull("The data points cannot be null.", dataPoints);
+
+	DataSeries series = new DataSeries(dataPoints.size());
+	int index = 0;
+	for (DataPoint dataPoint : dataPoints) {
+	    series.times[index] = dataPoint.timeEpochSecond();
+	    series.summaries[index] = dataPoint.getSummary();
+	    series.icons[index] = dataPoint.getIcon();
+	    series.precipTypes[index] = dataPoint.getPrecipType();
+	    for (Column column : COLUMNS) {
+		series.values[column.ordinal()][index] = column.getter.applyAsDouble(dataPoint);
+	    }
+	    index++;
+	}
+	return series;
+    }
+
+    /**
+     * @return The number of data points.
+     */
+    public int size() {
+	return times.length;
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The time of the data point in epoch seconds or {@link Long#MIN_VALUE} if it is not set.
+     */
+    public long timeEpochSecond(int index) {
+	return times[index];
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The time of the data point or null if it is not set.
+     */
+    public Instant time(int index) {
+	return EpochSeconds.instant(times[index]);
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The summary of the data point or null.
+     */
+    public String summary(int index) {
+	return summaries[index];
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The icon of the data point or null.
+     */
+    public String icon(int index) {
+	return icons[index];
+    }
+
+    /**
+     * @param index The index of the data point.
+     * @return The precipitation type of the data point or null.
+     */
+    public String precipType(int index) {
+	return precipTypes[index];
+    }
+
+    /**
+     * @param column The field.
+     * @param index The index of the data point.
+     * @return The value of the field or NaN if it is not set.
+     */
+    public double value(Column column, int index) {
+	return values[column.ordinal()][index];
+    }
+
+    /**
+     * @param column The field.
+     * @return A copy of the values of the field of all data points, NaN for values which are not set.
+     */
+    public double[] values(Column column) {
+	return values[column.ordinal()].clone();
+    }
+
+    /**
+     * @param column The field.
+     * @return The aggregation of the values of the field of all data points, e.g. their rolling maximum. The values are not copied.
+     */
+    public Aggregation aggregate(Column column) {
+	return new Aggregation(values[column.ordinal()]);
+    }
+
+    /**
+     * @return The series as new data points.
+     */
+    public List<DataPoint> toDataPoints() {
+	return toDataPoints(DataPoint::new);
+    }
+
+    /**
+     * @return The series as new hourly data points.
+     */
+    public List<HourlyDataPoint> toHourlyDataPoints() {
+	return toDataPoints(HourlyDataPoint::new);
+    }
+
+    private <T extends DataPoint> List<T> toDataPoints(Supplier<T> factory) {
+	List<T> dataPoints = new ArrayList<>(times.length);
+	for (int index = 0; index < times.length; index++) {
+	    T dataPoint = factory.get();
+	    dataPoint.timeEpochSecond(times[index]);
+	    dataPoint.setSummary(summaries[index]);
+	    dataPoint.setIcon(icons[index]);
+	    dataPoint.setPrecipType(precipTypes[index]);
+	    for (Column column : COLUMNS) {
+		column.setter.accept(dataPoint, values[column.ordinal()][index]);
+	    }
+	    dataPoints.add(dataPoint);
+	}
+	return dataPoints;
+    }
+
+    @Override
+    public int hashCode() {
+	int hash = 7;
+	hash = 67 * hash + Arrays.hashCode(this.times);
+	hash = 67 * hash + Arrays.hashCode(this.summaries);
+	hash = 67 * hash + Arrays.deepHashCode(this.values);
+	return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+	if (this == obj) {
+	    return true;
+	}
+	if (obj == null) {
+	    return false;
+	}
+	if (getClass() != obj.getClass()) {
+	    return false;
+	}
+	final DataSeries other = (DataSeries) obj;
+	return Arrays.equals(this.times, other.times)
+		&& Arrays.equals(this.summaries, other.summaries)
+		&& Arrays.equals(this.icons, other.icons)
+		&& Arrays.equals(this.precipTypes, other.precipTypes)
+		&& Arrays.deepEquals(this.values, other.values);
+    }
+}
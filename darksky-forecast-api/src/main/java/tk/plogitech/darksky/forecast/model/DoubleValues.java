@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+/**
+ * Conversions between the boxed values of the getters and setters and primitive doubles which mark a missing value with NaN.
+ *
+ * NaN is free to mark a missing value because Json has no representation for it.
+ *
+ * @author Puls
+ */
+final class DoubleValues {
+
+    /**
+     * Marks a value which is not set.
+     */
+    static final double NONE = Double.NaN;
+
+    private DoubleValues() {
+    }
+
+    /**
+     * @return The value or {@link #NONE} if it is null.
+     */
+    static double of(Double value) {
+	return value == null ? NONE : value;
+    }
+
+    /**
+     * @return The value or {@link #NONE} if it is {@link IntegerValues#NONE}.
+     */
+    static double ofInt(int value) {
+	return value == IntegerValues.NONE ? NONE : value;
+    }
+
+    /**
+     * @return The boxed value or null if it is {@link #NONE}.
+     */
+    static Double boxed(double value) {
+	return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * @return The value as int or {@link IntegerValues#NONE} if it is {@link #NONE}.
+     */
+    static int toInt(double value) {
+	return Double.isNaN(value) ? IntegerValues.NONE : (int) value;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+
+/**
+ * Conversions between the epoch seconds the model stores its times in and the Instant views of the getters and setters.
+ *
+ * @author Puls
+ */
+final class EpochSeconds {
+
+    /**
+     * Marks a time which is not set.
+     */
+    static final long NONE = Long.MIN_VALUE;
+
+    private EpochSeconds() {
+    }
+
+    /**
+     * @return The Instant of the epoch second or null if it is {@link #NONE}.
+     */
+    static Instant instant(long epochSecond) {
+	return epochSecond == NONE ? null : Instant.ofEpochSecond(epochSecond);
+    }
+
+    /**
+     * @return The epoch second of the Instant, fractions of a second are truncated, or {@link #NONE} if it is null.
+     */
+    static long of(Instant instant) {
+	return instant == null ? NONE : instant.getEpochSecond();
+    }
+}
@@ -26,6 +26,9 @@ package tk.plogitech.darksky.forecast.model;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.Interned;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
+import tk.plogitech.darksky.forecast.json.StringTable;
 
 /**
  * The flags object contains various metadata information related to the request.
@@ -34,18 +37,24 @@ import java.util.Objects;
  *
  * @author Puls
  */
+@JsonBinding
 public class Flags implements Serializable {
 
+    private static final long serialVersionUID = -8348447162127914099L;
+
     private String units;
     private boolean darkskyUnavailable;
     private boolean metnoLicense;
+    private transient volatile boolean frozen;
     private List<String> sources;
 
     /**
      * @param units Indicates the units which were used for the data in this request.
      */
+    @Interned
     public void setUnits(String units) {
-	this.units = units;
+	Frozen.check(frozen);
+	this.units = StringTable.shared().intern(units);
     }
 
     /**
@@ -68,6 +77,7 @@ public class Flags implements Serializable {
      * error (such as a radar station being down for maintenance) has made the data unavailable.
      */
     public void setDarkskyUnavailable(boolean darkskyUnavailable) {
+	Frozen.check(frozen);
 	this.darkskyUnavailable = darkskyUnavailable;
     }
 
@@ -84,6 +94,7 @@ public class Flags implements Serializable {
      * their license agreement).
      */
     public void setMetnoLicense(boolean metnoLicense) {
+	Frozen.check(frozen);
 	this.metnoLicense = metnoLicense;
     }
 
@@ -98,9 +109,37 @@ public class Flags implements Serializable {
      * @param sources This property contains an array of IDs for each data source utilized in servicing this request.
      */
     public void setSources(List<String> sources) {
+	Frozen.check(frozen);
 	this.sources = sources;
     }
 
+    /**
+     * Makes this flags object immutable, see {@link Forecast#freeze()}.
+     *
+     * @return This flags object.
+     */
+    public Flags freeze() {
+	if (!frozen) {
+	    sources = Frozen.list(sources);
+	    frozen = true;
+	}
+	return this;
+    }
+
+    /**
+     * @return True if this flags object is frozen and cannot be changed.
+     */
+    public boolean frozen() {
+	return frozen;
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
+    }
+
     @Override
     public int hashCode() {
 	int hash = 7;
@@ -26,6 +26,9 @@ package tk.plogitech.darksky.forecast.model;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.Interned;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
+import tk.plogitech.darksky.forecast.json.StringTable;
 
 /**
  * Represents the response to a DarkSky forecast request.
@@ -45,8 +48,11 @@ import java.util.Objects;
  *
  * @author Puls
  */
+@JsonBinding
 public class Forecast implements Serializable {
 
+    private static final long serialVersionUID = 6426337491543097860L;
+
     private Flags flags;
     private List<Alert> alerts;
     private Currently currently;
@@ -56,11 +62,13 @@ public class Forecast implements Serializable {
     private String timezone;
     private Longitude longitude;
     private Latitude latitude;
+    private transient volatile boolean frozen;
 
     /**
      * @param longitude The requested longitude.
      */
     public void setLongitude(Longitude longitude) {
+	Frozen.check(frozen);
 	this.longitude = longitude;
     }
 
@@ -75,6 +83,7 @@ public class Forecast implements Serializable {
      * @param latitude The requested latitude.
      */
     public void setLatitude(Latitude latitude) {
+	Frozen.check(frozen);
 	this.latitude = latitude;
     }
 
@@ -96,6 +105,7 @@ public class Forecast implements Serializable {
      * @param alerts An alerts List, which, if present, contains any severe weather alerts pertinent to the requested location.
      */
     public void setAlerts(List<Alert> alerts) {
+	Frozen.check(frozen);
 	this.alerts = alerts;
     }
 
@@ -103,6 +113,7 @@ public class Forecast implements Serializable {
      * @param flags Optional flags object containing miscellaneous metadata about the request.
      */
     public void setFlags(Flags flags) {
+	Frozen.check(frozen);
 	this.flags = flags;
     }
 
@@ -118,8 +129,10 @@ public class Forecast implements Serializable {
      * data block objects begin. (e.g. America/New_York).
      *
      */
+    @Interned
     public void setTimezone(String timezone) {
-	this.timezone = timezone;
+	Frozen.check(frozen);
+	this.timezone = StringTable.shared().intern(timezone);
     }
 
     /**
@@ -134,6 +147,7 @@ public class Forecast implements Serializable {
      * @param currently A data point containing the current weather conditions at the requested location.
      */
     public void setCurrently(Currently currently) {
+	Frozen.check(frozen);
 	this.currently = currently;
     }
 
@@ -155,6 +169,7 @@ public class Forecast implements Serializable {
      * @param daily A data block containing the weather conditions day-by-day for the next week.
      */
     public void setDaily(Daily daily) {
+	Frozen.check(frozen);
 	this.daily = daily;
     }
 
@@ -169,6 +184,7 @@ public class Forecast implements Serializable {
      * @param hourly A data block containing the weather conditions hour-by-hour for the next two days.
      */
     public void setHourly(Hourly hourly) {
+	Frozen.check(frozen);
 	this.hourly = hourly;
     }
 
@@ -183,61 +199,109 @@ public class Forecast implements Serializable {
      * @param minutely A data block containing the weather conditions minute-by-minute for the next hour.
      */
     public void setMinutely(Minutely minutely) {
+	Frozen.check(frozen);
 	this.minutely = minutely;
     }
 
+    /**
+     * Makes this forecast and all its parts immutable, so it can be shared by any number of threads, e.g. from a cache, without copying it.
+     *
+     * Afterwards the setters of all parts throw an {@link UnsupportedOperationException} and their lists are unmodifiable copies. The forecast
+     * still has to be published safely to other threads, e.g. through a volatile or final field or a concurrent map. Threads which receive it
+     * that way can read it without further synchronization, because it does not change anymore. Deserialized and decoded forecasts are mutable.
+     * Freezing a frozen forecast does nothing.
+     *
+     * @return This forecast.
+     */
+    public Forecast freeze() {
+	if (!frozen) {
+	    if (getFlags() != null) {
+		getFlags().freeze();
+	    }
+	    if (getCurrently() != null) {
+		getCurrently().freeze();
+	    }
+	    if (getMinutely() != null) {
+		getMinutely().freeze();
+	    }
+	    if (getHourly() != null) {
+		getHourly().freeze();
+	    }
+	    if (getDaily() != null) {
+		getDaily().freeze();
+	    }
+	    alerts = Frozen.list(getAlerts(), Alert::freeze);
+	    frozen = true;
+	}
+	return this;
+    }
+
+    /**
+     * @return True if this forecast is frozen and cannot be changed.
+     */
+    public boolean frozen() {
+	return frozen;
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
+    }
+
     @Override
     public int hashCode() {
 	int hash = 7;
-	hash = 47 * hash + Objects.hashCode(this.flags);
-	hash = 47 * hash + Objects.hashCode(this.alerts);
-	hash = 47 * hash + Objects.hashCode(this.currently);
-	hash = 47 * hash + Objects.hashCode(this.daily);
-	hash = 47 * hash + Objects.hashCode(this.hourly);
-	hash = 47 * hash + Objects.hashCode(this.minutely);
-	hash = 47 * hash + Objects.hashCode(this.timezone);
-	hash = 47 * hash + Objects.hashCode(this.longitude);
-	hash = 47 * hash + Objects.hashCode(this.latitude);
+	hash = 47 * hash + Objects.hashCode(getFlags());
+	hash = 47 * hash + Objects.hashCode(getAlerts());
+	hash = 47 * hash + Objects.hashCode(getCurrently());
+	hash = 47 * hash + Objects.hashCode(getDaily());
+	hash = 47 * hash + Objects.hashCode(getHourly());
+	hash = 47 * hash + Objects.hashCode(getMinutely());
+	hash = 47 * hash + Objects.hashCode(getTimezone());
+	hash = 47 * hash + Objects.hashCode(getLongitude());
+	hash = 47 * hash + Objects.hashCode(getLatitude());
 	return hash;
     }
 
+    /**
+     * Compares the content through the getters, so a subclass which reads its blocks lazily is equal to a Forecast with the same content.
+     */
     @Override
     public boolean equals(Object obj) {
 	if (this == obj) {
 	    return true;
 	}
-	if (obj == null) {
-	    return false;
-	}
-	if (getClass() != obj.getClass()) {
+	if (!(obj instanceof Forecast)) {
 	    return false;
 	}
 	final Forecast other = (Forecast) obj;
-	if (!Objects.equals(this.timezone, other.timezone)) {
+	if (!Objects.equals(getTimezone(), other.getTimezone())) {
 	    return false;
 	}
-	if (!Objects.equals(this.flags, other.flags)) {
+	if (!Objects.equals(getFlags(), other.getFlags())) {
 	    return false;
 	}
-	if (!Objects.equals(this.alerts, other.alerts)) {
+	if (!Objects.equals(getAlerts(), other.getAlerts())) {
 	    return false;
 	}
-	if (!Objects.equals(this.currently, other.currently)) {
+	if (!Objects.equals(getCurrently(), other.getCurrently())) {
 	    return false;
 	}
-	if (!Objects.equals(this.daily, other.daily)) {
+	if (!Objects.equals(getDaily(), other.getDaily())) {
 	    return false;
 	}
-	if (!Objects.equals(this.hourly, other.hourly)) {
+	if (!Objects.equals(getHourly(), other.getHourly())) {
 	    return false;
 	}
-	if (!Objects.equals(this.minutely, other.minutely)) {
+	if (!Objects.equals(getMinutely(), other.getMinutely())) {
 	    return false;
 	}
-	if (!Objects.equals(this.longitude, other.longitude)) {
+	if (!Objects.equals(getLongitude(), other.getLongitude())) {
 	    return false;
 	}
-	return Objects.equals(this.latitude, other.latitude);
+	return Objects.equals(getLatitude(), other.getLatitude());
     }
 
 }
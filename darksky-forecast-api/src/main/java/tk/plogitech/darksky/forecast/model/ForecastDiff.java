@@ -0,0 +1,488 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Compares two forecasts for the same location, e.g. of successive fetches, field by field.
+ *
+ * The data points of the minutely, hourly and daily blocks are matched by their time, so a block which moved on by an hour reports the added and
+ * removed data points and the changed fields of the hours both forecasts contain, not a change of every data point. Numbers only count as changed
+ * if they differ by more than the tolerance of their field (see {@link #withTolerance(String, double)}), texts and times if they are not equal.
+ * Alerts are compared as a whole. Forecasts are expected with their data points in ascending order of time, as returned by the DarkSky API.
+ *
+ * {@link #differs(Forecast, Forecast)} stops at the first change, {@link #changes(Forecast, Forecast)} lists all of them. Blocks and data points
+ * which are equal are skipped after their equals check, so unchanged forecasts cost about as much as {@link Forecast#equals(Object)}. Only the
+ * data points which differ are compared field by field, through the primitive accessors, so comparing does not allocate unless something
+ * changed. A ForecastDiff is immutable and thread safe.
+ *
+ * @author Puls
+ */
+public final class ForecastDiff {
+
+    private static final DataSeries.Column[] COLUMNS = DataSeries.Column.values();
+    private static final DailySeries.Column[] DAILY_COLUMNS = DailySeries.Column.values();
+    private static final DailySeries.TimeColumn[] DAILY_TIME_COLUMNS = DailySeries.TimeColumn.values();
+    private static final String NEAREST_STORM_BEARING = "nearestStormBearing";
+    private static final String NEAREST_STORM_DISTANCE = "nearestStormDistance";
+    private static final ForecastDiff EXACT = new ForecastDiff(Collections.emptyMap(), 0);
+
+    /**
+     * The parts of a forecast a change is reported for.
+     */
+    public enum Block {
+	/**
+	 * The fields of the forecast itself: timezone, latitude and longitude.
+	 */
+	forecast,
+	currently,
+	minutely,
+	hourly,
+	daily,
+	alerts,
+	flags
+    }
+
+    private final Map<String, Double> tolerances;
+    private final double defaultTolerance;
+    private final double[] columnTolerances = new double[COLUMNS.length];
+    private final double[] dailyTolerances = new double[DAILY_COLUMNS.length];
+    private final double nearestStormBearingTolerance;
+    private final double nearestStormDistanceTolerance;
+
+    private ForecastDiff(Map<String, Double> tolerances, double defaultTolerance) {
+	this.tolerances = tolerances;
+	this.defaultTolerance = defaultTolerance;
+	for (DataSeries.Column column : COLUMNS) {
+	    columnTolerances[column.ordinal()] = tolerance(column.name());
+	}
+	for (DailySeries.Column column : DAILY_COLUMNS) {
+	    dailyTolerances[column.ordinal()] = tolerance(column.name());
+	}
+	this.nearestStormBearingTolerance = tolerance(NEAREST_STORM_BEARING);
+	this.nearestStormDistanceTolerance = tolerance(NEAREST_STORM_DISTANCE);
+    }
+
+    /**
+     * @return A diff which reports every difference of a number.
+     */
+    public static ForecastDiff exact() {
+	return EXACT;
+    }
+
+    /**
+     * @param tolerance The largest difference of numbers which is not reported, for all fields without a tolerance of their own.
+     * @return A copy of this diff with the tolerance.
+     */
+    public ForecastDiff withTolerance(double tolerance) {
+	checkTolerance(tolerance);
+
+	return new ForecastDiff(tolerances, tolerance);
+    }
+
+    /**
+     * @param field The name of a numeric field of the data points as in the Json, e.g. "temperature" or "precipIntensity". It applies to all
+     * blocks.
+     * @param tolerance The largest difference of the field which is not reported.
+     * @return A copy of this diff with the tolerance for the field.
+     * @throws IllegalArgumentException if the field is not a numeric field of the data points or the tolerance is negative or NaN.
+     */
+    public ForecastDiff withTolerance(String field, double tolerance) {
+	notNull("The field cannot be null.", field);
+	checkTolerance(tolerance);
+	if (!isNumeric(field)) {
+	    throw new IllegalArgumentException("The field " + field + " is not a numeric field of the data points.");
+	}
+
+	Map<String, Double> copy = new HashMap<>(tolerances);
+	copy.put(field, tolerance);
+	return new ForecastDiff(copy, defaultTolerance);
+    }
+
+    /**
+     * @param previous The forecast fetched before.
+     * @param current The forecast fetched now.
+     * @return True if the forecasts differ by more than the tolerances. Stops comparing at the first change.
+     */
+    public boolean differs(Forecast previous, Forecast current) {
+	return !compare(previous, current, 1).isEmpty();
+    }
+
+    /**
+     * @param previous The forecast fetched before.
+     * @param current The forecast fetched now.
+     * @return The changes from the previous to the current forecast, ordered by block and time. Empty if the forecasts do not differ by more than
+     * the tolerances.
+     */
+    public List<Change> changes(Forecast previous, Forecast current) {
+	return compare(previous, current, Integer.MAX_VALUE);
+    }
+
+    private List<Change> compare(Forecast previous, Forecast current, int limit) {
+	notNull("The forecasts cannot be null.", previous, current);
+
+	Changes changes = new Changes(limit);
+	if (!previous.equals(current)) {
+	    object(Block.forecast, EpochSeconds.NONE, "timezone", previous.getTimezone(), current.getTimezone(), changes);
+	    object(Block.forecast, EpochSeconds.NONE, "latitude", previous.getLatitude(), current.getLatitude(), changes);
+	    object(Block.forecast, EpochSeconds.NONE, "longitude", previous.getLongitude(), current.getLongitude(), changes);
+	    currently(previous.getCurrently(), current.getCurrently(), changes);
+	    minutely(previous.getMinutely(), current.getMinutely(), changes);
+	    hourly(previous.getHourly(), current.getHourly(), changes);
+	    daily(previous.getDaily(), current.getDaily(), changes);
+	    alerts(previous.getAlerts(), current.getAlerts(), changes);
+	    flags(previous.getFlags(), current.getFlags(), changes);
+	}
+	return changes.list;
+    }
+
+    private void currently(Currently previous, Currently current, Changes changes) {
+	if (changes.done() || Objects.equals(previous, current) || blockChanged(Block.currently, previous, current, changes)) {
+	    return;
+	}
+	number(Block.currently, EpochSeconds.NONE, "time", previous.timeEpochSecond(), current.timeEpochSecond(), changes);
+	dataPoint(Block.currently, EpochSeconds.NONE, previous, current, changes);
+	number(Block.currently, EpochSeconds.NONE, NEAREST_STORM_BEARING, DoubleValues.of(previous.getNearestStormBearing()),
+		DoubleValues.of(current.getNearestStormBearing()), nearestStormBearingTolerance, changes);
+	number(Block.currently, EpochSeconds.NONE, NEAREST_STORM_DISTANCE, DoubleValues.of(previous.getNearestStormDistance()),
+		DoubleValues.of(current.getNearestStormDistance()), nearestStormDistanceTolerance, changes);
+    }
+
+    private void minutely(Minutely previous, Minutely current, Changes changes) {
+	if (changes.done() || Objects.equals(previous, current) || blockChanged(Block.minutely, previous, current, changes)) {
+	    return;
+	}
+	object(Block.minutely, EpochSeconds.NONE, "summary", previous.getSummary(), current.getSummary(), changes);
+	object(Block.minutely, EpochSeconds.NONE, "icon", previous.getIcon(), current.getIcon(), changes);
+	data(Block.minutely, previous.getData(), current.getData(), DataPoint::timeEpochSecond, this::dataPoint, changes);
+    }
+
+    private void hourly(Hourly previous, Hourly current, Changes changes) {
+	if (changes.done() || Objects.equals(previous, current) || blockChanged(Block.hourly, previous, current, changes)) {
+	    return;
+	}
+	object(Block.hourly, EpochSeconds.NONE, "summary", previous.getSummary(), current.getSummary(), changes);
+	object(Block.hourly, EpochSeconds.NONE, "icon", previous.getIcon(), current.getIcon(), changes);
+	data(Block.hourly, previous.getData(), current.getData(), DataPoint::timeEpochSecond, this::dataPoint, changes);
+    }
+
+    private void daily(Daily previous, Daily current, Changes changes) {
+	if (changes.done() || Objects.equals(previous, current) || blockChanged(Block.daily, previous, current, changes)) {
+	    return;
+	}
+	object(Block.daily, EpochSeconds.NONE, "summary", previous.getSummary(), current.getSummary(), changes);
+	object(Block.daily, EpochSeconds.NONE, "icon", previous.getIcon(), current.getIcon(), changes);
+	data(Block.daily, previous.getData(), current.getData(), DailyDataPoint::timeEpochSecond, this::dailyDataPoint, changes);
+    }
+
+    private void alerts(List<Alert> previous, List<Alert> current, Changes changes) {
+	if (changes.done() || Objects.equals(previous, current) || blockChanged(Block.alerts, previous, current, changes)) {
+	    return;
+	}
+	for (Alert alert : previous) {
+	    if (!current.contains(alert)) {
+		changes.add(new Change(Block.alerts, EpochSeconds.NONE, null, alert, null));
+	    }
+	}
+	for (Alert alert : current) {
+	    if (!previous.contains(alert)) {
+		changes.add(new Change(Block.alerts, EpochSeconds.NONE, null, null, alert));
+	    }
+	}
+    }
+
+    private void flags(Flags previous, Flags current, Changes changes) {
+	if (changes.done() || Objects.equals(previous, current) || blockChanged(Block.flags, previous, current, changes)) {
+	    return;
+	}
+	object(Block.flags, EpochSeconds.NONE, "units", previous.getUnits(), current.getUnits(), changes);
+	object(Block.flags, EpochSeconds.NONE, "sources", previous.getSources(), current.getSources(), changes);
+	object(Block.flags, EpochSeconds.NONE, "darkskyUnavailable", previous.isDarkskyUnavailable(), current.isDarkskyUnavailable(), changes);
+	object(Block.flags, EpochSeconds.NONE, "metnoLicense", previous.isMetnoLicense(), current.isMetnoLicense(), changes);
+    }
+
+    /**
+     * Reports a block which only one of the forecasts contains.
+     *
+     * @return True if the block is missing in one or both forecasts.
+     */
+    private static boolean blockChanged(Block block, Object previous, Object current, Changes changes) {
+	if (previous == null || current == null) {
+	    if (previous != current) {
+		changes.add(new Change(block, EpochSeconds.NONE, null, previous, current));
+	    }
+	    return true;
+	}
+	return false;
+    }
+
+    /**
+     * Matches the data points of both lists by their time and compares the data points with the same time.
+     */
+    private static <T> void data(Block block, List<T> previous, List<T> current, ToLongFunction<T> time, DataPointComparison<T> comparison,
+	    Changes changes) {
+	if (previous == null || current == null) {
+	    object(block, EpochSeconds.NONE, "data", previous, current, changes);
+	    return;
+	}
+	int p = 0;
+	int c = 0;
+	while (!changes.done() && (p < previous.size() || c < current.size())) {
+	    T previousPoint = p < previous.size() ? previous.get(p) : null;
+	    T currentPoint = c < current.size() ? current.get(c) : null;
+	    if (previousPoint == null && p < previous.size()) {
+		p++;
+	    } else if (currentPoint == null && c < current.size()) {
+		c++;
+	    } else if (currentPoint == null || previousPoint != null && time.applyAsLong(previousPoint) < time.applyAsLong(currentPoint)) {
+		changes.add(new Change(block, time.applyAsLong(previousPoint), null, previousPoint, null));
+		p++;
+	    } else if (previousPoint == null || time.applyAsLong(currentPoint) < time.applyAsLong(previousPoint)) {
+		changes.add(new Change(block, time.applyAsLong(currentPoint), null, null, currentPoint));
+		c++;
+	    } else {
+		if (!previousPoint.equals(currentPoint)) {
+		    comparison.compare(block, time.applyAsLong(currentPoint), previousPoint, currentPoint, changes);
+		}
+		p++;
+		c++;
+	    }
+	}
+    }
+
+    private void dataPoint(Block block, long time, DataPoint previous, DataPoint current, Changes changes) {
+	object(block, time, "summary", previous.getSummary(), current.getSummary(), changes);
+	object(block, time, "icon", previous.getIcon(), current.getIcon(), changes);
+	object(block, time, "precipType", previous.getPrecipType(), current.getPrecipType(), changes);
+	for (DataSeries.Column column : COLUMNS) {
+	    number(block, time, column.name(), column.getter.applyAsDouble(previous), column.getter.applyAsDouble(current),
+		    columnTolerances[column.ordinal()], changes);
+	}
+    }
+
+    private void dailyDataPoint(Block block, long time, DailyDataPoint previous, DailyDataPoint current, Changes changes) {
+	object(block, time, "summary", previous.getSummary(), current.getSummary(), changes);
+	object(block, time, "icon", previous.getIcon(), current.getIcon(), changes);
+	object(block, time, "precipType", previous.getPrecipType(), current.getPrecipType(), changes);
+	for (DailySeries.TimeColumn column : DAILY_TIME_COLUMNS) {
+	    number(block, time, column.name(), column.getter.applyAsLong(previous), column.getter.applyAsLong(current), changes);
+	}
+	for (DailySeries.Column column : DAILY_COLUMNS) {
+	    number(block, time, column.name(), column.getter.applyAsDouble(previous), column.getter.applyAsDouble(current),
+		    dailyTolerances[column.ordinal()], changes);
+	}
+    }
+
+    private static void object(Block block, long time, String field, Object previous, Object current, Changes changes) {
+	if (!Objects.equals(previous, current)) {
+	    changes.add(new Change(block, time, field, previous, current));
+	}
+    }
+
+    /**
+     * Compares two times in epoch seconds.
+     */
+    private static void number(Block block, long time, String field, long previous, long current, Changes changes) {
+	if (previous != current) {
+	    changes.add(new Change(block, time, field, EpochSeconds.instant(previous), EpochSeconds.instant(current)));
+	}
+    }
+
+    private static void number(Block block, long time, String field, double previous, double current, double tolerance, Changes changes) {
+	boolean previousSet = !Double.isNaN(previous);
+	boolean currentSet = !Double.isNaN(current);
+	if (previousSet != currentSet || previousSet && Math.abs(previous - current) > tolerance) {
+	    changes.add(new Change(block, time, field, DoubleValues.boxed(previous), DoubleValues.boxed(current)));
+	}
+    }
+
+    private double tolerance(String field) {
+	Double tolerance = tolerances.get(field);
+	return tolerance == null ? defaultTolerance : tolerance;
+    }
+
+    private static void checkTolerance(double tolerance) {
+	if (!(tolerance >= 0)) {
+	    throw new IllegalArgumentException("The tolerance must not be negative or NaN: " + tolerance);
+	}
+    }
+
+    private static boolean isNumeric(String field) {
+	if (field.equals(NEAREST_STORM_BEARING) || field.equals(NEAREST_STORM_DISTANCE)) {
+	    return true;
+	}
+	for (DataSeries.Column column : COLUMNS) {
+	    if (column.name().equals(field)) {
+		return true;
+	    }
+	}
+	for (DailySeries.Column column : DAILY_COLUMNS) {
+	    if (column.name().equals(field)) {
+		return true;
+	    }
+	}
+	return false;
+    }
+
+    /**
+     * Compares two data points with the same time.
+     */
+    @FunctionalInterface
+    private interface DataPointComparison<T> {
+
+	void compare(Block block, long time, T previous, T current, Changes changes);
+    }
+
+    /**
+     * The changes found so far, full once the limit is reached.
+     */
+    private static final class Changes {
+
+	private final List<Change> list = new ArrayList<>();
+	private final int limit;
+
+	Changes(int limit) {
+	    this.limit = limit;
+	}
+
+	void add(Change change) {
+	    if (!done()) {
+		list.add(change);
+	    }
+	}
+
+	boolean done() {
+	    return list.size() >= limit;
+	}
+    }
+
+    /**
+     * A changed field, or an added or removed block, data point or alert.
+     */
+    public static final class Change {
+
+	private final Block block;
+	private final long time;
+	private final String field;
+	private final Object previous;
+	private final Object current;
+
+	Change(Block block, long time, String field, Object previous, Object current) {
+	    this.block = block;
+	    this.time = time;
+	    this.field = field;
+	    this.previous = previous;
+	    this.current = current;
+	}
+
+	/**
+	 * @return The block which contains the change.
+	 */
+	public Block block() {
+	    return block;
+	}
+
+	/**
+	 * @return The time of the changed data point of a minutely, hourly or daily block in epoch seconds or {@link Long#MIN_VALUE} if the
+	 * change is not part of a data point.
+	 */
+	public long timeEpochSecond() {
+	    return time;
+	}
+
+	/**
+	 * @return The time of the changed data point or null, see {@link #timeEpochSecond()}.
+	 */
+	public Instant time() {
+	    return EpochSeconds.instant(time);
+	}
+
+	/**
+	 * @return The name of the changed field as in the Json or null if a whole block, data point or alert was added or removed.
+	 */
+	public String field() {
+	    return field;
+	}
+
+	/**
+	 * @return The previous value or null if it was not set. Numbers are Doubles, times Instants. For added or removed blocks, data points
+	 * and alerts the object itself.
+	 */
+	public Object previous() {
+	    return previous;
+	}
+
+	/**
+	 * @return The current value or null if it is not set, see {@link #previous()}.
+	 */
+	public Object current() {
+	    return current;
+	}
+
+	@Override
+	public int hashCode() {
+	    int hash = 7;
+	    hash = 59 * hash + Objects.hashCode(this.block);
+	    hash = 59 * hash + Long.hashCode(this.time);
+	    hash = 59 * hash + Objects.hashCode(this.field);
+	    hash = 59 * hash + Objects.hashCode(this.previous);
+	    hash = 59 * hash + Objects.hashCode(this.current);
+	    return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+	    if (this == obj) {
+		return true;
+	    }
+	    if (obj == null || getClass() != obj.getClass()) {
+		return false;
+	    }
+	    final Change other = (Change) obj;
+	    return block == other.block && time == other.time && Objects.equals(field, other.field) && Objects.equals(previous, other.previous)
+		    && Objects.equals(current, other.current);
+	}
+
+	@Override
+	public String toString() {
+	    StringBuilder text = new StringBuilder(block.name());
+	    if (time != EpochSeconds.NONE) {
+		text.append(' ').append(time());
+	    }
+	    if (field != null) {
+		text.append(' ').append(field);
+	    }
+	    return text.append(": ").append(previous).append(" -> ").append(current).toString();
+	}
+    }
+}
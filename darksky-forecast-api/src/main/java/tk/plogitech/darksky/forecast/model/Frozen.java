@@ -0,0 +1,75 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Helpers of the model classes to freeze themselves, see {@link Forecast#freeze()}.
+ *
+ * @author Puls
+ */
+final class Frozen {
+
+    private Frozen() {
+    }
+
+    /**
+     * @param frozen True if the object which is about to be changed is frozen.
+     * @throws UnsupportedOperationException if the object is frozen.
+     */
+    static void check(boolean frozen) {
+	if (frozen) {
+	    throw new UnsupportedOperationException("The object is frozen and cannot be changed.");
+	}
+    }
+
+    /**
+     * @param list The list of a model object or null.
+     * @return An unmodifiable copy of the list or null if the list is null.
+     */
+    static <T> List<T> list(List<T> list) {
+	return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+    }
+
+    /**
+     * @param list The list of a model object or null.
+     * @param freeze Freezes an element of the list, it is not called for null elements.
+     * @return An unmodifiable copy of the list with frozen elements or null if the list is null.
+     */
+    static <T> List<T> list(List<T> list, Consumer<T> freeze) {
+	List<T> copy = list(list);
+	if (copy != null) {
+	    for (T element : copy) {
+		if (element != null) {
+		    freeze.accept(element);
+		}
+	    }
+	}
+	return copy;
+    }
+}
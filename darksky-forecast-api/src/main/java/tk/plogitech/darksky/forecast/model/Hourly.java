@@ -26,17 +26,25 @@ package tk.plogitech.darksky.forecast.model;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
+import tk.plogitech.darksky.forecast.json.Interned;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
+import tk.plogitech.darksky.forecast.json.StringTable;
 
 /**
  * A data block containing the weather conditions hour-by-hour for the next two days.
  *
  * @author Puls.
  */
+@JsonBinding
 public class Hourly implements Serializable {
 
+    private static final long serialVersionUID = 9184042654070203163L;
+
     private String summary;
     private String icon;
     private List<HourlyDataPoint> data;
+    private transient volatile boolean frozen;
+    private transient TimeIndex<HourlyDataPoint> timeIndex;
 
     /**
      * @return A human-readable summary of this data block.
@@ -48,8 +56,10 @@ public class Hourly implements Serializable {
     /**
      * @param summary A human-readable summary of this data block.
      */
+    @Interned
     public void setSummary(String summary) {
-	this.summary = summary;
+	Frozen.check(frozen);
+	this.summary = StringTable.shared().intern(summary);
     }
 
     /**
@@ -62,8 +72,17 @@ public class Hourly implements Serializable {
     /**
      * @param icon A machine-readable text summary of this data block. (May take on the same values as the iconproperty of data points.)
      */
+    @Interned
     public void setIcon(String icon) {
-	this.icon = icon;
+	Frozen.check(frozen);
+	this.icon = Icon.intern(icon);
+    }
+
+    /**
+     * @return The icon as enum or null if it is not set or not known to this library (see {@link #getIcon()}).
+     */
+    public Icon icon() {
+	return Icon.of(icon);
     }
 
     /**
@@ -77,9 +96,52 @@ public class Hourly implements Serializable {
      * @param data List containing all DataPoints, ordered by time.
      */
     public void setData(List<HourlyDataPoint> data) {
+	Frozen.check(frozen);
 	this.data = data;
     }
 
+    /**
+     * @return The index to find the data points by time, e.g. the data point at an Instant. The index of a frozen block is created once and
+     * kept, otherwise every call indexes the current data points.
+     */
+    public TimeIndex<HourlyDataPoint> timeIndex() {
+	TimeIndex<HourlyDataPoint> index = timeIndex;
+	if (index == null) {
+	    index = data == null ? TimeIndex.empty() : TimeIndex.of(data, HourlyDataPoint::timeEpochSecond);
+	    if (frozen) {
+		timeIndex = index;
+	    }
+	}
+	return index;
+    }
+
+    /**
+     * Makes this data block and its data points immutable, see {@link Forecast#freeze()}.
+     *
+     * @return This data block.
+     */
+    public Hourly freeze() {
+	if (!frozen) {
+	    data = Frozen.list(data, HourlyDataPoint::freeze);
+	    frozen = true;
+	}
+	return this;
+    }
+
+    /**
+     * @return True if this data block is frozen and cannot be changed.
+     */
+    public boolean frozen() {
+	return frozen;
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
+    }
+
     @Override
     public int hashCode() {
 	int hash = 7;
@@ -23,22 +23,35 @@
  */
 package tk.plogitech.darksky.forecast.model;
 
-import java.util.Objects;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
+import tk.plogitech.darksky.forecast.json.JsonBinding;
 
 /**
  * DataPoint for the data of a single hour.
  *
  * @author Puls
  */
+@JsonBinding
 public class HourlyDataPoint extends DataPoint {
 
-    private Double precipAccumulation;
+    private static final long serialVersionUID = 1632824814551677513L;
+
+    /**
+     * The fields of the default serialized form of earlier versions, which stored the numbers boxed.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+	new ObjectStreamField("precipAccumulation", Double.class)
+    };
+
+    private double precipAccumulation = DoubleValues.NONE;
 
     /**
      * @return The amount of snowfall accumulation expected to occur, in inches. (If no snowfall is expected, this property will not be defined.)
      */
     public Double getPrecipAccumulation() {
-	return precipAccumulation;
+	return DoubleValues.boxed(precipAccumulation);
     }
 
     /**
@@ -46,13 +59,37 @@ public class HourlyDataPoint extends DataPoint {
      * be defined.)
      */
     public void setPrecipAccumulation(Double precipAccumulation) {
+	Frozen.check(frozen());
+	this.precipAccumulation = DoubleValues.of(precipAccumulation);
+    }
+
+    /**
+     * @return The value of {@link #getPrecipAccumulation()} without boxing or NaN if it is not set.
+     */
+    public double precipAccumulationAsDouble() {
+	return precipAccumulation;
+    }
+
+    /**
+     * @param precipAccumulation The value of {@link #setPrecipAccumulation(java.lang.Double)}, NaN if it is not set.
+     */
+    public void precipAccumulationAsDouble(double precipAccumulation) {
+	Frozen.check(frozen());
 	this.precipAccumulation = precipAccumulation;
     }
 
+    /**
+     * Reads the default serialized form of earlier versions, current versions write the {@link SerialForm}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+	ObjectInputStream.GetField fields = in.readFields();
+	precipAccumulation = DoubleValues.of((Double) fields.get("precipAccumulation", null));
+    }
+
     @Override
     public int hashCode() {
 	int hash = super.hashCode();
-	hash = 43 * hash + Objects.hashCode(this.precipAccumulation);
+	hash = 43 * hash + Double.hashCode(this.precipAccumulation);
 	return hash;
     }
 
@@ -71,7 +108,7 @@ public class HourlyDataPoint extends DataPoint {
 	    return false;
 	}
 	final HourlyDataPoint other = (HourlyDataPoint) obj;
-	return Objects.equals(this.precipAccumulation, other.precipAccumulation);
+	return Double.doubleToLongBits(this.precipAccumulation) == Double.doubleToLongBits(other.precipAccumulation);
     }
 
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import tk.plogitech.darksky.forecast.json.StringTable;
+
+/**
+ * The machine-readable summaries of a data point or block, suitable for selecting an icon for display.
+ *
+ * @author Puls
+ */
+public enum Icon {
+    clear_day,
+    clear_night,
+    rain,
+    snow,
+    sleet,
+    wind,
+    fog,
+    cloudy,
+    partly_cloudy_day,
+    partly_cloudy_night,
+    /**
+     * Announced by DarkSky for the future.
+     */
+    hail,
+    /**
+     * Announced by DarkSky for the future.
+     */
+    thunderstorm,
+    /**
+     * Announced by DarkSky for the future.
+     */
+    tornado;
+
+    private static final Map<String, Icon> BY_VALUE = new HashMap<>();
+
+    static {
+	for (Icon icon : values()) {
+	    BY_VALUE.put(icon.value, icon);
+	}
+    }
+
+    private final String value = name().replace('_', '-');
+
+    /**
+     * @return The value used by the DarkSky API, e.g. partly-cloudy-day.
+     */
+    public String value() {
+	return value;
+    }
+
+    /**
+     * @param value The value used by the DarkSky API, e.g. partly-cloudy-day.
+     * @return The icon or null if the value is null or unknown.
+     */
+    public static Icon of(String value) {
+	return value == null ? null : BY_VALUE.get(value);
+    }
+
+    /**
+     * @return The value of the icon for known values, otherwise the value from the shared StringTable.
+     */
+    static String intern(String value) {
+	Icon icon = of(value);
+	return icon != null ? icon.value : StringTable.shared().intern(value);
+    }
+}
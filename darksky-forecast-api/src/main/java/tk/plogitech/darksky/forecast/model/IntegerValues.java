@@ -0,0 +1,55 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+/**
+ * Conversions between the boxed values of the getters and setters and primitive ints which mark a missing value with
+ * {@link Integer#MIN_VALUE}.
+ *
+ * @author Puls
+ */
+final class IntegerValues {
+
+    /**
+     * Marks a value which is not set.
+     */
+    static final int NONE = Integer.MIN_VALUE;
+
+    private IntegerValues() {
+    }
+
+    /**
+     * @return The value or {@link #NONE} if it is null.
+     */
+    static int of(Integer value) {
+	return value == null ? NONE : value;
+    }
+
+    /**
+     * @return The boxed value or null if it is {@link #NONE}.
+     */
+    static Integer boxed(int value) {
+	return value == NONE ? null : value;
+    }
+}
@@ -24,9 +24,9 @@
 package tk.plogitech.darksky.forecast.model;
 
 import java.io.Serializable;
-import java.util.Locale;
 import java.util.Objects;
 import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+import tk.plogitech.darksky.forecast.util.CoordinateFormat;
 
 /**
  * Represents the Longitude of a GeoCordinate of a location.
@@ -35,6 +35,8 @@ import static tk.plogitech.darksky.forecast.util.Assert.notNull;
  */
 public class Longitude implements Serializable {
 
+    private static final long serialVersionUID = 8002905780337342832L;
+
     private final Double value;
 
     /**
@@ -73,7 +75,14 @@ public class Longitude implements Serializable {
      */
     @Override
     public String toString() {
-	return String.format(Locale.ENGLISH, "%f", value);
+	return CoordinateFormat.format(value);
+    }
+
+    /**
+     * @return The {@link SerialForm} which is serialized instead of this object.
+     */
+    protected Object writeReplace() {
+	return new SerialForm(this);
     }
 
     @Override
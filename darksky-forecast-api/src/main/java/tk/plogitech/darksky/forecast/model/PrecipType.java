@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import tk.plogitech.darksky.forecast.json.StringTable;
+
+/**
+ * The types of precipitation of a data point.
+ *
+ * @author Puls
+ */
+public enum PrecipType {
+    rain,
+    snow,
+    /**
+     * Each of freezing rain, ice pellets, and wintery mix.
+     */
+    sleet;
+
+    private final String value = name();
+
+    /**
+     * @return The value used by the DarkSky API.
+     */
+    public String value() {
+	return value;
+    }
+
+    /**
+     * @param value The value used by the DarkSky API.
+     * @return The type or null if the value is null or unknown.
+     */
+    public static PrecipType of(String value) {
+	if (value != null) {
+	    switch (value) {
+		case "rain":
+		    return rain;
+		case "snow":
+		    return snow;
+		case "sleet":
+		    return sleet;
+		default:
+	    }
+	}
+	return null;
+    }
+
+    /**
+     * @return The value of the type for known values, otherwise the value from the shared StringTable.
+     */
+    static String intern(String value) {
+	PrecipType type = of(value);
+	return type != null ? type.value : StringTable.shared().intern(value);
+    }
+}
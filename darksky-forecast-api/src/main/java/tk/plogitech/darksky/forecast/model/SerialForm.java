@@ -0,0 +1,212 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import tk.plogitech.darksky.forecast.binary.BinaryReader;
+import tk.plogitech.darksky.forecast.binary.BinaryWriter;
+
+/**
+ * The serialized form of all model classes, their writeReplace methods substitute it for the object.
+ *
+ * Instead of the field by field Java serialization of the whole object graph it writes a version byte, a type byte and the
+ * {@link BinaryWriter binary encoding} of the object, so a forecast is serialized as a single block of primitives. Reading it resolves to an
+ * equal model object again.
+ *
+ * The compatibility with earlier versions is one way only. Streams written with their default serialization can still be read, the model
+ * classes keep their serialVersionUIDs and convert the times which were stored as Instants. Streams written by this version contain the
+ * serial form, which earlier versions do not know, so they cannot read them; update all readers, e.g. all nodes sharing a session store,
+ * before the writers.
+ *
+ * Unlike the default serialization the serial form is not compatible across changes of the model classes: the encoding is checked against
+ * the schema of the reading classes, so a stream written by a release with other properties (e.g. a session or cache persisted before an
+ * upgrade) fails with a {@link java.io.StreamCorruptedException}. Discard such streams or convert them with the release which wrote them.
+ *
+ * @author Puls
+ */
+final class SerialForm implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int VERSION = 1;
+
+    private static final int FORECAST = 0;
+    private static final int CURRENTLY = 1;
+    private static final int DATA_POINT = 2;
+    private static final int HOURLY_DATA_POINT = 3;
+    private static final int DAILY_DATA_POINT = 4;
+    private static final int MINUTELY = 5;
+    private static final int HOURLY = 6;
+    private static final int DAILY = 7;
+    private static final int ALERT = 8;
+    private static final int FLAGS = 9;
+    private static final int LATITUDE = 10;
+    private static final int LONGITUDE = 11;
+
+    private Object value;
+
+    /**
+     * Used by the deserialization only.
+     */
+    public SerialForm() {
+    }
+
+    SerialForm(Object value) {
+	this.value = value;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+	out.writeByte(VERSION);
+	if (value instanceof Latitude) {
+	    out.writeByte(LATITUDE);
+	    out.writeDouble(((Latitude) value).value());
+	    return;
+	}
+	if (value instanceof Longitude) {
+	    out.writeByte(LONGITUDE);
+	    out.writeDouble(((Longitude) value).value());
+	    return;
+	}
+
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+	BinaryWriter writer = new BinaryWriter(bytes);
+	out.writeByte(encode(writer));
+	writer.flush();
+	out.writeInt(bytes.size());
+	out.write(bytes.toByteArray());
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+	int version = in.readUnsignedByte();
+	if (version != VERSION) {
+	    throw new InvalidObjectException("Unsupported serial form version: " + version);
+	}
+	int type = in.readUnsignedByte();
+	if (type == LATITUDE) {
+	    value = new Latitude(in.readDouble());
+	    return;
+	}
+	if (type == LONGITUDE) {
+	    value = new Longitude(in.readDouble());
+	    return;
+	}
+
+	int length = in.readInt();
+	if (length < 0) {
+	    throw new StreamCorruptedException("Invalid length of the serial form: " + length);
+	}
+	byte[] bytes = new byte[length];
+	in.readFully(bytes);
+	value = decode(type, new BinaryReader(bytes));
+    }
+
+    /**
+     * @return The type written in front of the encoding. Subclasses are checked before their super classes.
+     */
+    private int encode(BinaryWriter writer) throws IOException {
+	if (value instanceof Forecast) {
+	    ForecastBinding.encode((Forecast) value, writer);
+	    return FORECAST;
+	}
+	if (value instanceof Currently) {
+	    CurrentlyBinding.encode((Currently) value, writer);
+	    return CURRENTLY;
+	}
+	if (value instanceof HourlyDataPoint) {
+	    HourlyDataPointBinding.encode((HourlyDataPoint) value, writer);
+	    return HOURLY_DATA_POINT;
+	}
+	if (value instanceof DataPoint) {
+	    DataPointBinding.encode((DataPoint) value, writer);
+	    return DATA_POINT;
+	}
+	if (value instanceof DailyDataPoint) {
+	    DailyDataPointBinding.encode((DailyDataPoint) value, writer);
+	    return DAILY_DATA_POINT;
+	}
+	if (value instanceof Minutely) {
+	    MinutelyBinding.encode((Minutely) value, writer);
+	    return MINUTELY;
+	}
+	if (value instanceof Hourly) {
+	    HourlyBinding.encode((Hourly) value, writer);
+	    return HOURLY;
+	}
+	if (value instanceof Daily) {
+	    DailyBinding.encode((Daily) value, writer);
+	    return DAILY;
+	}
+	if (value instanceof Alert) {
+	    AlertBinding.encode((Alert) value, writer);
+	    return ALERT;
+	}
+	if (value instanceof Flags) {
+	    FlagsBinding.encode((Flags) value, writer);
+	    return FLAGS;
+	}
+	throw new IllegalStateException("No serial form for " + value.getClass().getName());
+    }
+
+    private static Object decode(int type, BinaryReader reader) throws IOException {
+	switch (type) {
+	    case FORECAST:
+		return ForecastBinding.decode(reader);
+	    case CURRENTLY:
+		return CurrentlyBinding.decode(reader);
+	    case DATA_POINT:
+		return DataPointBinding.decode(reader);
+	    case HOURLY_DATA_POINT:
+		return HourlyDataPointBinding.decode(reader);
+	    case DAILY_DATA_POINT:
+		return DailyDataPointBinding.decode(reader);
+	    case MINUTELY:
+		return MinutelyBinding.decode(reader);
+	    case HOURLY:
+		return HourlyBinding.decode(reader);
+	    case DAILY:
+		return DailyBinding.decode(reader);
+	    case ALERT:
+		return AlertBinding.decode(reader);
+	    case FLAGS:
+		return FlagsBinding.decode(reader);
+	    default:
+		throw new StreamCorruptedException("Unknown type of the serial form: " + type);
+	}
+    }
+
+    /**
+     * @return The model object this form was read for.
+     */
+    private Object readResolve() {
+	return value;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import static tk.plogitech.darksky.forecast.util.Assert.notNull;
+
+/**
+ * Finds the data points of a block by time, e.g. the hour of the hourly block which contains a given Instant.
+ *
+ * The data points of DarkSky blocks are evenly spaced (a minute, an hour), so the index of a time is computed directly from the time of the first
+ * data point and the spacing. Irregular data, e.g. the days of a daily block around a daylight saving time change or data points out of order,
+ * is searched binarily instead. Data points without a time are never found.
+ *
+ * Create the index of a block with {@link Minutely#timeIndex()}, {@link Hourly#timeIndex()} or {@link Daily#timeIndex()}, or for any list with
+ * {@link #of(List, ToLongFunction)}. The index is immutable and thread safe. It keeps a copy of the list, so later changes of the list are not
+ * reflected, neither in the positions nor in the data points it returns.
+ *
+ * @param <T> The type of the data points.
+ * @author Puls
+ */
+public final class TimeIndex<T> {
+
+    private final List<T> dataPoints;
+    private final long[] times;
+    private final int[] positions;
+    private final long step;
+
+    private TimeIndex(List<T> dataPoints, long[] times, int[] positions, long step) {
+	this.dataPoints = dataPoints;
+	this.times = times;
+	this.positions = positions;
+	this.step = step;
+    }
+
+    /**
+     * @param dataPoints The data points, ideally in ascending order of time. They are copied.
+     * @param time The time of a data point in epoch seconds or {@link Long#MIN_VALUE} if it is not set, e.g. DataPoint::timeEpochSecond.
+     * @return The index of the data points.
+     */
+    public static <T> TimeIndex<T> of(List<T> dataPoints, ToLongFunction<? super T> time) {
+	notNull("The data points and the time cannot be null.", dataPoints, time);
+	return index(Collections.unmodifiableList(new ArrayList<>(dataPoints)), time);
+    }
+
+    /**
+     * @param dataPoints The copy of the data points kept by the index.
+     */
+    private static <T> TimeIndex<T> index(List<T> dataPoints, ToLongFunction<? super T> time) {
+	int size = dataPoints.size();
+	long[] times = new long[size];
+	boolean ascending = true;
+	for (int i = 0; i < size; i++) {
+	    T dataPoint = dataPoints.get(i);
+	    times[i] = dataPoint == null ? EpochSeconds.NONE : time.applyAsLong(dataPoint);
+	    ascending &= times[i] != EpochSeconds.NONE && (i == 0 || times[i] > times[i - 1]);
+	}
+	if (ascending) {
+	    return new TimeIndex<>(dataPoints, times, null, step(times));
+	}
+
+	Integer[] order = new Integer[size];
+	int count = 0;
+	for (int i = 0; i < size; i++) {
+	    if (times[i] != EpochSeconds.NONE) {
+		order[count++] = i;
+	    }
+	}
+	Arrays.sort(order, 0, count, Comparator.comparingLong(i -> times[i]));
+	long[] sortedTimes = new long[count];
+	int[] positions = new int[count];
+	for (int i = 0; i < count; i++) {
+	    sortedTimes[i] = times[order[i]];
+	    positions[i] = order[i];
+	}
+	return new TimeIndex<>(dataPoints, sortedTimes, positions, 0);
+    }
+
+    /**
+     * @return The spacing of the times if all of them are evenly spaced, otherwise 0.
+     */
+    private static long step(long[] times) {
+	if (times.length < 2) {
+	    return 0;
+	}
+	long step = times[1] - times[0];
+	for (int i = 2; i < times.length; i++) {
+	    if (times[i] - times[i - 1] != step) {
+		return 0;
+	    }
+	}
+	return step;
+    }
+
+    /**
+     * @return An index of no data points.
+     */
+    static <T> TimeIndex<T> empty() {
+	return new TimeIndex<>(Collections.emptyList(), new long[0], null, 0);
+    }
+
+    /**
+     * @return True if the data points are evenly spaced and in order, so they are found in constant time.
+     */
+    public boolean isRegular() {
+	return step > 0;
+    }
+
+    /**
+     * @param time The time.
+     * @return The position in the list of the last data point at or before the time or -1 if there is none.
+     */
+    public int floor(Instant time) {
+	notNull("The time cannot be null.", time);
+
+	return floor(time.getEpochSecond());
+    }
+
+    /**
+     * @param epochSecond The time in epoch seconds.
+     * @return The position in the list of the last data point at or before the time or -1 if there is none.
+     */
+    public int floor(long epochSecond) {
+	return position(floorIndex(epochSecond));
+    }
+
+    /**
+     * @param time The time.
+     * @return The position in the list of the first data point at or after the time or -1 if there is none.
+     */
+    public int ceiling(Instant time) {
+	notNull("The time cannot be null.", time);
+
+	return ceiling(time.getEpochSecond());
+    }
+
+    /**
+     * @param epochSecond The time in epoch seconds.
+     * @return The position in the list of the first data point at or after the time or -1 if there is none.
+     */
+    public int ceiling(long epochSecond) {
+	int floor = floorIndex(epochSecond);
+	if (floor >= 0 && times[floor] == epochSecond) {
+	    return position(floor);
+	}
+	return floor + 1 < times.length ? position(floor + 1) : -1;
+    }
+
+    /**
+     * @param time The time.
+     * @return The position in the list of the data point closest to the time, the earlier one of two equally close, or -1 if there are no data
+     * points.
+     */
+    public int nearest(Instant time) {
+	notNull("The time cannot be null.", time);
+
+	long epochSecond = time.getEpochSecond();
+	int floor = floorIndex(epochSecond);
+	if (floor < 0) {
+	    return times.length == 0 ? -1 : position(0);
+	}
+	if (floor + 1 < times.length && times[floor + 1] - epochSecond < epochSecond - times[floor]) {
+	    return position(floor + 1);
+	}
+	return position(floor);
+    }
+
+    /**
+     * The last data point covers the same period as its predecessor, or only its own time if it is the only one.
+     *
+     * @param time The time.
+     * @return The data point whose period (from its time until the time of the next data point) contains the time, or null if the time is
+     * outside of all periods.
+     */
+    public T at(Instant time) {
+	notNull("The time cannot be null.", time);
+
+	long epochSecond = time.getEpochSecond();
+	int floor = floorIndex(epochSecond);
+	if (floor < 0) {
+	    return null;
+	}
+	int last = times.length - 1;
+	if (floor == last && epochSecond != times[last] && (last == 0 || epochSecond - times[last] >= times[last] - times[last - 1])) {
+	    return null;
+	}
+	return dataPoints.get(position(floor));
+    }
+
+    /**
+     * @param time The time.
+     * @param field The numeric field, e.g. DataPoint::temperatureAsDouble, NaN if it is not set.
+     * @return The value of the field linearly interpolated between the data points before and after the time, the value of the data point at
+     * the time, or NaN if the time is outside of the data points or one of the two values is not set.
+     */
+    public double interpolate(Instant time, ToDoubleFunction<? super T> field) {
+	notNull("The time and the field cannot be null.", time, field);
+
+	long epochSecond = time.getEpochSecond();
+	int floor = floorIndex(epochSecond);
+	if (floor < 0) {
+	    return Double.NaN;
+	}
+	double before = field.applyAsDouble(dataPoints.get(position(floor)));
+	if (times[floor] == epochSecond && time.getNano() == 0) {
+	    return before;
+	}
+	if (floor + 1 == times.length) {
+	    return Double.NaN;
+	}
+	double after = field.applyAsDouble(dataPoints.get(position(floor + 1)));
+	double fraction = (epochSecond - times[floor] + time.getNano() / 1e9) / (times[floor + 1] - times[floor]);
+	return before + (after - before) * fraction;
+    }
+
+    /**
+     * @return The index in {@link #times} of the last time at or before the epoch second or -1 if there is none.
+     */
+    private int floorIndex(long epochSecond) {
+	if (times.length == 0 || epochSecond < times[0]) {
+	    return -1;
+	}
+	if (step > 0) {
+	    long index = (epochSecond - times[0]) / step;
+	    return (int) Math.min(index, times.length - 1);
+	}
+	int index = Arrays.binarySearch(times, epochSecond);
+	return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * @return The position in the list of the data point with the index in {@link #times} or -1 if the index is -1.
+     */
+    private int position(int index) {
+	return positions == null || index < 0 ? index : positions[index];
+    }
+}
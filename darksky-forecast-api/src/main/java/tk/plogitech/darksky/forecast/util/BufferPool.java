@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded, thread safe pool of buffers which are reused for reading and copying responses.
+ *
+ * The pool holds a fixed number of slots which are taken and filled with compare and swap, so neither a lock nor a thread local is involved: a
+ * thread never blocks on the pool and many short lived threads share the same buffers. If no pooled buffer is large enough a new one is
+ * allocated, a released buffer which is larger than the maximum size or finds no free slot is left to the garbage collector.
+ *
+ * @param <T> The type of the buffers.
+ * @author Puls
+ */
+public final class BufferPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int defaultSize;
+    private final int maxSize;
+    private final IntFunction<T> allocator;
+    private final ToIntFunction<T> capacity;
+
+    private BufferPool(int slots, int defaultSize, int maxSize, IntFunction<T> allocator, ToIntFunction<T> capacity) {
+        if (slots < 1 || defaultSize < 1 || maxSize < defaultSize) {
+            throw new IllegalArgumentException("Invalid pool size: " + slots + " slots, buffers of " + defaultSize + " to " + maxSize + " bytes.");
+        }
+        this.slots = new AtomicReferenceArray<>(slots);
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+        this.allocator = allocator;
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param slots The maximum number of pooled arrays.
+     * @param defaultSize The size of a new array if no minimum size is requested.
+     * @param maxSize The maximum size of a pooled array.
+     * @return A pool of byte arrays.
+     */
+    public static BufferPool<byte[]> arrays(int slots, int defaultSize, int maxSize) {
+        return new BufferPool<>(slots, defaultSize, maxSize, byte[]::new, array -> array.length);
+    }
+
+    /**
+     * @param slots The maximum number of pooled buffers.
+     * @param defaultSize The capacity of a new buffer if no minimum capacity is requested.
+     * @param maxSize The maximum capacity of a pooled buffer.
+     * @return A pool of direct ByteBuffers.
+     */
+    public static BufferPool<ByteBuffer> directBuffers(int slots, int defaultSize, int maxSize) {
+        return new BufferPool<>(slots, defaultSize, maxSize, ByteBuffer::allocateDirect, ByteBuffer::capacity);
+    }
+
+    /**
+     * @return A pooled buffer or a new one of the default size. The content (and the position and limit of a ByteBuffer) is undefined.
+     */
+    public T acquire() {
+        return acquire(defaultSize);
+    }
+
+    /**
+     * @param minSize The minimum size of the buffer.
+     * @return A pooled buffer at least as large as the minimum size or a new one. The content (and the position and limit of a ByteBuffer) is
+     * undefined.
+     */
+    public T acquire(int minSize) {
+        for (int i = 0; i < slots.length(); i++) {
+            T buffer = slots.get(i);
+            if (buffer != null && capacity.applyAsInt(buffer) >= minSize && slots.compareAndSet(i, buffer, null)) {
+                return buffer;
+            }
+        }
+        return allocator.apply(Math.max(minSize, defaultSize));
+    }
+
+    /**
+     * Returns a buffer to the pool. The buffer must not be used after it was released.
+     *
+     * @param buffer The buffer, null is ignored.
+     */
+    public void release(T buffer) {
+        if (buffer == null || capacity.applyAsInt(buffer) > maxSize) {
+            return;
+        }
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, buffer)) {
+                return;
+            }
+        }
+    }
+}
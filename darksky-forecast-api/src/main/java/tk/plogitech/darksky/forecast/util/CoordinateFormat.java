@@ -0,0 +1,202 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.util;
+
+import java.util.Locale;
+
+/**
+ * Fast formatting and parsing of coordinates with a fixed number of decimals.
+ *
+ * The output is identical to {@code String.format(Locale.ENGLISH, "%f", value)} (six decimals, rounded half up) but is appended directly to a
+ * StringBuilder or byte[] without creating a Formatter. Only values which are (almost) exactly between two decimals fall back to the Formatter to
+ * keep the output identical.
+ *
+ * @author Puls
+ */
+public final class CoordinateFormat {
+
+    /**
+     * The number of decimals written for a coordinate.
+     */
+    public static final int DECIMALS = 6;
+
+    private static final long SCALE = 1_000_000L;
+    private static final double MAX_FAST_VALUE = 1e12;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private CoordinateFormat() {
+        // prevent construction of Utility class.
+    }
+
+    /**
+     * @param value The coordinate.
+     * @return The coordinate formatted with six decimals, e.g. "-0.000066".
+     */
+    public static String format(double value) {
+        return append(new StringBuilder(12), value).toString();
+    }
+
+    /**
+     * Appends the coordinate formatted with six decimals.
+     *
+     * @param builder The builder the coordinate is appended to.
+     * @param value The coordinate.
+     * @return The given builder.
+     */
+    public static StringBuilder append(StringBuilder builder, double value) {
+        long units = fixedUnits(value);
+        if (units < 0) {
+            return builder.append(String.format(Locale.ENGLISH, "%f", value));
+        }
+        if (isNegative(value)) {
+            builder.append('-');
+        }
+        builder.append(units / SCALE).append('.');
+        long fraction = units % SCALE;
+        for (long digit = SCALE / 10; digit > 0; digit /= 10) {
+            builder.append((char) ('0' + fraction / digit % 10));
+        }
+        return builder;
+    }
+
+    /**
+     * Writes the coordinate formatted with six decimals as ASCII bytes.
+     *
+     * @param buffer The buffer the coordinate is written to. It must have room for at least 20 bytes after the offset.
+     * @param offset The index of the first byte written.
+     * @param value The coordinate.
+     * @return The index after the last byte written.
+     */
+    public static int write(byte[] buffer, int offset, double value) {
+        long units = fixedUnits(value);
+        if (units < 0) {
+            String formatted = String.format(Locale.ENGLISH, "%f", value);
+            for (int i = 0; i < formatted.length(); i++) {
+                buffer[offset++] = (byte) formatted.charAt(i);
+            }
+            return offset;
+        }
+        if (isNegative(value)) {
+            buffer[offset++] = '-';
+        }
+        long integer = units / SCALE;
+        int digits = 1;
+        for (long rest = integer / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (byte) ('0' + integer % 10);
+            integer /= 10;
+        }
+        offset += digits;
+        buffer[offset++] = '.';
+        long fraction = units % SCALE;
+        for (int i = offset + DECIMALS - 1; i >= offset; i--) {
+            buffer[i] = (byte) ('0' + fraction % 10);
+            fraction /= 10;
+        }
+        return offset + DECIMALS;
+    }
+
+    /**
+     * @param value The coordinate.
+     * @return The coordinate rounded to six decimals and scaled by 10^6 (e.g. 52.516275 becomes 52516275), rounded exactly like {@link #format}.
+     */
+    public static long toFixed(double value) {
+        long units = fixedUnits(value);
+        if (units < 0) {
+            String formatted = String.format(Locale.ENGLISH, "%f", value);
+            return Math.round(Double.parseDouble(formatted) * SCALE);
+        }
+        return isNegative(value) ? -units : units;
+    }
+
+    /**
+     * Parses a decimal coordinate like "-130.377704" without creating intermediate objects. Exponents and very long values are parsed by
+     * {@link Double#parseDouble(String)}.
+     *
+     * @param value The coordinate as String.
+     * @return The coordinate.
+     * @throws NumberFormatException if the value is not a number.
+     */
+    public static double parse(CharSequence value) {
+        Assert.notNull("The value cannot be null.", value);
+
+        int length = value.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (; index < length; index++) {
+            char c = value.charAt(index);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 15) {
+                    return Double.parseDouble(value.toString());
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if (c == '.' && decimals < 0) {
+                decimals = 0;
+            } else {
+                return Double.parseDouble(value.toString());
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Not a number: \"" + value + "\"");
+        }
+        double result = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+        return negative ? -result : result;
+    }
+
+    /**
+     * @return The absolute value rounded half up to six decimals and scaled by 10^6 or -1 if the value has to be formatted by the Formatter.
+     */
+    private static long fixedUnits(double value) {
+        double scaled = Math.abs(value) * SCALE;
+        if (!(scaled < MAX_FAST_VALUE)) {
+            return -1;
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        // The Formatter rounds the shortest decimal representation of the value. Close to a tie the binary value may round differently.
+        if (Math.abs(fraction - 0.5) < 1e-4) {
+            return -1;
+        }
+        return (long) floor + (fraction > 0.5 ? 1 : 0);
+    }
+
+    private static boolean isNegative(double value) {
+        return Double.doubleToRawLongBits(value) < 0;
+    }
+}
@@ -23,8 +23,14 @@
  */
 package tk.plogitech.darksky.forecast.util;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import static tk.plogitech.darksky.forecast.util.Assert.notNull;
 
@@ -35,6 +41,11 @@ import static tk.plogitech.darksky.forecast.util.Assert.notNull;
  */
 public final class IOUtil {
 
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final BufferPool<byte[]> POOL = BufferPool.arrays(16, BUFFER_SIZE, 1024 * 1024);
+    private static final BufferPool<ByteBuffer> DIRECT_POOL = BufferPool.directBuffers(16, BUFFER_SIZE, BUFFER_SIZE);
+
     private IOUtil() {
         // prevent construction of Utility class.
     }
@@ -42,6 +53,9 @@ public final class IOUtil {
     /**
      * Reads the given {@link InputStream} and returns it as byte[].
      *
+     * A stream with a known length (see {@link #withContentLength(InputStream, long)}) is read into an array of that length. Otherwise it is
+     * read into a pooled buffer, which grows by doubling, and copied once into the result.
+     *
      * @param is The InputStream from which is read.
      * @return The bytes read from the InputStream.
      * @throws IOException If the InputStream cannot be read.
@@ -49,48 +63,202 @@ public final class IOUtil {
     public static byte[] readFully(InputStream is) throws IOException {
         notNull("The InputStream cannot be null", is);
 
-        return readFully(is, -1, true);
+        long contentLength = contentLength(is);
+        if (contentLength >= 0 && contentLength <= MAX_ARRAY_SIZE) {
+            ByteBuffer result = read(is, new byte[(int) contentLength]);
+            return result.limit() == result.capacity() ? result.array() : Arrays.copyOf(result.array(), result.limit());
+        }
+
+        byte[] buffer = POOL.acquire();
+        ByteBuffer result = null;
+        try {
+            result = read(is, buffer);
+            return Arrays.copyOf(result.array(), result.limit());
+        } finally {
+            POOL.release(result == null ? buffer : result.array());
+        }
     }
 
     /**
-     * Reads the given {@link InputStream} and returns it as byte[].
+     * Reads the given {@link InputStream} into a heap ByteBuffer without copying the bytes into an array of the exact size.
+     *
+     * A stream of unknown length is read into a new array, not into a pooled one like in {@link #readFully(InputStream)}: the returned buffer
+     * is backed by the array, so it could never be returned to the pool.
      *
-     * TODO: Very performant copy of sun.misc.IOUtils. Replace with Java 9 version.
+     * @param is The InputStream from which is read.
+     * @return The bytes read from the InputStream, from position 0 to the limit. The buffer is backed by the array the stream was read into.
+     * @throws IOException If the InputStream cannot be read.
+     */
+    public static ByteBuffer readBuffer(InputStream is) throws IOException {
+        notNull("The InputStream cannot be null", is);
+
+        long contentLength = contentLength(is);
+        int size = contentLength >= 0 && contentLength <= MAX_ARRAY_SIZE ? (int) contentLength : BUFFER_SIZE;
+        return read(is, new byte[size]).slice();
+    }
+
+    /**
+     * Copies the InputStream to the OutputStream through a pooled buffer. Neither stream is closed.
      *
      * @param is The InputStream from which is read.
-     * @param length The max number of bytes read. Use -1 to read everything.
-     * @param readAll Flag to signal that all bytes need to be read. An exception will be thrown if less bytes than the given
-     * length value is read (if length is not -1).
+     * @param os The OutputStream to which the bytes are written.
+     * @return The number of bytes copied.
+     * @throws IOException If the InputStream cannot be read or the OutputStream cannot be written.
      */
-    private static byte[] readFully(InputStream is, int length, boolean readAll) throws IOException {
-        byte[] output = {};
-        if (length == -1) {
-            length = Integer.MAX_VALUE;
+    public static long transfer(InputStream is, OutputStream os) throws IOException {
+        notNull("The InputStream and the OutputStream cannot be null", is, os);
+
+        byte[] buffer = POOL.acquire();
+        try {
+            long transferred = 0;
+            int count;
+            while ((count = is.read(buffer)) >= 0) {
+                os.write(buffer, 0, count);
+                transferred += count;
+            }
+            return transferred;
+        } finally {
+            POOL.release(buffer);
         }
-        int pos = 0;
-        while (pos < length) {
-            int bytesToRead;
-            if (pos >= output.length) { // Only expand when there's no room
-                bytesToRead = Math.min(length - pos, output.length + 1024);
-                if (output.length < pos + bytesToRead) {
-                    output = Arrays.copyOf(output, pos + bytesToRead);
+    }
+
+    /**
+     * Copies the InputStream to the channel through a pooled direct buffer, so that the channel writes it without another copy. Neither the
+     * stream nor the channel is closed.
+     *
+     * @param is The InputStream from which is read.
+     * @param channel The blocking channel to which the bytes are written.
+     * @return The number of bytes copied.
+     * @throws IOException If the InputStream cannot be read or the channel cannot be written.
+     */
+    public static long transfer(InputStream is, WritableByteChannel channel) throws IOException {
+        notNull("The InputStream and the channel cannot be null", is, channel);
+
+        ReadableByteChannel source = Channels.newChannel(is);
+        ByteBuffer buffer = DIRECT_POOL.acquire();
+        try {
+            buffer.clear();
+            long transferred = 0;
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += channel.write(buffer);
                 }
-            } else {
-                bytesToRead = output.length - pos;
+                buffer.clear();
             }
-            int cc = is.read(output, pos, bytesToRead);
-            if (cc < 0) {
-                if (readAll && length != Integer.MAX_VALUE) {
-                    throw new IllegalStateException("Detect premature EOF");
-                } else {
-                    if (output.length != pos) {
-                        output = Arrays.copyOf(output, pos);
-                    }
+            return transferred;
+        } finally {
+            DIRECT_POOL.release(buffer);
+        }
+    }
+
+    /**
+     * Attaches the length of its content (e.g. the Content-Length header of a response) to a stream, so that it can be read into an array of the
+     * right size by {@link #readFully(InputStream)} and {@link #readBuffer(InputStream)}.
+     *
+     * @param is The InputStream.
+     * @param contentLength The number of bytes of the stream or -1 if it is unknown.
+     * @return The InputStream with the length attached or the given stream if the length is unknown.
+     */
+    public static InputStream withContentLength(InputStream is, long contentLength) {
+        notNull("The InputStream cannot be null", is);
+
+        return contentLength < 0 ? is : new ContentLengthInputStream(is, contentLength);
+    }
+
+    /**
+     * @param is The InputStream.
+     * @return The length attached to the stream by {@link #withContentLength(InputStream, long)} or -1 if it is unknown.
+     */
+    public static long contentLength(InputStream is) {
+        return is instanceof ContentLengthInputStream ? ((ContentLengthInputStream) is).contentLength : -1;
+    }
+
+    /**
+     * Returns an {@link InputStream} reading the bytes between position and limit of the buffer. The position of the buffer is not changed.
+     *
+     * @param buffer The buffer which is read.
+     * @return The InputStream reading the buffer.
+     */
+    public static InputStream inputStream(ByteBuffer buffer) {
+        notNull("The ByteBuffer cannot be null", buffer);
+
+        ByteBuffer view = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(len, view.remaining());
+                view.get(b, off, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    /**
+     * Reads the stream to its end into the buffer, which is replaced by one of double size whenever it is full. Before the buffer grows a
+     * single byte is read to detect the end, so a buffer of the exact size is never copied.
+     *
+     * @return A ByteBuffer wrapping the array holding the bytes, its limit is the number of bytes read.
+     */
+    private static ByteBuffer read(InputStream is, byte[] buffer) throws IOException {
+        byte[] output = buffer;
+        int pos = 0;
+        while (true) {
+            if (pos == output.length) {
+                int next = is.read();
+                if (next < 0) {
                     break;
                 }
+                output = grow(output);
+                output[pos++] = (byte) next;
+            }
+            int count = is.read(output, pos, output.length - pos);
+            if (count < 0) {
+                break;
             }
-            pos += cc;
+            pos += count;
+        }
+        return ByteBuffer.wrap(output, 0, pos);
+    }
+
+    private static byte[] grow(byte[] output) throws IOException {
+        if (output.length == MAX_ARRAY_SIZE) {
+            throw new IOException("The InputStream is too large to be read into an array.");
+        }
+        return Arrays.copyOf(output, (int) Math.min(MAX_ARRAY_SIZE, Math.max(output.length * 2L, 1024)));
+    }
+
+    /**
+     * Stream with the known length of its content.
+     */
+    private static final class ContentLengthInputStream extends FilterInputStream {
+
+        private final long contentLength;
+
+        ContentLengthInputStream(InputStream in, long contentLength) {
+            super(in);
+            this.contentLength = contentLength;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return in.read(b, off, len);
         }
-        return output;
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class DarkSkyClientTest {
+
+    private static final byte[] RESPONSE = response();
+
+    private final DarkSkyClient client = new StubClient();
+    private final ForecastRequest request = new ForecastRequestBuilder()
+	    .key(new APIKey("testing-api-key"))
+	    .location(new GeoCoordinates(new Longitude(13.377704), new Latitude(52.516275)))
+	    .build();
+
+    @Test
+    public void forecast_is_streamed_to_a_channel() throws ForecastException {
+	ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+	assertEquals(RESPONSE.length, client.forecastTo(request, Channels.newChannel(target)));
+	assertArrayEquals(RESPONSE, target.toByteArray());
+    }
+
+    @Test
+    public void forecast_is_streamed_to_an_output_stream() throws ForecastException {
+	ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+	assertEquals(RESPONSE.length, client.forecastTo(request, target));
+	assertEquals(RESPONSE.length, client.forecastTo(request, target));
+	assertArrayEquals(RESPONSE, Arrays.copyOfRange(target.toByteArray(), RESPONSE.length, 2 * RESPONSE.length));
+    }
+
+    @Test(expected = ForecastException.class)
+    public void failing_target_is_reported() throws ForecastException {
+	client.forecastTo(request, new OutputStream() {
+	    @Override
+	    public void write(int b) throws IOException {
+		throw new IOException("closed");
+	    }
+	});
+    }
+
+    @Test
+    public void forecast_is_returned_as_buffer() throws ForecastException {
+	ByteBuffer buffer = client.forecastJsonBuffer(request);
+
+	assertEquals(ByteBuffer.wrap(RESPONSE), buffer);
+	assertEquals(new String(RESPONSE, StandardCharsets.UTF_8), client.forecastJsonString(request));
+    }
+
+    private static byte[] response() {
+	StringBuilder json = new StringBuilder("{\"hourly\":{\"data\":[");
+	for (int i = 0; i < 2000; i++) {
+	    json.append(i == 0 ? "" : ",").append("{\"time\":").append(1531000800 + i * 3600).append(",\"temperature\":").append(i % 40).append('}');
+	}
+	return json.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class StubClient extends DarkSkyClient {
+
+	@Override
+	protected InputStream fetchForecast(ForecastRequest request) {
+	    return new ByteArrayInputStream(RESPONSE);
+	}
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Block;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class ForecastRequestKeyTest {
+
+    @Test
+    public void key_ignores_api_key_and_exclusion_order() {
+	ForecastRequest first = builder("first-api-key").exclude(Block.minutely, Block.alerts).build();
+	ForecastRequest second = builder("second-api-key").exclude(Block.alerts, Block.minutely).build();
+
+	assertNotEquals(first, second);
+	assertEquals(first.key(), second.key());
+	assertEquals(first.key().hashCode(), second.key().hashCode());
+	assertEquals(EnumSet.of(Block.minutely, Block.alerts), first.key().exclusions());
+    }
+
+    @Test
+    public void key_is_normalized_to_the_transmitted_precision() {
+	ForecastRequestKey key = builder("testing-api-key").location(location(52.51234549, 13.4)).build().key();
+
+	assertEquals(builder("testing-api-key").location(location(52.5123451, 13.4)).build().key(), key);
+	assertEquals(52512345L, key.latitudeMicroDegrees());
+	assertEquals(13400000L, key.longitudeMicroDegrees());
+	assertFalse(key.hasTime());
+    }
+
+    @Test
+    public void key_distinguishes_time_and_parameters() {
+	Map<ForecastRequestKey, String> cache = new HashMap<>();
+	cache.put(builder("testing-api-key").build().key(), "now");
+	cache.put(builder("testing-api-key").time(Instant.ofEpochSecond(1531083811)).build().key(), "past");
+	cache.put(builder("testing-api-key").extendHourly().build().key(), "extended");
+
+	assertEquals(3, cache.size());
+	assertEquals("past", cache.get(builder("other-api-key").time(Instant.ofEpochSecond(1531083811)).build().key()));
+    }
+
+    @Test
+    public void key_distinguishes_endpoints() {
+	ForecastRequestKey api = builder("testing-api-key").build().key();
+	ForecastRequestKey proxy = builder("testing-api-key").url("https://proxy.example.com/forecast/##key##/##latitude##,##longitude####time##")
+		.build().key();
+
+	assertNotEquals(api, proxy);
+	assertEquals(proxy, builder("other-api-key").url("https://proxy.example.com/forecast/##key##/##latitude##,##longitude####time##")
+		.build().key());
+	assertEquals("https://api.darksky.net/forecast/##key##/##latitude##,##longitude####time##", api.endpoint());
+    }
+
+    @Test
+    public void request_equality_does_not_depend_on_url_objects() {
+	ForecastRequest first = builder("testing-api-key").build();
+	ForecastRequest second = builder("testing-api-key").build();
+
+	assertEquals(first, second);
+	assertEquals(first.hashCode(), second.hashCode());
+	assertNotEquals(first, builder("testing-api-key").timeouts(new Timeouts(Duration.ofSeconds(1), Duration.ofSeconds(1))).build());
+    }
+
+    private static ForecastRequestBuilder builder(String apiKey) {
+	return new ForecastRequestBuilder()
+		.key(new APIKey(apiKey))
+		.location(location(52.5112, 13.4013));
+    }
+
+    private static GeoCoordinates location(double latitude, double longitude) {
+	return new GeoCoordinates(new Longitude(longitude), new Latitude(latitude));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.time.Instant;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Block;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Language;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder.Units;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class ForecastRequestTemplateTest {
+
+    @Test
+    public void template_creates_the_same_url_as_the_builder() {
+	ForecastRequestBuilder builder = new ForecastRequestBuilder()
+		.key(new APIKey("testing-api-key"))
+		.language(Language.en)
+		.units(Units.us)
+		.exclude(Block.minutely, Block.alerts)
+		.extendHourly();
+	ForecastRequestTemplate template = builder.template();
+	GeoCoordinates location = new GeoCoordinates(new Longitude(13.377704), new Latitude(-0.000066));
+
+	String expected = "https://api.darksky.net/forecast/testing-api-key/-0.000066,13.377704,1531083811?lang=en&units=us&exclude=minutely,alerts&extend=hourly";
+	assertEquals(expected, template.request(location, Instant.ofEpochSecond(1531083811)).url().toString());
+	assertEquals(expected, builder.location(location).time(Instant.ofEpochSecond(1531083811)).build().url().toString());
+    }
+
+    @Test
+    public void key_with_regex_characters_is_inserted_literally() {
+	ForecastRequestTemplate template = new ForecastRequestBuilder().key(new APIKey("a$1b")).template();
+
+	ForecastRequest request = template.request(new GeoCoordinates(new Longitude(1), new Latitude(2)));
+
+	assertEquals("https://api.darksky.net/forecast/a$1b/2.000000,1.000000?lang=de&units=si", request.url().toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_url_is_rejected_when_the_template_is_created() {
+	new ForecastRequestBuilder().key(new APIKey("testing-api-key")).url("no-url/##key##").template();
+    }
+}
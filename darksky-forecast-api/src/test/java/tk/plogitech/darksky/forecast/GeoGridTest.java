@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.GeoGrid.Order;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class GeoGridTest {
+
+    @Test
+    public void all_orders_cover_the_bounding_box_exactly_once() {
+	GeoGrid grid = GeoGrid.boundingBox(location(52.0, 13.0), location(52.6, 13.9), 0.1);
+	assertEquals(7, grid.rows());
+	assertEquals(10, grid.columns());
+
+	Set<String> expected = points(grid, Order.rows).stream().collect(Collectors.toSet());
+	assertEquals(70, expected.size());
+	for (Order order : Order.values()) {
+	    List<String> points = points(grid, order);
+	    assertEquals(70, points.size());
+	    assertEquals(expected, new HashSet<>(points));
+	}
+    }
+
+    @Test
+    public void consecutive_points_of_the_hilbert_order_are_neighbours() {
+	GeoGrid grid = GeoGrid.boundingBox(location(0, 0), location(7, 7), 1);
+	List<GeoCoordinates> points = grid.stream(Order.hilbert).collect(Collectors.toList());
+
+	assertEquals(64, points.size());
+	assertEquals("0.000000,0.000000", points.get(0).latitude() + "," + points.get(0).longitude());
+	for (int i = 1; i < points.size(); i++) {
+	    double distance = Math.abs(points.get(i).latitude().value() - points.get(i - 1).latitude().value())
+		    + Math.abs(points.get(i).longitude().value() - points.get(i - 1).longitude().value());
+	    assertEquals(1, distance, 1e-9);
+	}
+    }
+
+    @Test
+    public void geohash_order_follows_the_z_curve() {
+	GeoGrid grid = GeoGrid.boundingBox(location(0, 0), location(1, 1), 1);
+
+	assertEquals(Arrays.asList("0.000000,0.000000", "1.000000,0.000000", "0.000000,1.000000", "1.000000,1.000000"), points(grid, Order.geohash));
+    }
+
+    @Test
+    public void polygon_contains_only_the_inner_points() {
+	GeoGrid grid = GeoGrid.polygon(Arrays.asList(location(-0.5, -0.5), location(-0.5, 4.5), location(4.5, -0.5)), 1);
+
+	assertEquals(15, points(grid, Order.hilbert).size());
+	assertFalse(points(grid, Order.rows).contains("4.000000,4.000000"));
+    }
+
+    @Test
+    public void bounding_box_can_cross_the_antimeridian() {
+	GeoGrid grid = GeoGrid.boundingBox(location(10, 179), location(10, -179), 1);
+
+	assertEquals(Arrays.asList("10.000000,179.000000", "10.000000,180.000000", "10.000000,-179.000000"), points(grid, Order.rows));
+    }
+
+    @Test
+    public void template_creates_requests_for_the_grid() {
+	ForecastRequestTemplate template = new ForecastRequestBuilder().key(new APIKey("testing-api-key")).template();
+	GeoGrid grid = GeoGrid.boundingBox(location(0, 0), location(1, 1), 1);
+
+	assertEquals("https://api.darksky.net/forecast/testing-api-key/1.000000,0.000000?lang=de&units=si",
+		template.requests(grid, Order.hilbert).skip(1).findFirst().get().url().toString());
+    }
+
+    private static List<String> points(GeoGrid grid, Order order) {
+	return grid.stream(order).map(point -> point.latitude() + "," + point.longitude()).collect(Collectors.toList());
+    }
+
+    private static GeoCoordinates location(double latitude, double longitude) {
+	return new GeoCoordinates(new Longitude(longitude), new Latitude(latitude));
+    }
+}
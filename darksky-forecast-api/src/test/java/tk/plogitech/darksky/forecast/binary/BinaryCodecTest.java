@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.json.JsonReader;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import tk.plogitech.darksky.forecast.model.HourlyBinding;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class BinaryCodecTest {
+
+    private static final double[] DOUBLES = {0, -0.0, 21.04, -3.5, 52.516275, 0.1 + 0.2, 1e300, -1e-7, Double.MIN_VALUE, Double.NaN,
+	Double.NEGATIVE_INFINITY, 9007199254740993.0, 1013.25};
+
+    @Test
+    public void values_are_read_back() throws IOException {
+	char[] large = new char[20_000];
+	Arrays.fill(large, 'ä');
+	String[] strings = {"Clear", null, "☁ Bewölkt 🌦", new String(large), "Clear", ""};
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	BinaryWriter writer = new BinaryWriter(bytes);
+	writer.writeHeader(42);
+	for (double value : DOUBLES) {
+	    writer.writeDouble(value);
+	}
+	for (String value : strings) {
+	    writer.writeString(value);
+	}
+	writer.writeTime(1531083811);
+	writer.writeTime(1531080000);
+	writer.writeInstant(Instant.ofEpochSecond(-1, 250));
+	writer.writeInteger(Long.MIN_VALUE);
+	writer.writeInteger(Integer.MIN_VALUE);
+	writer.flush();
+	ByteBuffer direct = ByteBuffer.allocateDirect(bytes.size()).put(bytes.toByteArray());
+	direct.flip();
+
+	for (BinaryReader reader : new BinaryReader[]{new BinaryReader(bytes.toByteArray()), new BinaryReader(direct),
+	    new BinaryReader(new ByteArrayInputStream(bytes.toByteArray()))}) {
+	    reader.readHeader(42);
+	    for (double value : DOUBLES) {
+		assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(reader.readDouble()));
+	    }
+	    for (String value : strings) {
+		assertEquals(value, reader.readString());
+	    }
+	    assertEquals(1531083811, reader.readTime());
+	    assertEquals(1531080000, reader.readTime());
+	    assertEquals(Instant.ofEpochSecond(-1, 250), reader.readInstant());
+	    assertEquals(Long.MIN_VALUE, reader.readLong());
+	    assertEquals(Integer.MIN_VALUE, reader.readInteger());
+	}
+    }
+
+    @Test
+    public void repeated_values_are_compact() throws IOException {
+	ByteBuffer buffer = ByteBuffer.allocate(64);
+	BinaryWriter writer = new BinaryWriter(buffer);
+	writer.writeDouble(21.04);
+	writer.writeString("Partly Cloudy");
+	writer.writeTime(1531083600);
+	writer.flush();
+	int first = buffer.position();
+	writer.writeString("Partly Cloudy");
+	writer.writeTime(1531087200);
+	writer.flush();
+
+	assertEquals(3 + 15 + 5, first);
+	assertEquals(1 + 2, buffer.position() - first);
+    }
+
+    @Test
+    public void forecast_is_read_back_from_a_fraction_of_the_json() throws IOException {
+	StringBuilder json = new StringBuilder("{\"latitude\":52.516275,\"longitude\":13.377704,\"timezone\":\"Europe/Berlin\",\"hourly\":{\"data\":[");
+	for (int i = 0; i < 48; i++) {
+	    json.append(i == 0 ? "" : ",").append("{\"time\":").append(1531080000 + i * 3600).append(",\"summary\":\"")
+		    .append(i % 12 < 6 ? "Clear" : "Partly Cloudy").append("\",\"icon\":\"clear-day\",\"temperature\":")
+		    .append(18 + i % 10 * 0.37).append(",\"humidity\":0.").append(40 + i).append(",\"windBearing\":").append(i * 7)
+		    .append(",\"ozone\":301.2}");
+	}
+	byte[] utf8 = json.append("]},\"flags\":{\"sources\":[\"icon\",\"cmc\"],\"metnoLicense\":true,\"units\":\"si\"}}")
+		.toString().getBytes(StandardCharsets.UTF_8);
+	Forecast expected = ForecastBinding.read(new JsonReader(utf8));
+
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	BinaryWriter writer = new BinaryWriter(bytes);
+	ForecastBinding.encode(expected, writer);
+	ForecastBinding.encode(null, writer);
+	writer.flush();
+	BinaryReader reader = new BinaryReader(bytes.toByteArray());
+
+	Forecast actual = ForecastBinding.decode(reader);
+	assertEquals(expected, actual);
+	assertEquals(expected.getHourly().getData(), actual.getHourly().getData());
+	assertTrue(actual.getFlags().isMetnoLicense());
+	assertNull(ForecastBinding.decode(reader));
+	assertTrue(bytes.size() + " of " + utf8.length, bytes.size() * 4 < utf8.length);
+    }
+
+    @Test
+    public void other_documents_are_rejected() throws IOException {
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	BinaryWriter writer = new BinaryWriter(bytes);
+	ForecastBinding.encode(new Forecast(), writer);
+	writer.flush();
+	byte[] valid = bytes.toByteArray();
+
+	assertRejected(StreamCorruptedException.class, Arrays.copyOf(valid, valid.length), HourlyBinding.SCHEMA);
+	byte[] version = valid.clone();
+	version[3]++;
+	assertRejected(StreamCorruptedException.class, version, ForecastBinding.SCHEMA);
+	assertRejected(StreamCorruptedException.class, "{\"latitude\":1}".getBytes(StandardCharsets.UTF_8), ForecastBinding.SCHEMA);
+	assertRejected(EOFException.class, Arrays.copyOf(valid, valid.length - 1), ForecastBinding.SCHEMA);
+    }
+
+    private static void assertRejected(Class<? extends IOException> expected, byte[] bytes, int schema) {
+	try {
+	    BinaryReader reader = new BinaryReader(bytes);
+	    reader.readHeader(schema);
+	    ForecastBinding.decodeValue(reader);
+	    fail("Expected " + expected.getSimpleName());
+	} catch (IOException ex) {
+	    assertEquals(expected, ex.getClass());
+	}
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.APIKey;
+import tk.plogitech.darksky.forecast.DarkSkyClient;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.ForecastRequest;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder;
+import tk.plogitech.darksky.forecast.ForecastRequestKey;
+import tk.plogitech.darksky.forecast.GeoCoordinates;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import tk.plogitech.darksky.forecast.util.IOUtil;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class ClusterTest {
+
+    private static final String[] NODES = {"node-a", "node-b", "node-c"};
+
+    @Test
+    public void owners_fetch_each_location_once_for_all_nodes() throws ForecastException {
+	ConsistentHashRing ring = new ConsistentHashRing(Arrays.asList(NODES));
+	LoopbackPeerTransport transport = new LoopbackPeerTransport();
+	Map<String, CountingClient> clients = new HashMap<>();
+	for (String node : NODES) {
+	    CountingClient client = new CountingClient(new Cluster(node, ring, transport));
+	    transport.register(node, client);
+	    clients.put(node, client);
+	}
+
+	for (int i = 0; i < 30; i++) {
+	    ForecastRequest request = request(40 + i * 0.5, 10 + i * 0.5);
+	    String owner = clients.get("node-a").cluster.owner(request);
+	    for (String node : NODES) {
+		assertEquals(owner, clients.get(node).forecastJsonString(request));
+	    }
+	}
+
+	int fetches = 0;
+	for (CountingClient client : clients.values()) {
+	    assertTrue(client.fetches.get() > 0);
+	    fetches += client.fetches.get();
+	}
+	assertEquals(30, fetches);
+    }
+
+    @Test
+    public void forwarded_requests_are_not_forwarded_again() throws ForecastException {
+	LoopbackPeerTransport transport = new LoopbackPeerTransport();
+	Cluster clusterA = new Cluster("node-a", new ConsistentHashRing(Arrays.asList("node-a", "node-b")), transport);
+	Cluster clusterB = new Cluster("node-b", new ConsistentHashRing(Arrays.asList("node-a", "node-b"), 1), transport);
+	CountingClient clientA = new CountingClient(clusterA);
+	CountingClient clientB = new CountingClient(clusterB);
+	transport.register("node-a", clientA);
+	transport.register("node-b", clientB);
+
+	ForecastRequest request = null;
+	for (int i = 0; request == null; i++) {
+	    ForecastRequest candidate = request(40 + i * 0.5, 10 + i * 0.5);
+	    if (clusterA.owner(candidate).equals("node-b") && clusterB.owner(candidate).equals("node-a")) {
+		request = candidate;
+	    }
+	}
+
+	assertEquals("node-b", clientA.forecastJsonString(request));
+	assertEquals(0, clientA.fetches.get());
+	assertEquals(1, clientB.fetches.get());
+    }
+
+    @Test
+    public void nearby_locations_share_the_owner() {
+	Cluster cluster = new Cluster("node-a", new ConsistentHashRing(Arrays.asList(NODES)), new LoopbackPeerTransport(), 0.1);
+
+	assertEquals(cluster.owner(request(52.5112, 13.4013)), cluster.owner(request(52.5187, 13.4099)));
+    }
+
+    @Test
+    public void removing_a_node_only_moves_its_keys() {
+	ConsistentHashRing all = new ConsistentHashRing(Arrays.asList(NODES));
+	ConsistentHashRing withoutC = new ConsistentHashRing(Arrays.asList("node-a", "node-b"));
+
+	for (long key = 0; key < 10_000; key++) {
+	    String owner = all.owner(key);
+	    if (!owner.equals("node-c")) {
+		assertEquals(owner, withoutC.owner(key));
+	    }
+	}
+    }
+
+    private static ForecastRequest request(double latitude, double longitude) {
+	return new ForecastRequestBuilder()
+		.key(new APIKey("testing-api-key"))
+		.location(new GeoCoordinates(new Longitude(longitude), new Latitude(latitude)))
+		.build();
+    }
+
+    private static class CountingClient extends DarkSkyClient {
+
+	private final AtomicInteger fetches = new AtomicInteger();
+	private final Map<ForecastRequestKey, byte[]> cache = new ConcurrentHashMap<>();
+	private final Cluster cluster;
+
+	CountingClient(Cluster cluster) {
+	    super(cluster);
+	    this.cluster = cluster;
+	}
+
+	@Override
+	protected InputStream serveOwned(ForecastRequest request) throws ForecastException {
+	    byte[] json = cache.get(request.key());
+	    if (json == null) {
+		try (InputStream is = super.serveOwned(request)) {
+		    json = IOUtil.readFully(is);
+		} catch (IOException e) {
+		    throw new ForecastException("Forecast cannot be fetched.", e);
+		}
+		cache.put(request.key(), json);
+	    }
+	    return new ByteArrayInputStream(json);
+	}
+
+	@Override
+	protected InputStream fetchForecast(ForecastRequest request) throws ForecastException {
+	    fetches.incrementAndGet();
+	    return new ByteArrayInputStream(cluster.localNode().getBytes(StandardCharsets.UTF_8));
+	}
+    }
+}
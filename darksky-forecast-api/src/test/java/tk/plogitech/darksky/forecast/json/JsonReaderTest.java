@@ -0,0 +1,270 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.APIKey;
+import tk.plogitech.darksky.forecast.DarkSkyClient;
+import tk.plogitech.darksky.forecast.ForecastException;
+import tk.plogitech.darksky.forecast.ForecastRequest;
+import tk.plogitech.darksky.forecast.ForecastRequestBuilder;
+import tk.plogitech.darksky.forecast.GeoCoordinates;
+import tk.plogitech.darksky.forecast.model.Alert;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import tk.plogitech.darksky.forecast.model.Latitude;
+import tk.plogitech.darksky.forecast.model.Longitude;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class JsonReaderTest {
+
+    static final String FORECAST = "{\"latitude\":52.516275,\"longitude\":13.377704,\"timezone\":\"Europe/Berlin\","
+	    + "\"currently\":{\"time\":1531083811,\"summary\":\"Sehr lange Beschreibung, l\u00e4nger als der anf\u00e4ngliche Puffer. Leicht bew\u00f6lkt \\u2601 \\\"\u2603\\\" \ud83c\udf26\",\"temperature\":-2.5e1,"
+	    + "\"windBearing\":331,\"precipType\":null},"
+	    + "\"hourly\":{\"summary\":\"x\",\"data\":[{\"time\":1531080000,\"temperature\":21.04},{\"time\":1531083600,\"temperature\":0.5}]},"
+	    + "\"alerts\":[{\"title\":\"Storm\",\"severity\":\"warning\",\"regions\":[\"Berlin\",\"Brandenburg\"],\"expires\":1531100000}],"
+	    + "\"flags\":{\"sources\":[],\"metnoLicense\":true,\"units\":\"si\"},\"offset\":2}";
+
+    @Test
+    public void forecast_is_read() throws IOException {
+	Forecast forecast = read(FORECAST);
+
+	assertEquals(new Latitude(52.516275), forecast.getLatitude());
+	assertEquals("Europe/Berlin", forecast.getTimezone());
+	assertEquals(Instant.ofEpochSecond(1531083811), forecast.getCurrently().getTime());
+	assertEquals("Sehr lange Beschreibung, l\u00e4nger als der anf\u00e4ngliche Puffer. Leicht bew\u00f6lkt \u2601 \"\u2603\" \ud83c\udf26", forecast.getCurrently().getSummary());
+	assertEquals(Double.valueOf(-25), forecast.getCurrently().getTemperature());
+	assertEquals(Integer.valueOf(331), forecast.getCurrently().getWindBearing());
+	assertEquals(2, forecast.getHourly().getData().size());
+	assertEquals(Double.valueOf(21.04), forecast.getHourly().getData().get(0).getTemperature());
+	assertEquals(Alert.Severity.warning, forecast.getAlerts().get(0).getSeverity());
+	assertEquals(Arrays.asList("Berlin", "Brandenburg"), forecast.getAlerts().get(0).getRegions());
+	assertTrue(forecast.getFlags().isMetnoLicense());
+	assertTrue(forecast.getFlags().getSources().isEmpty());
+    }
+
+    @Test
+    public void chunked_input_is_read_like_bytes() throws IOException {
+	byte[] json = FORECAST.getBytes(StandardCharsets.UTF_8);
+	InputStream oneByteAtATime = new ByteArrayInputStream(json) {
+	    @Override
+	    public synchronized int read(byte[] b, int off, int len) {
+		return super.read(b, off, Math.min(len, 1));
+	    }
+	};
+
+	assertEquals(ForecastBinding.read(new JsonReader(json)), ForecastBinding.read(new JsonReader(oneByteAtATime)));
+	assertEquals(read(FORECAST), ForecastBinding.read(new JsonReader(("   " + FORECAST + "xyz").getBytes(StandardCharsets.UTF_8), 3, json.length)));
+    }
+
+    @Test
+    public void byte_buffers_are_read_in_place_and_in_chunks() throws IOException, ForecastException {
+	Forecast expected = read(FORECAST);
+	char[] padding = new char[8190];
+	Arrays.fill(padding, ' ');
+	byte[] json = (new String(padding) + FORECAST).getBytes(StandardCharsets.UTF_8);
+	ByteBuffer heap = ByteBuffer.wrap(json);
+	heap.position(5);
+	ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json);
+	direct.flip();
+	Path file = Files.createTempFile("forecast", ".json");
+	try {
+	    Files.write(file, json);
+	    try (FileChannel channel = FileChannel.open(file)) {
+		ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, json.length);
+
+		assertEquals(expected, new DarkSkyClient().forecast(mapped));
+	    }
+	} finally {
+	    Files.delete(file);
+	}
+
+	assertEquals(expected, ForecastBinding.read(new JsonReader(heap.slice())));
+	assertEquals(expected, ForecastBinding.read(new JsonReader(heap)));
+	assertEquals(expected, ForecastBinding.read(new JsonReader(direct)));
+	assertEquals(expected, ForecastBinding.read(new JsonReader(direct.asReadOnlyBuffer())));
+	assertEquals(5, heap.position());
+	assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void numbers_are_read_like_Double_parseDouble() throws IOException {
+	Random random = new Random(42);
+	StringBuilder json = new StringBuilder("[0,-0.0,1e22,1E+2,0.000001,4.35e-3,123456789012345678901234,9007199254740993,2.2250738585072014E-308");
+	for (int i = 0; i < 10_000; i++) {
+	    json.append(',').append(random.nextInt(2_000_000) / 100.0 - 10_000);
+	    json.append(',').append(Double.longBitsToDouble(random.nextLong() & 0x7fefffffffffffffL));
+	}
+	String[] numbers = json.substring(1).split(",");
+
+	List<Double> values = new JsonReader(json.append(']').toString().getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readDouble);
+
+	assertEquals(numbers.length, values.size());
+	for (int i = 0; i < numbers.length; i++) {
+	    assertEquals(numbers[i], Double.valueOf(numbers[i]), values.get(i));
+	}
+    }
+
+    @Test
+    public void unusual_values_are_converted() throws IOException {
+	Forecast forecast = read("{latitude:\"41.5\",\"unknown\":{\"a\":[1,{\"b\":[true,null,\"}\"]}],\"c\":-1.5e3},"
+		+ "\"currently\":{\"time\":\"2018-07-08T21:03:31Z\",\"windBearing\":331.7,\"temperature\":\"\",\"summary\":12.50},"
+		+ "\"daily\":{\"data\":[null,{\"time\":1531000800.5,\"uvIndex\":\"3\"}]},\"hourly\":null}");
+
+	assertEquals(new Latitude(41.5), forecast.getLatitude());
+	assertEquals(Instant.parse("2018-07-08T21:03:31Z"), forecast.getCurrently().getTime());
+	assertEquals(Integer.valueOf(331), forecast.getCurrently().getWindBearing());
+	assertNull(forecast.getCurrently().getTemperature());
+	assertEquals("12.50", forecast.getCurrently().getSummary());
+	assertNull(forecast.getDaily().getData().get(0));
+	assertEquals(Instant.ofEpochSecond(1531000800), forecast.getDaily().getData().get(1).getTime());
+	assertEquals(Integer.valueOf(3), forecast.getDaily().getData().get(1).getUvIndex());
+	assertNull(forecast.getHourly());
+	assertNull(read("null"));
+    }
+
+    @Test
+    public void epoch_seconds_are_read_like_instants() throws IOException {
+	String json = "[1531000800,-1.5,null,\"2018-07-08T21:03:31Z\",\"17\",1.5e3,1531000800.25]";
+	List<Instant> instants = new JsonReader(json.getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readInstant);
+
+	List<Long> seconds = new JsonReader(json.getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readEpochSecond);
+
+	assertEquals(Instant.ofEpochSecond(-2, 500_000_000), instants.get(1));
+	for (int i = 0; i < instants.size(); i++) {
+	    assertEquals(instants.get(i) == null ? Long.MIN_VALUE : instants.get(i).getEpochSecond(), seconds.get(i).longValue());
+	}
+    }
+
+    @Test
+    public void primitive_numbers_are_read_without_boxing() throws IOException {
+	String json = "[4.35e-3,null,\"17\",-2,\"\",331.7]";
+	List<Double> doubles = new JsonReader(json.getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readDouble);
+	List<Integer> integers = new JsonReader(json.getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readInteger);
+
+	List<Double> doubleValues = new JsonReader(json.getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readDoubleValue);
+	List<Integer> intValues = new JsonReader(json.getBytes(StandardCharsets.UTF_8)).readList(JsonSource::readIntValue);
+
+	for (int i = 0; i < doubles.size(); i++) {
+	    assertEquals(doubles.get(i) == null ? Double.NaN : doubles.get(i), doubleValues.get(i), 0);
+	    assertEquals(integers.get(i) == null ? Integer.MIN_VALUE : integers.get(i).intValue(), intValues.get(i).intValue());
+	}
+    }
+
+    @Test
+    public void invalid_documents_are_rejected() {
+	for (String json : new String[]{"", "{", "[]", "{\"latitude\":91.5}", "{\"currently\":[]}", "{\"offset\":1,}", "{\"offset\" 1}",
+	    "{\"alerts\":[{\"severity\":\"unknown\"}]}", "{\"alerts\":[{} {}]}", "{\"flags\":{\"metnoLicense\":tru}}",
+	    "{\"currently\":{\"windBearing\":3000000000}}", "{\"currently\":{\"temperature\":01}}", "{\"currently\":{\"summary\":\"a\nb\"}}",
+	    "{\"currently\":{\"time\":\"yesterday\"}}", "{\"timezone\":\"\\x\"}", "{\"timezone\":\"abc"}) {
+	    try {
+		read(json);
+		fail("Expected a JsonException for " + json);
+	    } catch (JsonException ex) {
+		// expected
+	    } catch (IOException ex) {
+		fail("Expected a JsonException for " + json + " but was " + ex);
+	    }
+	}
+    }
+
+    @Test
+    public void client_parses_the_forecast() throws ForecastException {
+	DarkSkyClient client = new DarkSkyClient() {
+	    @Override
+	    protected InputStream fetchForecast(ForecastRequest request) {
+		return new ByteArrayInputStream(FORECAST.getBytes(StandardCharsets.UTF_8));
+	    }
+	};
+	ForecastRequest request = new ForecastRequestBuilder()
+		.key(new APIKey("testing-api-key"))
+		.location(new GeoCoordinates(new Longitude(13.377704), new Latitude(52.516275)))
+		.build();
+
+	assertEquals(new Longitude(13.377704), client.forecast(request).getLongitude());
+    }
+
+    @Test
+    public void reset_reader_reads_the_next_document() throws IOException {
+	byte[] first = FORECAST.getBytes(StandardCharsets.UTF_8);
+	byte[] second = ("  " + FORECAST.replace("Europe/Berlin", "Europe/Paris")).getBytes(StandardCharsets.UTF_8);
+	JsonReader reader = new JsonReader(first);
+	ForecastBinding.read(reader);
+
+	assertEquals(read(FORECAST.replace("Europe/Berlin", "Europe/Paris")), ForecastBinding.read(reader.reset(second, 2, second.length - 2)));
+    }
+
+    @Test
+    public void batches_are_parsed_in_order() throws ForecastException {
+	List<byte[]> batch = new ArrayList<>();
+	for (int i = 0; i < 1000; i++) {
+	    batch.add(FORECAST.replace("52.516275", Double.toString(i / 20.0)).getBytes(StandardCharsets.UTF_8));
+	}
+	ForkJoinPool pool = new ForkJoinPool(4);
+
+	try {
+	    List<Forecast> forecasts = new DarkSkyClient().forecasts(batch, pool);
+
+	    assertEquals(batch.size(), forecasts.size());
+	    for (int i = 0; i < batch.size(); i++) {
+		assertEquals(new Latitude(i / 20.0), forecasts.get(i).getLatitude());
+	    }
+	    assertEquals(forecasts.get(0).getCurrently(), forecasts.get(999).getCurrently());
+	} finally {
+	    pool.shutdown();
+	}
+    }
+
+    @Test(expected = ForecastException.class)
+    public void batches_fail_with_the_first_invalid_forecast() throws ForecastException {
+	List<byte[]> batch = new ArrayList<>();
+	for (int i = 0; i < 100; i++) {
+	    batch.add((i == 42 ? "{\"offset\":" : FORECAST).getBytes(StandardCharsets.UTF_8));
+	}
+
+	new DarkSkyClient().forecasts(batch);
+    }
+
+    private static Forecast read(String json) throws IOException {
+	return ForecastBinding.read(new JsonReader(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class JsonWriterTest {
+
+    @Test
+    public void output_is_compact() throws IOException {
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	JsonWriter writer = new JsonWriter(out);
+	writer.beginObject();
+	writer.name("a");
+	writer.writeNumber(21.04);
+	writer.name("b");
+	writer.beginArray();
+	writer.writeNumber(-3.0);
+	writer.writeNumber(0.000125);
+	writer.writeNumber(1e300);
+	writer.writeNumber(Long.MIN_VALUE);
+	writer.writeNull();
+	writer.endArray();
+	writer.name("c\"");
+	writer.writeString("Schnee \u2744 \ud83c\udf28\n\"x\"\u0001");
+	writer.name("d");
+	writer.writeInstant(Instant.ofEpochSecond(1531083811, 250_000_000));
+	writer.name("e");
+	writer.beginObject();
+	writer.endObject();
+	writer.endObject();
+	writer.flush();
+
+	assertEquals("{\"a\":21.04,\"b\":[-3,0.000125,1.0E300,-9223372036854775808,null],"
+		+ "\"c\\u0022\":\"Schnee \u2744 \ud83c\udf28\\n\\\"x\\\"\\u0001\",\"d\":1531083811.25,\"e\":{}}", out.toString("UTF-8"));
+    }
+
+    @Test
+    public void forecast_is_read_back() throws IOException {
+	Forecast forecast = read(JsonReaderTest.FORECAST);
+
+	assertEquals(forecast, read(write(forecast, PropertyFilter.all())));
+    }
+
+    @Test
+    public void doubles_are_read_back_exactly() throws IOException {
+	Random random = new Random(7);
+	double[] values = new double[20_000];
+	for (int i = 0; i < values.length; i += 2) {
+	    values[i] = Math.round(random.nextGaussian() * 100_000) / 100.0;
+	    values[i + 1] = Double.longBitsToDouble(random.nextLong() & 0xffefffffffffffffL);
+	}
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	JsonWriter writer = new JsonWriter(out);
+	writer.beginArray();
+	for (double value : values) {
+	    writer.writeNumber(value);
+	}
+	writer.endArray();
+	writer.flush();
+
+	List<Double> read = new JsonReader(out.toByteArray()).readList(JsonSource::readDouble);
+	for (int i = 0; i < values.length; i++) {
+	    assertEquals(Double.doubleToLongBits(values[i]), Double.doubleToLongBits(read.get(i)));
+	}
+    }
+
+    @Test
+    public void properties_are_filtered() throws IOException {
+	Forecast forecast = read(JsonReaderTest.FORECAST);
+
+	Forecast included = read(write(forecast, PropertyFilter.including("latitude", "currently.temperature", "hourly.data.time")));
+	assertEquals(forecast.getLatitude(), included.getLatitude());
+	assertNull(included.getLongitude());
+	assertEquals(forecast.getCurrently().getTemperature(), included.getCurrently().getTemperature());
+	assertNull(included.getCurrently().getTime());
+	assertNull(included.getHourly().getSummary());
+	assertEquals(forecast.getHourly().getData().get(1).getTime(), included.getHourly().getData().get(1).getTime());
+	assertNull(included.getHourly().getData().get(1).getTemperature());
+	assertNull(included.getAlerts());
+
+	Forecast excluded = read(write(forecast, PropertyFilter.excluding("alerts", "currently.summary", "hourly.data", "flags.sources")));
+	assertNull(excluded.getAlerts());
+	assertNull(excluded.getCurrently().getSummary());
+	assertEquals(forecast.getCurrently().getTemperature(), excluded.getCurrently().getTemperature());
+	assertEquals(forecast.getHourly().getSummary(), excluded.getHourly().getSummary());
+	assertNull(excluded.getHourly().getData());
+	assertNull(excluded.getFlags().getSources());
+	assertTrue(excluded.getFlags().isMetnoLicense());
+    }
+
+    @Test
+    public void byte_buffers_are_written() throws IOException {
+	Forecast forecast = read(JsonReaderTest.FORECAST);
+	ByteBuffer target = ByteBuffer.allocateDirect(4096);
+	JsonWriter writer = new JsonWriter(target);
+	ForecastBinding.write(forecast, writer);
+	writer.flush();
+	target.flip();
+
+	assertEquals(forecast, ForecastBinding.read(new JsonReader(target)));
+
+	JsonWriter tooSmall = new JsonWriter(ByteBuffer.allocate(16));
+	ForecastBinding.write(forecast, tooSmall);
+	try {
+	    tooSmall.flush();
+	    fail("Expected a BufferOverflowException");
+	} catch (BufferOverflowException ex) {
+	    // expected
+	}
+    }
+
+    private static byte[] write(Forecast forecast, PropertyFilter filter) throws IOException {
+	ByteArrayOutputStream out = new ByteArrayOutputStream();
+	JsonWriter writer = new JsonWriter(out, filter);
+	ForecastBinding.write(forecast, writer);
+	writer.flush();
+	return out.toByteArray();
+    }
+
+    private static Forecast read(String json) throws IOException {
+	return read(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Forecast read(byte[] json) throws IOException {
+	return ForecastBinding.read(new JsonReader(json));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.model.Forecast;
+import tk.plogitech.darksky.forecast.model.ForecastBinding;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class StringTableTest {
+
+    @Test
+    public void equal_strings_share_one_instance() {
+	StringTable table = new StringTable(16);
+	String clear = table.intern(new String("Clear"));
+
+	assertSame(clear, table.intern(new String("Clear")));
+	assertSame(clear, table.intern("Clear".toCharArray(), 5));
+	assertSame(clear, table.intern("Clearly".toCharArray(), 5));
+	assertNull(table.intern(null));
+    }
+
+    @Test
+    public void table_is_bounded() {
+	StringTable table = new StringTable(3);
+	for (int i = 0; i < 10_000; i++) {
+	    assertEquals("summary " + i, table.intern("summary " + i));
+	}
+	String frequent = table.intern(new String("Partly Cloudy"));
+
+	assertSame(frequent, table.intern(new String("Partly Cloudy")));
+    }
+
+    @Test
+    public void parsed_forecasts_share_texts() throws IOException {
+	Forecast first = read(JsonReaderTest.FORECAST);
+	Forecast second = read(JsonReaderTest.FORECAST);
+
+	assertSame(first.getTimezone(), second.getTimezone());
+	assertSame(first.getCurrently().getSummary(), second.getCurrently().getSummary());
+	assertSame(first.getHourly().getSummary(), second.getHourly().getSummary());
+	assertSame(first.getFlags().getUnits(), second.getFlags().getUnits());
+	assertNotSame(first.getAlerts().get(0).getTitle(), second.getAlerts().get(0).getTitle());
+    }
+
+    private static Forecast read(String json) throws IOException {
+	return ForecastBinding.read(new JsonReader(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class AggregationTest {
+
+    private static final double NaN = Double.NaN;
+
+    @Test
+    public void sliding_aggregates_equal_the_aggregates_of_each_window() {
+	Random random = new Random(42);
+	double[] values = new double[1000];
+	for (int i = 0; i < values.length; i++) {
+	    values[i] = random.nextInt(10) == 0 ? NaN : random.nextInt(4000) / 100.0 - 10;
+	}
+	Aggregation aggregation = Aggregation.of(values);
+
+	for (int window : new int[]{1, 2, 3, 7, 24, 999, 1000}) {
+	    double[] sums = aggregation.slidingSum(window);
+	    double[] means = aggregation.slidingMean(window);
+	    double[] mins = aggregation.slidingMin(window);
+	    double[] maxs = aggregation.slidingMax(window);
+	    assertEquals(values.length - window + 1, sums.length);
+	    for (int i = 0; i < sums.length; i++) {
+		double[] copy = new double[window];
+		System.arraycopy(values, i, copy, 0, window);
+		Aggregation expected = Aggregation.of(copy);
+		assertEquals(expected.sum(), sums[i], 1e-9);
+		assertEquals(expected.mean(), means[i], 1e-9);
+		assertEquals(expected.min(), mins[i], 0);
+		assertEquals(expected.max(), maxs[i], 0);
+	    }
+	}
+    }
+
+    @Test
+    public void missing_values_are_skipped() {
+	Aggregation aggregation = Aggregation.of(NaN, 2, NaN, NaN, -1, 4);
+
+	assertEquals(3, aggregation.count());
+	assertEquals(5, aggregation.sum(), 0);
+	assertEquals(5 / 3.0, aggregation.mean(), 0);
+	assertEquals(5, aggregation.argMax());
+	assertEquals(4, aggregation.argMin());
+	assertArrayEquals(new double[]{2, 2, NaN, -1, 3}, aggregation.slidingSum(2), 0);
+	assertArrayEquals(new double[]{2, 2, NaN, -1, 4}, aggregation.slidingMax(2), 0);
+	assertTrue(Double.isNaN(Aggregation.of(NaN, NaN).max()));
+	assertEquals(-1, Aggregation.of(NaN).argMax());
+    }
+
+    @Test
+    public void threshold_crossings_are_found() {
+	Aggregation temperatures = Aggregation.of(2, 0.5, -1, NaN, -0.5, 0, 3, -2);
+
+	assertArrayEquals(new int[]{2, 5, 7}, temperatures.crossings(0));
+	assertArrayEquals(new int[0], temperatures.crossings(10));
+    }
+
+    @Test
+    public void series_columns_are_aggregated() {
+	HourlyDataPoint first = new HourlyDataPoint();
+	first.setWindGust(12.5);
+	HourlyDataPoint second = new HourlyDataPoint();
+	second.setWindGust(20.0);
+	DataSeries series = DataSeries.of(Arrays.asList(first, second, new HourlyDataPoint()));
+
+	Aggregation gusts = series.aggregate(DataSeries.Column.windGust);
+
+	assertEquals(20.0, gusts.max(), 0);
+	assertEquals(1, gusts.argMax());
+	assertArrayEquals(new double[]{20.0, 20.0}, gusts.slidingMax(2), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void windows_larger_than_the_values_are_rejected() {
+	Aggregation.of(1, 2).slidingSum(3);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class DataPointTest {
+
+    @Test
+    public void icon_and_precipitation_have_typed_views() {
+	DataPoint dataPoint = new DataPoint();
+	dataPoint.setIcon(new String("partly-cloudy-night"));
+	dataPoint.setPrecipType(new String("sleet"));
+
+	assertEquals(Icon.partly_cloudy_night, dataPoint.icon());
+	assertEquals(PrecipType.sleet, dataPoint.precipType());
+	assertSame(Icon.partly_cloudy_night.value(), dataPoint.getIcon());
+	assertSame(PrecipType.sleet.value(), dataPoint.getPrecipType());
+    }
+
+    @Test
+    public void unknown_values_are_kept() {
+	DataPoint dataPoint = new DataPoint();
+	dataPoint.setIcon("meteor-shower");
+
+	assertEquals("meteor-shower", dataPoint.getIcon());
+	assertNull(dataPoint.icon());
+	assertNull(dataPoint.precipType());
+	assertSame(dataPoint.getIcon(), icon("meteor-shower"));
+    }
+
+    @Test
+    public void summaries_share_one_instance() {
+	DailyDataPoint first = new DailyDataPoint();
+	first.setSummary(new String("Clear throughout the day."));
+	DailyDataPoint second = new DailyDataPoint();
+	second.setSummary(new String("Clear throughout the day."));
+
+	assertSame(first.getSummary(), second.getSummary());
+    }
+
+    @Test
+    public void times_are_stored_as_epoch_seconds() {
+	DailyDataPoint dataPoint = new DailyDataPoint();
+	dataPoint.setSunriseTime(Instant.ofEpochSecond(1531019000, 999_000_000));
+	dataPoint.uvIndexTimeEpochSecond(1531044000);
+
+	assertEquals(1531019000, dataPoint.sunriseTimeEpochSecond());
+	assertEquals(Instant.ofEpochSecond(1531044000), dataPoint.getUvIndexTime());
+	assertEquals(Long.MIN_VALUE, dataPoint.timeEpochSecond());
+	assertNull(dataPoint.getTime());
+
+	dataPoint.setSunriseTime(null);
+	assertEquals(Long.MIN_VALUE, dataPoint.sunriseTimeEpochSecond());
+    }
+
+    @Test
+    public void numbers_are_stored_as_primitives() {
+	HourlyDataPoint dataPoint = new HourlyDataPoint();
+	dataPoint.setTemperature(21.5);
+	dataPoint.windBearingAsInt(331);
+	dataPoint.precipAccumulationAsDouble(0.25);
+
+	assertEquals(21.5, dataPoint.temperatureAsDouble(), 0);
+	assertEquals(Integer.valueOf(331), dataPoint.getWindBearing());
+	assertEquals(Double.valueOf(0.25), dataPoint.getPrecipAccumulation());
+	assertTrue(Double.isNaN(dataPoint.humidityAsDouble()));
+	assertNull(dataPoint.getHumidity());
+
+	dataPoint.setTemperature(null);
+	dataPoint.setWindBearing(null);
+	dataPoint.precipAccumulationAsDouble(Double.NaN);
+	assertTrue(Double.isNaN(dataPoint.temperatureAsDouble()));
+	assertEquals(Integer.MIN_VALUE, dataPoint.windBearingAsInt());
+	assertNull(dataPoint.getPrecipAccumulation());
+	assertEquals(new HourlyDataPoint(), dataPoint);
+	assertEquals(new HourlyDataPoint().hashCode(), dataPoint.hashCode());
+    }
+
+    private static String icon(String value) {
+	Hourly hourly = new Hourly();
+	hourly.setIcon(new String(value));
+	return hourly.getIcon();
+    }
+}
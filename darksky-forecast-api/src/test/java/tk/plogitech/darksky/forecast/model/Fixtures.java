@@ -0,0 +1,113 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Forecasts and data points built in code for the tests of the model, starting at {@link #START}.
+ *
+ * @author Puls
+ */
+final class Fixtures {
+
+    static final long START = 1531000800;
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param offset The seconds after {@link #START}.
+     * @return The time.
+     */
+    static Instant time(long offset) {
+	return Instant.ofEpochSecond(START + offset);
+    }
+
+    /**
+     * @param count The number of hours.
+     * @return Modifiable list of hourly data points, hour i at START + i hours with a temperature of 15.5 + i.
+     */
+    static List<HourlyDataPoint> hours(int count) {
+	return hours(0, count, 0);
+    }
+
+    /**
+     * @param first The first hour after START.
+     * @param count The number of hours.
+     * @param offset Raises the temperatures.
+     * @return Modifiable list of hourly data points, hour i at START + i hours with a temperature of 15.5 + i + offset.
+     */
+    static List<HourlyDataPoint> hours(int first, int count, double offset) {
+	List<HourlyDataPoint> hours = new ArrayList<>();
+	for (int i = first; i < first + count; i++) {
+	    HourlyDataPoint hour = new HourlyDataPoint();
+	    hour.timeEpochSecond(START + i * 3600);
+	    hour.setTemperature(15.5 + i + offset);
+	    hour.setSummary("Clear");
+	    hours.add(hour);
+	}
+	return hours;
+    }
+
+    /**
+     * @param first The first of the three hours of the hourly block.
+     * @param offset Raises the temperatures.
+     * @return A forecast with all blocks but minutely and an alert, with modifiable lists.
+     */
+    static Forecast forecast(int first, double offset) {
+	Forecast forecast = new Forecast();
+	forecast.setTimezone("Europe/Berlin");
+	forecast.setLatitude(new Latitude(52.516275));
+	forecast.setLongitude(new Longitude(13.377704));
+	Flags flags = new Flags();
+	flags.setUnits("si");
+	flags.setSources(new ArrayList<>(Arrays.asList("cmc", "gfs")));
+	forecast.setFlags(flags);
+	Currently currently = new Currently();
+	currently.timeEpochSecond(START);
+	currently.setTemperature(21.5 + offset);
+	currently.setNearestStormDistance(10.0);
+	forecast.setCurrently(currently);
+	Hourly hourly = new Hourly();
+	hourly.setData(hours(first, 3, offset));
+	forecast.setHourly(hourly);
+	Daily daily = new Daily();
+	DailyDataPoint day = new DailyDataPoint();
+	day.timeEpochSecond(START);
+	day.sunriseTimeEpochSecond(START);
+	day.setTemperatureHigh(25.5 + offset);
+	daily.setData(new ArrayList<>(Collections.singletonList(day)));
+	forecast.setDaily(daily);
+	Alert alert = new Alert();
+	alert.setTitle("Heat Advisory");
+	alert.setRegions(new ArrayList<>(Arrays.asList("Berlin")));
+	forecast.setAlerts(new ArrayList<>(Arrays.asList(alert)));
+	return forecast;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import tk.plogitech.darksky.forecast.model.ForecastDiff.Block;
+import tk.plogitech.darksky.forecast.model.ForecastDiff.Change;
+import static org.junit.Assert.*;
+import static tk.plogitech.darksky.forecast.model.Fixtures.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class ForecastDiffTest {
+
+    @Test
+    public void equal_forecasts_have_no_changes() {
+	assertEquals(Collections.emptyList(), ForecastDiff.exact().changes(forecast(0, 0), forecast(0, 0)));
+	assertFalse(ForecastDiff.exact().differs(forecast(0, 0), forecast(0, 0)));
+    }
+
+    @Test
+    public void data_points_are_matched_by_time() {
+	Forecast previous = forecast(0, 0);
+	Forecast current = forecast(1, 0);
+	current.getHourly().getData().get(0).setTemperature(20.0);
+
+	List<Change> changes = ForecastDiff.exact().changes(previous, current);
+
+	assertEquals(3, changes.size());
+	assertEquals(new Change(Block.hourly, START, null, previous.getHourly().getData().get(0), null), changes.get(0));
+	assertEquals(new Change(Block.hourly, START + 3600, "temperature", 16.5, 20.0), changes.get(1));
+	assertEquals(Instant.ofEpochSecond(START + 3 * 3600), changes.get(2).time());
+	assertNull(changes.get(2).previous());
+	assertEquals("hourly 2018-07-07T23:00:00Z temperature: 16.5 -> 20.0", changes.get(1).toString());
+    }
+
+    @Test
+    public void numbers_within_the_tolerance_are_not_changed() {
+	Forecast previous = forecast(0, 0);
+	Forecast current = forecast(0, 0.4);
+	current.getCurrently().setNearestStormDistance(12.0);
+
+	ForecastDiff diff = ForecastDiff.exact().withTolerance(0.5).withTolerance("nearestStormDistance", 5);
+
+	assertEquals(Collections.emptyList(), diff.changes(previous, current));
+	assertEquals(6, ForecastDiff.exact().changes(previous, current).size());
+	assertEquals(4, diff.withTolerance("temperature", 0.1).changes(previous, current).size());
+	current.getCurrently().setNearestStormDistance(null);
+	assertEquals(new Change(Block.currently, Long.MIN_VALUE, "nearestStormDistance", 10.0, null), diff.changes(previous, current).get(0));
+    }
+
+    @Test
+    public void added_blocks_and_alerts_are_reported() {
+	Forecast previous = forecast(0, 0);
+	Forecast current = forecast(0, 0);
+	previous.setAlerts(Collections.emptyList());
+	current.setDaily(null);
+	Alert alert = new Alert();
+	alert.setTitle("Heat Advisory");
+	current.setAlerts(Arrays.asList(alert));
+
+	List<Change> changes = ForecastDiff.exact().changes(previous, current);
+
+	assertEquals(Arrays.asList(new Change(Block.daily, Long.MIN_VALUE, null, previous.getDaily(), null),
+		new Change(Block.alerts, Long.MIN_VALUE, null, null, alert)), changes);
+	assertTrue(ForecastDiff.exact().differs(previous, current));
+    }
+
+    @Test
+    public void daily_times_are_compared() {
+	Forecast previous = forecast(0, 0);
+	Forecast current = forecast(0, 0);
+	current.getDaily().getData().get(0).sunriseTimeEpochSecond(START + 60);
+
+	assertEquals(Collections.singletonList(new Change(Block.daily, START, "sunriseTime", Instant.ofEpochSecond(START),
+		Instant.ofEpochSecond(START + 60))), ForecastDiff.exact().withTolerance(100).changes(previous, current));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknown_fields_are_rejected() {
+	ForecastDiff.exact().withTolerance("summary", 1);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static tk.plogitech.darksky.forecast.model.Fixtures.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class ForecastTest {
+
+    @Test
+    public void frozen_forecast_rejects_changes() {
+	Forecast forecast = forecast(0, 0).freeze();
+
+	assertTrue(forecast.frozen());
+	assertTrue(forecast.getCurrently().frozen());
+	assertTrue(forecast.getHourly().getData().get(1).frozen());
+	assertTrue(forecast.getDaily().getData().get(0).frozen());
+	assertTrue(forecast.getAlerts().get(0).frozen());
+	assertRejected(() -> forecast.setTimezone("Europe/Paris"));
+	assertRejected(() -> forecast.getCurrently().setNearestStormDistance(12.0));
+	assertRejected(() -> forecast.getHourly().getData().get(1).precipAccumulationAsDouble(0.5));
+	assertRejected(() -> forecast.getDaily().getData().get(0).sunriseTimeEpochSecond(1531019000));
+	assertRejected(() -> forecast.getHourly().getData().add(new HourlyDataPoint()));
+	assertRejected(() -> forecast.getAlerts().get(0).getRegions().clear());
+	assertRejected(() -> forecast.getFlags().getSources().set(0, "isd"));
+    }
+
+    @Test
+    public void frozen_forecast_keeps_its_content() {
+	Forecast forecast = forecast(0, 0);
+	List<HourlyDataPoint> data = forecast.getHourly().getData();
+	Forecast expected = forecast(0, 0);
+
+	forecast.freeze();
+	data.clear();
+
+	assertEquals(expected, forecast);
+	assertEquals(expected.hashCode(), forecast.hashCode());
+	assertSame(forecast, forecast.freeze());
+	assertFalse(expected.frozen());
+    }
+
+    @Test
+    public void frozen_forecast_is_shared_without_copies() throws Exception {
+	Forecast forecast = forecast(0, 0).freeze();
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	try {
+	    List<Future<Double>> results = new ArrayList<>();
+	    for (int i = 0; i < 100; i++) {
+		results.add(executor.submit(() -> forecast.getHourly().getData().get(1).temperatureAsDouble()));
+	    }
+	    for (Future<Double> result : results) {
+		assertEquals(16.5, result.get(), 0);
+	    }
+	} finally {
+	    executor.shutdown();
+	    executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+    }
+
+    private static void assertRejected(Runnable change) {
+	try {
+	    change.run();
+	    fail("Expected an UnsupportedOperationException");
+	} catch (UnsupportedOperationException ex) {
+	    // expected
+	}
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static tk.plogitech.darksky.forecast.model.Fixtures.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class SeriesTest {
+
+    @Test
+    public void hourly_data_points_are_stored_in_columns() {
+	List<HourlyDataPoint> hourly = hourly(169);
+
+	DataSeries series = DataSeries.of(hourly);
+
+	assertEquals(169, series.size());
+	assertEquals(START + 5 * 3600, series.timeEpochSecond(5));
+	assertEquals(time(0), series.time(0));
+	assertEquals(18.5, series.value(DataSeries.Column.temperature, 3), 0);
+	assertEquals(270, series.value(DataSeries.Column.windBearing, 3), 0);
+	assertTrue(Double.isNaN(series.value(DataSeries.Column.ozone, 3)));
+	assertEquals("rain", series.icon(2));
+	assertNull(series.precipType(2));
+	assertEquals(hourly.get(7).getTemperature(), series.values(DataSeries.Column.temperature)[7], 0);
+    }
+
+    @Test
+    public void data_points_are_converted_back() {
+	List<HourlyDataPoint> hourly = hourly(49);
+	hourly.get(4).setTime(null);
+	hourly.get(4).setWindBearing(null);
+
+	DataSeries series = DataSeries.of(hourly);
+
+	assertEquals(hourly, series.toHourlyDataPoints());
+	assertEquals(series, DataSeries.of(series.toHourlyDataPoints()));
+	assertNull(series.toDataPoints().get(4).getTime());
+	assertEquals(Long.MIN_VALUE, series.timeEpochSecond(4));
+    }
+
+    @Test
+    public void minutely_data_points_have_no_accumulation() {
+	DataPoint dataPoint = new DataPoint();
+	dataPoint.setPrecipIntensity(0.25);
+
+	DataSeries series = DataSeries.of(Collections.singletonList(dataPoint));
+
+	assertEquals(0.25, series.value(DataSeries.Column.precipIntensity, 0), 0);
+	assertTrue(Double.isNaN(series.value(DataSeries.Column.precipAccumulation, 0)));
+	assertEquals(Collections.singletonList(dataPoint), series.toDataPoints());
+    }
+
+    @Test
+    public void values_are_copies() {
+	DataSeries series = DataSeries.of(hourly(3));
+
+	series.values(DataSeries.Column.temperature)[0] = 99;
+
+	assertEquals(15.5, series.value(DataSeries.Column.temperature, 0), 0);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void daily_data_points_are_stored_in_columns() {
+	List<DailyDataPoint> daily = new ArrayList<>();
+	for (int i = 0; i < 8; i++) {
+	    DailyDataPoint dataPoint = new DailyDataPoint();
+	    dataPoint.timeEpochSecond(1530914400 + i * 86400);
+	    dataPoint.sunriseTimeEpochSecond(1530933000 + i * 86400);
+	    dataPoint.setSummary("Clear throughout the day.");
+	    dataPoint.setTemperatureHigh(25.0 + i);
+	    dataPoint.setTemperatureMax(25.0 + i);
+	    dataPoint.setUvIndex(i);
+	    daily.add(dataPoint);
+	}
+	daily.get(2).setSunriseTime(null);
+
+	DailySeries series = DailySeries.of(daily);
+
+	assertEquals(8, series.size());
+	assertEquals(1530933000 + 86400, series.epochSecond(DailySeries.TimeColumn.sunriseTime, 1));
+	assertNull(series.time(DailySeries.TimeColumn.sunriseTime, 2));
+	assertEquals(27.0, series.value(DailySeries.Column.temperatureHigh, 2), 0);
+	assertEquals(5, series.value(DailySeries.Column.uvIndex, 5), 0);
+	assertTrue(Double.isNaN(series.value(DailySeries.Column.ozone, 5)));
+	assertEquals(8, series.epochSeconds(DailySeries.TimeColumn.time).length);
+	assertEquals(daily, series.toDailyDataPoints());
+	assertEquals(series, DailySeries.of(series.toDailyDataPoints()));
+    }
+
+    private static List<HourlyDataPoint> hourly(int size) {
+	List<HourlyDataPoint> hourly = hours(size);
+	for (int i = 0; i < size; i++) {
+	    HourlyDataPoint dataPoint = hourly.get(i);
+	    dataPoint.setSummary("Light Rain");
+	    dataPoint.setIcon(i % 2 == 0 ? "rain" : "cloudy");
+	    dataPoint.setHumidity(0.8);
+	    dataPoint.setWindBearing(270);
+	    dataPoint.setPrecipAccumulation(i * 0.1);
+	}
+	return hourly;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static tk.plogitech.darksky.forecast.model.Fixtures.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class TimeIndexTest {
+
+    @Test
+    public void hourly_data_points_are_found_by_time() {
+	Hourly hourly = new Hourly();
+	hourly.setData(hours(49));
+
+	TimeIndex<HourlyDataPoint> index = hourly.timeIndex();
+
+	assertTrue(index.isRegular());
+	assertSame(hourly.getData().get(5), index.at(time(5 * 3600 + 1800)));
+	assertSame(hourly.getData().get(48), index.at(time(48 * 3600 + 3599)));
+	assertNull(index.at(time(49 * 3600)));
+	assertNull(index.at(time(-1)));
+	assertEquals(5, index.floor(time(5 * 3600 + 1800)));
+	assertEquals(6, index.ceiling(time(5 * 3600 + 1800)));
+	assertEquals(5, index.ceiling(time(5 * 3600)));
+	assertEquals(6, index.nearest(time(5 * 3600 + 1801)));
+	assertEquals(-1, index.ceiling(time(48 * 3600 + 1)));
+	assertSame(hourly.freeze().timeIndex(), hourly.timeIndex());
+    }
+
+    @Test
+    public void values_are_interpolated_between_data_points() {
+	TimeIndex<HourlyDataPoint> index = TimeIndex.of(hours(3), DataPoint::timeEpochSecond);
+
+	assertEquals(15.5, index.interpolate(time(0), DataPoint::temperatureAsDouble), 0);
+	assertEquals(16.75, index.interpolate(time(3600 + 900), DataPoint::temperatureAsDouble), 1e-9);
+	assertEquals(16.625 + 0.5 / 3600, index.interpolate(time(3600 + 450).plusMillis(500), DataPoint::temperatureAsDouble), 1e-9);
+	assertTrue(Double.isNaN(index.interpolate(time(2 * 3600 + 1), DataPoint::temperatureAsDouble)));
+	assertTrue(Double.isNaN(index.interpolate(time(900), DataPoint::humidityAsDouble)));
+    }
+
+    @Test
+    public void irregular_data_points_are_searched() {
+	List<DailyDataPoint> days = new ArrayList<>();
+	for (long time : new long[]{START + 2 * 86400 - 3600, START, Long.MIN_VALUE, START + 86400}) {
+	    DailyDataPoint day = new DailyDataPoint();
+	    day.timeEpochSecond(time);
+	    days.add(day);
+	}
+	Daily daily = new Daily();
+	daily.setData(days);
+
+	TimeIndex<DailyDataPoint> index = daily.timeIndex();
+
+	assertFalse(index.isRegular());
+	assertEquals(1, index.floor(time(3600)));
+	assertEquals(3, index.floor(time(2 * 86400 - 3601)));
+	assertEquals(0, index.floor(time(2 * 86400 - 3600)));
+	assertSame(days.get(0), index.at(time(2 * 86400)));
+	assertNull(index.at(time(3 * 86400)));
+	assertEquals(-1, index.floor(time(-1)));
+    }
+
+    @Test
+    public void new_data_replaces_the_index() {
+	Minutely minutely = new Minutely();
+	assertEquals(-1, minutely.timeIndex().nearest(time(0)));
+
+	minutely.setData(Arrays.asList(new DataPoint(), new DataPoint()));
+	minutely.getData().get(1).timeEpochSecond(START);
+
+	assertEquals(1, minutely.timeIndex().nearest(time(60)));
+    }
+
+    @Test
+    public void changes_of_the_data_are_indexed_until_the_block_is_frozen() {
+	Hourly hourly = new Hourly();
+	hourly.setData(hours(3));
+	TimeIndex<HourlyDataPoint> index = hourly.timeIndex();
+	HourlyDataPoint first = hourly.getData().remove(0);
+
+	assertSame(first, index.at(time(0)));
+	assertEquals(2, index.floor(time(2 * 3600)));
+	assertNull(hourly.timeIndex().at(time(0)));
+	assertEquals(1, hourly.timeIndex().floor(time(2 * 3600)));
+	assertSame(hourly.getData().get(1), hourly.timeIndex().at(time(2 * 3600)));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.util;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class BufferPoolTest {
+
+    @Test
+    public void released_buffers_are_reused() {
+        BufferPool<byte[]> pool = BufferPool.arrays(2, 1024, 4096);
+
+        byte[] buffer = pool.acquire();
+        assertEquals(1024, buffer.length);
+        pool.release(buffer);
+
+        assertSame(buffer, pool.acquire());
+        assertNotSame(buffer, pool.acquire());
+    }
+
+    @Test
+    public void buffers_smaller_than_requested_are_not_reused() {
+        BufferPool<ByteBuffer> pool = BufferPool.directBuffers(2, 1024, 4096);
+
+        ByteBuffer small = pool.acquire();
+        pool.release(small);
+        ByteBuffer large = pool.acquire(2048);
+
+        assertTrue(large.isDirect());
+        assertEquals(2048, large.capacity());
+        assertSame(small, pool.acquire());
+    }
+
+    @Test
+    public void the_pool_is_bounded() {
+        BufferPool<byte[]> pool = BufferPool.arrays(2, 1024, 4096);
+        byte[] tooLarge = pool.acquire(8192);
+        byte[] first = pool.acquire();
+        byte[] second = pool.acquire();
+        byte[] third = pool.acquire();
+
+        pool.release(tooLarge);
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        assertSame(first, pool.acquire(1024));
+        assertSame(second, pool.acquire(1024));
+        assertNotSame(third, pool.acquire(1024));
+        assertNotSame(tooLarge, pool.acquire(8192));
+    }
+}
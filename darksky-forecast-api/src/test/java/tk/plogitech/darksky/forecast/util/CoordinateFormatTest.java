@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class CoordinateFormatTest {
+
+    private static final double[] EDGE_VALUES = {
+        0.0, -0.0, -0.000066, 0.0000005, -0.0000005, 0.0000004999, 1.0000005, 52.5162745, 179.9999995, -180.0, 90.0, 13.377704, 0.1234565
+    };
+
+    @Test
+    public void format_is_identical_to_string_format() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            assertFormat(random.nextDouble() * 360 - 180);
+            assertFormat(Math.round(random.nextDouble() * 360_000_000 - 180_000_000) / 1_000_000d);
+            assertFormat((Math.round(random.nextDouble() * 3_600_000_000d - 1_800_000_000d) + 0.5) / 10_000_000d);
+        }
+        for (double value : EDGE_VALUES) {
+            assertFormat(value);
+        }
+    }
+
+    @Test
+    public void fixed_value_matches_the_formatted_string() {
+        for (double value : EDGE_VALUES) {
+            String formatted = String.format(Locale.ENGLISH, "%f", value);
+            assertEquals(formatted, Long.parseLong(formatted.replace(".", "")), CoordinateFormat.toFixed(value));
+        }
+    }
+
+    @Test
+    public void parse_returns_the_same_value_as_double_value_of() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            String value = CoordinateFormat.format(random.nextDouble() * 360 - 180);
+            assertEquals(value, Double.valueOf(value), CoordinateFormat.parse(value), 0);
+        }
+        for (String value : new String[]{"-130.377704", "89", "+1.5", ".25", "1e-3", " 12.5 ", "-0"}) {
+            assertEquals(value, Double.valueOf(value), CoordinateFormat.parse(value), 0);
+        }
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void parse_rejects_invalid_numbers() {
+        CoordinateFormat.parse("12,5");
+    }
+
+    private static void assertFormat(double value) {
+        String expected = String.format(Locale.ENGLISH, "%f", value);
+        assertEquals(expected, CoordinateFormat.format(value));
+
+        byte[] buffer = new byte[24];
+        int length = CoordinateFormat.write(buffer, 2, value) - 2;
+        assertEquals(expected, new String(buffer, 2, length, StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2026 Philipp-André Plogmann.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package tk.plogitech.darksky.forecast.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author Puls
+ */
+public class IOUtilTest {
+
+    @Test
+    public void streams_larger_than_the_buffer_are_read_fully() throws IOException {
+        byte[] bytes = bytes(300_000);
+
+        assertArrayEquals(bytes, IOUtil.readFully(new ChunkedInputStream(bytes, 1000)));
+        assertArrayEquals(bytes, IOUtil.readFully(new ChunkedInputStream(bytes, 1000)));
+        assertArrayEquals(new byte[0], IOUtil.readFully(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void content_length_sizes_the_array() throws IOException {
+        byte[] bytes = bytes(60_000);
+
+        ByteBuffer buffer = IOUtil.readBuffer(IOUtil.withContentLength(new ChunkedInputStream(bytes, 1000), bytes.length));
+
+        assertEquals(bytes.length, buffer.array().length);
+        assertEquals(0, buffer.position());
+        assertArrayEquals(bytes, buffer.array());
+    }
+
+    @Test
+    public void wrong_content_length_still_reads_all_bytes() throws IOException {
+        byte[] bytes = bytes(5000);
+
+        assertArrayEquals(bytes, IOUtil.readFully(IOUtil.withContentLength(new ChunkedInputStream(bytes, 700), 100)));
+        assertArrayEquals(bytes, IOUtil.readFully(IOUtil.withContentLength(new ChunkedInputStream(bytes, 700), 9000)));
+        assertEquals(-1, IOUtil.contentLength(IOUtil.withContentLength(new ByteArrayInputStream(bytes), -1)));
+    }
+
+    @Test
+    public void buffer_without_content_length_holds_only_the_bytes_read() throws IOException {
+        byte[] bytes = bytes(70_000);
+
+        ByteBuffer buffer = IOUtil.readBuffer(new ChunkedInputStream(bytes, 4096));
+
+        assertEquals(bytes.length, buffer.remaining());
+        assertEquals(bytes.length, buffer.capacity());
+        byte[] read = new byte[bytes.length];
+        buffer.get(read);
+        assertArrayEquals(bytes, read);
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Returns at most chunk bytes per read, like a network stream.
+     */
+    private static class ChunkedInputStream extends InputStream {
+
+        private final ByteArrayInputStream in;
+        private final int chunk;
+
+        ChunkedInputStream(byte[] bytes, int chunk) {
+            this.in = new ByteArrayInputStream(bytes);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read() {
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return in.read(b, off, Math.min(len, chunk));
+        }
+    }
+}